@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.benchmarks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.HeaderSeparatorDisplayMode;
+import org.eclipse.sirius.components.diagrams.INodeStyle;
+import org.eclipse.sirius.components.diagrams.InsideLabelLocation;
+import org.eclipse.sirius.components.diagrams.LabelOverflowStrategy;
+import org.eclipse.sirius.components.diagrams.LabelTextAlign;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.description.InsideLabelDescription;
+import org.eclipse.sirius.components.diagrams.description.LabelStyleDescription;
+import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderer;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.Failure;
+import org.eclipse.sirius.components.representations.IOperationValidator;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the rendering of a large synthetic diagram with the {@link DiagramRenderer}.
+ *
+ * <p>
+ * The diagram contains a configurable number of top level nodes, each of them containing a configurable number of
+ * child nodes. The benchmark renders the diagram from scratch and then once again with the previous diagram.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiagramRendererBenchmark {
+
+    private static final String COLOR = "black";
+
+    @Param({ "100", "1000" })
+    private int nodesCount;
+
+    @Param({ "10" })
+    private int childNodesCount;
+
+    private DiagramDescription diagramDescription;
+
+    private Diagram previousDiagram;
+
+    @Setup
+    public void setup() {
+        NodeDescription childNodeDescription = this.createNodeDescription("childNodeDescription", variableManager -> {
+            String parentId = variableManager.get(VariableManager.SELF, String.class).orElse("");
+            return IntStream.range(0, this.childNodesCount).mapToObj(index -> parentId + "-" + index).toList();
+        }, List.of());
+
+        NodeDescription nodeDescription = this.createNodeDescription("nodeDescription", variableManager -> IntStream.range(0, this.nodesCount).mapToObj(index -> "node-" + index).toList(), List.of(childNodeDescription));
+
+        this.diagramDescription = DiagramDescription.newDiagramDescription("diagramDescription")
+                .label("")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "diagramTargetObjectId")
+                .labelProvider(variableManager -> "Diagram")
+                .nodeDescriptions(List.of(nodeDescription))
+                .edgeDescriptions(List.of())
+                .palettes(List.of())
+                .dropHandler(variableManager -> new Failure(""))
+                .iconURLsProvider(variableManager -> List.of())
+                .build();
+
+        this.previousDiagram = this.render(Optional.empty());
+    }
+
+    @Benchmark
+    public Diagram renderNewDiagram() {
+        return this.render(Optional.empty());
+    }
+
+    @Benchmark
+    public Diagram refreshDiagram() {
+        return this.render(Optional.of(this.previousDiagram));
+    }
+
+    private Diagram render(Optional<Diagram> optionalPreviousDiagram) {
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
+                .variableManager(new VariableManager())
+                .diagramDescription(this.diagramDescription)
+                .allDiagramDescriptions(List.of(this.diagramDescription))
+                .viewCreationRequests(List.of())
+                .viewDeletionRequests(List.of())
+                .previousDiagram(optionalPreviousDiagram)
+                .operationValidator(new IOperationValidator.NoOp())
+                .diagramEvents(List.of())
+                .build();
+        return new DiagramRenderer().render(new Element(DiagramComponent.class, props));
+    }
+
+    private NodeDescription createNodeDescription(String id, Function<VariableManager, List<?>> semanticElementsProvider, List<NodeDescription> childNodeDescriptions) {
+        LabelStyleDescription labelStyleDescription = LabelStyleDescription.newLabelStyleDescription()
+                .italicProvider(variableManager -> false)
+                .boldProvider(variableManager -> false)
+                .underlineProvider(variableManager -> false)
+                .strikeThroughProvider(variableManager -> false)
+                .colorProvider(variableManager -> COLOR)
+                .fontSizeProvider(variableManager -> 14)
+                .iconURLProvider(variableManager -> List.of())
+                .backgroundProvider(variableManager -> "transparent")
+                .borderColorProvider(variableManager -> COLOR)
+                .borderRadiusProvider(variableManager -> 0)
+                .borderSizeProvider(variableManager -> 0)
+                .borderStyleProvider(variableManager -> LineStyle.Solid)
+                .maxWidthProvider(variableManager -> null)
+                .build();
+
+        InsideLabelDescription insideLabelDescription = InsideLabelDescription.newInsideLabelDescription(id + "-insideLabel")
+                .idProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse("") + "-insideLabel")
+                .textProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .styleDescriptionProvider(variableManager -> labelStyleDescription)
+                .isHeaderProvider(variableManager -> false)
+                .headerSeparatorDisplayModeProvider(variableManager -> HeaderSeparatorDisplayMode.NEVER)
+                .insideLabelLocation(InsideLabelLocation.TOP_CENTER)
+                .overflowStrategy(LabelOverflowStrategy.NONE)
+                .textAlign(LabelTextAlign.CENTER)
+                .build();
+
+        Function<VariableManager, INodeStyle> styleProvider = variableManager -> RectangularNodeStyle.newRectangularNodeStyle()
+                .background("white")
+                .borderColor(COLOR)
+                .borderSize(1)
+                .borderStyle(LineStyle.Solid)
+                .build();
+
+        return NodeDescription.newNodeDescription(id)
+                .typeProvider(variableManager -> "node:rectangular")
+                .semanticElementsProvider(semanticElementsProvider)
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> "")
+                .insideLabelDescription(insideLabelDescription)
+                .styleProvider(styleProvider)
+                .childrenLayoutStrategyProvider(variableManager -> new FreeFormLayoutStrategy())
+                .borderNodeDescriptions(List.of())
+                .childNodeDescriptions(childNodeDescriptions)
+                .labelEditHandler((variableManager, newLabel) -> new Success())
+                .deleteHandler(variableManager -> new Success())
+                .build();
+    }
+}
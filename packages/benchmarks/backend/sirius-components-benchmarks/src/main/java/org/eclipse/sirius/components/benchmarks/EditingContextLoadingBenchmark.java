@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.emf.services.EObjectIDManager;
+import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the loading of the JSON documents of an editing context, phase by phase.
+ *
+ * <p>
+ * The documents are synthetic Ecore models, each of them referencing the classes of the previous document. The parsing
+ * is measured both sequentially in a single resource set, as the editing contexts of small projects are loaded, and
+ * concurrently in detached resource sets with a bounded pool of threads. The attachment of the detached resources to the resource set and the
+ * resolution of the proxies between the documents are measured separately.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EditingContextLoadingBenchmark {
+
+    @Param({ "10", "80" })
+    private int documentsCount;
+
+    @Param({ "200" })
+    private int classesCount;
+
+    private List<String> documentIds;
+
+    private List<String> contents;
+
+    private ExecutorService executorService;
+
+    @Setup
+    public void setup() throws IOException {
+        this.documentIds = new ArrayList<>();
+        this.contents = new ArrayList<>();
+        this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+
+        ResourceSet resourceSet = new ResourceSetImpl();
+        List<Resource> resources = new ArrayList<>();
+        for (int index = 0; index < this.documentsCount; index++) {
+            String documentId = "document-" + index;
+            Resource resource = new JSONResourceFactory().createResourceFromPath(documentId);
+            resourceSet.getResources().add(resource);
+            resource.getContents().add(this.createPackage(index, resources));
+
+            this.documentIds.add(documentId);
+            resources.add(resource);
+        }
+
+        for (Resource resource : resources) {
+            this.contents.add(this.save(resource));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.executorService.shutdownNow();
+    }
+
+    private EPackage createPackage(int index, List<Resource> previousResources) {
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("package" + index);
+        ePackage.setNsURI("http://www.eclipse.org/sirius/benchmarks/package" + index);
+        ePackage.setNsPrefix("package" + index);
+
+        List<EClass> previousClasses = previousResources.stream()
+                .reduce((first, second) -> second)
+                .map(resource -> (EPackage) resource.getContents().get(0))
+                .map(previousPackage -> previousPackage.getEClassifiers().stream()
+                        .filter(EClass.class::isInstance)
+                        .map(EClass.class::cast)
+                        .toList())
+                .orElse(List.of());
+
+        IntStream.range(0, this.classesCount).forEach(classIndex -> {
+            EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+            eClass.setName("Class" + classIndex);
+            if (!previousClasses.isEmpty()) {
+                eClass.getESuperTypes().add(previousClasses.get(classIndex % previousClasses.size()));
+            }
+            ePackage.getEClassifiers().add(eClass);
+        });
+        return ePackage;
+    }
+
+    private String save(Resource resource) throws IOException {
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_ID_MANAGER, new EObjectIDManager());
+        options.put(JsonResource.OPTION_SCHEMA_LOCATION, true);
+
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            resource.save(outputStream, options);
+            return outputStream.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    private Resource load(ResourceSet resourceSet, int index) throws IOException {
+        Resource resource = new JSONResourceFactory().createResourceFromPath(this.documentIds.get(index));
+        resourceSet.getResources().add(resource);
+        try (var inputStream = new ByteArrayInputStream(this.contents.get(index).getBytes(StandardCharsets.UTF_8))) {
+            resource.load(inputStream, new HashMap<>());
+        }
+        return resource;
+    }
+
+    private List<Resource> parseInParallel() throws InterruptedException, ExecutionException {
+        List<Callable<Resource>> tasks = IntStream.range(0, this.documentsCount)
+                .<Callable<Resource>> mapToObj(index -> () -> this.load(new ResourceSetImpl(), index))
+                .toList();
+
+        List<Resource> resources = new ArrayList<>();
+        for (Future<Resource> future : this.executorService.invokeAll(tasks)) {
+            resources.add(future.get());
+        }
+        return resources;
+    }
+
+    @Benchmark
+    public ResourceSet parseSequentially() throws IOException {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        for (int index = 0; index < this.documentsCount; index++) {
+            this.load(resourceSet, index);
+        }
+        return resourceSet;
+    }
+
+    @Benchmark
+    public List<Resource> parseConcurrently() throws InterruptedException, ExecutionException {
+        return this.parseInParallel();
+    }
+
+    @Benchmark
+    public ResourceSet attach(ParsedDocuments parsedDocuments) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        parsedDocuments.resources.forEach(resourceSet.getResources()::add);
+        return resourceSet;
+    }
+
+    @Benchmark
+    public ResourceSet resolveProxies(AttachedDocuments attachedDocuments) {
+        attachedDocuments.resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+        return attachedDocuments.resourceSet;
+    }
+
+    /**
+     * The documents parsed concurrently, before each attachment.
+     *
+     * @author sbegaudeau
+     */
+    @State(Scope.Thread)
+    public static class ParsedDocuments {
+
+        private List<Resource> resources;
+
+        @Setup(Level.Invocation)
+        public void setup(EditingContextLoadingBenchmark benchmark) throws InterruptedException, ExecutionException {
+            this.resources = benchmark.parseInParallel();
+        }
+    }
+
+    /**
+     * The documents parsed concurrently and attached to a resource set, before each resolution of their proxies.
+     *
+     * @author sbegaudeau
+     */
+    @State(Scope.Thread)
+    public static class AttachedDocuments {
+
+        private ResourceSet resourceSet;
+
+        @Setup(Level.Invocation)
+        public void setup(EditingContextLoadingBenchmark benchmark) throws InterruptedException, ExecutionException {
+            this.resourceSet = new ResourceSetImpl();
+            benchmark.parseInParallel().forEach(this.resourceSet.getResources()::add);
+        }
+    }
+}
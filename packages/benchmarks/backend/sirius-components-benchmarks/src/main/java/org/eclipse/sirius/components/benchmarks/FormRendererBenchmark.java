@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.components.forms.Form;
+import org.eclipse.sirius.components.forms.GroupDisplayMode;
+import org.eclipse.sirius.components.forms.TextfieldStyle;
+import org.eclipse.sirius.components.forms.components.FormComponent;
+import org.eclipse.sirius.components.forms.components.FormComponentProps;
+import org.eclipse.sirius.components.forms.description.AbstractControlDescription;
+import org.eclipse.sirius.components.forms.description.FormDescription;
+import org.eclipse.sirius.components.forms.description.GroupDescription;
+import org.eclipse.sirius.components.forms.description.PageDescription;
+import org.eclipse.sirius.components.forms.description.TextfieldDescription;
+import org.eclipse.sirius.components.forms.renderer.FormRenderer;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the rendering of a large synthetic form with the {@link FormRenderer}.
+ *
+ * <p>
+ * The form contains a single page with a configurable number of groups, each of them containing a configurable number
+ * of text fields.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormRendererBenchmark {
+
+    @Param({ "10", "100" })
+    private int groupsCount;
+
+    @Param({ "50" })
+    private int textfieldsCount;
+
+    private FormDescription formDescription;
+
+    @Setup
+    public void setup() {
+        TextfieldStyle style = TextfieldStyle.newTextfieldStyle()
+                .foregroundColor("black")
+                .backgroundColor("white")
+                .fontSize(12)
+                .italic(false)
+                .bold(false)
+                .underline(false)
+                .strikeThrough(false)
+                .build();
+
+        List<AbstractControlDescription> textfieldDescriptions = IntStream.range(0, this.textfieldsCount)
+                .mapToObj(index -> this.createTextfieldDescription("textfield-" + index, style))
+                .map(AbstractControlDescription.class::cast)
+                .toList();
+
+        GroupDescription groupDescription = GroupDescription.newGroupDescription("groupDescription")
+                .idProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .labelProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .displayModeProvider(variableManager -> GroupDisplayMode.LIST)
+                .toolbarActionDescriptions(List.of())
+                .controlDescriptions(textfieldDescriptions)
+                .semanticElementsProvider(variableManager -> IntStream.range(0, this.groupsCount).mapToObj(index -> "group-" + index).toList())
+                .build();
+        PageDescription pageDescription = PageDescription.newPageDescription("pageDescription")
+                .idProvider(variableManager -> "page")
+                .labelProvider(variableManager -> "Page")
+                .canCreatePredicate(variableManager -> true)
+                .groupDescriptions(List.of(groupDescription))
+                .semanticElementsProvider(variableManager -> List.of("page"))
+                .build();
+        this.formDescription = FormDescription.newFormDescription("formDescription")
+                .label("Form")
+                .idProvider(variableManager -> "form")
+                .labelProvider(variableManager -> "Form")
+                .canCreatePredicate(variableManager -> true)
+                .pageDescriptions(List.of(pageDescription))
+                .targetObjectIdProvider(variableManager -> "formTargetObjectId")
+                .iconURLsProvider(variableManager -> List.of())
+                .build();
+    }
+
+    @Benchmark
+    public Form renderForm() {
+        // The pages are only rendered for the objects given as self to the form
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, "formTargetObject");
+
+        var props = new FormComponentProps(variableManager, this.formDescription, List.of());
+        return new FormRenderer(List.of()).render(new Element(FormComponent.class, props));
+    }
+
+    private TextfieldDescription createTextfieldDescription(String id, TextfieldStyle style) {
+        return TextfieldDescription.newTextfieldDescription(id)
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .idProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse("") + "-" + id)
+                .labelProvider(variableManager -> id)
+                .valueProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .newValueHandler((variableManager, newValue) -> new Success())
+                .diagnosticsProvider(variableManager -> List.of())
+                .kindProvider(diagnostic -> "")
+                .messageProvider(diagnostic -> "")
+                .styleProvider(variableManager -> style)
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.benchmarks;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.components.tables.Table;
+import org.eclipse.sirius.components.tables.components.TableComponent;
+import org.eclipse.sirius.components.tables.components.TableComponentProps;
+import org.eclipse.sirius.components.tables.descriptions.ColumnDescription;
+import org.eclipse.sirius.components.tables.descriptions.LineDescription;
+import org.eclipse.sirius.components.tables.descriptions.PaginatedData;
+import org.eclipse.sirius.components.tables.descriptions.TableDescription;
+import org.eclipse.sirius.components.tables.descriptions.TextfieldCellDescription;
+import org.eclipse.sirius.components.tables.events.ITableEvent;
+import org.eclipse.sirius.components.tables.events.ResizeTableRowEvent;
+import org.eclipse.sirius.components.tables.renderer.TableRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the rendering of a large synthetic table with the {@link TableRenderer}.
+ *
+ * <p>
+ * The table contains a configurable number of lines and columns, each cell being rendered as a text field. The
+ * benchmark renders the table from scratch, once again with the previous table and finally with some lines resized by
+ * table events.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableRendererBenchmark {
+
+    @Param({ "100", "500" })
+    private int linesCount;
+
+    @Param({ "20", "40" })
+    private int columnsCount;
+
+    @Param({ "0", "50" })
+    private int resizedLinesCount;
+
+    private TableDescription tableDescription;
+
+    private Table previousTable;
+
+    private List<ITableEvent> tableEvents;
+
+    @Setup
+    public void setup() {
+        List<Object> lines = IntStream.range(0, this.linesCount).mapToObj(index -> (Object) ("line-" + index)).toList();
+        List<Object> columns = IntStream.range(0, this.columnsCount).mapToObj(index -> (Object) ("column-" + index)).toList();
+
+        LineDescription lineDescription = LineDescription.newLineDescription("lineDescription")
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .targetObjectKindProvider(variableManager -> "")
+                .semanticElementsProvider(variableManager -> new PaginatedData(lines, false, false, lines.size()))
+                .shouldRenderPredicate(variableManager -> true)
+                .headerLabelProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .headerIconURLsProvider(variableManager -> List.of())
+                .headerIndexLabelProvider(variableManager -> "")
+                .initialHeightProvider(variableManager -> 53)
+                .isResizablePredicate(variableManager -> false)
+                .build();
+
+        ColumnDescription columnDescription = ColumnDescription.newColumnDescription("columnDescription")
+                .headerLabelProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .headerIconURLsProvider(variableManager -> List.of())
+                .headerIndexLabelProvider(variableManager -> "")
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .targetObjectKindProvider(variableManager -> "")
+                .semanticElementsProvider(variableManager -> columns)
+                .shouldRenderPredicate(variableManager -> true)
+                .initialWidthProvider(variableManager -> 180)
+                .isResizablePredicate(variableManager -> false)
+                .filterVariantProvider(variableManager -> "text")
+                .build();
+
+        TextfieldCellDescription cellDescription = TextfieldCellDescription.newTextfieldCellDescription("cellDescription")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "")
+                .targetObjectKindProvider(variableManager -> "")
+                .cellValueProvider((variableManager, columnTargetObject) -> variableManager.get(VariableManager.SELF, String.class).orElse("") + "-" + columnTargetObject)
+                .build();
+
+        this.tableDescription = TableDescription.newTableDescription("tableDescription")
+                .label("Table")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "tableTargetObjectId")
+                .targetObjectKindProvider(variableManager -> "")
+                .labelProvider(variableManager -> "Table")
+                .isStripeRowPredicate(variableManager -> false)
+                .lineDescription(lineDescription)
+                .columnDescriptions(List.of(columnDescription))
+                .cellDescriptions(List.of(cellDescription))
+                .iconURLsProvider(variableManager -> List.of())
+                .build();
+
+        this.previousTable = this.render(Optional.empty());
+        this.tableEvents = this.previousTable.getLines().stream()
+                .limit(this.resizedLinesCount)
+                .map(line -> (ITableEvent) new ResizeTableRowEvent(line.getId().toString(), 80))
+                .toList();
+    }
+
+    @Benchmark
+    public Table renderNewTable() {
+        return this.render(Optional.empty());
+    }
+
+    @Benchmark
+    public Table refreshTable() {
+        return this.render(Optional.of(this.previousTable));
+    }
+
+    @Benchmark
+    public Table refreshResizedTable() {
+        var props = new TableComponentProps(new VariableManager(), this.tableDescription, Optional.of(this.previousTable), this.tableEvents, "", List.of());
+        return new TableRenderer().render(new Element(TableComponent.class, props));
+    }
+
+    private Table render(Optional<Table> optionalPreviousTable) {
+        var props = new TableComponentProps(new VariableManager(), this.tableDescription, optionalPreviousTable, List.of(), "", List.of());
+        return new TableRenderer().render(new Element(TableComponent.class, props));
+    }
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the lookup of the variables of a deep chain of {@link VariableManager}.
+ *
+ * <p>
+ * Run it with the gc profiler (<code>-prof gc</code>) to compare the allocations of the copy of the variables with the
+ * read-only view of the variables.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VariableManagerBenchmark {
+
+    @Param({ "5", "20" })
+    private int depth;
+
+    @Param({ "4" })
+    private int variablesCount;
+
+    private VariableManager variableManager;
+
+    @Setup
+    public void setup() {
+        VariableManager current = new VariableManager();
+        for (int level = 0; level < this.depth; level++) {
+            current = current.createChild();
+            for (int index = 0; index < this.variablesCount; index++) {
+                current.put("variable-" + level + "-" + index, index);
+            }
+            current.put(VariableManager.SELF, "self-" + level);
+        }
+        this.variableManager = current;
+    }
+
+    @Benchmark
+    public Object getSelfFromCopy() {
+        Map<String, Object> variables = this.variableManager.getVariables();
+        return variables.get(VariableManager.SELF);
+    }
+
+    @Benchmark
+    public Object getSelfFromView() {
+        Map<String, Object> variables = this.variableManager.asMap();
+        return variables.get(VariableManager.SELF);
+    }
+
+    @Benchmark
+    public Object getRootVariableFromView() {
+        return this.variableManager.asMap().get("variable-0-0");
+    }
+}
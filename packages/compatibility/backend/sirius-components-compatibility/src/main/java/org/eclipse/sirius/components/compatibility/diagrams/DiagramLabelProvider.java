@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -47,7 +47,7 @@ public class DiagramLabelProvider implements Function<VariableManager, String> {
 
     @Override
     public String apply(VariableManager variableManager) {
-        Object label = variableManager.getVariables().get(DiagramDescription.LABEL);
+        Object label = variableManager.asMap().get(DiagramDescription.LABEL);
 
         // @formatter:off
         var optionalLabel = Optional.ofNullable(label)
@@ -56,7 +56,7 @@ public class DiagramLabelProvider implements Function<VariableManager, String> {
         // @formatter:on
 
         return optionalLabel.orElseGet(() -> {
-            Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.labelExpression);
+            Result result = this.interpreter.evaluateExpression(variableManager.asMap(), this.labelExpression);
             return result.asString().orElse("");
         });
     }
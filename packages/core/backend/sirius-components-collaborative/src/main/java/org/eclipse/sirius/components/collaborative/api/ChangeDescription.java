@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -28,6 +28,12 @@ import org.eclipse.sirius.components.core.api.IInput;
  */
 public class ChangeDescription {
 
+    /**
+     * The parameter set to <code>true</code> when the change is applied to a representation some time after it has been
+     * performed, the state of the editing context may thus contain more recent changes.
+     */
+    public static final String DEFERRED_REFRESH_PARAM = "deferredRefresh";
+
     private final String kind;
 
     private final String sourceId;
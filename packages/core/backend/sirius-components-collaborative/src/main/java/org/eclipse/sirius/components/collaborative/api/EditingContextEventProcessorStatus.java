@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.api;
+
+/**
+ * The status of the editing context event processor of a given editing context.
+ *
+ * @author sbegaudeau
+ */
+public enum EditingContextEventProcessorStatus {
+    /**
+     * The editing context is being loaded, requests will wait for the end of the loading.
+     */
+    LOADING,
+
+    /**
+     * The editing context has been loaded and its event processor is ready to handle requests.
+     */
+    READY,
+}
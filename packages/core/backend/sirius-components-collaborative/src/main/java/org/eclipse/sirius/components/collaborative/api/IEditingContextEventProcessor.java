@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,8 +12,10 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.api;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.components.core.api.IPayload;
@@ -35,8 +37,64 @@ public interface IEditingContextEventProcessor extends IDisposablePublisher {
 
     Mono<IPayload> handle(IInput input);
 
+    /**
+     * Handles the given input unless the editing context event processor is being disposed.
+     *
+     * @param input
+     *         The input to handle
+     * @return The payload of the input or an empty optional if the input has been rejected because the editing context
+     *         event processor is being disposed, the input can then be sent to a new editing context event processor
+     */
+    Optional<Mono<IPayload>> tryHandle(IInput input);
+
     Flux<IPayload> getOutputEvents();
 
+    /**
+     * Returns the time of the last input received or representation event processor acquired.
+     *
+     * @return The time of the last activity of the editing context
+     */
+    Instant getLastActivityTime();
+
+    /**
+     * Returns the number of inputs received which have not been processed yet.
+     *
+     * @return The number of pending inputs
+     */
+    int getPendingInputsCount();
+
+    /**
+     * Returns the number of semantic changes which have not been persisted yet.
+     *
+     * @return The number of pending writes
+     */
+    int getPendingWritesCount();
+
+    /**
+     * Indicates if the editing context is used by some representation event processors or by inputs being processed.
+     *
+     * @return <code>true</code> if the editing context is in use, <code>false</code> otherwise
+     */
+    boolean isInUse();
+
+    /**
+     * Marks the editing context event processor as being disposed if it is not in use. The inputs received afterwards
+     * are rejected and it cannot be used anymore.
+     *
+     * @return <code>true</code> if the editing context event processor has been marked as being disposed,
+     *         <code>false</code> if it is in use
+     */
+    boolean tryMarkAsDisposing();
+
+    /**
+     * Executes the given task in the thread of the editing context, after the inputs which have already been queued.
+     *
+     * @param task
+     *         The task to execute
+     * @return A future completed once the task has been executed or completed exceptionally if it could not be executed
+     */
+    CompletableFuture<Void> executeInEditingContextThread(Runnable task);
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -73,11 +131,47 @@ public interface IEditingContextEventProcessor extends IDisposablePublisher {
             return Mono.empty();
         }
 
+        @Override
+        public Optional<Mono<IPayload>> tryHandle(IInput input) {
+            return Optional.of(this.handle(input));
+        }
+
         @Override
         public Flux<IPayload> getOutputEvents() {
             return Flux.empty();
         }
 
+        @Override
+        public Instant getLastActivityTime() {
+            return Instant.EPOCH;
+        }
+
+        @Override
+        public int getPendingInputsCount() {
+            return 0;
+        }
+
+        @Override
+        public int getPendingWritesCount() {
+            return 0;
+        }
+
+        @Override
+        public boolean isInUse() {
+            return false;
+        }
+
+        @Override
+        public boolean tryMarkAsDisposing() {
+            return !this.isInUse();
+        }
+
+        @Override
+        public CompletableFuture<Void> executeInEditingContextThread(Runnable task) {
+            task.run();
+            return CompletableFuture.completedFuture(null);
+        }
+
     }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -34,6 +34,16 @@ public interface IEditingContextEventProcessorRegistry {
 
     void disposeEditingContextEventProcessor(String editingContextId);
 
+    /**
+     * Returns the status of the event processor of the given editing context.
+     *
+     * @param editingContextId
+     *         The identifier of the editing context
+     * @return The status of the event processor or an empty optional if the editing context is neither loaded nor being
+     *         loaded
+     */
+    Optional<EditingContextEventProcessorStatus> getEditingContextEventProcessorStatus(String editingContextId);
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -60,5 +70,10 @@ public interface IEditingContextEventProcessorRegistry {
         public void disposeEditingContextEventProcessor(String editingContextId) {
         }
 
+        @Override
+        public Optional<EditingContextEventProcessorStatus> getEditingContextEventProcessorStatus(String editingContextId) {
+            return Optional.empty();
+        }
+
     }
 }
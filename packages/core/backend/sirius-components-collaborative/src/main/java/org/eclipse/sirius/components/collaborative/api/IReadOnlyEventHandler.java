@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.api;
+
+/**
+ * Marker interface of the event handlers which only read the editing context.
+ *
+ * <p>
+ * Such handlers must neither modify the editing context nor the representations and they must not rely on the change
+ * descriptions they emit since those may be discarded. The input pre-processors and post-processors are not called for
+ * their inputs. They are still executed one at a time in the thread of the editing context since neither the EMF model
+ * nor the interpreters can be read concurrently.
+ * </p>
+ * <p>
+ * Handlers evaluating arbitrary expressions, like the AQL queries of the QueryBased*EventHandlers which may call
+ * services modifying the semantic data, must not implement this interface.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface IReadOnlyEventHandler {
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -42,6 +42,21 @@ public interface IRepresentationEventProcessor extends IDisposablePublisher {
 
     Flux<IPayload> getOutputEvents(IInput input);
 
+    /**
+     * Indicates if the given input will only be read by this representation event processor.
+     *
+     * <p>
+     * The input pre-processors and post-processors are not called for read-only inputs.
+     * </p>
+     *
+     * @param representationInput
+     *         The input
+     * @return <code>true</code> if the input does not modify the representation or the editing context
+     */
+    default boolean isReadOnly(IRepresentationInput representationInput) {
+        return false;
+    }
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
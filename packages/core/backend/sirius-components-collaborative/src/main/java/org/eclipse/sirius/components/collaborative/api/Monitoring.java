@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -24,9 +24,32 @@ public final class Monitoring {
     public static final String TIMER_REFRESH_REPRESENTATION = "timer_refresh_representation";
     public static final String TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR = "timer_create_representation_event_processor";
     public static final String TIMER_PROCESSING_INPUT = "timer_processing_input";
+    public static final String TIMER_INPUT_QUEUE_WAIT = "timer_input_queue_wait";
+    public static final String TIMER_HANDLE_INPUT = "timer_handle_input";
+    public static final String PENDING_INPUTS = "siriusweb_editingcontext_pending_inputs";
+    public static final String REJECTED_INPUTS = "siriusweb_editingcontext_rejected_inputs";
+    public static final String TIMER_LOAD_EDITING_CONTEXT = "timer_load_editing_context";
+    public static final String EDITING_CONTEXTS = "siriusweb_editingcontexts";
+    public static final String PENDING_WRITES = "siriusweb_editingcontext_pending_writes";
+    public static final String TIMER_FLUSH_PENDING_WRITES = "timer_flush_pending_writes";
+    public static final String COALESCED_REFRESHES = "siriusweb_editingcontext_coalesced_refreshes";
+    public static final String EDITING_CONTEXTS_ESTIMATED_SIZE = "siriusweb_editingcontexts_estimated_size";
+    public static final String EVICTED_EDITING_CONTEXTS = "siriusweb_editingcontexts_evicted";
+    public static final String OBJECT_INDEX_LOOKUPS = "siriusweb_object_index_lookups";
+    public static final String TIMER_PROJECT_IMPORT = "siriusweb_project_import";
+    public static final String TIMER_PARSE_DOCUMENTS = "timer_parse_documents";
+    public static final String TIMER_RESOLVE_PROXIES = "timer_resolve_proxies";
 
     public static final String NAME = "name";
 
+    public static final String INPUT = "input";
+
+    public static final String REPRESENTATION_KIND = "representationKind";
+
+    public static final String EDITING_CONTEXT_KIND = "editingContextKind";
+
+    public static final String NONE = "none";
+
     private Monitoring() {
         // Prevent instantiation
     }
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.configuration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.config.MeterFilterReply;
+
+/**
+ * Meter filter used to keep the number of meters created by Sirius Components bounded.
+ *
+ * <p>
+ * For the meters whose name starts with one of the given prefixes, the tags known to have an unbounded number of values
+ * (identifiers of inputs, representations, etc) are removed and a new meter is denied once one of its limited tags has
+ * already been seen with the maximum number of distinct values for this meter name.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class BoundedCardinalityMeterFilter implements MeterFilter {
+
+    private final Logger logger = LoggerFactory.getLogger(BoundedCardinalityMeterFilter.class);
+
+    private final List<String> prefixes;
+
+    private final Set<String> ignoredTagKeys;
+
+    private final Set<String> limitedTagKeys;
+
+    private final int maxTagValues;
+
+    private final Map<String, Set<String>> tagValues = new ConcurrentHashMap<>();
+
+    public BoundedCardinalityMeterFilter(List<String> prefixes, Set<String> ignoredTagKeys, Set<String> limitedTagKeys, int maxTagValues) {
+        this.prefixes = Objects.requireNonNull(prefixes);
+        this.ignoredTagKeys = Objects.requireNonNull(ignoredTagKeys);
+        this.limitedTagKeys = Objects.requireNonNull(limitedTagKeys);
+        this.maxTagValues = maxTagValues;
+    }
+
+    @Override
+    public Meter.Id map(Meter.Id id) {
+        if (this.isGuarded(id) && id.getTags().stream().map(Tag::getKey).anyMatch(this.ignoredTagKeys::contains)) {
+            var tags = id.getTags().stream()
+                    .filter(tag -> !this.ignoredTagKeys.contains(tag.getKey()))
+                    .toList();
+            return id.replaceTags(tags);
+        }
+        return id;
+    }
+
+    @Override
+    public MeterFilterReply accept(Meter.Id id) {
+        if (this.isGuarded(id)) {
+            var limitedTags = id.getTags().stream()
+                    .filter(tag -> this.limitedTagKeys.contains(tag.getKey()))
+                    .toList();
+            for (Tag tag : limitedTags) {
+                var values = this.tagValues.computeIfAbsent(id.getName() + ":" + tag.getKey(), key -> ConcurrentHashMap.newKeySet());
+                if (!values.contains(tag.getValue())) {
+                    synchronized (values) {
+                        if (values.size() >= this.maxTagValues) {
+                            this.logger.warn("The meter {} has reached the maximum number of values for the tag {}: {}", id.getName(), tag.getKey(), tag.getValue());
+                            return MeterFilterReply.DENY;
+                        }
+                        values.add(tag.getValue());
+                    }
+                }
+            }
+        }
+        return MeterFilterReply.NEUTRAL;
+    }
+
+    private boolean isGuarded(Meter.Id id) {
+        return this.prefixes.stream().anyMatch(id.getName()::startsWith);
+    }
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.configuration;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.editingcontext.EditingContextEventProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+
+/**
+ * Configuration used to guard the cardinality of the meters of Sirius Components.
+ *
+ * @author sbegaudeau
+ */
+@Configuration
+public class CollaborativeMonitoringConfiguration {
+
+    private static final List<String> GUARDED_PREFIXES = List.of("siriusweb_", "timer_");
+
+    private static final Set<String> IGNORED_TAG_KEYS = Set.of("inputId", "changeDescription", "editingContext", EditingContextEventProcessor.REPRESENTATION_ID);
+
+    private static final Set<String> LIMITED_TAG_KEYS = Set.of(Monitoring.INPUT, Monitoring.REPRESENTATION_KIND, Monitoring.EDITING_CONTEXT_KIND);
+
+    @Bean
+    public MeterFilter boundedCardinalityMeterFilter(@Value("${sirius.components.monitoring.maxTagValues:200}") int maxTagValues) {
+        return new BoundedCardinalityMeterFilter(GUARDED_PREFIXES, IGNORED_TAG_KEYS, LIMITED_TAG_KEYS, maxTagValues);
+    }
+}
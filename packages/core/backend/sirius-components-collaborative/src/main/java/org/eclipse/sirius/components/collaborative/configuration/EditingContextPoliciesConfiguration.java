@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.configuration;
+
+import java.time.Duration;
+
+import org.eclipse.sirius.components.collaborative.editingcontext.api.InputDispatchMode;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.InputDispatchPolicy;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.InputOverflowPolicy;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.PersistenceMode;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.PersistencePolicy;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.RefreshMode;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.RefreshPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the policies used by the editing context event processors.
+ *
+ * @author sbegaudeau
+ */
+@Configuration
+public class EditingContextPoliciesConfiguration {
+
+    @Bean
+    public InputDispatchPolicy inputDispatchPolicy(@Value("${sirius.components.editingContext.dispatch.mode:BLOCKING}") InputDispatchMode inputDispatchMode,
+            @Value("${sirius.components.editingContext.dispatch.queueCapacity:256}") int inputQueueCapacity,
+            @Value("${sirius.components.editingContext.dispatch.overflowPolicy:REJECT}") InputOverflowPolicy inputOverflowPolicy) {
+        return new InputDispatchPolicy(inputDispatchMode, inputQueueCapacity, inputOverflowPolicy);
+    }
+
+    @Bean
+    public PersistencePolicy persistencePolicy(@Value("${sirius.components.editingContext.persistence.mode:IMMEDIATE}") PersistenceMode persistenceMode,
+            @Value("${sirius.components.editingContext.persistence.writeWindow:1000}") long writeWindowInMilliseconds,
+            @Value("${sirius.components.editingContext.persistence.maxPendingChanges:50}") int maxPendingChanges) {
+        return new PersistencePolicy(persistenceMode, Duration.ofMillis(writeWindowInMilliseconds), maxPendingChanges);
+    }
+
+    @Bean
+    public RefreshPolicy refreshPolicy(@Value("${sirius.components.editingContext.refresh.mode:IMMEDIATE}") RefreshMode refreshMode,
+            @Value("${sirius.components.editingContext.refresh.window:50}") long refreshWindowInMilliseconds,
+            @Value("${sirius.components.editingContext.refresh.skipUnsubscribed:false}") boolean skipUnsubscribed) {
+        return new RefreshPolicy(refreshMode, Duration.ofMillis(refreshWindowInMilliseconds), skipUnsubscribed);
+    }
+}
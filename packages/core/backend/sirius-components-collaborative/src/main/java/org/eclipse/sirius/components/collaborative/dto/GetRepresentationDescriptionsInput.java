@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.dto;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IInput;
+
+/**
+ * Used to retrieve the descriptions of several representations at once.
+ *
+ * @author sbegaudeau
+ */
+public record GetRepresentationDescriptionsInput(UUID id, String editingContextId, List<String> representationIds) implements IInput {
+    public GetRepresentationDescriptionsInput {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(editingContextId);
+        Objects.requireNonNull(representationIds);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,18 +13,25 @@
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
@@ -36,6 +43,7 @@ import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandl
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
 import org.eclipse.sirius.components.collaborative.api.IInputPostProcessor;
 import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
+import org.eclipse.sirius.components.collaborative.api.IReadOnlyEventHandler;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessorComposedFactory;
 import org.eclipse.sirius.components.collaborative.api.Monitoring;
@@ -43,10 +51,12 @@ import org.eclipse.sirius.components.collaborative.dto.DeleteRepresentationInput
 import org.eclipse.sirius.components.collaborative.dto.RenameRepresentationInput;
 import org.eclipse.sirius.components.collaborative.dto.RepresentationRefreshedEvent;
 import org.eclipse.sirius.components.collaborative.dto.RepresentationRenamedEventPayload;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.InputDispatchMode;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.InputDispatchPolicy;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.InputOverflowPolicy;
 import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
 import org.eclipse.sirius.components.core.api.ErrorPayload;
 import org.eclipse.sirius.components.core.api.IEditingContext;
-import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
 import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.core.api.IRepresentationInput;
@@ -55,7 +65,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
@@ -80,15 +92,15 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     public static final String REPRESENTATION_LABEL = "representationLabel";
 
-    public static final String INPUT = "INPUT";
-
     private final Logger logger = LoggerFactory.getLogger(EditingContextEventProcessor.class);
 
     private final ICollaborativeMessageService messageService;
 
     private final IEditingContext editingContext;
 
-    private final IEditingContextPersistenceService editingContextPersistenceService;
+    private final EditingContextPersistenceScheduler editingContextPersistenceScheduler;
+
+    private final RepresentationRefreshScheduler representationRefreshScheduler;
 
     private final ApplicationEventPublisher applicationEventPublisher;
 
@@ -116,10 +128,21 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     private final MeterRegistry meterRegistry;
 
+    private final InputDispatchPolicy inputDispatchPolicy;
+
+    private final AtomicInteger pendingInputsCount = new AtomicInteger();
+
+    private final AtomicInteger activeCallsCount = new AtomicInteger();
+
+    private final AtomicBoolean disposing = new AtomicBoolean();
+
+    private volatile Instant lastActivityTime = Instant.now();
+
+    private final Lock editingContextLock = new ReentrantLock();
+
     public EditingContextEventProcessor(EditingContextEventProcessorParameters parameters) {
         this.messageService = parameters.messageService();
         this.editingContext = parameters.editingContext();
-        this.editingContextPersistenceService = parameters.editingContextPersistenceService();
         this.applicationEventPublisher = parameters.applicationEventPublisher();
         this.editingContextEventHandlers = parameters.editingContextEventHandlers();
         this.representationEventProcessorComposedFactory = parameters.representationEventProcessorComposedFactory();
@@ -129,6 +152,11 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         this.inputPostProcessors = parameters.inputPostProcessors();
         this.changeDescriptionDisposable = this.setupChangeDescriptionSinkConsumer();
         this.meterRegistry = parameters.meterRegistry();
+        this.inputDispatchPolicy = parameters.inputDispatchPolicy();
+        this.editingContextPersistenceScheduler = new EditingContextPersistenceScheduler(this.editingContext, parameters.editingContextPersistenceService(),
+                parameters.editingContextPersistenceListeners(), parameters.persistencePolicy(), this.executorService, this.meterRegistry);
+        this.representationRefreshScheduler = new RepresentationRefreshScheduler(parameters.refreshPolicy(), this.executorService, this.editingContextLock,
+                this::refreshRepresentation, this.meterRegistry);
     }
 
     @SuppressWarnings("checkstyle:IllegalCatch")
@@ -157,12 +185,14 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
             var refreshRepresentationSample = Timer.start(this.meterRegistry);
 
+            String representationKind = Monitoring.NONE;
             RepresentationEventProcessorEntry representationEventProcessorEntry = this.representationEventProcessors.get(changeDescription.getSourceId());
             if (representationEventProcessorEntry != null) {
                 try {
                     IRepresentationEventProcessor representationEventProcessor = representationEventProcessorEntry.getRepresentationEventProcessor();
                     representationEventProcessor.refresh(changeDescription);
                     IRepresentation representation = representationEventProcessor.getRepresentation();
+                    representationKind = representation.getKind();
                     this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
                 } catch (Exception exception) {
                     this.logger.warn(exception.getMessage(), exception);
@@ -170,11 +200,11 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
             }
             this.refreshOtherRepresentations(changeDescription);
 
-            var timer = this.meterRegistry.timer(Monitoring.TIMER_REFRESH_REPRESENTATION, "changeDescription", changeDescription.getSourceId());
+            var timer = this.getTimer(Monitoring.TIMER_REFRESH_REPRESENTATION, changeDescription.getInput(), Tags.of(Monitoring.REPRESENTATION_KIND, representationKind));
             refreshRepresentationSample.stop(timer);
 
             if (this.shouldPersistTheEditingContext(changeDescription)) {
-                this.editingContextPersistenceService.persist(changeDescription.getInput(), this.editingContext);
+                this.editingContextPersistenceScheduler.schedule(changeDescription.getInput());
             }
             this.danglingRepresentationDeletionService.deleteDanglingRepresentations(changeDescription.getInput(), this.editingContext);
 
@@ -227,27 +257,148 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     @Override
     public Mono<IPayload> handle(IInput input) {
-        Timer.Sample handleTimer = Timer.start(this.meterRegistry);
-        if (this.executorService.isShutdown()) {
-            this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId());
-            handleTimer.stop(this.meterRegistry.timer(Monitoring.EVENT_HANDLER, INPUT, input.getClass().getSimpleName(),
-                    "inputId", input.id().toString()));
-            return Mono.empty();
+        return this.tryHandle(input).orElseGet(() -> Mono.just(this.rejectDisposedInput(input)));
+    }
+
+    @Override
+    public Optional<Mono<IPayload>> tryHandle(IInput input) {
+        Optional<Mono<IPayload>> optionalPayloadMono = Optional.empty();
+
+        // The processor is in use during the dispatch of the input so that it cannot be marked as being disposed meanwhile
+        this.activeCallsCount.incrementAndGet();
+        try {
+            if (!this.disposing.get()) {
+                optionalPayloadMono = Optional.of(this.dispatch(input));
+            }
+        } finally {
+            this.activeCallsCount.decrementAndGet();
         }
+        return optionalPayloadMono;
+    }
 
+    private Mono<IPayload> dispatch(IInput input) {
+        this.lastActivityTime = Instant.now();
+        Timer.Sample handleTimer = Timer.start(this.meterRegistry);
         this.logger.trace(input.toString());
 
+        boolean isAsynchronous = this.inputDispatchPolicy.mode() == InputDispatchMode.ASYNCHRONOUS;
+
+        Mono<IPayload> payloadMono;
+        if (isAsynchronous && this.tryReservePendingInput()) {
+            payloadMono = this.handleAsynchronously(input, handleTimer);
+        } else if (isAsynchronous && this.inputDispatchPolicy.overflowPolicy() == InputOverflowPolicy.REJECT) {
+            this.logger.warn("Too many pending inputs for the editing context {}, the input {} has been rejected", this.editingContext.getId(), input);
+            this.getRejectedInputsCounter(input).increment();
+            payloadMono = Mono.just(new ErrorPayload(input.id(), this.messageService.tooManyPendingInputs()));
+        } else {
+            payloadMono = this.handleSynchronously(input, handleTimer);
+        }
+        return payloadMono;
+    }
+
+    /**
+     * Reserves a slot in the queue of pending inputs if it is not full.
+     *
+     * @return <code>true</code> if a slot has been reserved, <code>false</code> otherwise
+     */
+    private boolean tryReservePendingInput() {
+        boolean isReserved = this.pendingInputsCount.incrementAndGet() <= this.inputDispatchPolicy.queueCapacity();
+        if (!isReserved) {
+            this.pendingInputsCount.decrementAndGet();
+        }
+        return isReserved;
+    }
+
+    /**
+     * Rejects an input received once the editing context event processor has been disposed.
+     *
+     * @param input
+     *         The input to reject
+     * @return The payload returned to the caller
+     */
+    private IPayload rejectDisposedInput(IInput input) {
+        this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId());
+        this.getRejectedInputsCounter(input).increment();
+        return new ErrorPayload(input.id(), this.messageService.unavailableEditingContext());
+    }
+
+    /**
+     * Blocks the caller until the given input has been processed by the thread of the editing context.
+     *
+     * @param input
+     *         The input to handle
+     * @param handleTimer
+     *         The sample used to measure the time spent to handle the input
+     * @return The payload computed
+     */
+    private Mono<IPayload> handleSynchronously(IInput input, Timer.Sample handleTimer) {
         One<IPayload> payloadSink = Sinks.one();
-        Future<?> future = this.executorService.submit(() -> this.doHandle(payloadSink, input));
+        Timer.Sample queueWaitTimer = Timer.start(this.meterRegistry);
+        this.pendingInputsCount.incrementAndGet();
         try {
+            Future<?> future = this.executorService.submit(() -> {
+                queueWaitTimer.stop(this.getTimer(Monitoring.TIMER_INPUT_QUEUE_WAIT, input, Tags.empty()));
+                this.doHandleTimed(payloadSink, input);
+            });
             // Block until the event has been processed
             future.get();
+        } catch (RejectedExecutionException exception) {
+            payloadSink.tryEmitValue(this.rejectDisposedInput(input));
         } catch (InterruptedException | ExecutionException exception) {
             this.logger.warn(exception.getMessage(), exception);
+        } finally {
+            this.pendingInputsCount.decrementAndGet();
+        }
+        handleTimer.stop(this.getTimer(Monitoring.TIMER_PROCESSING_INPUT, input, Tags.empty()));
+
+        return this.toPayloadMono(payloadSink, input);
+    }
+
+    /**
+     * Queues the given input and returns immediately a publisher which will complete once the input has been processed.
+     *
+     * <p>
+     * The caller must have reserved a slot in the queue of pending inputs, it will be released once the input has been
+     * processed.
+     * </p>
+     *
+     * @param input
+     *         The input to handle
+     * @param handleTimer
+     *         The sample used to measure the time spent to handle the input
+     * @return The payload computed
+     */
+    private Mono<IPayload> handleAsynchronously(IInput input, Timer.Sample handleTimer) {
+        One<IPayload> payloadSink = Sinks.one();
+        Timer.Sample queueWaitTimer = Timer.start(this.meterRegistry);
+
+        CompletableFuture<Void> future;
+        try {
+            future = CompletableFuture.runAsync(() -> {
+                queueWaitTimer.stop(this.getTimer(Monitoring.TIMER_INPUT_QUEUE_WAIT, input, Tags.empty()));
+                try {
+                    this.doHandleTimed(payloadSink, input);
+                } finally {
+                    this.pendingInputsCount.decrementAndGet();
+                    handleTimer.stop(this.getTimer(Monitoring.TIMER_PROCESSING_INPUT, input, Tags.empty()));
+                }
+            }, this.executorService);
+        } catch (RejectedExecutionException exception) {
+            this.pendingInputsCount.decrementAndGet();
+            return Mono.just(this.rejectDisposedInput(input));
         }
-        handleTimer.stop(this.meterRegistry.timer(Monitoring.TIMER_PROCESSING_INPUT, "input", input.getClass().getSimpleName(),
-                "inputId", input.id().toString()));
 
+        // The cancellation of the subscriber must not prevent the input from being processed
+        return Mono.fromFuture(future, true)
+                .onErrorResume(throwable -> {
+                    this.logger.warn(throwable.getMessage(), throwable);
+                    return Mono.empty();
+                })
+                .then(Mono.defer(() -> this.toPayloadMono(payloadSink, input)))
+                .publishOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<IPayload> toPayloadMono(One<IPayload> payloadSink, IInput input) {
         var timeoutFallback = Mono.just(new ErrorPayload(input.id(), this.messageService.timeout()))
                 .doOnSuccess(payload -> this.logger.warn("Timeout fallback for the input {}", input));
         return payloadSink.asMono()
@@ -256,6 +407,24 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
                 .doOnError(throwable -> this.logger.warn(throwable.getMessage(), throwable));
     }
 
+    /**
+     * Handles the given input and records the time spent in its handler, without the time spent waiting for the
+     * thread of the editing context.
+     *
+     * @param payloadSink
+     *         The sink to publish payload
+     * @param input
+     *         The input event
+     */
+    private void doHandleTimed(One<IPayload> payloadSink, IInput input) {
+        Timer.Sample doHandleTimer = Timer.start(this.meterRegistry);
+        try {
+            this.doHandle(payloadSink, input);
+        } finally {
+            doHandleTimer.stop(this.getTimer(Monitoring.TIMER_HANDLE_INPUT, input, Tags.empty()));
+        }
+    }
+
     /**
      * Finds the proper event handler to perform the task matching the given input event.
      *
@@ -268,17 +437,58 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     private void doHandle(One<IPayload> payloadSink, IInput input) {
         this.logger.trace("Input received: {}", input);
 
-        AtomicReference<IInput> inputAfterPreProcessing = new AtomicReference<>(input);
-        this.inputPreProcessors.forEach(preProcessor -> inputAfterPreProcessing.set(preProcessor.preProcess(this.editingContext, inputAfterPreProcessing.get(), this.changeDescriptionSink)));
+        this.editingContextLock.lock();
+        try {
+            // The inputs of read-only handlers are never seen by the processors
+            boolean shouldProcessInput = !this.isReadOnly(input);
 
-        if (inputAfterPreProcessing.get() instanceof IRepresentationInput representationInput) {
-            this.handleRepresentationInput(payloadSink, representationInput);
-        } else {
-            this.handleInput(payloadSink, inputAfterPreProcessing.get());
+            AtomicReference<IInput> inputAfterPreProcessing = new AtomicReference<>(input);
+            if (shouldProcessInput) {
+                this.inputPreProcessors.forEach(preProcessor -> inputAfterPreProcessing.set(preProcessor.preProcess(this.editingContext, inputAfterPreProcessing.get(), this.changeDescriptionSink)));
+            }
+
+            if (inputAfterPreProcessing.get() instanceof IRepresentationInput representationInput) {
+                this.handleRepresentationInput(payloadSink, representationInput);
+            } else {
+                this.handleInput(payloadSink, inputAfterPreProcessing.get());
+            }
+
+            if (shouldProcessInput) {
+                this.inputPostProcessors.forEach(postProcessor -> postProcessor.postProcess(this.editingContext, inputAfterPreProcessing.get(), this.changeDescriptionSink));
+            }
+        } finally {
+            this.editingContextLock.unlock();
         }
+    }
 
-        this.inputPostProcessors.forEach(postProcessor -> postProcessor.postProcess(this.editingContext, inputAfterPreProcessing.get(), this.changeDescriptionSink));
+    /**
+     * Indicates if the given input is handled by a read-only event handler.
+     *
+     * <p>
+     * The inputs of a representation are only considered read-only if its representation event processor already
+     * exists, since creating it would modify the state of this editing context event processor.
+     * </p>
+     *
+     * @param input
+     *         The input
+     * @return <code>true</code> if the input is read-only, <code>false</code> otherwise
+     */
+    private boolean isReadOnly(IInput input) {
+        if (input instanceof IRepresentationInput representationInput) {
+            return Optional.ofNullable(this.representationEventProcessors.get(representationInput.representationId()))
+                    .map(RepresentationEventProcessorEntry::getRepresentationEventProcessor)
+                    .filter(representationEventProcessor -> representationEventProcessor.isReadOnly(representationInput))
+                    .isPresent();
+        }
+        return this.findEditingContextEventHandler(input)
+                .filter(IReadOnlyEventHandler.class::isInstance)
+                .isPresent();
+    }
 
+    private Optional<IEditingContextEventHandler> findEditingContextEventHandler(IInput input) {
+        return this.editingContextEventHandlers.stream()
+                .filter(handler -> handler.canHandle(this.editingContext, input))
+                .findFirst();
     }
 
     /**
@@ -288,15 +498,18 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
      *         The description of change to consider in order to determine if the representation should be refreshed
      */
     private void refreshOtherRepresentations(ChangeDescription changeDescription) {
+        Map<String, IRepresentationEventProcessor> otherRepresentationEventProcessors = new LinkedHashMap<>();
         this.representationEventProcessors.entrySet().stream()
             .filter(entry -> !Objects.equals(entry.getKey(), changeDescription.getSourceId()))
-            .map(Entry::getValue)
-            .map(RepresentationEventProcessorEntry::getRepresentationEventProcessor)
-            .forEach(representationEventProcessor -> {
-                representationEventProcessor.refresh(changeDescription);
-                IRepresentation representation = representationEventProcessor.getRepresentation();
-                this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
-            });
+            .forEach(entry -> otherRepresentationEventProcessors.put(entry.getKey(), entry.getValue().getRepresentationEventProcessor()));
+
+        this.representationRefreshScheduler.schedule(otherRepresentationEventProcessors, changeDescription);
+    }
+
+    private void refreshRepresentation(IRepresentationEventProcessor representationEventProcessor, ChangeDescription changeDescription) {
+        representationEventProcessor.refresh(changeDescription);
+        IRepresentation representation = representationEventProcessor.getRepresentation();
+        this.applicationEventPublisher.publishEvent(new RepresentationRefreshedEvent(this.editingContext.getId(), representation));
     }
 
     private boolean shouldPersistTheEditingContext(ChangeDescription changeDescription) {
@@ -326,9 +539,7 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
             this.disposeRepresentation(deleteRepresentationInput.representationId());
         }
 
-        Optional<IEditingContextEventHandler> optionalEditingContextEventHandler = this.editingContextEventHandlers.stream()
-                .filter(handler -> handler.canHandle(this.editingContext, input))
-                .findFirst();
+        Optional<IEditingContextEventHandler> optionalEditingContextEventHandler = this.findEditingContextEventHandler(input);
 
         if (optionalEditingContextEventHandler.isPresent()) {
             IEditingContextEventHandler editingContextEventHandler = optionalEditingContextEventHandler.get();
@@ -339,6 +550,9 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     }
 
     private void handleRepresentationInput(One<IPayload> payloadSink, IRepresentationInput representationInput) {
+        // The representation must take into account the changes performed before the input
+        this.representationRefreshScheduler.flush(representationInput.representationId());
+
         Optional<IRepresentationEventProcessor> optionalRepresentationEventProcessor = this.acquireRepresentationEventProcessor(representationInput.representationId(), representationInput);
 
         if (optionalRepresentationEventProcessor.isPresent()) {
@@ -351,6 +565,23 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     @Override
     public Optional<IRepresentationEventProcessor> acquireRepresentationEventProcessor(String representationId, IInput input) {
+        Optional<IRepresentationEventProcessor> optionalRepresentationEventProcessor = Optional.empty();
+
+        this.activeCallsCount.incrementAndGet();
+        try {
+            if (!this.disposing.get()) {
+                optionalRepresentationEventProcessor = this.doAcquireRepresentationEventProcessor(representationId, input);
+            } else {
+                this.logger.debug("The editing context {} is being disposed, the representation {} cannot be acquired", this.editingContext.getId(), representationId);
+            }
+        } finally {
+            this.activeCallsCount.decrementAndGet();
+        }
+        return optionalRepresentationEventProcessor;
+    }
+
+    private Optional<IRepresentationEventProcessor> doAcquireRepresentationEventProcessor(String representationId, IInput input) {
+        this.lastActivityTime = Instant.now();
         var getRepresentationEventProcessorSample = Timer.start(this.meterRegistry);
 
         var optionalRepresentationEventProcessor = Optional.ofNullable(this.representationEventProcessors.get(representationId))
@@ -366,6 +597,7 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
                         .publishOn(Schedulers.fromExecutorService(this.executorService))
                         .subscribe(canBeDisposed -> {
                             if (canBeDisposed.booleanValue() && representationEventProcessor.getSubscriptionManager().isEmpty()) {
+                                this.representationRefreshScheduler.flush(representationId);
                                 this.disposeRepresentation(representationId);
                             } else {
                                 this.logger.trace("Stopping the disposal of the representation event processor {}", representationId);
@@ -377,18 +609,53 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
             } else {
                 this.logger.debug("The representation with the id {} does not exist", representationId);
             }
-        } else {
-            var timer = this.meterRegistry.timer(Monitoring.TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR,
-                    "editingContext", this.editingContext.getId(),
-                    "input", input.getClass().getSimpleName(),
-                    REPRESENTATION_ID, representationId);
+
+            var representationKind = optionalRepresentationEventProcessor.map(IRepresentationEventProcessor::getRepresentation)
+                    .map(IRepresentation::getKind)
+                    .orElse(Monitoring.NONE);
+            var timer = this.getTimer(Monitoring.TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR, input, Tags.of(Monitoring.REPRESENTATION_KIND, representationKind));
             getRepresentationEventProcessorSample.stop(timer);
+        } else {
+            // A new subscriber may have been added to a representation whose refresh has been skipped
+            this.representationRefreshScheduler.requestFlush(representationId);
         }
 
         this.logger.trace("Representation event processors count: {}", this.representationEventProcessors.size());
         return optionalRepresentationEventProcessor;
     }
 
+    /**
+     * Returns the timer with the given name for the given input.
+     *
+     * <p>
+     * The timers are only tagged with values coming from a bounded set, such as the type of the input or the kind of
+     * the editing context, to keep the number of meters constant whatever the number of inputs handled.
+     * </p>
+     *
+     * @param name
+     *         The name of the timer
+     * @param input
+     *         The input measured
+     * @param tags
+     *         Additional tags
+     * @return The timer
+     */
+    private Timer getTimer(String name, IInput input, Tags tags) {
+        return Timer.builder(name)
+                .tag(Monitoring.INPUT, input.getClass().getSimpleName())
+                .tag(Monitoring.EDITING_CONTEXT_KIND, this.editingContext.getClass().getSimpleName())
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry);
+    }
+
+    private Counter getRejectedInputsCounter(IInput input) {
+        return Counter.builder(Monitoring.REJECTED_INPUTS)
+                .tag(Monitoring.INPUT, input.getClass().getSimpleName())
+                .tag(Monitoring.EDITING_CONTEXT_KIND, this.editingContext.getClass().getSimpleName())
+                .register(this.meterRegistry);
+    }
+
     @Override
     public List<IRepresentationEventProcessor> getRepresentationEventProcessors() {
         // @formatter:off
@@ -398,7 +665,50 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         // @formatter:on
     }
 
+    @Override
+    public Instant getLastActivityTime() {
+        return this.lastActivityTime;
+    }
+
+    @Override
+    public int getPendingInputsCount() {
+        return this.pendingInputsCount.get();
+    }
+
+    @Override
+    public int getPendingWritesCount() {
+        return this.editingContextPersistenceScheduler.getPendingChangesCount();
+    }
+
+    @Override
+    public boolean isInUse() {
+        return !this.representationEventProcessors.isEmpty() || this.pendingInputsCount.get() > 0 || this.activeCallsCount.get() > 0;
+    }
+
+    @Override
+    public boolean tryMarkAsDisposing() {
+        boolean isMarked = !this.isInUse() && this.disposing.compareAndSet(false, true);
+        if (isMarked && this.isInUse()) {
+            // The processor has been used concurrently, the inputs rejected meanwhile will be dispatched again by their caller
+            this.disposing.set(false);
+            isMarked = false;
+        }
+        return isMarked;
+    }
+
+    @Override
+    public CompletableFuture<Void> executeInEditingContextThread(Runnable task) {
+        CompletableFuture<Void> future;
+        try {
+            future = CompletableFuture.runAsync(task, this.executorService);
+        } catch (RejectedExecutionException exception) {
+            future = CompletableFuture.failedFuture(exception);
+        }
+        return future;
+    }
+
     private void disposeRepresentation(String representationId) {
+        this.representationRefreshScheduler.discard(representationId);
         Optional.ofNullable(this.representationEventProcessors.remove(representationId)).ifPresent(RepresentationEventProcessorEntry::dispose);
 
         if (this.representationEventProcessors.isEmpty()) {
@@ -423,6 +733,7 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
     @Override
     public void dispose() {
         this.logger.trace("Disposing the editing context event processor {}", this.editingContext.getId());
+        this.disposing.set(true);
 
         EmitResult changeDescriptionEmitResult = this.changeDescriptionSink.tryEmitComplete();
         if (changeDescriptionEmitResult.isFailure()) {
@@ -431,12 +742,19 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         }
         this.changeDescriptionDisposable.dispose();
 
+        this.representationRefreshScheduler.dispose();
+        this.editingContextPersistenceScheduler.dispose();
         this.executorService.shutdown();
 
-        this.representationEventProcessors.values().forEach(RepresentationEventProcessorEntry::dispose);
-        this.representationEventProcessors.clear();
+        this.editingContextLock.lock();
+        try {
+            this.representationEventProcessors.values().forEach(RepresentationEventProcessorEntry::dispose);
+            this.representationEventProcessors.clear();
 
-        this.editingContext.dispose();
+            this.editingContext.dispose();
+        } finally {
+            this.editingContextLock.unlock();
+        }
 
         EmitResult emitResult = this.sink.tryEmitComplete();
         if (emitResult.isFailure()) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,9 +12,11 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
+import java.time.Instant;
 import java.util.Objects;
 
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.core.api.IEditingContext;
 
 import reactor.core.Disposable;
 
@@ -26,10 +28,17 @@ import reactor.core.Disposable;
 public class EditingContextEventProcessorEntry {
     private final IEditingContextEventProcessor editingContextEventProcessor;
 
+    private final IEditingContext editingContext;
+
     private final Disposable disposable;
 
-    public EditingContextEventProcessorEntry(IEditingContextEventProcessor editingContextEventProcessor, Disposable disposable) {
+    private volatile long estimatedSize;
+
+    private volatile Instant estimationTime = Instant.EPOCH;
+
+    public EditingContextEventProcessorEntry(IEditingContextEventProcessor editingContextEventProcessor, IEditingContext editingContext, Disposable disposable) {
         this.editingContextEventProcessor = Objects.requireNonNull(editingContextEventProcessor);
+        this.editingContext = Objects.requireNonNull(editingContext);
         this.disposable = Objects.requireNonNull(disposable);
     }
 
@@ -37,10 +46,27 @@ public class EditingContextEventProcessorEntry {
         return this.editingContextEventProcessor;
     }
 
+    public IEditingContext getEditingContext() {
+        return this.editingContext;
+    }
+
     public Disposable getDisposable() {
         return this.disposable;
     }
 
+    public long getEstimatedSize() {
+        return this.estimatedSize;
+    }
+
+    public Instant getEstimationTime() {
+        return this.estimationTime;
+    }
+
+    public void updateEstimatedSize(long newEstimatedSize, Instant newEstimationTime) {
+        this.estimatedSize = newEstimatedSize;
+        this.estimationTime = Objects.requireNonNull(newEstimationTime);
+    }
+
     public void dispose() {
         this.disposable.dispose();
         this.editingContextEventProcessor.dispose();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -24,6 +24,10 @@ import org.eclipse.sirius.components.collaborative.api.IInputPostProcessor;
 import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessorComposedFactory;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextPersistenceListener;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.InputDispatchPolicy;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.PersistencePolicy;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.RefreshPolicy;
 import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
@@ -58,8 +62,16 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
 
     private final MeterRegistry meterRegistry;
 
+    private final InputDispatchPolicy inputDispatchPolicy;
+
+    private final PersistencePolicy persistencePolicy;
+
+    private final RefreshPolicy refreshPolicy;
+
+    private final List<IEditingContextPersistenceListener> editingContextPersistenceListeners;
+
     public EditingContextEventProcessorFactory(ICollaborativeMessageService messageService, ApplicationEventPublisher applicationEventPublisher,
-            IDanglingRepresentationDeletionService representationDeletionService, EditingContextEventProcessorFactoryParameters parameters) {
+            IDanglingRepresentationDeletionService representationDeletionService, EditingContextEventProcessorFactoryParameters parameters, EditingContextEventProcessorPolicies policies) {
         this.messageService = Objects.requireNonNull(messageService);
         this.editingContextPersistenceService = parameters.getEditingContextPersistenceService();
         this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
@@ -70,6 +82,10 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
         this.inputPreProcessors = parameters.getInputPreProcessors();
         this.inputPostProcessors = parameters.getInputPostProcessors();
         this.meterRegistry = parameters.getMeterRegistry();
+        this.inputDispatchPolicy = policies.getInputDispatchPolicy();
+        this.persistencePolicy = policies.getPersistencePolicy();
+        this.refreshPolicy = policies.getRefreshPolicy();
+        this.editingContextPersistenceListeners = policies.getEditingContextPersistenceListeners();
     }
 
     @Override
@@ -86,6 +102,10 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
                 .inputPreProcessors(this.inputPreProcessors)
                 .inputPostProcessors(this.inputPostProcessors)
                 .meterRegistry(this.meterRegistry)
+                .inputDispatchPolicy(this.inputDispatchPolicy)
+                .persistencePolicy(this.persistencePolicy)
+                .refreshPolicy(this.refreshPolicy)
+                .editingContextPersistenceListeners(this.editingContextPersistenceListeners)
                 .build();
         return new EditingContextEventProcessor(parameters);
     }
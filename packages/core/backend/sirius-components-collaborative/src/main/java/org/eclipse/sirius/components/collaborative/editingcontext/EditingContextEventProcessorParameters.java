@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -23,6 +23,10 @@ import org.eclipse.sirius.components.collaborative.api.IInputPostProcessor;
 import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessorComposedFactory;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextPersistenceListener;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.InputDispatchPolicy;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.PersistencePolicy;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.RefreshPolicy;
 import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
@@ -44,7 +48,11 @@ public record EditingContextEventProcessorParameters(
         IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider,
         List<IInputPreProcessor> inputPreProcessors,
         List<IInputPostProcessor> inputPostProcessors,
-        MeterRegistry meterRegistry
+        MeterRegistry meterRegistry,
+        InputDispatchPolicy inputDispatchPolicy,
+        PersistencePolicy persistencePolicy,
+        RefreshPolicy refreshPolicy,
+        List<IEditingContextPersistenceListener> editingContextPersistenceListeners
 ) {
 
     public EditingContextEventProcessorParameters {
@@ -59,6 +67,10 @@ public record EditingContextEventProcessorParameters(
         Objects.requireNonNull(inputPreProcessors);
         Objects.requireNonNull(inputPostProcessors);
         Objects.requireNonNull(meterRegistry);
+        Objects.requireNonNull(inputDispatchPolicy);
+        Objects.requireNonNull(persistencePolicy);
+        Objects.requireNonNull(refreshPolicy);
+        Objects.requireNonNull(editingContextPersistenceListeners);
     }
 
     public static EditingContextEventProcessorParametersBuilder newEditingContextEventProcessorParameters() {
@@ -96,6 +108,14 @@ public record EditingContextEventProcessorParameters(
 
         private MeterRegistry meterRegistry;
 
+        private InputDispatchPolicy inputDispatchPolicy = InputDispatchPolicy.blocking();
+
+        private PersistencePolicy persistencePolicy = PersistencePolicy.immediate();
+
+        private RefreshPolicy refreshPolicy = RefreshPolicy.immediate();
+
+        private List<IEditingContextPersistenceListener> editingContextPersistenceListeners = List.of();
+
         private EditingContextEventProcessorParametersBuilder() {
             // Prevent instantiation
         }
@@ -155,6 +175,26 @@ public record EditingContextEventProcessorParameters(
             return this;
         }
 
+        public EditingContextEventProcessorParametersBuilder inputDispatchPolicy(InputDispatchPolicy inputDispatchPolicy) {
+            this.inputDispatchPolicy = Objects.requireNonNull(inputDispatchPolicy);
+            return this;
+        }
+
+        public EditingContextEventProcessorParametersBuilder persistencePolicy(PersistencePolicy persistencePolicy) {
+            this.persistencePolicy = Objects.requireNonNull(persistencePolicy);
+            return this;
+        }
+
+        public EditingContextEventProcessorParametersBuilder refreshPolicy(RefreshPolicy refreshPolicy) {
+            this.refreshPolicy = Objects.requireNonNull(refreshPolicy);
+            return this;
+        }
+
+        public EditingContextEventProcessorParametersBuilder editingContextPersistenceListeners(List<IEditingContextPersistenceListener> editingContextPersistenceListeners) {
+            this.editingContextPersistenceListeners = Objects.requireNonNull(editingContextPersistenceListeners);
+            return this;
+        }
+
         public EditingContextEventProcessorParameters build() {
             return new EditingContextEventProcessorParameters(
                     this.messageService,
@@ -167,7 +207,11 @@ public record EditingContextEventProcessorParameters(
                     this.executorServiceProvider,
                     this.inputPreProcessors,
                     this.inputPostProcessors,
-                    this.meterRegistry
+                    this.meterRegistry,
+                    this.inputDispatchPolicy,
+                    this.persistencePolicy,
+                    this.refreshPolicy,
+                    this.editingContextPersistenceListeners
             );
         }
     }
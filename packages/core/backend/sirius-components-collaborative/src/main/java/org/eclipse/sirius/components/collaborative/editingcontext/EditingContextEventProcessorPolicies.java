@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextPersistenceListener;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.InputDispatchPolicy;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.PersistencePolicy;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.RefreshPolicy;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bundles the policies that {@link EditingContextEventProcessorFactory} gives to the editing context event processors
+ * into a single object for convenience.
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class EditingContextEventProcessorPolicies {
+
+    private final InputDispatchPolicy inputDispatchPolicy;
+
+    private final PersistencePolicy persistencePolicy;
+
+    private final RefreshPolicy refreshPolicy;
+
+    private final List<IEditingContextPersistenceListener> editingContextPersistenceListeners;
+
+    public EditingContextEventProcessorPolicies(InputDispatchPolicy inputDispatchPolicy, PersistencePolicy persistencePolicy, RefreshPolicy refreshPolicy,
+            List<IEditingContextPersistenceListener> editingContextPersistenceListeners) {
+        this.inputDispatchPolicy = Objects.requireNonNull(inputDispatchPolicy);
+        this.persistencePolicy = Objects.requireNonNull(persistencePolicy);
+        this.refreshPolicy = Objects.requireNonNull(refreshPolicy);
+        this.editingContextPersistenceListeners = Objects.requireNonNull(editingContextPersistenceListeners);
+    }
+
+    public InputDispatchPolicy getInputDispatchPolicy() {
+        return this.inputDispatchPolicy;
+    }
+
+    public PersistencePolicy getPersistencePolicy() {
+        return this.persistencePolicy;
+    }
+
+    public RefreshPolicy getRefreshPolicy() {
+        return this.refreshPolicy;
+    }
+
+    public List<IEditingContextPersistenceListener> getEditingContextPersistenceListeners() {
+        return this.editingContextPersistenceListeners;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,16 +13,24 @@
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import org.eclipse.sirius.components.collaborative.api.EditingContextEventProcessorStatus;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorFactory;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.EditingContextUsage;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEvictionPolicy;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextSizeEstimator;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
 import org.eclipse.sirius.components.core.api.IInput;
@@ -32,13 +40,30 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PreDestroy;
 import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Registry of the editing context event processors.
  *
+ * <p>
+ * Editing contexts are loaded without any global lock. Concurrent requests for an editing context which is being loaded
+ * will wait for the end of this loading while requests for other editing contexts will not be impacted.
+ * </p>
+ *
+ * <p>
+ * The editing contexts which are not in use are periodically evicted according to an eviction policy. They are
+ * persisted and disposed in the background and they will be loaded again transparently on their next access, once
+ * their disposal is over.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -52,13 +77,74 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
 
     private final Duration disposeDelay;
 
+    private final MeterRegistry meterRegistry;
+
+    private final IEditingContextEvictionPolicy editingContextEvictionPolicy;
+
+    private final List<IEditingContextSizeEstimator> editingContextSizeEstimators;
+
+    private final Counter evictedEditingContextsCounter;
+
+    private final Disposable evictionSubscription;
+
     private final Map<String, EditingContextEventProcessorEntry> editingContextEventProcessors = new ConcurrentHashMap<>();
 
+    private final Map<String, CompletableFuture<Optional<IEditingContextEventProcessor>>> loadingEditingContextEventProcessors = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<Void>> evictedEditingContextEventProcessors = new ConcurrentHashMap<>();
+
     public EditingContextEventProcessorRegistry(IEditingContextEventProcessorFactory editingContextEventProcessorFactory, IEditingContextSearchService editingContextSearchService,
-            @Value("${sirius.components.editingContext.disposeDelay:1s}") Duration disposeDelay) {
+            @Value("${sirius.components.editingContext.disposeDelay:1s}") Duration disposeDelay, MeterRegistry meterRegistry, IEditingContextEvictionPolicy editingContextEvictionPolicy,
+            List<IEditingContextSizeEstimator> editingContextSizeEstimators, @Value("${sirius.components.editingContext.eviction.checkInterval:30s}") Duration evictionCheckInterval) {
         this.editingContextEventProcessorFactory = editingContextEventProcessorFactory;
         this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
         this.disposeDelay = disposeDelay;
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.editingContextEvictionPolicy = Objects.requireNonNull(editingContextEvictionPolicy);
+        this.editingContextSizeEstimators = Objects.requireNonNull(editingContextSizeEstimators);
+
+        Gauge.builder(Monitoring.EDITING_CONTEXTS, this.editingContextEventProcessors, Map::size)
+                .tag("status", EditingContextEventProcessorStatus.READY.name())
+                .register(this.meterRegistry);
+        Gauge.builder(Monitoring.EDITING_CONTEXTS, this.loadingEditingContextEventProcessors, Map::size)
+                .tag("status", EditingContextEventProcessorStatus.LOADING.name())
+                .register(this.meterRegistry);
+        Gauge.builder(Monitoring.PENDING_INPUTS, this.editingContextEventProcessors, this::getPendingInputsCount)
+                .register(this.meterRegistry);
+        Gauge.builder(Monitoring.PENDING_WRITES, this.editingContextEventProcessors, this::getPendingWritesCount)
+                .register(this.meterRegistry);
+        Gauge.builder(Monitoring.EDITING_CONTEXTS_ESTIMATED_SIZE, this.editingContextEventProcessors, this::getEstimatedSize)
+                .baseUnit("bytes")
+                .register(this.meterRegistry);
+        this.evictedEditingContextsCounter = Counter.builder(Monitoring.EVICTED_EDITING_CONTEXTS)
+                .register(this.meterRegistry);
+
+        if (!evictionCheckInterval.isZero() && !evictionCheckInterval.isNegative()) {
+            this.evictionSubscription = Flux.interval(evictionCheckInterval, Schedulers.boundedElastic())
+                    .subscribe(tick -> this.evictEditingContextEventProcessors(), throwable -> this.logger.warn(throwable.getMessage(), throwable));
+        } else {
+            this.evictionSubscription = Flux.never().subscribe();
+        }
+    }
+
+    private double getEstimatedSize(Map<String, EditingContextEventProcessorEntry> entries) {
+        return entries.values().stream()
+                .mapToLong(EditingContextEventProcessorEntry::getEstimatedSize)
+                .sum();
+    }
+
+    private double getPendingInputsCount(Map<String, EditingContextEventProcessorEntry> entries) {
+        return entries.values().stream()
+                .map(EditingContextEventProcessorEntry::getEditingContextEventProcessor)
+                .mapToInt(IEditingContextEventProcessor::getPendingInputsCount)
+                .sum();
+    }
+
+    private double getPendingWritesCount(Map<String, EditingContextEventProcessorEntry> entries) {
+        return entries.values().stream()
+                .map(EditingContextEventProcessorEntry::getEditingContextEventProcessor)
+                .mapToInt(IEditingContextEventProcessor::getPendingWritesCount)
+                .sum();
     }
 
     @Override
@@ -72,44 +158,125 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
 
     @Override
     public Mono<IPayload> dispatchEvent(String editingContextId, IInput input) {
+        return this.getOrCreateEditingContextEventProcessor(editingContextId)
+                .map(processor -> processor.tryHandle(input).orElseGet(() -> this.dispatchEventAgain(editingContextId, input)))
+                .orElse(Mono.empty());
+    }
+
+    /**
+     * Dispatches again an input which has been rejected by an editing context event processor being evicted.
+     *
+     * <p>
+     * The editing context is loaded again once the eviction is over. The input is only dispatched once more, it is
+     * thus rejected if the new editing context event processor is already being evicted too.
+     * </p>
+     */
+    private Mono<IPayload> dispatchEventAgain(String editingContextId, IInput input) {
+        this.logger.debug("The editing context {} is being evicted, the input {} will be dispatched again", editingContextId, input);
         return this.getOrCreateEditingContextEventProcessor(editingContextId)
                 .map(processor -> processor.handle(input))
                 .orElse(Mono.empty());
     }
 
     @Override
-    public synchronized Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(String editingContextId) {
+    public Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(String editingContextId) {
+        var optionalEditingContextEventProcessor = this.getEditingContextEventProcessor(editingContextId);
+        if (optionalEditingContextEventProcessor.isEmpty()) {
+            CompletableFuture<Optional<IEditingContextEventProcessor>> loading = new CompletableFuture<>();
+            var existingLoading = this.loadingEditingContextEventProcessors.putIfAbsent(editingContextId, loading);
+            if (existingLoading != null) {
+                optionalEditingContextEventProcessor = this.waitForLoading(existingLoading);
+            } else {
+                optionalEditingContextEventProcessor = this.loadOnce(editingContextId, loading);
+            }
+        }
+        return optionalEditingContextEventProcessor;
+    }
+
+    /**
+     * Loads the editing context event processor while other callers are waiting for the given future.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private Optional<IEditingContextEventProcessor> loadOnce(String editingContextId, CompletableFuture<Optional<IEditingContextEventProcessor>> loading) {
+        try {
+            // The editing context may have been loaded between our first lookup and the registration of our loading
+            var optionalEditingContextEventProcessor = this.getEditingContextEventProcessor(editingContextId);
+            if (optionalEditingContextEventProcessor.isEmpty()) {
+                // The changes of an evicted editing context must be persisted before it is loaded again
+                Optional.ofNullable(this.evictedEditingContextEventProcessors.get(editingContextId)).ifPresent(CompletableFuture::join);
+                optionalEditingContextEventProcessor = this.loadEditingContextEventProcessor(editingContextId);
+            }
+            loading.complete(optionalEditingContextEventProcessor);
+            return optionalEditingContextEventProcessor;
+        } catch (RuntimeException exception) {
+            loading.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            this.loadingEditingContextEventProcessors.remove(editingContextId, loading);
+        }
+    }
+
+    private Optional<IEditingContextEventProcessor> getEditingContextEventProcessor(String editingContextId) {
+        return Optional.ofNullable(this.editingContextEventProcessors.get(editingContextId))
+                .map(EditingContextEventProcessorEntry::getEditingContextEventProcessor);
+    }
+
+    private Optional<IEditingContextEventProcessor> waitForLoading(CompletableFuture<Optional<IEditingContextEventProcessor>> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw exception;
+        }
+    }
+
+    private Optional<IEditingContextEventProcessor> loadEditingContextEventProcessor(String editingContextId) {
+        Timer.Sample loadSample = Timer.start(this.meterRegistry);
+
         Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
         if (this.editingContextSearchService.existsById(editingContextId)) {
-            optionalEditingContextEventProcessor = Optional.ofNullable(this.editingContextEventProcessors.get(editingContextId))
-                    .map(EditingContextEventProcessorEntry::getEditingContextEventProcessor);
-            if (optionalEditingContextEventProcessor.isEmpty()) {
-                Optional<IEditingContext> optionalEditingContext = this.editingContextSearchService.findById(editingContextId);
-                if (optionalEditingContext.isPresent()) {
-                    IEditingContext editingContext = optionalEditingContext.get();
-
-                    var editingContextEventProcessor = this.editingContextEventProcessorFactory.createEditingContextEventProcessor(editingContext);
-                    Disposable subscription = editingContextEventProcessor.canBeDisposed().delayElements(this.disposeDelay).subscribe(canBeDisposed -> {
-                        // We will wait for the delay before trying to dispose the editing context event processor
-                        // We will check if the editing context event processor is still empty
-                        if (canBeDisposed.booleanValue() && editingContextEventProcessor.getRepresentationEventProcessors().isEmpty()) {
-                            this.disposeEditingContextEventProcessor(editingContextId);
-                        } else {
-                            this.logger.trace("Stopping the disposal of the editing context");
-                        }
-                    });
-
-                    var editingContextEventProcessorEntry = new EditingContextEventProcessorEntry(editingContextEventProcessor, subscription);
-                    this.editingContextEventProcessors.put(editingContextId, editingContextEventProcessorEntry);
-
-                    optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessor);
-                }
+            Optional<IEditingContext> optionalEditingContext = this.editingContextSearchService.findById(editingContextId);
+            if (optionalEditingContext.isPresent()) {
+                IEditingContext editingContext = optionalEditingContext.get();
+
+                var editingContextEventProcessor = this.editingContextEventProcessorFactory.createEditingContextEventProcessor(editingContext);
+                Disposable subscription = editingContextEventProcessor.canBeDisposed().delayElements(this.disposeDelay).subscribe(canBeDisposed -> {
+                    // We will wait for the delay before trying to dispose the editing context event processor
+                    // We will check if the editing context event processor is still empty
+                    if (canBeDisposed.booleanValue() && editingContextEventProcessor.getRepresentationEventProcessors().isEmpty()) {
+                        this.disposeEditingContextEventProcessor(editingContextId);
+                    } else {
+                        this.logger.trace("Stopping the disposal of the editing context");
+                    }
+                });
+
+                var editingContextEventProcessorEntry = new EditingContextEventProcessorEntry(editingContextEventProcessor, editingContext, subscription);
+                this.estimateSize(editingContextEventProcessorEntry);
+                this.editingContextEventProcessors.put(editingContextId, editingContextEventProcessorEntry);
+
+                optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessor);
             }
         }
 
+        var timer = this.meterRegistry.timer(Monitoring.TIMER_LOAD_EDITING_CONTEXT, "found", String.valueOf(optionalEditingContextEventProcessor.isPresent()));
+        loadSample.stop(timer);
+
         return optionalEditingContextEventProcessor;
     }
 
+    @Override
+    public Optional<EditingContextEventProcessorStatus> getEditingContextEventProcessorStatus(String editingContextId) {
+        Optional<EditingContextEventProcessorStatus> optionalStatus = Optional.empty();
+        if (this.editingContextEventProcessors.containsKey(editingContextId)) {
+            optionalStatus = Optional.of(EditingContextEventProcessorStatus.READY);
+        } else if (this.loadingEditingContextEventProcessors.containsKey(editingContextId)) {
+            optionalStatus = Optional.of(EditingContextEventProcessorStatus.LOADING);
+        }
+        return optionalStatus;
+    }
+
     @Override
     public void disposeEditingContextEventProcessor(String editingContextId) {
         Optional.ofNullable(this.editingContextEventProcessors.remove(editingContextId)).ifPresent(EditingContextEventProcessorEntry::dispose);
@@ -117,10 +284,97 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
         this.logger.trace("Editing context event processors count: {}", this.editingContextEventProcessors.size());
     }
 
+    /**
+     * Evicts the editing contexts selected by the eviction policy among the ones which are not in use.
+     *
+     * <p>
+     * The estimated size of the editing contexts which have been used since their last estimation is computed again
+     * before asking the eviction policy.
+     * </p>
+     */
+    public void evictEditingContextEventProcessors() {
+        Instant now = Instant.now();
+
+        List<EditingContextUsage> editingContextUsages = this.editingContextEventProcessors.entrySet().stream()
+                .map(entry -> {
+                    var editingContextEventProcessorEntry = entry.getValue();
+                    var editingContextEventProcessor = editingContextEventProcessorEntry.getEditingContextEventProcessor();
+                    if (editingContextEventProcessor.getLastActivityTime().isAfter(editingContextEventProcessorEntry.getEstimationTime())) {
+                        this.estimateSize(editingContextEventProcessorEntry);
+                    }
+                    return new EditingContextUsage(entry.getKey(), editingContextEventProcessor.getLastActivityTime(), editingContextEventProcessorEntry.getEstimatedSize(),
+                            editingContextEventProcessor.isInUse());
+                })
+                .toList();
+
+        var editingContextIdsToEvict = this.editingContextEvictionPolicy.getEditingContextIdsToEvict(editingContextUsages, now);
+        editingContextIdsToEvict.forEach(this::evict);
+    }
+
+    /**
+     * Evicts the given editing context unless it has been used since the computation of its usage.
+     *
+     * <p>
+     * Its editing context event processor is first marked as being disposed, the inputs received afterwards are thus
+     * rejected and dispatched again. It is then removed from the registry and disposed in the background since
+     * persisting its changes may take some time.
+     * </p>
+     */
+    private void evict(String editingContextId) {
+        var editingContextEventProcessorEntry = this.editingContextEventProcessors.get(editingContextId);
+        if (editingContextEventProcessorEntry != null && editingContextEventProcessorEntry.getEditingContextEventProcessor().tryMarkAsDisposing()) {
+            CompletableFuture<Void> eviction = new CompletableFuture<>();
+            this.evictedEditingContextEventProcessors.put(editingContextId, eviction);
+
+            if (this.editingContextEventProcessors.remove(editingContextId, editingContextEventProcessorEntry)) {
+                this.evictedEditingContextsCounter.increment();
+                Schedulers.boundedElastic().schedule(() -> {
+                    try {
+                        editingContextEventProcessorEntry.dispose();
+                        this.logger.debug("The editing context {} has been evicted", editingContextId);
+                    } finally {
+                        this.evictedEditingContextEventProcessors.remove(editingContextId, eviction);
+                        eviction.complete(null);
+                    }
+                });
+            } else {
+                // The editing context event processor has been disposed meanwhile
+                this.evictedEditingContextEventProcessors.remove(editingContextId, eviction);
+                eviction.complete(null);
+            }
+        }
+    }
+
+    /**
+     * Estimates the size of the editing context of the given entry.
+     *
+     * <p>
+     * The estimation is performed asynchronously in the thread of the editing context so that it never runs while the
+     * editing context is being modified. The previous estimation is kept until then or if it fails.
+     * </p>
+     */
+    private void estimateSize(EditingContextEventProcessorEntry editingContextEventProcessorEntry) {
+        Instant estimationTime = Instant.now();
+        var editingContext = editingContextEventProcessorEntry.getEditingContext();
+        this.editingContextSizeEstimators.stream()
+                .filter(editingContextSizeEstimator -> editingContextSizeEstimator.canHandle(editingContext))
+                .findFirst()
+                .ifPresent(editingContextSizeEstimator -> editingContextEventProcessorEntry.getEditingContextEventProcessor()
+                        .executeInEditingContextThread(() -> editingContextEventProcessorEntry.updateEstimatedSize(editingContextSizeEstimator.estimateSize(editingContext), estimationTime))
+                        .whenComplete((result, throwable) -> {
+                            if (throwable != null) {
+                                this.logger.debug("The size of the editing context {} could not be estimated: {}", editingContext.getId(), throwable.getMessage());
+                            }
+                        }));
+    }
+
     @PreDestroy
     public void dispose() {
         this.logger.debug("Shutting down all the editing context event processors");
 
+        this.evictionSubscription.dispose();
+        this.evictedEditingContextEventProcessors.values().forEach(CompletableFuture::join);
+
         this.editingContextEventProcessors.values().forEach(EditingContextEventProcessorEntry::dispose);
         this.editingContextEventProcessors.clear();
     }
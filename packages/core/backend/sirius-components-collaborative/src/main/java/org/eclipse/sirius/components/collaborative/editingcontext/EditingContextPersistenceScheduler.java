@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextPersistenceListener;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.PersistenceMode;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.PersistencePolicy;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.events.ICause;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Decides when the semantic changes of an editing context are persisted.
+ *
+ * <p>
+ * With the {@link PersistenceMode#WRITE_BEHIND} mode, the changes are coalesced and a single write is performed once
+ * the write window has elapsed or once enough changes are pending. Writes are always performed in the thread of the
+ * editing context event processor since the editing context cannot be accessed concurrently.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextPersistenceScheduler {
+
+    private static final long FLUSH_ON_DISPOSE_TIMEOUT = 30;
+
+    private final Logger logger = LoggerFactory.getLogger(EditingContextPersistenceScheduler.class);
+
+    private final IEditingContext editingContext;
+
+    private final IEditingContextPersistenceService editingContextPersistenceService;
+
+    private final List<IEditingContextPersistenceListener> editingContextPersistenceListeners;
+
+    private final PersistencePolicy persistencePolicy;
+
+    private final ExecutorService executorService;
+
+    private final MeterRegistry meterRegistry;
+
+    private ICause pendingCause;
+
+    private int pendingChangesCount;
+
+    private Disposable scheduledFlush;
+
+    public EditingContextPersistenceScheduler(IEditingContext editingContext, IEditingContextPersistenceService editingContextPersistenceService,
+            List<IEditingContextPersistenceListener> editingContextPersistenceListeners, PersistencePolicy persistencePolicy, ExecutorService executorService, MeterRegistry meterRegistry) {
+        this.editingContext = Objects.requireNonNull(editingContext);
+        this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
+        this.editingContextPersistenceListeners = Objects.requireNonNull(editingContextPersistenceListeners);
+        this.persistencePolicy = Objects.requireNonNull(persistencePolicy);
+        this.executorService = Objects.requireNonNull(executorService);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+    }
+
+    /**
+     * Records a semantic change, the editing context will be persisted immediately or later depending on the
+     * persistence policy.
+     *
+     * @param cause
+     *         The cause of the change
+     */
+    public synchronized void schedule(ICause cause) {
+        this.pendingCause = Objects.requireNonNull(cause);
+        this.pendingChangesCount++;
+
+        boolean isWriteBehind = PersistenceMode.WRITE_BEHIND.equals(this.persistencePolicy.mode());
+        if (!isWriteBehind || this.pendingChangesCount >= this.persistencePolicy.maxPendingChanges() || this.persistencePolicy.writeWindow().isZero()) {
+            this.flush();
+        } else if (this.scheduledFlush == null) {
+            this.scheduledFlush = Schedulers.parallel().schedule(this::submitFlush, this.persistencePolicy.writeWindow().toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public synchronized int getPendingChangesCount() {
+        return this.pendingChangesCount;
+    }
+
+    private void submitFlush() {
+        try {
+            this.executorService.execute(this::flush);
+        } catch (RejectedExecutionException exception) {
+            // The editing context event processor is being disposed, the pending changes will be written by dispose()
+            this.logger.trace(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Writes the pending changes, if any. It must be called from the thread of the editing context event processor.
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    public synchronized void flush() {
+        if (this.scheduledFlush != null) {
+            this.scheduledFlush.dispose();
+            this.scheduledFlush = null;
+        }
+
+        if (this.pendingCause != null) {
+            ICause cause = this.pendingCause;
+            int changesCount = this.pendingChangesCount;
+            this.pendingCause = null;
+            this.pendingChangesCount = 0;
+
+            var flushSample = Timer.start(this.meterRegistry);
+            try {
+                this.editingContextPersistenceService.persist(cause, this.editingContext);
+                this.editingContextPersistenceListeners.forEach(listener -> listener.onFlushed(this.editingContext.getId(), changesCount));
+            } catch (RuntimeException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+                this.editingContextPersistenceListeners.forEach(listener -> listener.onFlushFailed(this.editingContext.getId(), changesCount, exception));
+            }
+            var timer = Timer.builder(Monitoring.TIMER_FLUSH_PENDING_WRITES)
+                    .tag("mode", this.persistencePolicy.mode().name())
+                    .tag(Monitoring.EDITING_CONTEXT_KIND, this.editingContext.getClass().getSimpleName())
+                    .publishPercentileHistogram()
+                    .register(this.meterRegistry);
+            flushSample.stop(timer);
+        }
+    }
+
+    /**
+     * Writes the pending changes in the thread of the editing context event processor and stops the scheduler.
+     *
+     * <p>
+     * It must be called before the executor service of the editing context event processor is shut down.
+     * </p>
+     */
+    public void dispose() {
+        if (this.getPendingChangesCount() > 0) {
+            try {
+                this.executorService.submit(this::flush).get(FLUSH_ON_DISPOSE_TIMEOUT, TimeUnit.SECONDS);
+            } catch (RejectedExecutionException exception) {
+                this.flush();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                this.logger.warn(exception.getMessage(), exception);
+            } catch (ExecutionException | TimeoutException exception) {
+                this.logger.warn("The pending changes of the editing context {} could not be written: {}", this.editingContext.getId(), exception.getMessage());
+            }
+        }
+        synchronized (this) {
+            if (this.scheduledFlush != null) {
+                this.scheduledFlush.dispose();
+                this.scheduledFlush = null;
+            }
+        }
+    }
+}
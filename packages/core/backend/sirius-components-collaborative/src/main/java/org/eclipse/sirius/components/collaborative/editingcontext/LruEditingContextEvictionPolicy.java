@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.sirius.components.collaborative.editingcontext.api.EditingContextUsage;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEvictionPolicy;
+
+/**
+ * Evicts the editing contexts which have not been used for some time and then the least recently used ones until the
+ * estimated size of the loaded editing contexts fits in the memory budget.
+ *
+ * <p>
+ * The editing contexts still in use are never evicted, the memory budget may thus be exceeded if they are too big.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class LruEditingContextEvictionPolicy implements IEditingContextEvictionPolicy {
+
+    private final Duration idleTimeout;
+
+    private final long maxEstimatedSize;
+
+    /**
+     * Creates the eviction policy.
+     *
+     * @param idleTimeout
+     *         The amount of time after which an unused editing context is evicted, a zero or negative duration disables
+     *         the idle timeout
+     * @param maxEstimatedSize
+     *         The maximum estimated size of all the loaded editing contexts in bytes, zero or a negative value disables
+     *         the memory budget
+     */
+    public LruEditingContextEvictionPolicy(Duration idleTimeout, long maxEstimatedSize) {
+        this.idleTimeout = Objects.requireNonNull(idleTimeout);
+        this.maxEstimatedSize = maxEstimatedSize;
+    }
+
+    @Override
+    public List<String> getEditingContextIdsToEvict(List<EditingContextUsage> editingContextUsages, Instant now) {
+        Set<String> editingContextIdsToEvict = new LinkedHashSet<>();
+
+        List<EditingContextUsage> leastRecentlyUsedFirst = editingContextUsages.stream()
+                .filter(editingContextUsage -> !editingContextUsage.inUse())
+                .sorted(Comparator.comparing(EditingContextUsage::lastActivityTime))
+                .toList();
+
+        if (!this.idleTimeout.isZero() && !this.idleTimeout.isNegative()) {
+            Instant idleThreshold = now.minus(this.idleTimeout);
+            leastRecentlyUsedFirst.stream()
+                    .filter(editingContextUsage -> editingContextUsage.lastActivityTime().isBefore(idleThreshold))
+                    .map(EditingContextUsage::editingContextId)
+                    .forEach(editingContextIdsToEvict::add);
+        }
+
+        if (this.maxEstimatedSize > 0) {
+            long estimatedSize = editingContextUsages.stream()
+                    .filter(editingContextUsage -> !editingContextIdsToEvict.contains(editingContextUsage.editingContextId()))
+                    .mapToLong(EditingContextUsage::estimatedSize)
+                    .sum();
+
+            var iterator = leastRecentlyUsedFirst.iterator();
+            while (estimatedSize > this.maxEstimatedSize && iterator.hasNext()) {
+                var editingContextUsage = iterator.next();
+                if (editingContextIdsToEvict.add(editingContextUsage.editingContextId())) {
+                    estimatedSize = estimatedSize - editingContextUsage.estimatedSize();
+                }
+            }
+        }
+
+        return new ArrayList<>(editingContextIdsToEvict);
+    }
+}
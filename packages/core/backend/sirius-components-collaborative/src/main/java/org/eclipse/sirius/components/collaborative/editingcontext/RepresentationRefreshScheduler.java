@@ -0,0 +1,331 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.function.BiConsumer;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.RefreshMode;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.RefreshPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Decides when the representations impacted by a change performed on another representation are refreshed.
+ *
+ * <p>
+ * With the {@link RefreshMode#COALESCED} mode, the representations are marked as dirty and refreshed once the refresh
+ * window has elapsed. Consecutive changes of the same kind are coalesced in a single refresh. When the refresh of the
+ * representations without subscribers is skipped, they stay dirty until they are acquired again or disposed.
+ * </p>
+ *
+ * <p>
+ * The representations are always refreshed one after the other, in the thread of the editing context event processor,
+ * while holding the lock of the editing context so that they never run concurrently with its disposal.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationRefreshScheduler {
+
+    private static final long FLUSH_ON_DISPOSE_TIMEOUT = 30;
+
+    private final Logger logger = LoggerFactory.getLogger(RepresentationRefreshScheduler.class);
+
+    private final RefreshPolicy refreshPolicy;
+
+    private final ExecutorService executorService;
+
+    private final Lock editingContextLock;
+
+    private final BiConsumer<IRepresentationEventProcessor, ChangeDescription> refresher;
+
+    private final Counter coalescedRefreshesCounter;
+
+    private final Map<String, PendingRefresh> pendingRefreshes = new LinkedHashMap<>();
+
+    private Disposable scheduledFlush;
+
+    public RepresentationRefreshScheduler(RefreshPolicy refreshPolicy, ExecutorService executorService, Lock editingContextLock,
+            BiConsumer<IRepresentationEventProcessor, ChangeDescription> refresher, MeterRegistry meterRegistry) {
+        this.refreshPolicy = Objects.requireNonNull(refreshPolicy);
+        this.executorService = Objects.requireNonNull(executorService);
+        this.editingContextLock = Objects.requireNonNull(editingContextLock);
+        this.refresher = Objects.requireNonNull(refresher);
+        this.coalescedRefreshesCounter = Counter.builder(Monitoring.COALESCED_REFRESHES).register(meterRegistry);
+    }
+
+    /**
+     * Refreshes the given representation event processors or marks them as dirty depending on the refresh policy.
+     *
+     * <p>
+     * It must be called from the thread of the editing context event processor.
+     * </p>
+     *
+     * @param representationEventProcessors
+     *         The representation event processors impacted by the change, by representation id
+     * @param changeDescription
+     *         The change description
+     */
+    public void schedule(Map<String, IRepresentationEventProcessor> representationEventProcessors, ChangeDescription changeDescription) {
+        List<PendingRefresh> refreshes = new ArrayList<>();
+        synchronized (this) {
+            boolean isCoalesced = RefreshMode.COALESCED.equals(this.refreshPolicy.mode()) && !this.refreshPolicy.refreshWindow().isZero();
+            for (var entry : representationEventProcessors.entrySet()) {
+                var representationEventProcessor = entry.getValue();
+                var pendingRefresh = this.pendingRefreshes.get(entry.getKey());
+                if (pendingRefresh != null) {
+                    pendingRefresh.add(changeDescription);
+                } else if (isCoalesced || this.shouldSkip(representationEventProcessor)) {
+                    pendingRefresh = new PendingRefresh(representationEventProcessor);
+                    pendingRefresh.add(changeDescription);
+                    this.pendingRefreshes.put(entry.getKey(), pendingRefresh);
+                } else {
+                    refreshes.add(new PendingRefresh(representationEventProcessor, changeDescription));
+                }
+            }
+
+            if (isCoalesced && !this.pendingRefreshes.isEmpty() && this.scheduledFlush == null) {
+                this.scheduledFlush = Schedulers.parallel().schedule(this::submitFlush, this.refreshPolicy.refreshWindow().toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        this.refresh(refreshes);
+    }
+
+    public synchronized boolean isDirty(String representationId) {
+        return this.pendingRefreshes.containsKey(representationId);
+    }
+
+    /**
+     * Refreshes the given representation if it is dirty. It must be called from the thread of the editing context event
+     * processor.
+     *
+     * @param representationId
+     *         The id of the representation
+     */
+    public void flush(String representationId) {
+        PendingRefresh pendingRefresh;
+        synchronized (this) {
+            pendingRefresh = this.pendingRefreshes.remove(representationId);
+        }
+        if (pendingRefresh != null) {
+            this.refresh(List.of(pendingRefresh));
+        }
+    }
+
+    /**
+     * Asks for the refresh of the given representation in the thread of the editing context event processor if it is
+     * dirty. It can be called from any thread.
+     *
+     * @param representationId
+     *         The id of the representation
+     */
+    public void requestFlush(String representationId) {
+        if (this.isDirty(representationId)) {
+            try {
+                this.executorService.execute(() -> this.flush(representationId));
+            } catch (RejectedExecutionException exception) {
+                this.logger.trace(exception.getMessage(), exception);
+            }
+        }
+    }
+
+    /**
+     * Forgets the pending changes of a representation which will not be refreshed anymore.
+     *
+     * @param representationId
+     *         The id of the representation
+     */
+    public synchronized void discard(String representationId) {
+        this.pendingRefreshes.remove(representationId);
+    }
+
+    /**
+     * Refreshes the dirty representations. It must be called from the thread of the editing context event processor.
+     *
+     * @param includeUnsubscribed
+     *         Indicates if the representations without subscribers should be refreshed too
+     */
+    public void flush(boolean includeUnsubscribed) {
+        List<PendingRefresh> refreshes = new ArrayList<>();
+        synchronized (this) {
+            if (this.scheduledFlush != null) {
+                this.scheduledFlush.dispose();
+                this.scheduledFlush = null;
+            }
+
+            var iterator = this.pendingRefreshes.values().iterator();
+            while (iterator.hasNext()) {
+                var pendingRefresh = iterator.next();
+                if (includeUnsubscribed || !this.shouldSkip(pendingRefresh.getRepresentationEventProcessor())) {
+                    refreshes.add(pendingRefresh);
+                    iterator.remove();
+                }
+            }
+        }
+        this.refresh(refreshes);
+    }
+
+    private void submitFlush() {
+        try {
+            this.executorService.execute(() -> this.flush(false));
+        } catch (RejectedExecutionException exception) {
+            // The editing context event processor is being disposed, the pending refreshes will be performed by dispose()
+            this.logger.trace(exception.getMessage(), exception);
+        }
+    }
+
+    private boolean shouldSkip(IRepresentationEventProcessor representationEventProcessor) {
+        return this.refreshPolicy.skipUnsubscribed() && representationEventProcessor.getSubscriptionManager().isEmpty();
+    }
+
+    private void refresh(List<PendingRefresh> refreshes) {
+        if (!refreshes.isEmpty()) {
+            this.editingContextLock.lock();
+            try {
+                refreshes.forEach(this::refresh);
+            } finally {
+                this.editingContextLock.unlock();
+            }
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void refresh(PendingRefresh pendingRefresh) {
+        for (var changeDescription : pendingRefresh.getChangeDescriptions()) {
+            try {
+                this.refresher.accept(pendingRefresh.getRepresentationEventProcessor(), changeDescription);
+            } catch (RuntimeException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            }
+        }
+    }
+
+    /**
+     * Refreshes the dirty representations in the thread of the editing context event processor and stops the scheduler.
+     *
+     * <p>
+     * It must be called before the executor service of the editing context event processor is shut down.
+     * </p>
+     */
+    public void dispose() {
+        boolean hasPendingRefreshes;
+        synchronized (this) {
+            hasPendingRefreshes = !this.pendingRefreshes.isEmpty();
+        }
+        if (hasPendingRefreshes) {
+            try {
+                this.executorService.submit(() -> this.flush(true)).get(FLUSH_ON_DISPOSE_TIMEOUT, TimeUnit.SECONDS);
+            } catch (RejectedExecutionException exception) {
+                this.flush(true);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                this.logger.warn(exception.getMessage(), exception);
+            } catch (ExecutionException | TimeoutException exception) {
+                this.logger.warn("The dirty representations could not be refreshed: {}", exception.getMessage());
+            }
+        }
+        synchronized (this) {
+            if (this.scheduledFlush != null) {
+                this.scheduledFlush.dispose();
+                this.scheduledFlush = null;
+            }
+            this.pendingRefreshes.clear();
+        }
+    }
+
+    /**
+     * The changes which have not been applied yet to a representation.
+     *
+     * @author sbegaudeau
+     */
+    private final class PendingRefresh {
+
+        private final IRepresentationEventProcessor representationEventProcessor;
+
+        private final List<ChangeDescription> changeDescriptions = new ArrayList<>();
+
+        private final boolean isDeferred;
+
+        private PendingRefresh(IRepresentationEventProcessor representationEventProcessor) {
+            this.representationEventProcessor = Objects.requireNonNull(representationEventProcessor);
+            this.isDeferred = true;
+        }
+
+        private PendingRefresh(IRepresentationEventProcessor representationEventProcessor, ChangeDescription changeDescription) {
+            this.representationEventProcessor = Objects.requireNonNull(representationEventProcessor);
+            this.isDeferred = false;
+            this.changeDescriptions.add(changeDescription);
+        }
+
+        public IRepresentationEventProcessor getRepresentationEventProcessor() {
+            return this.representationEventProcessor;
+        }
+
+        public List<ChangeDescription> getChangeDescriptions() {
+            if (this.isDeferred) {
+                return this.changeDescriptions.stream()
+                        .map(this::toDeferredChangeDescription)
+                        .toList();
+            }
+            return this.changeDescriptions;
+        }
+
+        /**
+         * Records a change, it replaces the last change recorded if both have the same kind and no parameters.
+         *
+         * @param changeDescription
+         *         The change description
+         */
+        public void add(ChangeDescription changeDescription) {
+            int lastIndex = this.changeDescriptions.size() - 1;
+            if (lastIndex >= 0 && this.canBeCoalesced(this.changeDescriptions.get(lastIndex), changeDescription)) {
+                this.changeDescriptions.set(lastIndex, changeDescription);
+                RepresentationRefreshScheduler.this.coalescedRefreshesCounter.increment();
+            } else {
+                this.changeDescriptions.add(changeDescription);
+            }
+        }
+
+        private boolean canBeCoalesced(ChangeDescription previousChangeDescription, ChangeDescription changeDescription) {
+            return Objects.equals(previousChangeDescription.getKind(), changeDescription.getKind())
+                    && previousChangeDescription.getParameters().isEmpty()
+                    && changeDescription.getParameters().isEmpty();
+        }
+
+        private ChangeDescription toDeferredChangeDescription(ChangeDescription changeDescription) {
+            Map<String, Object> parameters = new HashMap<>(changeDescription.getParameters());
+            parameters.put(ChangeDescription.DEFERRED_REFRESH_PARAM, Boolean.TRUE);
+            return new ChangeDescription(changeDescription.getKind(), changeDescription.getSourceId(), changeDescription.getInput(), parameters);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Describes the usage of a loaded editing context, used to decide which editing contexts should be evicted.
+ *
+ * @param editingContextId
+ *         The identifier of the editing context
+ * @param lastActivityTime
+ *         The time of the last activity of the editing context
+ * @param estimatedSize
+ *         The estimated size in memory of the editing context, in bytes
+ * @param inUse
+ *         Indicates if the editing context is currently used, by subscribers or by pending inputs, in which case it
+ *         cannot be evicted
+ *
+ * @author sbegaudeau
+ */
+public record EditingContextUsage(String editingContextId, Instant lastActivityTime, long estimatedSize, boolean inUse) {
+
+    public EditingContextUsage {
+        Objects.requireNonNull(editingContextId);
+        Objects.requireNonNull(lastActivityTime);
+    }
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Used to select the loaded editing contexts which should be evicted from memory.
+ *
+ * <p>
+ * Evicted editing contexts are persisted and disposed, they will be loaded again on their next access.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface IEditingContextEvictionPolicy {
+
+    /**
+     * Returns the identifiers of the editing contexts to evict.
+     *
+     * @param editingContextUsages
+     *         The usage of all the loaded editing contexts
+     * @param now
+     *         The current time
+     * @return The identifiers of the editing contexts to evict, the editing contexts still in use will not be evicted
+     */
+    List<String> getEditingContextIdsToEvict(List<EditingContextUsage> editingContextUsages, Instant now);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author sbegaudeau
+     */
+    class NoOp implements IEditingContextEvictionPolicy {
+
+        @Override
+        public List<String> getEditingContextIdsToEvict(List<EditingContextUsage> editingContextUsages, Instant now) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+/**
+ * Notified when the pending semantic changes of an editing context are written.
+ *
+ * <p>
+ * It can be used to plug additional durability guarantees (journaling, alerting, etc) on top of the
+ * {@link PersistenceMode#WRITE_BEHIND} persistence mode.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface IEditingContextPersistenceListener {
+
+    void onFlushed(String editingContextId, int changesCount);
+
+    void onFlushFailed(String editingContextId, int changesCount, Throwable throwable);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author sbegaudeau
+     */
+    class NoOp implements IEditingContextPersistenceListener {
+
+        @Override
+        public void onFlushed(String editingContextId, int changesCount) {
+            // Do nothing
+        }
+
+        @Override
+        public void onFlushFailed(String editingContextId, int changesCount, Throwable throwable) {
+            // Do nothing
+        }
+
+    }
+}
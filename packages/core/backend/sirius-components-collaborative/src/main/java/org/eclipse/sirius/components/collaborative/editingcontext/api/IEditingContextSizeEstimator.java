@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+/**
+ * Used to estimate the size in memory of an editing context.
+ *
+ * <p>
+ * The estimation should be cheap rather than accurate since it is used to compare editing contexts with each other and
+ * with a global memory budget.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface IEditingContextSizeEstimator {
+
+    boolean canHandle(IEditingContext editingContext);
+
+    /**
+     * Returns the estimated size of the given editing context.
+     *
+     * @param editingContext
+     *         The editing context
+     * @return The estimated size of the editing context, in bytes
+     */
+    long estimateSize(IEditingContext editingContext);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author sbegaudeau
+     */
+    class NoOp implements IEditingContextSizeEstimator {
+
+        @Override
+        public boolean canHandle(IEditingContext editingContext) {
+            return false;
+        }
+
+        @Override
+        public long estimateSize(IEditingContext editingContext) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+/**
+ * The strategy used to hand over inputs to the thread of an editing context event processor.
+ *
+ * @author sbegaudeau
+ */
+public enum InputDispatchMode {
+    /**
+     * The caller is blocked until the input has been processed by the editing context.
+     */
+    BLOCKING,
+
+    /**
+     * The input is queued and the caller receives a publisher which will complete once the input has been processed.
+     */
+    ASYNCHRONOUS,
+}
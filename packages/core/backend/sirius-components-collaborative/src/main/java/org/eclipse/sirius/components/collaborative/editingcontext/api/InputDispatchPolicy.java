@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+import java.util.Objects;
+
+/**
+ * Describes how the inputs are dispatched to the editing context event processors.
+ *
+ * @param mode
+ *         The dispatch mode
+ * @param queueCapacity
+ *         The maximum number of pending inputs per editing context, only used by {@link InputDispatchMode#ASYNCHRONOUS}
+ * @param overflowPolicy
+ *         The behavior to adopt when the queue of pending inputs is full
+ *
+ * @author sbegaudeau
+ */
+public record InputDispatchPolicy(InputDispatchMode mode, int queueCapacity, InputOverflowPolicy overflowPolicy) {
+
+    public InputDispatchPolicy {
+        Objects.requireNonNull(mode);
+        Objects.requireNonNull(overflowPolicy);
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the queue of pending inputs must be strictly positive");
+        }
+    }
+
+    public static InputDispatchPolicy blocking() {
+        return new InputDispatchPolicy(InputDispatchMode.BLOCKING, Integer.MAX_VALUE, InputOverflowPolicy.BLOCK);
+    }
+}
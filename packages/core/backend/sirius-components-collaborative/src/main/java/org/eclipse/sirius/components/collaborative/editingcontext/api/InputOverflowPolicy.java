@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+/**
+ * The behavior to adopt when the queue of pending inputs of an editing context is full.
+ *
+ * @author sbegaudeau
+ */
+public enum InputOverflowPolicy {
+    /**
+     * The input is not processed and an error payload is returned immediately.
+     */
+    REJECT,
+
+    /**
+     * The caller is blocked until the input has been processed, just like with {@link InputDispatchMode#BLOCKING}.
+     */
+    BLOCK,
+}
@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+/**
+ * The strategy used to persist the semantic changes of an editing context.
+ *
+ * @author sbegaudeau
+ */
+public enum PersistenceMode {
+    /**
+     * The editing context is persisted after each semantic change.
+     */
+    IMMEDIATE,
+
+    /**
+     * The semantic changes are coalesced and the editing context is persisted once the write window has elapsed or
+     * once enough changes are pending.
+     */
+    WRITE_BEHIND,
+}
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Describes when the semantic changes of an editing context are persisted.
+ *
+ * @param mode
+ *         The persistence mode
+ * @param writeWindow
+ *         The maximum amount of time during which changes can stay pending, only used by
+ *         {@link PersistenceMode#WRITE_BEHIND}
+ * @param maxPendingChanges
+ *         The number of pending changes which triggers a write before the end of the window, only used by
+ *         {@link PersistenceMode#WRITE_BEHIND}
+ *
+ * @author sbegaudeau
+ */
+public record PersistencePolicy(PersistenceMode mode, Duration writeWindow, int maxPendingChanges) {
+
+    public PersistencePolicy {
+        Objects.requireNonNull(mode);
+        Objects.requireNonNull(writeWindow);
+        if (writeWindow.isNegative()) {
+            throw new IllegalArgumentException("The write window cannot be negative");
+        }
+        if (maxPendingChanges <= 0) {
+            throw new IllegalArgumentException("The maximum number of pending changes must be strictly positive");
+        }
+    }
+
+    public static PersistencePolicy immediate() {
+        return new PersistencePolicy(PersistenceMode.IMMEDIATE, Duration.ZERO, 1);
+    }
+}
@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+/**
+ * The strategy used to refresh the representations impacted by a change performed on another representation.
+ *
+ * @author sbegaudeau
+ */
+public enum RefreshMode {
+    /**
+     * The representations are refreshed right after each change.
+     */
+    IMMEDIATE,
+
+    /**
+     * The representations are marked as dirty and all the changes performed during the refresh window are coalesced in
+     * a single refresh per representation.
+     */
+    COALESCED,
+}
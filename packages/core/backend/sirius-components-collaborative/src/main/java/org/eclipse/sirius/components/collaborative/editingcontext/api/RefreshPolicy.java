@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Describes when the representations impacted by a change performed on another representation are refreshed.
+ *
+ * @param mode
+ *         The refresh mode
+ * @param refreshWindow
+ *         The amount of time during which the changes are coalesced, only used by {@link RefreshMode#COALESCED}
+ * @param skipUnsubscribed
+ *         Indicates if the refresh of the representations without any subscriber should be delayed until they are
+ *         subscribed again or disposed
+ *
+ * @author sbegaudeau
+ */
+public record RefreshPolicy(RefreshMode mode, Duration refreshWindow, boolean skipUnsubscribed) {
+
+    public RefreshPolicy {
+        Objects.requireNonNull(mode);
+        Objects.requireNonNull(refreshWindow);
+        if (refreshWindow.isNegative()) {
+            throw new IllegalArgumentException("The refresh window cannot be negative");
+        }
+    }
+
+    public static RefreshPolicy immediate() {
+        return new RefreshPolicy(RefreshMode.IMMEDIATE, Duration.ZERO, false);
+    }
+}
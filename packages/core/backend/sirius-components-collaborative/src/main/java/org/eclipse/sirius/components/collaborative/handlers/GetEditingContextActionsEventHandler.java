@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,7 @@ import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextActionProvider;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.IReadOnlyEventHandler;
 import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.collaborative.dto.EditingContextAction;
 import org.eclipse.sirius.components.collaborative.dto.GetEditingContextActionsInput;
@@ -42,7 +43,7 @@ import reactor.core.publisher.Sinks.One;
  * @author rpage
  */
 @Service
-public class GetEditingContextActionsEventHandler implements IEditingContextEventHandler {
+public class GetEditingContextActionsEventHandler implements IEditingContextEventHandler, IReadOnlyEventHandler {
     private final ICollaborativeMessageService messageService;
 
     private final Counter counter;
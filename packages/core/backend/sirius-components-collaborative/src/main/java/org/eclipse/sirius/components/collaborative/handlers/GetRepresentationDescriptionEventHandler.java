@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Obeo.
+ * Copyright (c) 2023, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import java.util.Objects;
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.IReadOnlyEventHandler;
 import org.eclipse.sirius.components.collaborative.dto.GetRepresentationDescriptionInput;
 import org.eclipse.sirius.components.collaborative.dto.GetRepresentationDescriptionPayload;
 import org.eclipse.sirius.components.core.RepresentationMetadata;
@@ -38,7 +39,7 @@ import reactor.core.publisher.Sinks.One;
  * @author sbegaudeau
  */
 @Service
-public class GetRepresentationDescriptionEventHandler implements IEditingContextEventHandler {
+public class GetRepresentationDescriptionEventHandler implements IEditingContextEventHandler, IReadOnlyEventHandler {
 
     private final List<IRepresentationMetadataProvider> representationMetadataProviders;
 
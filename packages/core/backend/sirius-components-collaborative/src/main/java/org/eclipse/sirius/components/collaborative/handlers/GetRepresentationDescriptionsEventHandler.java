@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.handlers;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.IReadOnlyEventHandler;
+import org.eclipse.sirius.components.collaborative.dto.GetRepresentationDescriptionsInput;
+import org.eclipse.sirius.components.collaborative.dto.GetRepresentationDescriptionsPayload;
+import org.eclipse.sirius.components.core.RepresentationMetadata;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
+import org.eclipse.sirius.components.core.api.IRepresentationMetadataProvider;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.springframework.stereotype.Service;
+
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Handler used to retrieve the descriptions of several representations from the editing context at once.
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class GetRepresentationDescriptionsEventHandler implements IEditingContextEventHandler, IReadOnlyEventHandler {
+
+    private final List<IRepresentationMetadataProvider> representationMetadataProviders;
+
+    private final IRepresentationDescriptionSearchService representationDescriptionSearchService;
+
+    public GetRepresentationDescriptionsEventHandler(List<IRepresentationMetadataProvider> representationMetadataProviders, IRepresentationDescriptionSearchService representationDescriptionSearchService) {
+        this.representationMetadataProviders = Objects.requireNonNull(representationMetadataProviders);
+        this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
+    }
+
+    @Override
+    public boolean canHandle(IEditingContext editingContext, IInput input) {
+        return input instanceof GetRepresentationDescriptionsInput;
+    }
+
+    @Override
+    public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+        if (input instanceof GetRepresentationDescriptionsInput getRepresentationDescriptionsInput) {
+            Map<String, IRepresentationDescription> representationDescriptions = new HashMap<>();
+            Map<String, IRepresentationDescription> representationDescriptionsById = new HashMap<>();
+
+            Set<String> remainingRepresentationIds = new LinkedHashSet<>(getRepresentationDescriptionsInput.representationIds());
+            for (var representationMetadataProvider : this.representationMetadataProviders) {
+                if (remainingRepresentationIds.isEmpty()) {
+                    break;
+                }
+
+                List<RepresentationMetadata> allRepresentationMetadata = representationMetadataProvider.getAllMetadata(List.copyOf(remainingRepresentationIds));
+                for (RepresentationMetadata representationMetadata : allRepresentationMetadata) {
+                    if (remainingRepresentationIds.remove(representationMetadata.id())) {
+                        var representationDescription = representationDescriptionsById.computeIfAbsent(representationMetadata.descriptionId(), descriptionId -> this.representationDescriptionSearchService.findById(editingContext, descriptionId).orElse(null));
+                        if (representationDescription != null) {
+                            representationDescriptions.put(representationMetadata.id(), representationDescription);
+                        }
+                    }
+                }
+            }
+
+            payloadSink.tryEmitValue(new GetRepresentationDescriptionsPayload(input.id(), representationDescriptions));
+            changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.NOTHING, editingContext.getId(), input));
+        }
+    }
+
+}
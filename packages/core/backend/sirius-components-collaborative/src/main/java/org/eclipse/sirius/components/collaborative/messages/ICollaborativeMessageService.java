@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -24,6 +24,10 @@ public interface ICollaborativeMessageService {
 
     String timeout();
 
+    String tooManyPendingInputs();
+
+    String unavailableEditingContext();
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -46,5 +50,15 @@ public interface ICollaborativeMessageService {
             return "";
         }
 
+        @Override
+        public String tooManyPendingInputs() {
+            return "";
+        }
+
+        @Override
+        public String unavailableEditingContext() {
+            return "";
+        }
+
     }
 }
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests of the bounded cardinality meter filter.
+ *
+ * @author sbegaudeau
+ */
+public class BoundedCardinalityMeterFilterTests {
+
+    private static final String TIMER_NAME = "timer_processing_input";
+
+    private static final String INPUT_ID_TAG = "inputId";
+
+    private static final String INPUT_TAG = "input";
+
+    private static final String RENAME_INPUT = "RenameInput";
+
+    private SimpleMeterRegistry createMeterRegistry(int maxTagValues) {
+        var meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(new BoundedCardinalityMeterFilter(List.of("timer_"), Set.of(INPUT_ID_TAG), Set.of(INPUT_TAG), maxTagValues));
+        return meterRegistry;
+    }
+
+    @Test
+    public void givenMetersWithUnboundedTagsWhenTheyAreRegisteredThenTheTagsAreRemoved() {
+        var meterRegistry = this.createMeterRegistry(10);
+
+        meterRegistry.timer(TIMER_NAME, INPUT_TAG, RENAME_INPUT, INPUT_ID_TAG, "1").record(() -> { });
+        meterRegistry.timer(TIMER_NAME, INPUT_TAG, RENAME_INPUT, INPUT_ID_TAG, "2").record(() -> { });
+        meterRegistry.timer("other_timer", INPUT_ID_TAG, "3").record(() -> { });
+
+        assertThat(meterRegistry.find(TIMER_NAME).timers()).hasSize(1);
+        assertThat(meterRegistry.get(TIMER_NAME).timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(TIMER_NAME).timer().getId().getTag(INPUT_ID_TAG)).isNull();
+        assertThat(meterRegistry.get("other_timer").timer().getId().getTag(INPUT_ID_TAG)).isEqualTo("3");
+    }
+
+    @Test
+    public void givenTooManyTagValuesWhenMetersAreRegisteredThenTheNewMetersAreDenied() {
+        var meterRegistry = this.createMeterRegistry(2);
+
+        meterRegistry.timer(TIMER_NAME, INPUT_TAG, RENAME_INPUT).record(() -> { });
+        meterRegistry.timer(TIMER_NAME, INPUT_TAG, "DeleteInput").record(() -> { });
+        Timer deniedTimer = meterRegistry.timer(TIMER_NAME, INPUT_TAG, "CreateInput");
+        deniedTimer.record(() -> { });
+        meterRegistry.timer(TIMER_NAME, INPUT_TAG, RENAME_INPUT).record(() -> { });
+
+        assertThat(meterRegistry.find(TIMER_NAME).timers()).hasSize(2);
+        assertThat(meterRegistry.get(TIMER_NAME).tag(INPUT_TAG, RENAME_INPUT).timer().count()).isEqualTo(2);
+        assertThat(deniedTimer.count()).isZero();
+    }
+}
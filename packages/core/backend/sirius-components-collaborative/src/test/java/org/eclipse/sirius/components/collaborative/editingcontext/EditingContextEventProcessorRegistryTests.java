@@ -0,0 +1,312 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.sirius.components.collaborative.api.EditingContextEventProcessorStatus;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorFactory;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.EditingContextUsage;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEvictionPolicy;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextSizeEstimator;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Tests of the editing context event processor registry.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextEventProcessorRegistryTests {
+
+    private static final String SLOW_EDITING_CONTEXT_ID = "slowEditingContextId";
+
+    private static final String FAST_EDITING_CONTEXT_ID = "fastEditingContextId";
+
+    private final CountDownLatch slowLoadingStarted = new CountDownLatch(1);
+
+    private final CountDownLatch slowLoadingReleased = new CountDownLatch(1);
+
+    private final AtomicInteger loadingCount = new AtomicInteger();
+
+    private final IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+        @Override
+        public boolean existsById(String editingContextId) {
+            return true;
+        }
+
+        @Override
+        public Optional<IEditingContext> findById(String editingContextId) {
+            EditingContextEventProcessorRegistryTests.this.loadingCount.incrementAndGet();
+            if (SLOW_EDITING_CONTEXT_ID.equals(editingContextId)) {
+                EditingContextEventProcessorRegistryTests.this.slowLoadingStarted.countDown();
+                try {
+                    EditingContextEventProcessorRegistryTests.this.slowLoadingReleased.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return Optional.of(() -> editingContextId);
+        }
+    };
+
+    private final IEditingContextEventProcessorFactory editingContextEventProcessorFactory = editingContext -> new IEditingContextEventProcessor.NoOp() {
+        @Override
+        public String getEditingContextId() {
+            return editingContext.getId();
+        }
+    };
+
+    @Test
+    public void givenAnEditingContextBeingLoadedWhenAnotherEditingContextIsRequestedThenItIsLoadedWithoutWaiting() throws Exception {
+        var registry = new EditingContextEventProcessorRegistry(this.editingContextEventProcessorFactory, this.editingContextSearchService, Duration.ofSeconds(1), new SimpleMeterRegistry(),
+                new IEditingContextEvictionPolicy.NoOp(), List.of(), Duration.ZERO);
+
+        var firstSlowRequest = CompletableFuture.supplyAsync(() -> registry.getOrCreateEditingContextEventProcessor(SLOW_EDITING_CONTEXT_ID));
+        assertThat(this.slowLoadingStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        var secondSlowRequest = CompletableFuture.supplyAsync(() -> registry.getOrCreateEditingContextEventProcessor(SLOW_EDITING_CONTEXT_ID));
+
+        assertThat(registry.getEditingContextEventProcessorStatus(SLOW_EDITING_CONTEXT_ID)).contains(EditingContextEventProcessorStatus.LOADING);
+
+        var fastEditingContextEventProcessor = registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID);
+        assertThat(fastEditingContextEventProcessor).isPresent();
+        assertThat(registry.getEditingContextEventProcessorStatus(FAST_EDITING_CONTEXT_ID)).contains(EditingContextEventProcessorStatus.READY);
+        assertThat(firstSlowRequest).isNotDone();
+
+        this.slowLoadingReleased.countDown();
+
+        var firstSlowEditingContextEventProcessor = firstSlowRequest.get(5, TimeUnit.SECONDS);
+        var secondSlowEditingContextEventProcessor = secondSlowRequest.get(5, TimeUnit.SECONDS);
+        assertThat(firstSlowEditingContextEventProcessor).isPresent();
+        assertThat(secondSlowEditingContextEventProcessor).containsSame(firstSlowEditingContextEventProcessor.get());
+        assertThat(registry.getEditingContextEventProcessorStatus(SLOW_EDITING_CONTEXT_ID)).contains(EditingContextEventProcessorStatus.READY);
+        assertThat(this.loadingCount.get()).isEqualTo(2);
+
+        registry.dispose();
+    }
+
+    @Test
+    public void givenAnIdleEditingContextWhenItIsEvictedThenItIsLoadedAgainOnItsNextAccess() {
+        IEditingContextSizeEstimator editingContextSizeEstimator = new IEditingContextSizeEstimator.NoOp() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext) {
+                return true;
+            }
+
+            @Override
+            public long estimateSize(IEditingContext editingContext) {
+                return 1024;
+            }
+        };
+        IEditingContextEvictionPolicy evictAllPolicy = (editingContextUsages, now) -> editingContextUsages.stream()
+                .map(EditingContextUsage::editingContextId)
+                .toList();
+        var meterRegistry = new SimpleMeterRegistry();
+        var registry = new EditingContextEventProcessorRegistry(this.editingContextEventProcessorFactory, this.editingContextSearchService, Duration.ofSeconds(1), meterRegistry,
+                evictAllPolicy, List.of(editingContextSizeEstimator), Duration.ZERO);
+
+        var editingContextEventProcessor = registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID);
+        assertThat(editingContextEventProcessor).isPresent();
+        assertThat(meterRegistry.get(Monitoring.EDITING_CONTEXTS_ESTIMATED_SIZE).gauge().value()).isEqualTo(1024);
+
+        registry.evictEditingContextEventProcessors();
+        assertThat(registry.getEditingContextEventProcessorStatus(FAST_EDITING_CONTEXT_ID)).isEmpty();
+        assertThat(meterRegistry.get(Monitoring.EDITING_CONTEXTS_ESTIMATED_SIZE).gauge().value()).isZero();
+        assertThat(meterRegistry.get(Monitoring.EVICTED_EDITING_CONTEXTS).counter().count()).isEqualTo(1);
+
+        var reloadedEditingContextEventProcessor = registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID);
+        assertThat(reloadedEditingContextEventProcessor).isPresent();
+        assertThat(reloadedEditingContextEventProcessor.get()).isNotSameAs(editingContextEventProcessor.get());
+        assertThat(this.loadingCount.get()).isEqualTo(2);
+
+        registry.dispose();
+    }
+
+    @Test
+    public void givenAnEditingContextUsedAfterTheComputationOfItsUsageWhenItShouldBeEvictedThenItIsKept() {
+        AtomicBoolean isInUse = new AtomicBoolean();
+        IEditingContextEventProcessorFactory inUseEditingContextEventProcessorFactory = editingContext -> new IEditingContextEventProcessor.NoOp() {
+            @Override
+            public boolean isInUse() {
+                return isInUse.get();
+            }
+        };
+        // The editing context starts to be used while the eviction policy is running
+        IEditingContextEvictionPolicy evictAllPolicy = (editingContextUsages, now) -> {
+            isInUse.set(true);
+            return editingContextUsages.stream()
+                    .map(EditingContextUsage::editingContextId)
+                    .toList();
+        };
+        var meterRegistry = new SimpleMeterRegistry();
+        var registry = new EditingContextEventProcessorRegistry(inUseEditingContextEventProcessorFactory, this.editingContextSearchService, Duration.ofSeconds(1), meterRegistry,
+                evictAllPolicy, List.of(), Duration.ZERO);
+
+        var editingContextEventProcessor = registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID);
+        assertThat(editingContextEventProcessor).isPresent();
+
+        registry.evictEditingContextEventProcessors();
+        assertThat(registry.getEditingContextEventProcessorStatus(FAST_EDITING_CONTEXT_ID)).contains(EditingContextEventProcessorStatus.READY);
+        assertThat(meterRegistry.get(Monitoring.EVICTED_EDITING_CONTEXTS).counter().count()).isZero();
+
+        registry.dispose();
+    }
+
+    @Test
+    public void givenSeveralEditingContextsWithPendingInputsAndWritesWhenTheGaugesAreReadThenTheyReturnTheirTotalWithoutTaggingTheEditingContexts() {
+        IEditingContextEventProcessorFactory busyEditingContextEventProcessorFactory = editingContext -> new IEditingContextEventProcessor.NoOp() {
+            @Override
+            public int getPendingInputsCount() {
+                return editingContext.getId().length();
+            }
+
+            @Override
+            public int getPendingWritesCount() {
+                return 1;
+            }
+        };
+        var meterRegistry = new SimpleMeterRegistry();
+        var registry = new EditingContextEventProcessorRegistry(busyEditingContextEventProcessorFactory, this.editingContextSearchService, Duration.ofSeconds(1), meterRegistry,
+                new IEditingContextEvictionPolicy.NoOp(), List.of(), Duration.ZERO);
+
+        this.slowLoadingReleased.countDown();
+        registry.getOrCreateEditingContextEventProcessor(FAST_EDITING_CONTEXT_ID);
+        registry.getOrCreateEditingContextEventProcessor(SLOW_EDITING_CONTEXT_ID);
+
+        var pendingInputsGauges = meterRegistry.get(Monitoring.PENDING_INPUTS).gauges();
+        assertThat(pendingInputsGauges).hasSize(1);
+        assertThat(pendingInputsGauges.iterator().next().getId().getTags()).isEmpty();
+        assertThat(pendingInputsGauges.iterator().next().value()).isEqualTo(FAST_EDITING_CONTEXT_ID.length() + SLOW_EDITING_CONTEXT_ID.length());
+
+        var pendingWritesGauges = meterRegistry.get(Monitoring.PENDING_WRITES).gauges();
+        assertThat(pendingWritesGauges).hasSize(1);
+        assertThat(pendingWritesGauges.iterator().next().getId().getTags()).isEmpty();
+        assertThat(pendingWritesGauges.iterator().next().value()).isEqualTo(2);
+
+        registry.dispose();
+    }
+
+    @Test
+    public void givenAnInputDispatchedWhileItsEditingContextIsEvictedWhenItIsRejectedThenItIsHandledByTheEditingContextLoadedAgain() {
+        IEditingContextEvictionPolicy evictAllPolicy = (editingContextUsages, now) -> editingContextUsages.stream()
+                .map(EditingContextUsage::editingContextId)
+                .toList();
+        AtomicReference<EditingContextEventProcessorRegistry> registryReference = new AtomicReference<>();
+        List<EvictableEditingContextEventProcessor> editingContextEventProcessors = new CopyOnWriteArrayList<>();
+        AtomicBoolean isDisposedBeforeReload = new AtomicBoolean();
+        IEditingContextEventProcessorFactory evictableEditingContextEventProcessorFactory = editingContext -> {
+            Runnable onInput = () -> { };
+            if (editingContextEventProcessors.isEmpty()) {
+                // The eviction wins the race against the first input received by the first editing context event processor
+                onInput = () -> registryReference.get().evictEditingContextEventProcessors();
+            } else {
+                isDisposedBeforeReload.set(editingContextEventProcessors.get(0).isDisposed());
+            }
+            var editingContextEventProcessor = new EvictableEditingContextEventProcessor(onInput);
+            editingContextEventProcessors.add(editingContextEventProcessor);
+            return editingContextEventProcessor;
+        };
+        var meterRegistry = new SimpleMeterRegistry();
+        var registry = new EditingContextEventProcessorRegistry(evictableEditingContextEventProcessorFactory, this.editingContextSearchService, Duration.ofSeconds(1), meterRegistry,
+                evictAllPolicy, List.of(), Duration.ZERO);
+        registryReference.set(registry);
+
+        UUID inputId = UUID.randomUUID();
+        var payload = registry.dispatchEvent(FAST_EDITING_CONTEXT_ID, () -> inputId).block(Duration.ofSeconds(5));
+
+        assertThat(payload).isInstanceOf(SuccessPayload.class).extracting(IPayload::id).isEqualTo(inputId);
+        assertThat(editingContextEventProcessors).hasSize(2);
+        assertThat(editingContextEventProcessors.get(0).getHandledInputsCount()).isZero();
+        assertThat(editingContextEventProcessors.get(1).getHandledInputsCount()).isEqualTo(1);
+        assertThat(isDisposedBeforeReload).isTrue();
+        assertThat(meterRegistry.get(Monitoring.EVICTED_EDITING_CONTEXTS).counter().count()).isEqualTo(1);
+
+        registry.dispose();
+    }
+
+    /**
+     * Editing context event processor rejecting the inputs received once it has been marked as being disposed.
+     *
+     * @author sbegaudeau
+     */
+    private static final class EvictableEditingContextEventProcessor extends IEditingContextEventProcessor.NoOp {
+
+        private final Runnable onInput;
+
+        private final AtomicBoolean disposing = new AtomicBoolean();
+
+        private final AtomicBoolean disposed = new AtomicBoolean();
+
+        private final AtomicInteger handledInputsCount = new AtomicInteger();
+
+        private EvictableEditingContextEventProcessor(Runnable onInput) {
+            this.onInput = onInput;
+        }
+
+        @Override
+        public Optional<Mono<IPayload>> tryHandle(IInput input) {
+            this.onInput.run();
+
+            Optional<Mono<IPayload>> optionalPayloadMono = Optional.empty();
+            if (!this.disposing.get()) {
+                this.handledInputsCount.incrementAndGet();
+                optionalPayloadMono = Optional.of(Mono.just(new SuccessPayload(input.id())));
+            }
+            return optionalPayloadMono;
+        }
+
+        @Override
+        public Mono<IPayload> handle(IInput input) {
+            return this.tryHandle(input).orElse(Mono.empty());
+        }
+
+        @Override
+        public boolean tryMarkAsDisposing() {
+            return this.disposing.compareAndSet(false, true);
+        }
+
+        @Override
+        public void dispose() {
+            this.disposed.set(true);
+        }
+
+        public boolean isDisposed() {
+            return this.disposed.get();
+        }
+
+        public int getHandledInputsCount() {
+            return this.handledInputsCount.get();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
+import org.eclipse.sirius.components.collaborative.api.IReadOnlyEventHandler;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.InputDispatchMode;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.InputDispatchPolicy;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.InputOverflowPolicy;
+import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Tests of the editing context event processor.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextEventProcessorTests {
+
+    private static final String EDITING_CONTEXT_ID = "editingContextId";
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    private final IEditingContextEventHandler blockingHandler = new IEditingContextEventHandler() {
+        @Override
+        public boolean canHandle(IEditingContext editingContext, IInput input) {
+            return true;
+        }
+
+        @Override
+        public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+            try {
+                EditingContextEventProcessorTests.this.latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+        }
+    };
+
+    @AfterEach
+    public void tearDown() {
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    public void givenAsynchronousDispatchWhenAnInputIsHandledThenTheCallerIsNotBlocked() {
+        var processor = this.createProcessor(new InputDispatchPolicy(InputDispatchMode.ASYNCHRONOUS, 2, InputOverflowPolicy.REJECT));
+
+        var input = new TestInput(UUID.randomUUID());
+        Mono<IPayload> payloadMono = processor.handle(input);
+        this.latch.countDown();
+
+        IPayload payload = payloadMono.block(Duration.ofSeconds(5));
+        assertThat(payload).isInstanceOf(SuccessPayload.class);
+        assertThat(payload.id()).isEqualTo(input.id());
+
+        processor.dispose();
+    }
+
+    @Test
+    public void givenAsynchronousDispatchWhenTheQueueIsFullThenTheInputIsRejected() {
+        var processor = this.createProcessor(new InputDispatchPolicy(InputDispatchMode.ASYNCHRONOUS, 1, InputOverflowPolicy.REJECT));
+
+        Mono<IPayload> firstPayloadMono = processor.handle(new TestInput(UUID.randomUUID()));
+        IPayload rejectedPayload = processor.handle(new TestInput(UUID.randomUUID())).block(Duration.ofSeconds(5));
+        assertThat(rejectedPayload).isInstanceOf(ErrorPayload.class);
+
+        this.latch.countDown();
+        assertThat(firstPayloadMono.block(Duration.ofSeconds(5))).isInstanceOf(SuccessPayload.class);
+
+        processor.dispose();
+    }
+
+    @Test
+    public void givenADisposedProcessorWhenAnInputIsHandledThenItIsRejected() {
+        var processor = this.createProcessor(InputDispatchPolicy.blocking());
+        processor.dispose();
+
+        var input = new TestInput(UUID.randomUUID());
+        IPayload payload = processor.handle(input).block(Duration.ofSeconds(5));
+        assertThat(payload).isInstanceOf(ErrorPayload.class);
+        assertThat(payload.id()).isEqualTo(input.id());
+    }
+
+    @Test
+    public void givenAnInputBeingHandledWhenTheProcessorIsMarkedAsBeingDisposedThenItIsKeptUntilTheInputHasBeenHandled() {
+        var processor = this.createProcessor(new InputDispatchPolicy(InputDispatchMode.ASYNCHRONOUS, 2, InputOverflowPolicy.REJECT));
+
+        Mono<IPayload> payloadMono = processor.handle(new TestInput(UUID.randomUUID()));
+        assertThat(processor.tryMarkAsDisposing()).isFalse();
+
+        this.latch.countDown();
+        assertThat(payloadMono.block(Duration.ofSeconds(5))).isInstanceOf(SuccessPayload.class);
+
+        assertThat(processor.tryMarkAsDisposing()).isTrue();
+        assertThat(processor.tryHandle(new TestInput(UUID.randomUUID()))).isEmpty();
+        assertThat(processor.handle(new TestInput(UUID.randomUUID())).block(Duration.ofSeconds(5))).isInstanceOf(ErrorPayload.class);
+
+        processor.dispose();
+    }
+
+    @Test
+    public void givenReadOnlyInputsWhenTheyAreHandledThenTheyAreExecutedOneAtATime() {
+        var readOnlyHandler = new ReadOnlyHandler(new CountDownLatch(2));
+        var processor = this.createProcessor(new InputDispatchPolicy(InputDispatchMode.ASYNCHRONOUS, 2, InputOverflowPolicy.REJECT), List.of(readOnlyHandler));
+
+        Mono<IPayload> firstPayloadMono = processor.handle(new TestInput(UUID.randomUUID()));
+        Mono<IPayload> secondPayloadMono = processor.handle(new TestInput(UUID.randomUUID()));
+
+        assertThat(firstPayloadMono.block(Duration.ofSeconds(5))).isInstanceOf(ErrorPayload.class);
+        assertThat(secondPayloadMono.block(Duration.ofSeconds(5))).isInstanceOf(SuccessPayload.class);
+
+        processor.dispose();
+    }
+
+    @Test
+    public void givenAReadOnlyInputWhenItIsHandledThenTheInputPreProcessorsAreNotCalled() {
+        AtomicInteger preProcessedInputsCount = new AtomicInteger();
+        IInputPreProcessor inputPreProcessor = (editingContext, input, changeDescriptionSink) -> {
+            preProcessedInputsCount.incrementAndGet();
+            return input;
+        };
+        var readOnlyHandler = new ReadOnlyHandler(new CountDownLatch(0));
+        var processor = this.createProcessor(InputDispatchPolicy.blocking(), List.of(readOnlyHandler), List.of(inputPreProcessor));
+
+        assertThat(processor.handle(new TestInput(UUID.randomUUID())).block(Duration.ofSeconds(5))).isInstanceOf(SuccessPayload.class);
+        assertThat(preProcessedInputsCount.get()).isZero();
+
+        processor.dispose();
+    }
+
+    private EditingContextEventProcessor createProcessor(InputDispatchPolicy inputDispatchPolicy) {
+        return this.createProcessor(inputDispatchPolicy, List.of(this.blockingHandler));
+    }
+
+    private EditingContextEventProcessor createProcessor(InputDispatchPolicy inputDispatchPolicy, List<IEditingContextEventHandler> editingContextEventHandlers) {
+        return this.createProcessor(inputDispatchPolicy, editingContextEventHandlers, List.of());
+    }
+
+    private EditingContextEventProcessor createProcessor(InputDispatchPolicy inputDispatchPolicy, List<IEditingContextEventHandler> editingContextEventHandlers, List<IInputPreProcessor> inputPreProcessors) {
+        var parameters = EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters()
+                .messageService(new ICollaborativeMessageService.NoOp())
+                .editingContext(() -> EDITING_CONTEXT_ID)
+                .editingContextPersistenceService(new IEditingContextPersistenceService.NoOp())
+                .applicationEventPublisher(event -> { })
+                .editingContextEventHandlers(editingContextEventHandlers)
+                .representationEventProcessorComposedFactory((editingContext, representationId) -> Optional.empty())
+                .danglingRepresentationDeletionService(new IDanglingRepresentationDeletionService.NoOp())
+                .executorServiceProvider(editingContext -> this.executorService)
+                .inputPreProcessors(inputPreProcessors)
+                .inputPostProcessors(List.of())
+                .meterRegistry(new SimpleMeterRegistry())
+                .inputDispatchPolicy(inputDispatchPolicy)
+                .build();
+        return new EditingContextEventProcessor(parameters);
+    }
+
+    /**
+     * Read-only handler which waits until all the expected inputs have started to be handled.
+     *
+     * @author sbegaudeau
+     */
+    private static final class ReadOnlyHandler implements IEditingContextEventHandler, IReadOnlyEventHandler {
+
+        private final CountDownLatch startedInputsLatch;
+
+        private ReadOnlyHandler(CountDownLatch startedInputsLatch) {
+            this.startedInputsLatch = startedInputsLatch;
+        }
+
+        @Override
+        public boolean canHandle(IEditingContext editingContext, IInput input) {
+            return true;
+        }
+
+        @Override
+        public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+            this.startedInputsLatch.countDown();
+            try {
+                if (this.startedInputsLatch.await(1, TimeUnit.SECONDS)) {
+                    payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+                } else {
+                    payloadSink.tryEmitValue(new ErrorPayload(input.id(), "timeout"));
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Input used by the tests.
+     *
+     * @author sbegaudeau
+     */
+    private record TestInput(UUID id) implements IInput {
+    }
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextPersistenceListener;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.PersistenceMode;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.PersistencePolicy;
+import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.events.ICause;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests of the editing context persistence scheduler.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextPersistenceSchedulerTests {
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    private final AtomicInteger persistCount = new AtomicInteger();
+
+    private final AtomicInteger flushedChangesCount = new AtomicInteger();
+
+    private final IEditingContextPersistenceService editingContextPersistenceService = (cause, editingContext) -> this.persistCount.incrementAndGet();
+
+    private final IEditingContextPersistenceListener editingContextPersistenceListener = new IEditingContextPersistenceListener.NoOp() {
+        @Override
+        public void onFlushed(String editingContextId, int changesCount) {
+            EditingContextPersistenceSchedulerTests.this.flushedChangesCount.addAndGet(changesCount);
+        }
+    };
+
+    @AfterEach
+    public void tearDown() {
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    public void givenImmediatePersistenceWhenChangesAreScheduledThenEachChangeIsPersisted() {
+        var scheduler = this.createScheduler(PersistencePolicy.immediate());
+
+        scheduler.schedule(this.createCause());
+        scheduler.schedule(this.createCause());
+
+        assertThat(this.persistCount.get()).isEqualTo(2);
+        assertThat(scheduler.getPendingChangesCount()).isZero();
+        scheduler.dispose();
+    }
+
+    @Test
+    public void givenWriteBehindPersistenceWhenABurstOfChangesIsScheduledThenTheyArePersistedOnceOnDispose() {
+        var scheduler = this.createScheduler(new PersistencePolicy(PersistenceMode.WRITE_BEHIND, Duration.ofMinutes(1), 100));
+
+        for (int i = 0; i < 10; i++) {
+            scheduler.schedule(this.createCause());
+        }
+        assertThat(this.persistCount.get()).isZero();
+        assertThat(scheduler.getPendingChangesCount()).isEqualTo(10);
+
+        scheduler.dispose();
+        assertThat(this.persistCount.get()).isEqualTo(1);
+        assertThat(this.flushedChangesCount.get()).isEqualTo(10);
+    }
+
+    @Test
+    public void givenWriteBehindPersistenceWhenTooManyChangesArePendingThenTheyArePersisted() {
+        var scheduler = this.createScheduler(new PersistencePolicy(PersistenceMode.WRITE_BEHIND, Duration.ofMinutes(1), 3));
+
+        for (int i = 0; i < 7; i++) {
+            scheduler.schedule(this.createCause());
+        }
+        assertThat(this.persistCount.get()).isEqualTo(2);
+        assertThat(scheduler.getPendingChangesCount()).isEqualTo(1);
+
+        scheduler.dispose();
+        assertThat(this.persistCount.get()).isEqualTo(3);
+    }
+
+    private EditingContextPersistenceScheduler createScheduler(PersistencePolicy persistencePolicy) {
+        return new EditingContextPersistenceScheduler(() -> "editingContextId", this.editingContextPersistenceService, List.of(this.editingContextPersistenceListener), persistencePolicy,
+                this.executorService, new SimpleMeterRegistry());
+    }
+
+    private ICause createCause() {
+        return new TestInput(UUID.randomUUID());
+    }
+
+    /**
+     * Input used by the tests.
+     *
+     * @author sbegaudeau
+     */
+    private record TestInput(UUID id) implements IInput {
+    }
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.eclipse.sirius.components.collaborative.editingcontext.api.EditingContextUsage;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the LRU eviction policy of the editing contexts.
+ *
+ * @author sbegaudeau
+ */
+public class LruEditingContextEvictionPolicyTests {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Test
+    public void givenEditingContextsIdleForTooLongWhenTheEvictionIsComputedThenOnlyTheUnusedOnesAreEvicted() {
+        var policy = new LruEditingContextEvictionPolicy(Duration.ofMinutes(30), 0);
+
+        var editingContextUsages = List.of(
+                new EditingContextUsage("idle", NOW.minus(Duration.ofHours(1)), 100, false),
+                new EditingContextUsage("idleButInUse", NOW.minus(Duration.ofHours(1)), 100, true),
+                new EditingContextUsage("recent", NOW.minus(Duration.ofMinutes(5)), 100, false)
+        );
+
+        assertThat(policy.getEditingContextIdsToEvict(editingContextUsages, NOW)).containsExactly("idle");
+    }
+
+    @Test
+    public void givenEditingContextsExceedingTheBudgetWhenTheEvictionIsComputedThenTheLeastRecentlyUsedOnesAreEvicted() {
+        var policy = new LruEditingContextEvictionPolicy(Duration.ZERO, 250);
+
+        var editingContextUsages = List.of(
+                new EditingContextUsage("newest", NOW.minus(Duration.ofMinutes(1)), 100, false),
+                new EditingContextUsage("oldestInUse", NOW.minus(Duration.ofMinutes(30)), 100, true),
+                new EditingContextUsage("oldest", NOW.minus(Duration.ofMinutes(20)), 100, false),
+                new EditingContextUsage("older", NOW.minus(Duration.ofMinutes(10)), 100, false)
+        );
+
+        assertThat(policy.getEditingContextIdsToEvict(editingContextUsages, NOW)).containsExactly("oldest", "older");
+    }
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.ISubscriptionManager;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.RefreshMode;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.RefreshPolicy;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests of the representation refresh scheduler.
+ *
+ * @author sbegaudeau
+ */
+public class RepresentationRefreshSchedulerTests {
+
+    private static final String REPRESENTATION_ID = "representationId";
+
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    private final List<ChangeDescription> refreshedChangeDescriptions = new ArrayList<>();
+
+    private final List<Thread> refreshingThreads = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    public void givenImmediateRefreshWhenChangesAreScheduledThenEachChangeIsRefreshed() {
+        var scheduler = this.createScheduler(RefreshPolicy.immediate());
+
+        scheduler.schedule(Map.of(REPRESENTATION_ID, this.createRepresentationEventProcessor(false)), this.createChangeDescription());
+        scheduler.schedule(Map.of(REPRESENTATION_ID, this.createRepresentationEventProcessor(false)), this.createChangeDescription());
+
+        assertThat(this.refreshedChangeDescriptions).hasSize(2);
+        assertThat(this.refreshedChangeDescriptions).allMatch(changeDescription -> changeDescription.getParameters().isEmpty());
+        assertThat(scheduler.isDirty(REPRESENTATION_ID)).isFalse();
+        scheduler.dispose();
+    }
+
+    @Test
+    public void givenCoalescedRefreshWhenABurstOfChangesIsScheduledThenTheyAreRefreshedOnce() {
+        var scheduler = this.createScheduler(new RefreshPolicy(RefreshMode.COALESCED, Duration.ofMinutes(1), false));
+        var representationEventProcessor = this.createRepresentationEventProcessor(false);
+
+        for (int i = 0; i < 10; i++) {
+            scheduler.schedule(Map.of(REPRESENTATION_ID, representationEventProcessor), this.createChangeDescription());
+        }
+        assertThat(this.refreshedChangeDescriptions).isEmpty();
+        assertThat(scheduler.isDirty(REPRESENTATION_ID)).isTrue();
+
+        scheduler.flush(false);
+        assertThat(this.refreshedChangeDescriptions).hasSize(1);
+        assertThat(this.refreshedChangeDescriptions.get(0).getParameters()).containsEntry(ChangeDescription.DEFERRED_REFRESH_PARAM, Boolean.TRUE);
+        assertThat(scheduler.isDirty(REPRESENTATION_ID)).isFalse();
+        scheduler.dispose();
+    }
+
+    @Test
+    public void givenUnsubscribedRepresentationWhenChangesAreScheduledThenItIsRefreshedOnceFlushedExplicitly() {
+        var scheduler = this.createScheduler(new RefreshPolicy(RefreshMode.IMMEDIATE, Duration.ZERO, true));
+        var representationEventProcessor = this.createRepresentationEventProcessor(true);
+
+        scheduler.schedule(Map.of(REPRESENTATION_ID, representationEventProcessor), this.createChangeDescription());
+        scheduler.schedule(Map.of(REPRESENTATION_ID, representationEventProcessor), this.createChangeDescription());
+        scheduler.flush(false);
+        assertThat(this.refreshedChangeDescriptions).isEmpty();
+
+        scheduler.flush(REPRESENTATION_ID);
+        assertThat(this.refreshedChangeDescriptions).hasSize(1);
+        scheduler.dispose();
+    }
+
+    @Test
+    public void givenSeveralRepresentationsWhenChangesAreScheduledThenTheyAreRefreshedInTheCallingThread() {
+        var scheduler = this.createScheduler(RefreshPolicy.immediate());
+
+        var representationEventProcessors = Map.of(
+                "first", this.createRepresentationEventProcessor(false),
+                "second", this.createRepresentationEventProcessor(false),
+                "third", this.createRepresentationEventProcessor(false)
+        );
+        scheduler.schedule(representationEventProcessors, this.createChangeDescription());
+
+        assertThat(this.refreshedChangeDescriptions).hasSize(3);
+        assertThat(this.refreshingThreads).containsOnly(Thread.currentThread());
+        scheduler.dispose();
+    }
+
+    private RepresentationRefreshScheduler createScheduler(RefreshPolicy refreshPolicy) {
+        return new RepresentationRefreshScheduler(refreshPolicy, this.executorService, new ReentrantLock(), (representationEventProcessor, changeDescription) -> {
+            this.refreshedChangeDescriptions.add(changeDescription);
+            this.refreshingThreads.add(Thread.currentThread());
+        }, new SimpleMeterRegistry());
+    }
+
+    private IRepresentationEventProcessor createRepresentationEventProcessor(boolean isUnsubscribed) {
+        return new IRepresentationEventProcessor.NoOp() {
+            @Override
+            public ISubscriptionManager getSubscriptionManager() {
+                return new ISubscriptionManager.NoOp() {
+                    @Override
+                    public boolean isEmpty() {
+                        return isUnsubscribed;
+                    }
+                };
+            }
+        };
+    }
+
+    private ChangeDescription createChangeDescription() {
+        return new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, "sourceId", new TestInput(UUID.randomUUID()));
+    }
+
+    /**
+     * Input used by the tests.
+     *
+     * @author sbegaudeau
+     */
+    private record TestInput(UUID id) implements IInput {
+    }
+}
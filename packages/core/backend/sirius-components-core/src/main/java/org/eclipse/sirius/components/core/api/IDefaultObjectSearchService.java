@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Obeo.
+ * Copyright (c) 2023, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.core.api;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -22,6 +25,23 @@ import java.util.Optional;
 public interface IDefaultObjectSearchService {
     Optional<Object> getObject(IEditingContext editingContext, String objectId);
 
+    /**
+     * Returns the objects matching the given ids, ids which do not match any object are not present in the result.
+     *
+     * @param editingContext
+     *         The editing context
+     * @param objectIds
+     *         The ids of the objects
+     * @return The objects found, by id, in the order of the given ids
+     */
+    default Map<String, Object> getObjects(IEditingContext editingContext, List<String> objectIds) {
+        Map<String, Object> objects = new LinkedHashMap<>();
+        for (var objectId : objectIds) {
+            this.getObject(editingContext, objectId).ifPresent(object -> objects.put(objectId, object));
+        }
+        return objects;
+    }
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.core.api;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.eclipse.sirius.components.core.RepresentationMetadata;
@@ -25,6 +26,23 @@ import org.eclipse.sirius.components.core.RepresentationMetadata;
 public interface IRepresentationMetadataProvider {
     Optional<RepresentationMetadata> getMetadata(String representationId);
 
+    /**
+     * Returns the metadata of all the given representations known by this provider.
+     *
+     * <p>
+     * Providers backed by a data store should override this method in order to retrieve all the metadata at once.
+     * </p>
+     *
+     * @param representationIds
+     *         The ids of the representations
+     * @return The metadata found, in no particular order
+     */
+    default List<RepresentationMetadata> getAllMetadata(List<String> representationIds) {
+        return representationIds.stream()
+                .flatMap(representationId -> this.getMetadata(representationId).stream())
+                .toList();
+    }
+
     /**
      * Empty implementation, used for mocks in unit tests.
      *
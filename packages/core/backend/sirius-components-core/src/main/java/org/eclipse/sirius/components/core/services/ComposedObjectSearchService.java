@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Obeo.
+ * Copyright (c) 2023, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,7 +12,10 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.core.services;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -51,4 +54,28 @@ public class ComposedObjectSearchService implements IObjectSearchService {
         return this.defaultObjectSearchService.getObject(editingContext, objectId);
     }
 
+    @Override
+    public Map<String, Object> getObjects(IEditingContext editingContext, List<String> objectIds) {
+        Map<String, Object> delegateObjects = new LinkedHashMap<>();
+        List<String> defaultObjectIds = new ArrayList<>();
+        for (var objectId : objectIds) {
+            var optionalDelegate = this.objectSearchServiceDelegates.stream()
+                    .filter(delegate -> delegate.canHandle(editingContext, objectId))
+                    .findFirst();
+            if (optionalDelegate.isPresent()) {
+                optionalDelegate.get().getObject(editingContext, objectId).ifPresent(object -> delegateObjects.put(objectId, object));
+            } else {
+                defaultObjectIds.add(objectId);
+            }
+        }
+        var defaultObjects = this.defaultObjectSearchService.getObjects(editingContext, defaultObjectIds);
+
+        Map<String, Object> objects = new LinkedHashMap<>();
+        for (var objectId : objectIds) {
+            Optional.ofNullable(delegateObjects.get(objectId))
+                    .or(() -> Optional.ofNullable(defaultObjects.get(objectId)))
+                    .ifPresent(object -> objects.put(objectId, object));
+        }
+        return objects;
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,7 +12,6 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.representations;
 
-import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -27,6 +26,8 @@ import org.slf4j.LoggerFactory;
  */
 public class BaseRenderer {
 
+    private static final ComponentFactoryRegistry COMPONENT_FACTORY_REGISTRY = new ComponentFactoryRegistry();
+
     private final IInstancePropsValidator instancePropsValidator;
 
     private final IComponentPropsValidator componentPropsValidator;
@@ -139,7 +140,7 @@ public class BaseRenderer {
     private Object renderInstance(String type, IProps props) {
         Object instance = null;
         if (this.instancePropsValidator.validateInstanceProps(type, props)) {
-            List<Object> childInstances = new ArrayList<>();
+            List<Object> childInstances = new ArrayList<>(props.getChildren().size());
             this.renderChildren(props, childInstances);
             instance = this.elementFactory.instantiateElement(type, props, childInstances);
         }
@@ -158,22 +159,30 @@ public class BaseRenderer {
      * @return The rendered instances
      */
     private List<Object> renderFragment(IProps props) {
-        List<Object> instances = new ArrayList<>();
         if (this.validateFragmentProps(props)) {
+            List<Object> instances = new ArrayList<>(props.getChildren().size());
             this.renderChildren(props, instances);
+            return instances;
         }
-        return instances;
+        return new ArrayList<>();
     }
 
     private void renderChildren(IProps props, List<Object> instances) {
         for (Element childElement : props.getChildren()) {
-            Object renderedChildren = this.renderElement(childElement);
-            if (renderedChildren instanceof List<?>) {
-                // In case a fragment contains another fragment
-                instances.addAll((List<?>) renderedChildren);
-            } else if (renderedChildren != null) {
-                // In case a fragment contains a regular element
-                instances.add(renderedChildren);
+            if (Fragment.TYPE.equals(childElement.getType())) {
+                // In case of a child fragment, its children are rendered directly in the instances of the parent
+                if (this.validateFragmentProps(childElement.getProps())) {
+                    this.renderChildren(childElement.getProps(), instances);
+                }
+            } else {
+                Object renderedChildren = this.renderElement(childElement);
+                if (renderedChildren instanceof List<?>) {
+                    // In case a component has rendered a fragment
+                    instances.addAll((List<?>) renderedChildren);
+                } else if (renderedChildren != null) {
+                    // In case of a regular element
+                    instances.add(renderedChildren);
+                }
             }
         }
     }
@@ -195,8 +204,7 @@ public class BaseRenderer {
         Object instance = null;
         if (IComponent.class.isAssignableFrom(type) && this.componentPropsValidator.validateComponentProps(type, props)) {
             try {
-                Constructor<?> constructor = type.getConstructor(props.getClass());
-                IComponent component = (IComponent) constructor.newInstance(props);
+                IComponent component = COMPONENT_FACTORY_REGISTRY.createComponent(type, props);
                 Element renderedElement = component.render();
                 if (renderedElement != null) {
                     instance = this.renderElement(renderedElement);
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.representations;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of the factories used to create the components.
+ *
+ * <p>
+ * The public constructor of a component is resolved only once for each pair of component type and props type. It is
+ * then kept as a factory generated by the {@link LambdaMetafactory} to avoid the cost of the reflective lookup and
+ * invocation for each component to render. If such a factory cannot be generated, the component is created using
+ * reflection.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public final class ComponentFactoryRegistry {
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(IComponentFactory.class);
+
+    private static final MethodType CREATE_TYPE = MethodType.methodType(IComponent.class, IProps.class);
+
+    private final Logger logger = LoggerFactory.getLogger(ComponentFactoryRegistry.class);
+
+    private final ClassValue<Map<Class<?>, Optional<IComponentFactory>>> componentType2Factories = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, Optional<IComponentFactory>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Creates a new instance of the given component type using the public constructor with the exact type of the
+     * props.
+     *
+     * @param componentType
+     *         The type of the component
+     * @param props
+     *         The props of the component
+     * @return The component created
+     * @throws ReflectiveOperationException
+     *         If the component does not have a public constructor matching the props or if this constructor has failed
+     */
+    public IComponent createComponent(Class<?> componentType, IProps props) throws ReflectiveOperationException {
+        var factories = this.componentType2Factories.get(componentType);
+        var optionalFactory = factories.computeIfAbsent(props.getClass(), propsType -> this.createFactory(componentType, propsType));
+        if (optionalFactory.isPresent()) {
+            return optionalFactory.get().create(props);
+        }
+
+        Constructor<?> constructor = componentType.getConstructor(props.getClass());
+        return (IComponent) constructor.newInstance(props);
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private Optional<IComponentFactory> createFactory(Class<?> componentType, Class<?> propsType) {
+        Optional<IComponentFactory> optionalFactory = Optional.empty();
+        if (IComponent.class.isAssignableFrom(componentType)) {
+            try {
+                Constructor<?> constructor = componentType.getConstructor(propsType);
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(componentType, MethodHandles.lookup());
+                MethodHandle constructorHandle = lookup.unreflectConstructor(constructor);
+                CallSite callSite = LambdaMetafactory.metafactory(lookup, "create", FACTORY_TYPE, CREATE_TYPE, constructorHandle, constructorHandle.type());
+                optionalFactory = Optional.of((IComponentFactory) callSite.getTarget().invoke());
+            } catch (Throwable throwable) {
+                this.logger.debug("The component " + componentType.getName() + " will be created using reflection", throwable);
+            }
+        }
+        return optionalFactory;
+    }
+}
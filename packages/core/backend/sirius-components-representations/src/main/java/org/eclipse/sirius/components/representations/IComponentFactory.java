@@ -0,0 +1,23 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.representations;
+
+/**
+ * Factory used to create a component from its props.
+ *
+ * @author sbegaudeau
+ */
+@FunctionalInterface
+public interface IComponentFactory {
+    IComponent create(IProps props);
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,9 +12,15 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.representations;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Used to manage the variables.
@@ -35,6 +41,11 @@ public class VariableManager {
      */
     private Map<String, Object> variables = new HashMap<>();
 
+    /**
+     * The read-only view of the variables of this VariableManager and its parents.
+     */
+    private Map<String, Object> variablesView;
+
     /**
      * The constructor.
      */
@@ -57,13 +68,50 @@ public class VariableManager {
         return previous;
     }
 
+    /**
+     * Returns a new map containing a copy of the variables of this VariableManager and its parents.
+     *
+     * <p>
+     * Callers which only need to read the variables should prefer {@link #asMap()} which does not copy anything.
+     * </p>
+     *
+     * @return A mutable copy of the variables
+     */
     public Map<String, Object> getVariables() {
+        int size = 0;
+        VariableManager variableManager = this;
+        while (variableManager != null) {
+            size = size + variableManager.variables.size();
+            variableManager = variableManager.parent;
+        }
+
+        Map<String, Object> allVariables = new HashMap<>((int) (size / 0.75f) + 1);
+        this.putAllVariables(allVariables);
+        return allVariables;
+    }
+
+    private void putAllVariables(Map<String, Object> allVariables) {
         if (this.parent != null) {
-            Map<String, Object> parentVariables = this.parent.getVariables();
-            parentVariables.putAll(this.variables);
-            return parentVariables;
+            this.parent.putAllVariables(allVariables);
         }
-        return new HashMap<>(this.variables);
+        allVariables.putAll(this.variables);
+    }
+
+    /**
+     * Returns a read-only view of the variables of this VariableManager and its parents.
+     *
+     * <p>
+     * The lookup of a variable in this view is performed directly in the chain of VariableManagers without copying
+     * the variables. The view reflects the variables added after its creation.
+     * </p>
+     *
+     * @return A read-only view of the variables
+     */
+    public Map<String, Object> asMap() {
+        if (this.variablesView == null) {
+            this.variablesView = new VariablesView();
+        }
+        return this.variablesView;
     }
 
     public <T> Optional<T> get(String name, Class<T> expectedType) {
@@ -86,6 +134,21 @@ public class VariableManager {
         return this.parent;
     }
 
+    /**
+     * Returns the closest VariableManager, from this one to its parents, which defines the variable with the given name.
+     *
+     * @param name
+     *            The name of the variable
+     * @return The VariableManager defining the variable or <code>null</code> if none
+     */
+    private VariableManager getOwner(String name) {
+        VariableManager variableManager = this;
+        while (variableManager != null && !variableManager.variables.containsKey(name)) {
+            variableManager = variableManager.parent;
+        }
+        return variableManager;
+    }
+
     public boolean hasVariable(String name) {
         return this.variables.containsKey(name);
     }
@@ -109,4 +172,66 @@ public class VariableManager {
         }
         return stringBuilder.toString();
     }
+
+    /**
+     * Read-only view of the variables of a VariableManager and its parents.
+     *
+     * <p>
+     * Like in {@link VariableManager#getVariables()}, a variable of a VariableManager shadows the variables with the
+     * same name of its parents, even if its value is <code>null</code>. The entries are computed lazily from the chain
+     * of VariableManagers each time they are iterated.
+     * </p>
+     *
+     * @author sbegaudeau
+     */
+    private final class VariablesView extends AbstractMap<String, Object> {
+
+        private final Set<Entry<String, Object>> entries = new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return VariablesView.this.entries().iterator();
+            }
+
+            @Override
+            public int size() {
+                return VariablesView.this.size();
+            }
+        };
+
+        @Override
+        public Object get(Object key) {
+            Object value = null;
+            if (key instanceof String name) {
+                VariableManager owner = VariableManager.this.getOwner(name);
+                if (owner != null) {
+                    value = owner.variables.get(name);
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String name && VariableManager.this.getOwner(name) != null;
+        }
+
+        @Override
+        public int size() {
+            return (int) this.entries().count();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return this.entries;
+        }
+
+        private Stream<Entry<String, Object>> entries() {
+            // @formatter:off
+            return Stream.iterate(VariableManager.this, Objects::nonNull, VariableManager::getParent)
+                    .flatMap(variableManager -> variableManager.variables.entrySet().stream()
+                            .filter(entry -> VariableManager.this.getOwner(entry.getKey()) == variableManager))
+                    .map(AbstractMap.SimpleImmutableEntry::new);
+            // @formatter:on
+        }
+    }
 }
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the component factory registry.
+ *
+ * @author sbegaudeau
+ */
+public class ComponentFactoryRegistryTests {
+
+    private static final String LABEL = "label";
+
+    @Test
+    public void testComponentCreatedWithTheConstructorOfTheProps() throws ReflectiveOperationException {
+        var registry = new ComponentFactoryRegistry();
+
+        var component = registry.createComponent(TestComponent.class, new LabelProps(LABEL));
+        assertThat(component).isInstanceOf(TestComponent.class);
+        assertThat(component.render().getProps()).isEqualTo(new LabelProps(LABEL));
+
+        var otherComponent = registry.createComponent(TestComponent.class, new CountProps(2));
+        assertThat(otherComponent.render().getProps()).isEqualTo(new CountProps(2));
+    }
+
+    @Test
+    public void testComponentCreatedMultipleTimes() throws ReflectiveOperationException {
+        var registry = new ComponentFactoryRegistry();
+
+        var firstComponent = registry.createComponent(TestComponent.class, new LabelProps("first"));
+        var secondComponent = registry.createComponent(TestComponent.class, new LabelProps("second"));
+
+        assertThat(firstComponent).isNotSameAs(secondComponent);
+        assertThat(firstComponent.render().getProps()).isEqualTo(new LabelProps("first"));
+        assertThat(secondComponent.render().getProps()).isEqualTo(new LabelProps("second"));
+    }
+
+    @Test
+    public void testComponentWithoutConstructorForThePropsRejected() {
+        var registry = new ComponentFactoryRegistry();
+
+        assertThatThrownBy(() -> registry.createComponent(TestComponent.class, new OtherProps())).isInstanceOf(NoSuchMethodException.class);
+        assertThatThrownBy(() -> registry.createComponent(TestComponent.class, new OtherProps())).isInstanceOf(NoSuchMethodException.class);
+    }
+
+    /**
+     * Props with a label.
+     *
+     * @author sbegaudeau
+     */
+    public record LabelProps(String label) implements IProps {
+    }
+
+    /**
+     * Props with a count.
+     *
+     * @author sbegaudeau
+     */
+    public record CountProps(int count) implements IProps {
+    }
+
+    /**
+     * Props without any dedicated constructor in the component.
+     *
+     * @author sbegaudeau
+     */
+    public record OtherProps() implements IProps {
+    }
+
+    /**
+     * Component with a constructor for each kind of props.
+     *
+     * @author sbegaudeau
+     */
+    public static final class TestComponent implements IComponent {
+
+        private final IProps props;
+
+        public TestComponent(LabelProps props) {
+            this.props = Objects.requireNonNull(props);
+        }
+
+        public TestComponent(CountProps props) {
+            this.props = Objects.requireNonNull(props);
+        }
+
+        @Override
+        public Element render() {
+            return new Element(LABEL, this.props);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the variable manager.
+ *
+ * @author sbegaudeau
+ */
+public class VariableManagerTests {
+
+    private static final String PARENT = "parent";
+
+    private static final String CHILD = "child";
+
+    private static final String SHARED = "shared";
+
+    private static final String NULL = "null";
+
+    @Test
+    public void testVariablesOfTheChildShadowTheVariablesOfTheParent() {
+        var parentVariableManager = new VariableManager();
+        parentVariableManager.put(PARENT, PARENT);
+        parentVariableManager.put(SHARED, PARENT);
+        var childVariableManager = parentVariableManager.createChild();
+        childVariableManager.put(CHILD, CHILD);
+        childVariableManager.put(SHARED, CHILD);
+
+        var variables = childVariableManager.asMap();
+        assertThat(variables).hasSize(3);
+        assertThat(variables.get(PARENT)).isEqualTo(PARENT);
+        assertThat(variables.get(CHILD)).isEqualTo(CHILD);
+        assertThat(variables.get(SHARED)).isEqualTo(CHILD);
+        assertThat(variables.entrySet()).containsExactlyInAnyOrder(Map.entry(PARENT, PARENT), Map.entry(CHILD, CHILD), Map.entry(SHARED, CHILD));
+        assertThat(variables).isEqualTo(childVariableManager.getVariables());
+
+        assertThat(parentVariableManager.asMap()).isEqualTo(Map.of(PARENT, PARENT, SHARED, PARENT));
+    }
+
+    @Test
+    public void testVariablesWithNullValues() {
+        var parentVariableManager = new VariableManager();
+        parentVariableManager.put(NULL, PARENT);
+        var childVariableManager = parentVariableManager.createChild();
+        childVariableManager.put(NULL, null);
+
+        var variables = childVariableManager.asMap();
+        assertThat(variables).hasSize(1);
+        assertThat(variables.containsKey(NULL)).isTrue();
+        assertThat(variables.get(NULL)).isNull();
+        assertThat(variables.getOrDefault(NULL, PARENT)).isNull();
+        assertThat(variables).isEqualTo(childVariableManager.getVariables());
+    }
+
+    @Test
+    public void testContainsKey() {
+        var parentVariableManager = new VariableManager();
+        parentVariableManager.put(PARENT, PARENT);
+        var childVariableManager = parentVariableManager.createChild();
+        childVariableManager.put(CHILD, CHILD);
+
+        var variables = childVariableManager.asMap();
+        assertThat(variables.containsKey(PARENT)).isTrue();
+        assertThat(variables.containsKey(CHILD)).isTrue();
+        assertThat(variables.containsKey(SHARED)).isFalse();
+        assertThat(variables.containsKey(1)).isFalse();
+        assertThat(variables.containsKey(null)).isFalse();
+        assertThat(parentVariableManager.asMap().containsKey(CHILD)).isFalse();
+    }
+
+    @Test
+    public void testViewReflectsTheNewVariables() {
+        var parentVariableManager = new VariableManager();
+        var childVariableManager = parentVariableManager.createChild();
+
+        var variables = childVariableManager.asMap();
+        assertThat(variables).isEmpty();
+
+        parentVariableManager.put(PARENT, PARENT);
+        childVariableManager.put(CHILD, CHILD);
+        assertThat(variables).hasSize(2);
+        assertThat(variables.get(PARENT)).isEqualTo(PARENT);
+    }
+
+    @Test
+    public void testViewIsReadOnly() {
+        var variableManager = new VariableManager();
+        variableManager.put(PARENT, PARENT);
+
+        var variables = variableManager.asMap();
+        assertThatThrownBy(() -> variables.put(CHILD, CHILD)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> variables.remove(PARENT)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> variables.entrySet().iterator().next().setValue(CHILD)).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
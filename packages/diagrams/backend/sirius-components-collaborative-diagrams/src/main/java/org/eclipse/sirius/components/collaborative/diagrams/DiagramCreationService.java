@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -18,9 +18,11 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramCreationService;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramDirtyRegionProvider;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramService;
 import org.eclipse.sirius.components.core.api.Environment;
 import org.eclipse.sirius.components.core.api.IEditingContext;
@@ -30,6 +32,7 @@ import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
 import org.eclipse.sirius.components.diagrams.ViewDeletionRequest;
 import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.components.diagrams.components.DiagramDirtyRegion;
 import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
 import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps.Builder;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
@@ -41,6 +44,7 @@ import org.eclipse.sirius.components.representations.IOperationValidator;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.micrometer.core.instrument.MeterRegistry;
@@ -49,6 +53,12 @@ import io.micrometer.core.instrument.Timer;
 /**
  * Service used to create diagrams.
  *
+ * <p>
+ * When the incremental refresh is enabled, the nodes and edges whose semantic elements have not been modified by the
+ * change which has triggered the refresh reuse the type, style and labels computed during the previous render. It
+ * should only be enabled if those only depend on the semantic elements of the nodes and edges.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -60,15 +70,22 @@ public class DiagramCreationService implements IDiagramCreationService {
 
     private final IOperationValidator operationValidator;
 
+    private final List<IDiagramDirtyRegionProvider> diagramDirtyRegionProviders;
+
+    private final boolean isIncrementalRefreshEnabled;
+
     private final Timer timer;
 
     private final Logger logger = LoggerFactory.getLogger(DiagramCreationService.class);
 
     public DiagramCreationService(IRepresentationDescriptionSearchService representationDescriptionSearchService, IObjectService objectService,
-                                  IOperationValidator operationValidator, MeterRegistry meterRegistry) {
+                                  IOperationValidator operationValidator, MeterRegistry meterRegistry, List<IDiagramDirtyRegionProvider> diagramDirtyRegionProviders,
+                                  @Value("${sirius.components.diagrams.refresh.incremental:false}") boolean isIncrementalRefreshEnabled) {
         this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
         this.objectService = Objects.requireNonNull(objectService);
         this.operationValidator = Objects.requireNonNull(operationValidator);
+        this.diagramDirtyRegionProviders = Objects.requireNonNull(diagramDirtyRegionProviders);
+        this.isIncrementalRefreshEnabled = isIncrementalRefreshEnabled;
         this.timer = Timer.builder(Monitoring.REPRESENTATION_EVENT_PROCESSOR_REFRESH)
                 .tag(Monitoring.NAME, "diagram")
                 .register(meterRegistry);
@@ -83,11 +100,27 @@ public class DiagramCreationService implements IDiagramCreationService {
                 .map(DiagramDescription.class::cast)
                 .toList();
 
-        return this.doRender(targetObject, editingContext, diagramDescription, allDiagramDescriptions, Optional.empty());
+        return this.doRender(targetObject, editingContext, diagramDescription, allDiagramDescriptions, Optional.empty(), Optional.empty());
     }
 
     @Override
     public Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext) {
+        return this.refresh(editingContext, diagramContext, Optional.empty());
+    }
+
+    @Override
+    public Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext, ChangeDescription changeDescription) {
+        Optional<DiagramDirtyRegion> optionalDirtyRegion = Optional.empty();
+        if (this.isIncrementalRefreshEnabled) {
+            optionalDirtyRegion = this.diagramDirtyRegionProviders.stream()
+                    .map(diagramDirtyRegionProvider -> diagramDirtyRegionProvider.getDirtyRegion(editingContext, changeDescription))
+                    .flatMap(Optional::stream)
+                    .findFirst();
+        }
+        return this.refresh(editingContext, diagramContext, optionalDirtyRegion);
+    }
+
+    private Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext, Optional<DiagramDirtyRegion> optionalDirtyRegion) {
         Diagram previousDiagram = diagramContext.getDiagram();
 
         var optionalObject = this.objectService.getObject(editingContext, previousDiagram.getTargetObjectId());
@@ -105,13 +138,14 @@ public class DiagramCreationService implements IDiagramCreationService {
         if (optionalObject.isPresent() && optionalDiagramDescription.isPresent()) {
             Object object = optionalObject.get();
             DiagramDescription diagramDescription = optionalDiagramDescription.get();
-            Diagram diagram = this.doRender(object, editingContext, diagramDescription, allDiagramDescriptions, Optional.of(diagramContext));
+            Diagram diagram = this.doRender(object, editingContext, diagramDescription, allDiagramDescriptions, Optional.of(diagramContext), optionalDirtyRegion);
             return Optional.of(diagram);
         }
         return Optional.empty();
     }
 
-    private Diagram doRender(Object targetObject, IEditingContext editingContext, DiagramDescription diagramDescription, List<DiagramDescription> allDiagramDescriptions, Optional<IDiagramContext> optionalDiagramContext) {
+    private Diagram doRender(Object targetObject, IEditingContext editingContext, DiagramDescription diagramDescription, List<DiagramDescription> allDiagramDescriptions, Optional<IDiagramContext> optionalDiagramContext,
+            Optional<DiagramDirtyRegion> optionalDirtyRegion) {
         long start = System.currentTimeMillis();
 
         VariableManager variableManager = new VariableManager();
@@ -134,7 +168,8 @@ public class DiagramCreationService implements IDiagramCreationService {
                 .viewCreationRequests(viewCreationRequests)
                 .viewDeletionRequests(viewDeletionRequests)
                 .previousDiagram(optionalPreviousDiagram)
-                .diagramEvents(diagramEvents);
+                .diagramEvents(diagramEvents)
+                .dirtyRegion(optionalDirtyRegion.filter(dirtyRegion -> optionalPreviousDiagram.isPresent()));
 
         DiagramComponentProps props = builder.build();
         Element element = new Element(DiagramComponent.class, props);
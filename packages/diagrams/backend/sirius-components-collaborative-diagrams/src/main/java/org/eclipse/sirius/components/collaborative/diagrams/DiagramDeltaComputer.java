@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDelta;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.NodeDelta;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.layoutdata.EdgeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Used to compute the differences between two revisions of a diagram.
+ *
+ * <p>
+ * Nodes and edges are identified by their id and compared using their serialized form. Nodes are compared without
+ * their child nodes and border nodes since those are described by their own deltas.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class DiagramDeltaComputer {
+
+    private final ObjectMapper objectMapper;
+
+    public DiagramDeltaComputer(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    /**
+     * Captures the state of the given diagram which will be used to compute the next delta.
+     *
+     * @param diagram
+     *         The diagram
+     * @return The state of the diagram
+     */
+    public DiagramState createState(Diagram diagram) {
+        Map<String, NodeState> nodeStates = new LinkedHashMap<>();
+        for (int i = 0; i < diagram.getNodes().size(); i++) {
+            this.collectNodeStates(null, i, diagram.getNodes().get(i), nodeStates);
+        }
+
+        Map<String, EdgeState> edgeStates = new LinkedHashMap<>();
+        for (Edge edge : diagram.getEdges()) {
+            edgeStates.put(edge.getId(), new EdgeState(edge, this.objectMapper.valueToTree(edge)));
+        }
+
+        return new DiagramState(diagram.getId(), nodeStates, edgeStates, diagram.getLayoutData().nodeLayoutData(), diagram.getLayoutData().edgeLayoutData());
+    }
+
+    private void collectNodeStates(String parentId, int index, Node node, Map<String, NodeState> nodeStates) {
+        Node shallowNode = Node.newNode(node)
+                .childNodes(List.of())
+                .borderNodes(List.of())
+                .build();
+        nodeStates.put(node.getId(), new NodeState(parentId, index, shallowNode, this.objectMapper.valueToTree(shallowNode)));
+
+        for (int i = 0; i < node.getBorderNodes().size(); i++) {
+            this.collectNodeStates(node.getId(), i, node.getBorderNodes().get(i), nodeStates);
+        }
+        for (int i = 0; i < node.getChildNodes().size(); i++) {
+            this.collectNodeStates(node.getId(), i, node.getChildNodes().get(i), nodeStates);
+        }
+    }
+
+    /**
+     * Computes the differences between two states of the same diagram.
+     *
+     * @param previousState
+     *         The state of the previous revision of the diagram
+     * @param newState
+     *         The state of the new revision of the diagram
+     * @return The delta to apply on the previous revision to obtain the new one
+     */
+    public DiagramDelta computeDelta(DiagramState previousState, DiagramState newState) {
+        List<NodeDelta> addedNodes = new ArrayList<>();
+        List<NodeDelta> changedNodes = new ArrayList<>();
+        for (var entry : newState.nodes().entrySet()) {
+            NodeState nodeState = entry.getValue();
+            NodeState previousNodeState = previousState.nodes().get(entry.getKey());
+            if (previousNodeState == null) {
+                addedNodes.add(new NodeDelta(nodeState.parentId(), nodeState.index(), nodeState.node()));
+            } else if (!Objects.equals(previousNodeState.parentId(), nodeState.parentId()) || previousNodeState.index() != nodeState.index() || !previousNodeState.content().equals(nodeState.content())) {
+                changedNodes.add(new NodeDelta(nodeState.parentId(), nodeState.index(), nodeState.node()));
+            }
+        }
+        List<String> removedNodeIds = this.getRemovedIds(previousState.nodes(), newState.nodes());
+
+        List<Edge> addedEdges = new ArrayList<>();
+        List<Edge> changedEdges = new ArrayList<>();
+        for (var entry : newState.edges().entrySet()) {
+            EdgeState edgeState = entry.getValue();
+            EdgeState previousEdgeState = previousState.edges().get(entry.getKey());
+            if (previousEdgeState == null) {
+                addedEdges.add(edgeState.edge());
+            } else if (!previousEdgeState.content().equals(edgeState.content())) {
+                changedEdges.add(edgeState.edge());
+            }
+        }
+        List<String> removedEdgeIds = this.getRemovedIds(previousState.edges(), newState.edges());
+
+        List<NodeLayoutData> changedNodeLayoutData = this.getChangedValues(previousState.nodeLayoutData(), newState.nodeLayoutData());
+        List<String> removedNodeLayoutDataIds = this.getRemovedIds(previousState.nodeLayoutData(), newState.nodeLayoutData());
+        List<EdgeLayoutData> changedEdgeLayoutData = this.getChangedValues(previousState.edgeLayoutData(), newState.edgeLayoutData());
+        List<String> removedEdgeLayoutDataIds = this.getRemovedIds(previousState.edgeLayoutData(), newState.edgeLayoutData());
+
+        return new DiagramDelta(newState.diagramId(), addedNodes, changedNodes, removedNodeIds, addedEdges, changedEdges, removedEdgeIds,
+                changedNodeLayoutData, removedNodeLayoutDataIds, changedEdgeLayoutData, removedEdgeLayoutDataIds);
+    }
+
+    private <T> List<T> getChangedValues(Map<String, T> previousValues, Map<String, T> newValues) {
+        return newValues.entrySet().stream()
+                .filter(entry -> !entry.getValue().equals(previousValues.get(entry.getKey())))
+                .map(Map.Entry::getValue)
+                .toList();
+    }
+
+    private List<String> getRemovedIds(Map<String, ?> previousValues, Map<String, ?> newValues) {
+        return previousValues.keySet().stream()
+                .filter(id -> !newValues.containsKey(id))
+                .toList();
+    }
+
+    /**
+     * The state of a revision of a diagram.
+     *
+     * @param diagramId
+     *         The id of the diagram
+     * @param nodes
+     *         The state of all the nodes of the diagram, parents first, by id
+     * @param edges
+     *         The state of the edges by id
+     * @param nodeLayoutData
+     *         The layout data of the nodes by id
+     * @param edgeLayoutData
+     *         The layout data of the edges by id
+     * @author sbegaudeau
+     */
+    public record DiagramState(
+            String diagramId,
+            Map<String, NodeState> nodes,
+            Map<String, EdgeState> edges,
+            Map<String, NodeLayoutData> nodeLayoutData,
+            Map<String, EdgeLayoutData> edgeLayoutData) {
+
+        public DiagramState {
+            Objects.requireNonNull(diagramId);
+            Objects.requireNonNull(nodes);
+            Objects.requireNonNull(edges);
+            Objects.requireNonNull(nodeLayoutData);
+            Objects.requireNonNull(edgeLayoutData);
+        }
+
+        /**
+         * Returns the number of elements of the diagram.
+         *
+         * @return The number of nodes and edges
+         */
+        public int size() {
+            return this.nodes.size() + this.edges.size();
+        }
+    }
+
+    /**
+     * The state of a node without its child nodes and border nodes.
+     *
+     * @author sbegaudeau
+     */
+    public record NodeState(String parentId, int index, Node node, JsonNode content) {
+    }
+
+    /**
+     * The state of an edge.
+     *
+     * @author sbegaudeau
+     */
+    public record EdgeState(Edge edge, JsonNode content) {
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,10 +12,15 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.diagrams;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
+import org.eclipse.sirius.components.collaborative.diagrams.DiagramDeltaComputer.DiagramState;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDelta;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDeltaRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramSnapshotEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.ReferencePosition;
 import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.diagrams.Diagram;
@@ -23,6 +28,7 @@ import org.eclipse.sirius.components.diagrams.Node;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
@@ -32,6 +38,18 @@ import reactor.core.publisher.Sinks.Many;
 /**
  * Service used to manage the diagram event flux.
  *
+ * <p>
+ * Two kinds of subscribers are supported. The first one receives the complete diagram after each refresh while the
+ * second one receives a snapshot of the diagram when it subscribes and then only the differences between two revisions
+ * of the diagram. The state used to compute those differences is only kept while there are subscribers to the deltas.
+ * </p>
+ *
+ * <p>
+ * The subscribers to the deltas start to receive the deltas before the snapshot is captured, the deltas are kept until
+ * the snapshot has been sent and those which are older than the snapshot are ignored. As a result, a refresh performed
+ * while the subscription starts is never lost.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class DiagramEventFlux {
@@ -40,14 +58,29 @@ public class DiagramEventFlux {
 
     private final Many<IPayload> sink = Sinks.many().multicast().directBestEffort();
 
-    private Diagram currentDiagram;
+    private final Many<IPayload> deltaSink = Sinks.many().multicast().directBestEffort();
+
+    private final DiagramDeltaComputer diagramDeltaComputer;
+
+    private final DiagramRevisionSequence diagramRevisionSequence;
+
+    private volatile DiagramRevision currentRevision;
 
-    public DiagramEventFlux(Diagram currentDiagram) {
-        this.currentDiagram = Objects.requireNonNull(currentDiagram);
+    private DiagramState currentState;
+
+    public DiagramEventFlux(Diagram currentDiagram, DiagramDeltaComputer diagramDeltaComputer, DiagramRevisionSequence diagramRevisionSequence) {
+        this.diagramDeltaComputer = Objects.requireNonNull(diagramDeltaComputer);
+        this.diagramRevisionSequence = Objects.requireNonNull(diagramRevisionSequence);
+        this.currentRevision = new DiagramRevision(diagramRevisionSequence.next(), Objects.requireNonNull(currentDiagram));
     }
 
     public void diagramRefreshed(UUID id, Diagram newDiagram, String cause, ReferencePosition referencePosition) {
-        this.currentDiagram = newDiagram;
+        var previousRevision = this.currentRevision;
+        var newRevision = new DiagramRevision(this.diagramRevisionSequence.next(), newDiagram);
+        this.currentRevision = newRevision;
+
+        this.deltaRefreshed(id, cause, referencePosition, previousRevision, newRevision);
+
         if (this.sink.currentSubscriberCount() > 0) {
             this.logger.atDebug()
                     .setMessage("Diagram {} sent with {} nodes and {} edges")
@@ -56,7 +89,7 @@ public class DiagramEventFlux {
                     .addArgument(() -> newDiagram.getEdges().size())
                     .log();
 
-            EmitResult emitResult = this.sink.tryEmitNext(new DiagramRefreshedEventPayload(id, this.currentDiagram, cause, referencePosition));
+            EmitResult emitResult = this.sink.tryEmitNext(new DiagramRefreshedEventPayload(id, newDiagram, cause, referencePosition));
             if (emitResult.isFailure()) {
                 String pattern = "An error has occurred while emitting a DiagramRefreshedEventPayload: {}";
                 this.logger.warn(pattern, emitResult);
@@ -64,21 +97,122 @@ public class DiagramEventFlux {
         }
     }
 
+    private void deltaRefreshed(UUID id, String cause, ReferencePosition referencePosition, DiagramRevision previousRevision, DiagramRevision newRevision) {
+        Diagram newDiagram = newRevision.diagram();
+        if (this.deltaSink.currentSubscriberCount() > 0 && newDiagram != null && previousRevision.diagram() != null) {
+            DiagramState previousState = this.currentState;
+            if (previousState == null) {
+                previousState = this.diagramDeltaComputer.createState(previousRevision.diagram());
+            }
+            DiagramState newState = this.diagramDeltaComputer.createState(newDiagram);
+            this.currentState = newState;
+
+            int revision = newRevision.number();
+            DiagramDelta delta = this.diagramDeltaComputer.computeDelta(previousState, newState);
+
+            IPayload payload;
+            if (delta.size() > newState.size() / 2) {
+                payload = new DiagramSnapshotEventPayload(id, revision, newDiagram, cause, referencePosition);
+            } else {
+                payload = new DiagramDeltaRefreshedEventPayload(id, revision, previousRevision.number(), delta, cause, referencePosition);
+            }
+
+            this.logger.atDebug()
+                    .setMessage("Diagram {} revision {} sent with a delta of {} elements")
+                    .addArgument(newDiagram.getId())
+                    .addArgument(revision)
+                    .addArgument(delta::size)
+                    .log();
+
+            this.emitDelta(payload);
+        } else {
+            this.currentState = null;
+        }
+    }
+
+    /**
+     * Sends a snapshot of the current revision of the diagram to the subscribers of the deltas.
+     *
+     * <p>
+     * It is used by the subscribers which could not apply a delta to resynchronize without subscribing again.
+     * </p>
+     *
+     * @param id
+     *         The id of the input requesting the resynchronization
+     * @param cause
+     *         The cause of the current revision of the diagram
+     */
+    public void resync(UUID id, String cause) {
+        var revision = this.currentRevision;
+        if (this.deltaSink.currentSubscriberCount() > 0 && revision.diagram() != null) {
+            this.emitDelta(new DiagramSnapshotEventPayload(id, revision.number(), revision.diagram(), cause, null));
+        }
+    }
+
+    private void emitDelta(IPayload payload) {
+        EmitResult emitResult = this.deltaSink.tryEmitNext(payload);
+        if (emitResult.isFailure()) {
+            String pattern = "An error has occurred while emitting a DiagramDeltaRefreshedEventPayload: {}";
+            this.logger.warn(pattern, emitResult);
+        }
+    }
+
     private int countChildNodes(Node node) {
         return node.getChildNodes().size() + node.getChildNodes().stream().map(this::countChildNodes).reduce(0, Integer::sum);
     }
 
     public Flux<IPayload> getFlux(UUID id, String cause) {
-        var initialRefresh = Mono.fromCallable(() -> new DiagramRefreshedEventPayload(id, this.currentDiagram, cause, null));
+        var initialRefresh = Mono.fromCallable(() -> new DiagramRefreshedEventPayload(id, this.currentRevision.diagram(), cause, null));
         return Flux.concat(initialRefresh, this.sink.asFlux());
     }
 
+    public Flux<IPayload> getDeltaFlux(UUID id, String cause) {
+        return Flux.defer(() -> {
+            Many<IPayload> pendingDeltas = Sinks.many().unicast().onBackpressureBuffer();
+            return Flux.using(
+                    () -> this.deltaSink.asFlux().subscribe(pendingDeltas::tryEmitNext, pendingDeltas::tryEmitError, pendingDeltas::tryEmitComplete),
+                    deltaSubscription -> {
+                        // The snapshot is only captured once the deltas are received
+                        var revision = this.currentRevision;
+                        var snapshot = new DiagramSnapshotEventPayload(id, revision.number(), revision.diagram(), cause, null);
+                        var deltas = pendingDeltas.asFlux().filter(payload -> this.isNotOlderThan(payload, revision.number()));
+                        return Flux.concat(Mono.just(snapshot), deltas);
+                    },
+                    Disposable::dispose
+            );
+        });
+    }
+
+    private boolean isNotOlderThan(IPayload payload, int revision) {
+        boolean isNotOlder = true;
+        if (payload instanceof DiagramDeltaRefreshedEventPayload deltaPayload) {
+            isNotOlder = deltaPayload.previousRevision() >= revision;
+        } else if (payload instanceof DiagramSnapshotEventPayload snapshotPayload) {
+            isNotOlder = snapshotPayload.revision() >= revision;
+        }
+        return isNotOlder;
+    }
+
     public void dispose() {
-        EmitResult emitResult = this.sink.tryEmitComplete();
-        if (emitResult.isFailure()) {
-            String pattern = "An error has occurred while marking the publisher as complete: {}";
-            this.logger.warn(pattern, emitResult);
+        for (var publisher : List.of(this.sink, this.deltaSink)) {
+            EmitResult emitResult = publisher.tryEmitComplete();
+            if (emitResult.isFailure()) {
+                String pattern = "An error has occurred while marking the publisher as complete: {}";
+                this.logger.warn(pattern, emitResult);
+            }
         }
     }
 
+    /**
+     * A revision of the diagram.
+     *
+     * @param number
+     *         The number of the revision, provided by the {@link DiagramRevisionSequence} after each refresh
+     * @param diagram
+     *         The diagram
+     * @author sbegaudeau
+     */
+    private record DiagramRevision(int number, Diagram diagram) {
+    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,7 @@ import java.util.stream.Collectors;
 
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IReadOnlyEventHandler;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicy;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicyRegistry;
@@ -31,11 +32,13 @@ import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHan
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventProcessor;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInputReferencePositionProvider;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDeltaEventInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.EdgeLayoutDataInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.LayoutDiagramInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.NodeLayoutDataInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.ReferencePosition;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.ResyncDiagramDeltaInput;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.components.core.api.IPayload;
@@ -92,6 +95,8 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
     private String currentRevisionCause = DiagramRefreshedEventPayload.CAUSE_REFRESH;
 
+    private boolean canRefreshIncrementally = true;
+
 
     public DiagramEventProcessor(DiagramEventProcessorParameters parameters) {
         this.logger.trace("Creating the diagram event processor {}", parameters.diagramContext().getDiagram().getId());
@@ -112,7 +117,7 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         Diagram diagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext).orElse(null);
         this.representationPersistenceService.save(null, this.editingContext, diagram);
         this.diagramContext.update(diagram);
-        this.diagramEventFlux = new DiagramEventFlux(diagram);
+        this.diagramEventFlux = new DiagramEventFlux(diagram, parameters.diagramDeltaComputer(), parameters.diagramRevisionSequence());
 
         if (diagram != null) {
             this.logger.trace("Diagram refreshed: {})", diagram.getId());
@@ -168,6 +173,12 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
             return;
         }
 
+        if (representationInput instanceof ResyncDiagramDeltaInput resyncDiagramDeltaInput) {
+            this.diagramEventFlux.resync(resyncDiagramDeltaInput.id(), this.currentRevisionCause);
+            payloadSink.tryEmitValue(new SuccessPayload(resyncDiagramDeltaInput.id()));
+            return;
+        }
+
         if (representationInput instanceof IDiagramInput diagramInput) {
             Optional<IDiagramEventHandler> optionalDiagramEventHandler = this.diagramEventHandlers.stream().filter(handler -> handler.canHandle(diagramInput)).findFirst();
 
@@ -180,10 +191,34 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         }
     }
 
+    @Override
+    public boolean isReadOnly(IRepresentationInput representationInput) {
+        boolean isReadOnly = representationInput instanceof ResyncDiagramDeltaInput;
+        if (representationInput instanceof IDiagramInput diagramInput && !isReadOnly && !(representationInput instanceof LayoutDiagramInput)) {
+            isReadOnly = this.diagramEventHandlers.stream()
+                    .filter(handler -> handler.canHandle(diagramInput))
+                    .findFirst()
+                    .filter(IReadOnlyEventHandler.class::isInstance)
+                    .isPresent();
+        }
+        return isReadOnly;
+    }
+
     @Override
     public void refresh(ChangeDescription changeDescription) {
         if (this.shouldRefresh(changeDescription)) {
-            Diagram refreshedDiagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext).orElse(null);
+            // A diagram reloaded from the database may not have been rendered with the current state of the semantic elements
+            // and a deferred refresh may have missed some of the changes performed since the previous one
+            boolean isDeferred = Boolean.TRUE.equals(changeDescription.getParameters().get(ChangeDescription.DEFERRED_REFRESH_PARAM));
+            Optional<Diagram> optionalRefreshedDiagram;
+            if (this.canRefreshIncrementally && !isDeferred) {
+                optionalRefreshedDiagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext, changeDescription);
+            } else {
+                optionalRefreshedDiagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext);
+            }
+            this.canRefreshIncrementally = true;
+
+            Diagram refreshedDiagram = optionalRefreshedDiagram.orElse(null);
             this.representationPersistenceService.save(changeDescription.getInput(), this.editingContext, refreshedDiagram);
 
             if (refreshedDiagram != null) {
@@ -202,6 +237,7 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
             Optional<Diagram> reloadedDiagram = this.representationSearchService.findById(this.editingContext, this.diagramContext.getDiagram().getId(), Diagram.class);
             if (reloadedDiagram.isPresent()) {
                 this.diagramContext.update(reloadedDiagram.get());
+                this.canRefreshIncrementally = false;
                 this.currentRevisionId = changeDescription.getInput().id();
                 this.currentRevisionCause = DiagramRefreshedEventPayload.CAUSE_LAYOUT;
                 ReferencePosition referencePosition = this.getReferencePosition(changeDescription.getInput());
@@ -252,8 +288,15 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
     @Override
     public Flux<IPayload> getOutputEvents(IInput input) {
+        Flux<IPayload> diagramEvents;
+        if (input instanceof DiagramDeltaEventInput) {
+            diagramEvents = this.diagramEventFlux.getDeltaFlux(this.currentRevisionId, this.currentRevisionCause);
+        } else {
+            diagramEvents = this.diagramEventFlux.getFlux(this.currentRevisionId, this.currentRevisionCause);
+        }
+
         return Flux.merge(
-                this.diagramEventFlux.getFlux(this.currentRevisionId, this.currentRevisionCause),
+                diagramEvents,
                 this.subscriptionManager.getFlux(input)
         );
     }
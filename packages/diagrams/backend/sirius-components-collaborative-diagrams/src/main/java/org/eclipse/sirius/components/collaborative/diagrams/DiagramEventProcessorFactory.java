@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -31,6 +31,8 @@ import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchSe
 import org.eclipse.sirius.components.diagrams.Diagram;
 import org.springframework.stereotype.Service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * Used to create the diagram event processors.
  *
@@ -55,8 +57,12 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
 
     private final List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders;
 
+    private final DiagramDeltaComputer diagramDeltaComputer;
+
+    private final DiagramRevisionSequence diagramRevisionSequence = new DiagramRevisionSequence();
+
     public DiagramEventProcessorFactory(RepresentationEventProcessorFactoryConfiguration configuration, IDiagramCreationService diagramCreationService,
-            List<IDiagramEventHandler> diagramEventHandlers, IRepresentationPersistenceService representationPersistenceService, List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders) {
+            List<IDiagramEventHandler> diagramEventHandlers, IRepresentationPersistenceService representationPersistenceService, List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders, ObjectMapper objectMapper) {
         this.representationSearchService = Objects.requireNonNull(configuration.getRepresentationSearchService());
         this.diagramCreationService = Objects.requireNonNull(diagramCreationService);
         this.diagramEventHandlers = Objects.requireNonNull(diagramEventHandlers);
@@ -65,6 +71,7 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
         this.representationDescriptionSearchService = Objects.requireNonNull(configuration.getRepresentationDescriptionSearchService());
         this.representationRefreshPolicyRegistry = Objects.requireNonNull(configuration.getRepresentationRefreshPolicyRegistry());
         this.diagramInputReferencePositionProviders = Objects.requireNonNull(diagramInputReferencePositionProviders);
+        this.diagramDeltaComputer = new DiagramDeltaComputer(objectMapper);
     }
 
     @Override
@@ -90,6 +97,8 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
                     .representationPersistenceService(this.representationPersistenceService)
                     .representationSearchService(this.representationSearchService)
                     .diagramInputReferencePositionProviders(this.diagramInputReferencePositionProviders)
+                    .diagramDeltaComputer(this.diagramDeltaComputer)
+                    .diagramRevisionSequence(this.diagramRevisionSequence)
                     .build();
 
             IRepresentationEventProcessor diagramEventProcessor = new DiagramEventProcessor(parameters);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Obeo.
+ * Copyright (c) 2023, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -26,6 +26,8 @@ import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInputRef
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
  * Parameters of the diagram event processor.
  *
@@ -41,7 +43,9 @@ public record DiagramEventProcessorParameters(
         IRepresentationRefreshPolicyRegistry representationRefreshPolicyRegistry,
         IRepresentationPersistenceService representationPersistenceService,
         IRepresentationSearchService representationSearchService,
-        List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders
+        List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders,
+        DiagramDeltaComputer diagramDeltaComputer,
+        DiagramRevisionSequence diagramRevisionSequence
 ) {
 
     public DiagramEventProcessorParameters {
@@ -55,6 +59,8 @@ public record DiagramEventProcessorParameters(
         Objects.requireNonNull(representationPersistenceService);
         Objects.requireNonNull(representationSearchService);
         Objects.requireNonNull(diagramInputReferencePositionProviders);
+        Objects.requireNonNull(diagramDeltaComputer);
+        Objects.requireNonNull(diagramRevisionSequence);
     }
 
     public static Builder newDiagramEventProcessorParameters() {
@@ -90,6 +96,10 @@ public record DiagramEventProcessorParameters(
 
         private List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders;
 
+        private DiagramDeltaComputer diagramDeltaComputer = new DiagramDeltaComputer(new ObjectMapper());
+
+        private DiagramRevisionSequence diagramRevisionSequence = new DiagramRevisionSequence();
+
         private Builder() {
             // Prevent instantiation
         }
@@ -144,6 +154,16 @@ public record DiagramEventProcessorParameters(
             return this;
         }
 
+        public Builder diagramDeltaComputer(DiagramDeltaComputer diagramDeltaComputer) {
+            this.diagramDeltaComputer = Objects.requireNonNull(diagramDeltaComputer);
+            return this;
+        }
+
+        public Builder diagramRevisionSequence(DiagramRevisionSequence diagramRevisionSequence) {
+            this.diagramRevisionSequence = Objects.requireNonNull(diagramRevisionSequence);
+            return this;
+        }
+
         public DiagramEventProcessorParameters build() {
             return new DiagramEventProcessorParameters(
                     this.editingContext,
@@ -155,7 +175,9 @@ public record DiagramEventProcessorParameters(
                     this.representationRefreshPolicyRegistry,
                     this.representationPersistenceService,
                     this.representationSearchService,
-                    this.diagramInputReferencePositionProviders
+                    this.diagramInputReferencePositionProviders,
+                    this.diagramDeltaComputer,
+                    this.diagramRevisionSequence
             );
         }
     }
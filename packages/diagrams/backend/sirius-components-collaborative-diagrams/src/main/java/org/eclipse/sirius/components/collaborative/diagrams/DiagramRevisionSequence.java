@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides the numbers of the revisions of the diagrams sent to the subscribers of the deltas.
+ *
+ * <p>
+ * The sequence is shared by all the diagram event processors so that the revisions of a diagram keep increasing when
+ * its diagram event processor is disposed and created again.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class DiagramRevisionSequence {
+
+    private final AtomicInteger lastRevision = new AtomicInteger();
+
+    /**
+     * Returns the number of a new revision, greater than all the numbers returned before.
+     *
+     * @return The number of the new revision
+     */
+    public int next() {
+        return this.lastRevision.incrementAndGet();
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@ package org.eclipse.sirius.components.collaborative.diagrams.api;
 
 import java.util.Optional;
 
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
@@ -55,6 +56,25 @@ public interface IDiagramCreationService {
      */
     Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext);
 
+    /**
+     * Refresh an existing diagram after a change.
+     *
+     * <p>
+     * The change description may be used to only evaluate again the parts of the diagram impacted by the change.
+     * </p>
+     *
+     * @param editingContext
+     *            The editing context
+     * @param diagramContext
+     *            The diagram context
+     * @param changeDescription
+     *            The change description which has triggered the refresh
+     * @return An updated diagram if we have been able to refresh it.
+     */
+    default Optional<Diagram> refresh(IEditingContext editingContext, IDiagramContext diagramContext, ChangeDescription changeDescription) {
+        return this.refresh(editingContext, diagramContext);
+    }
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.api;
+
+import java.util.Optional;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.diagrams.components.DiagramDirtyRegion;
+
+/**
+ * Used to find the semantic elements modified by the input which has triggered the refresh of a diagram.
+ *
+ * <p>
+ * An empty optional must be returned if the changes are unknown or if they may have an impact on the structure of the
+ * diagram, for example if semantic elements have been created, deleted or moved or if references have been modified.
+ * The diagram will then be completely rendered again.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public interface IDiagramDirtyRegionProvider {
+
+    Optional<DiagramDirtyRegion> getDirtyRegion(IEditingContext editingContext, ChangeDescription changeDescription);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author sbegaudeau
+     */
+    class NoOp implements IDiagramDirtyRegionProvider {
+
+        @Override
+        public Optional<DiagramDirtyRegion> getDirtyRegion(IEditingContext editingContext, ChangeDescription changeDescription) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.layoutdata.EdgeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+
+/**
+ * The differences between two revisions of a diagram, the elements are identified by their id.
+ *
+ * @author sbegaudeau
+ */
+public record DiagramDelta(
+        String diagramId,
+        List<NodeDelta> addedNodes,
+        List<NodeDelta> changedNodes,
+        List<String> removedNodeIds,
+        List<Edge> addedEdges,
+        List<Edge> changedEdges,
+        List<String> removedEdgeIds,
+        List<NodeLayoutData> changedNodeLayoutData,
+        List<String> removedNodeLayoutDataIds,
+        List<EdgeLayoutData> changedEdgeLayoutData,
+        List<String> removedEdgeLayoutDataIds
+) {
+
+    public DiagramDelta {
+        Objects.requireNonNull(diagramId);
+        Objects.requireNonNull(addedNodes);
+        Objects.requireNonNull(changedNodes);
+        Objects.requireNonNull(removedNodeIds);
+        Objects.requireNonNull(addedEdges);
+        Objects.requireNonNull(changedEdges);
+        Objects.requireNonNull(removedEdgeIds);
+        Objects.requireNonNull(changedNodeLayoutData);
+        Objects.requireNonNull(removedNodeLayoutDataIds);
+        Objects.requireNonNull(changedEdgeLayoutData);
+        Objects.requireNonNull(removedEdgeLayoutDataIds);
+    }
+
+    /**
+     * Returns the number of elements described by this delta.
+     *
+     * @return The number of elements added, changed or removed
+     */
+    public int size() {
+        return this.addedNodes.size() + this.changedNodes.size() + this.removedNodeIds.size()
+                + this.addedEdges.size() + this.changedEdges.size() + this.removedEdgeIds.size()
+                + this.changedNodeLayoutData.size() + this.removedNodeLayoutDataIds.size()
+                + this.changedEdgeLayoutData.size() + this.removedEdgeLayoutDataIds.size();
+    }
+}
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IInput;
+
+/**
+ * The input of the diagram delta event subscription.
+ *
+ * <p>
+ * The subscribers first receive the complete diagram and then only the differences between two revisions of the
+ * diagram.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record DiagramDeltaEventInput(UUID id, String editingContextId, String diagramId) implements IInput {
+}
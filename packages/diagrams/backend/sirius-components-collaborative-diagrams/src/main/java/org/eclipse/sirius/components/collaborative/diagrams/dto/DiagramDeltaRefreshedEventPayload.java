@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+
+/**
+ * Payload used to indicate that the diagram has been refreshed, it only contains the differences with the previous
+ * revision of the diagram.
+ *
+ * <p>
+ * Subscribers must only apply the delta on top of the revision identified by the previous revision, they should
+ * subscribe again to receive a new snapshot of the diagram otherwise.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record DiagramDeltaRefreshedEventPayload(UUID id, int revision, int previousRevision, DiagramDelta delta, String cause, ReferencePosition referencePosition) implements IPayload {
+
+    public DiagramDeltaRefreshedEventPayload {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(delta);
+        Objects.requireNonNull(cause);
+    }
+}
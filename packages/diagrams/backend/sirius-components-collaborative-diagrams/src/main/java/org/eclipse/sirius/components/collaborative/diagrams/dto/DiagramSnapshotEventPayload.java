@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.diagrams.Diagram;
+
+/**
+ * Payload used to send the complete diagram to the subscribers of the deltas of a diagram.
+ *
+ * <p>
+ * It is sent when the subscription starts and every time the subscribers should resynchronize, for example when the
+ * delta would be bigger than the diagram itself.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record DiagramSnapshotEventPayload(UUID id, int revision, Diagram diagram, String cause, ReferencePosition referencePosition) implements IPayload {
+
+    public DiagramSnapshotEventPayload {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(diagram);
+        Objects.requireNonNull(cause);
+    }
+}
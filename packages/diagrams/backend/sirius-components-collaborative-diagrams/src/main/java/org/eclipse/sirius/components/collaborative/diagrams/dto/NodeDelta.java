@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.diagrams.Node;
+
+/**
+ * A node added to or changed in a diagram.
+ *
+ * @param parentId
+ *         The id of the parent node or <code>null</code> if the node is at the root of the diagram
+ * @param index
+ *         The index of the node among the child nodes, or the border nodes, of its parent
+ * @param node
+ *         The node, its child nodes and border nodes are described by their own deltas
+ *
+ * @author sbegaudeau
+ */
+public record NodeDelta(String parentId, int index, Node node) {
+
+    public NodeDelta {
+        Objects.requireNonNull(node);
+    }
+}
@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
+
+/**
+ * Input used to send a new snapshot of the diagram to the subscribers of its deltas.
+ *
+ * <p>
+ * It is used by a subscriber which has received a delta which does not apply on its revision of the diagram.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record ResyncDiagramDeltaInput(UUID id, String editingContextId, String representationId) implements IDiagramInput {
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import java.util.Optional;
 
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IReadOnlyEventHandler;
 import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IConnectorToolsProvider;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
@@ -49,7 +50,7 @@ import reactor.core.publisher.Sinks.One;
  * @author nvannier
  */
 @Service
-public class GetConnectorToolsEventHandler implements IDiagramEventHandler {
+public class GetConnectorToolsEventHandler implements IDiagramEventHandler, IReadOnlyEventHandler {
 
     private final IRepresentationDescriptionSearchService representationDescriptionSearchService;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import java.util.Optional;
 
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IReadOnlyEventHandler;
 import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHandler;
@@ -46,7 +47,7 @@ import reactor.core.publisher.Sinks.One;
  * @author gcoutable
  */
 @Service
-public class InitialDirectEditElementLabelEventHandler implements IDiagramEventHandler {
+public class InitialDirectEditElementLabelEventHandler implements IDiagramEventHandler, IReadOnlyEventHandler {
 
     private final IRepresentationDescriptionSearchService representationDescriptionSearchService;
 
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDelta;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.NodeDelta;
+import org.eclipse.sirius.components.collaborative.diagrams.handlers.TestDiagramBuilder;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.InsideLabel;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests of the diagram delta computer.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramDeltaComputerTests {
+
+    private static final String PARENT_ID = "parent";
+
+    private static final String FIRST_ID = "first";
+
+    private static final String LABEL = "label";
+
+    private final DiagramDeltaComputer diagramDeltaComputer = new DiagramDeltaComputer(new ObjectMapper());
+
+    private final TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+
+    private final Map<String, Node> nodes = new HashMap<>();
+
+    @Test
+    public void givenTheSameDiagramWhenTheDeltaIsComputedThenItIsEmpty() {
+        var diagram = this.getDiagram(this.getNode(PARENT_ID, LABEL, List.of(this.getNode("child", LABEL, List.of()))));
+
+        var state = this.diagramDeltaComputer.createState(diagram);
+        DiagramDelta delta = this.diagramDeltaComputer.computeDelta(state, this.diagramDeltaComputer.createState(diagram));
+
+        assertThat(state.size()).isEqualTo(2);
+        assertThat(delta.size()).isZero();
+    }
+
+    @Test
+    public void givenAModifiedDiagramWhenTheDeltaIsComputedThenOnlyTheModifiedNodesAreDescribed() {
+        var previousDiagram = this.getDiagram(this.getNode(PARENT_ID, LABEL, List.of(
+                this.getNode(FIRST_ID, LABEL, List.of()),
+                this.getNode("second", LABEL, List.of())
+        )));
+        var newDiagram = this.getDiagram(this.getNode(PARENT_ID, LABEL, List.of(
+                this.getNode(FIRST_ID, "new label", List.of()),
+                this.getNode("third", LABEL, List.of())
+        )));
+
+        DiagramDelta delta = this.diagramDeltaComputer.computeDelta(this.diagramDeltaComputer.createState(previousDiagram), this.diagramDeltaComputer.createState(newDiagram));
+
+        assertThat(delta.addedNodes()).hasSize(1);
+        NodeDelta addedNode = delta.addedNodes().get(0);
+        assertThat(addedNode.parentId()).isEqualTo(PARENT_ID);
+        assertThat(addedNode.index()).isEqualTo(1);
+        assertThat(addedNode.node().getId()).isEqualTo("third");
+
+        assertThat(delta.changedNodes()).hasSize(1);
+        NodeDelta changedNode = delta.changedNodes().get(0);
+        assertThat(changedNode.node().getId()).isEqualTo(FIRST_ID);
+        assertThat(changedNode.node().getInsideLabel().getText()).isEqualTo("new label");
+        assertThat(changedNode.node().getChildNodes()).isEmpty();
+
+        assertThat(delta.removedNodeIds()).containsExactly("second");
+        assertThat(delta.addedEdges()).isEmpty();
+        assertThat(delta.changedEdges()).isEmpty();
+        assertThat(delta.removedEdgeIds()).isEmpty();
+    }
+
+    private Diagram getDiagram(Node node) {
+        return Diagram.newDiagram(this.testDiagramBuilder.getDiagram("diagram"))
+                .nodes(List.of(node))
+                .build();
+    }
+
+    private Node getNode(String id, String label, List<Node> childNodes) {
+        var node = this.nodes.computeIfAbsent(id, nodeId -> this.testDiagramBuilder.getNode(nodeId, true));
+        var insideLabel = InsideLabel.newInsideLabel(node.getInsideLabel())
+                .text(label)
+                .build();
+        return Node.newNode(node)
+                .insideLabel(insideLabel)
+                .childNodes(childNodes)
+                .build();
+    }
+}
@@ -12,8 +12,13 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.diagrams;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
@@ -23,19 +28,25 @@ import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPol
 import org.eclipse.sirius.components.collaborative.api.IRepresentationSearchService;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramContext;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramCreationService;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDeltaEventInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramEventInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramSnapshotEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.ResyncDiagramDeltaInput;
 import org.eclipse.sirius.components.collaborative.diagrams.handlers.TestDiagramBuilder;
 import org.eclipse.sirius.components.collaborative.representations.SubscriptionManager;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
 import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.InsideLabel;
 import org.eclipse.sirius.components.diagrams.Node;
 import org.junit.jupiter.api.Test;
 
+import reactor.core.publisher.Sinks;
+import reactor.core.publisher.Sinks.One;
 import reactor.test.StepVerifier;
 
 /**
@@ -132,6 +143,79 @@ public class DiagramEventProcessorTests {
                 .verify();
     }
 
+    @Test
+    public void givenADiagramRefreshedWhileTheDeltaSubscriptionStartsWhenTheSnapshotIsSentThenTheRefreshIsStillSent() {
+        DiagramDeltaEventInput input = new DiagramDeltaEventInput(UUID.randomUUID(), UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        DiagramEventProcessor diagramEventProcessor = this.createDiagramEventProcessor();
+
+        // The refresh is performed while the snapshot is being sent to the subscriber
+        AtomicBoolean hasBeenRefreshed = new AtomicBoolean();
+        var diagramEvents = diagramEventProcessor.getOutputEvents(input).doOnNext(payload -> {
+            if (hasBeenRefreshed.compareAndSet(false, true)) {
+                diagramEventProcessor.refresh(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, input.diagramId(), input));
+            }
+        });
+
+        AtomicInteger snapshotRevision = new AtomicInteger();
+        StepVerifier.create(diagramEvents)
+                .expectNextMatches(payload -> payload instanceof DiagramSnapshotEventPayload snapshot && this.hasLabel(snapshot.diagram(), 1) && this.setRevision(snapshotRevision, snapshot.revision()))
+                .expectNextMatches(payload -> payload instanceof DiagramSnapshotEventPayload snapshot && this.hasLabel(snapshot.diagram(), 2) && snapshot.revision() > snapshotRevision.get())
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void givenADeltaSubscriberWhenAResynchronizationIsRequestedThenANewSnapshotIsSent() {
+        DiagramDeltaEventInput input = new DiagramDeltaEventInput(UUID.randomUUID(), UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        DiagramEventProcessor diagramEventProcessor = this.createDiagramEventProcessor();
+
+        var resyncInput = new ResyncDiagramDeltaInput(UUID.randomUUID(), input.editingContextId(), input.diagramId());
+        assertThat(diagramEventProcessor.isReadOnly(resyncInput)).isTrue();
+
+        One<IPayload> payloadSink = Sinks.one();
+        Runnable requestResync = () -> diagramEventProcessor.handle(payloadSink, Sinks.many().unicast().onBackpressureBuffer(), resyncInput);
+
+        AtomicInteger snapshotRevision = new AtomicInteger();
+        StepVerifier.create(diagramEventProcessor.getOutputEvents(input))
+                .expectNextMatches(payload -> payload instanceof DiagramSnapshotEventPayload snapshot && this.setRevision(snapshotRevision, snapshot.revision()))
+                .then(requestResync)
+                .expectNextMatches(payload -> payload instanceof DiagramSnapshotEventPayload snapshot && snapshot.id().equals(resyncInput.id()) && snapshot.revision() == snapshotRevision.get())
+                .thenCancel()
+                .verify();
+
+        StepVerifier.create(payloadSink.asMono())
+                .expectNextMatches(SuccessPayload.class::isInstance)
+                .verifyComplete();
+    }
+
+    @Test
+    public void givenADiagramEventProcessorCreatedAgainWhenTheDeltasAreSubscribedThenTheRevisionsKeepIncreasing() {
+        DiagramDeltaEventInput input = new DiagramDeltaEventInput(UUID.randomUUID(), UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        var diagramRevisionSequence = new DiagramRevisionSequence();
+
+        DiagramEventProcessor diagramEventProcessor = this.createDiagramEventProcessor(diagramRevisionSequence);
+        AtomicInteger snapshotRevision = new AtomicInteger();
+        StepVerifier.create(diagramEventProcessor.getOutputEvents(input))
+                .expectNextMatches(payload -> payload instanceof DiagramSnapshotEventPayload snapshot && this.setRevision(snapshotRevision, snapshot.revision()))
+                .thenCancel()
+                .verify();
+        diagramEventProcessor.dispose();
+
+        StepVerifier.create(this.createDiagramEventProcessor(diagramRevisionSequence).getOutputEvents(input))
+                .expectNextMatches(payload -> payload instanceof DiagramSnapshotEventPayload snapshot && snapshot.revision() > snapshotRevision.get())
+                .thenCancel()
+                .verify();
+    }
+
+    private boolean hasLabel(Diagram diagram, int count) {
+        return diagram.getNodes().get(0).getInsideLabel().getText().equals(String.valueOf(count));
+    }
+
+    private boolean setRevision(AtomicInteger revision, int newRevision) {
+        revision.set(newRevision);
+        return true;
+    }
+
     @Test
     public void testCompleteOnDispose() {
         DiagramEventInput input = new DiagramEventInput(UUID.randomUUID(), UUID.randomUUID().toString(), UUID.randomUUID().toString());
@@ -147,6 +231,10 @@ public class DiagramEventProcessorTests {
     }
 
     private DiagramEventProcessor createDiagramEventProcessor() {
+        return this.createDiagramEventProcessor(new DiagramRevisionSequence());
+    }
+
+    private DiagramEventProcessor createDiagramEventProcessor(DiagramRevisionSequence diagramRevisionSequence) {
         var parameters = DiagramEventProcessorParameters.newDiagramEventProcessorParameters()
                 .editingContext(new IEditingContext.NoOp())
                 .diagramContext(this.diagramContext)
@@ -158,6 +246,7 @@ public class DiagramEventProcessorTests {
                 .representationSearchService(new IRepresentationSearchService.NoOp())
                 .representationPersistenceService(new IRepresentationPersistenceService.NoOp())
                 .diagramInputReferencePositionProviders(List.of())
+                .diagramRevisionSequence(diagramRevisionSequence)
                 .build();
         return new DiagramEventProcessor(parameters);
     }
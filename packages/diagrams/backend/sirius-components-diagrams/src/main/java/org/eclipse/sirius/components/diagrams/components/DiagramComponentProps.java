@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo and others.
+ * Copyright (c) 2019, 2025 Obeo and others.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -52,6 +52,8 @@ public final class DiagramComponentProps implements IProps {
 
     private List<IDiagramEvent> diagramEvents;
 
+    private Optional<DiagramDirtyRegion> dirtyRegion;
+
     private DiagramComponentProps() {
         // Prevent instantiation
     }
@@ -88,6 +90,10 @@ public final class DiagramComponentProps implements IProps {
         return this.diagramEvents;
     }
 
+    public Optional<DiagramDirtyRegion> getDirtyRegion() {
+        return this.dirtyRegion;
+    }
+
     public static Builder newDiagramComponentProps() {
         return new Builder();
     }
@@ -115,6 +121,8 @@ public final class DiagramComponentProps implements IProps {
 
         private List<IDiagramEvent> diagramEvents;
 
+        private Optional<DiagramDirtyRegion> dirtyRegion = Optional.empty();
+
         public Builder variableManager(VariableManager variableManager) {
             this.variableManager = Objects.requireNonNull(variableManager);
             return this;
@@ -155,6 +163,11 @@ public final class DiagramComponentProps implements IProps {
             return this;
         }
 
+        public Builder dirtyRegion(Optional<DiagramDirtyRegion> dirtyRegion) {
+            this.dirtyRegion = Objects.requireNonNull(dirtyRegion);
+            return this;
+        }
+
         public DiagramComponentProps build() {
             DiagramComponentProps diagramComponentProps = new DiagramComponentProps();
             diagramComponentProps.variableManager = Objects.requireNonNull(this.variableManager);
@@ -165,6 +178,7 @@ public final class DiagramComponentProps implements IProps {
             diagramComponentProps.viewCreationRequests = List.copyOf(Objects.requireNonNull(this.viewCreationRequests));
             diagramComponentProps.viewDeletionRequests = List.copyOf(Objects.requireNonNull(this.viewDeletionRequests));
             diagramComponentProps.diagramEvents = Objects.requireNonNull(this.diagramEvents);
+            diagramComponentProps.dirtyRegion = Objects.requireNonNull(this.dirtyRegion);
             return diagramComponentProps;
         }
     }
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.components;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The semantic elements modified since the previous render of a diagram.
+ *
+ * <p>
+ * It is used to render a diagram incrementally. The semantic candidates and the preconditions are always evaluated in
+ * order to keep the structure of the diagram up to date but the type, the style and the labels of the nodes and edges
+ * whose semantic elements are not dirty are reused from the previous diagram instead of being evaluated again.
+ * </p>
+ *
+ * @param dirtySemanticElements
+ *         The semantic elements which have been modified
+ * @author sbegaudeau
+ */
+public record DiagramDirtyRegion(Set<Object> dirtySemanticElements) {
+
+    public DiagramDirtyRegion {
+        Objects.requireNonNull(dirtySemanticElements);
+    }
+
+    /**
+     * Indicates if all the given semantic elements are left untouched by the changes.
+     *
+     * @param semanticElements
+     *         The semantic elements used to render a diagram element
+     * @return <code>true</code> if none of the given semantic elements is dirty, <code>false</code> otherwise
+     */
+    public boolean isClean(Object... semanticElements) {
+        for (Object semanticElement : semanticElements) {
+            if (semanticElement == null || this.dirtySemanticElements.contains(semanticElement)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -23,9 +23,11 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.eclipse.sirius.components.diagrams.Edge;
 import org.eclipse.sirius.components.diagrams.EdgeStyle;
+import org.eclipse.sirius.components.diagrams.Label;
 import org.eclipse.sirius.components.diagrams.ViewModifier;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
@@ -34,6 +36,7 @@ import org.eclipse.sirius.components.diagrams.description.NodeDescription;
 import org.eclipse.sirius.components.diagrams.description.SynchronizationPolicy;
 import org.eclipse.sirius.components.diagrams.elements.EdgeElementProps;
 import org.eclipse.sirius.components.diagrams.elements.EdgeElementProps.Builder;
+import org.eclipse.sirius.components.diagrams.elements.LabelElementProps;
 import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
 import org.eclipse.sirius.components.diagrams.events.FadeDiagramElementEvent;
 import org.eclipse.sirius.components.diagrams.events.HideDiagramElementEvent;
@@ -117,7 +120,7 @@ public class EdgeComponent implements IComponent {
                     edgeInstanceVariableManager.put(EdgeDescription.GRAPHICAL_EDGE_SOURCE, sourceNode);
                     edgeInstanceVariableManager.put(EdgeDescription.GRAPHICAL_EDGE_TARGET, targetNode);
 
-                    this.props.getOperationValidator().validate("Edge#precondition", edgeInstanceVariableManager.getVariables());
+                    this.props.getOperationValidator().validate("Edge#precondition", edgeInstanceVariableManager.asMap());
                     var shouldRender = edgeDescription.getShouldRenderPredicate().test(edgeInstanceVariableManager);
                     if (shouldRender) {
                         this.doRenderEdge(edgeInstanceVariableManager, edgeDescription, sourceNode, targetNode, diagramEvents, edgeIdPrefixToCount, lastPreviousRenderedEdgeIds)
@@ -132,8 +135,6 @@ public class EdgeComponent implements IComponent {
     private Optional<Element> doRenderEdge(VariableManager edgeVariableManager, EdgeDescription edgeDescription, Element sourceNode, Element targetNode, List<IDiagramEvent> diagramEvents,
             Map<String, Integer> edgeIdPrefixToCount, List<String> lastPreviousRenderedEdgeIds) {
         String targetObjectId = edgeDescription.getTargetObjectIdProvider().apply(edgeVariableManager);
-        String targetObjectKind = edgeDescription.getTargetObjectKindProvider().apply(edgeVariableManager);
-        String targetObjectLabel = edgeDescription.getTargetObjectLabelProvider().apply(edgeVariableManager);
 
         String edgeIdPrefix = this.computeEdgeIdPrefix(edgeDescription, sourceNode, targetNode);
         int count = edgeIdPrefixToCount.getOrDefault(edgeIdPrefix, 0);
@@ -163,13 +164,32 @@ public class EdgeComponent implements IComponent {
         boolean shouldRender = synchronizationPolicy == SynchronizationPolicy.SYNCHRONIZED || (synchronizationPolicy == SynchronizationPolicy.UNSYNCHRONIZED && optionalPreviousEdge.isPresent());
 
         if (shouldRender) {
-            EdgeStyle style = edgeDescription.getStyleProvider().apply(edgeVariableManager);
+            var optionalReusedEdge = optionalPreviousEdge.filter(previousEdge -> this.canReuse(previousEdge, edgeDescription, edgeVariableManager, sourceId, targetId));
+
+            String targetObjectKind;
+            String targetObjectLabel;
+            EdgeStyle style;
+            List<Element> labelChildren;
+            if (optionalReusedEdge.isPresent()) {
+                Edge reusedEdge = optionalReusedEdge.get();
+                targetObjectKind = reusedEdge.getTargetObjectKind();
+                targetObjectLabel = reusedEdge.getTargetObjectLabel();
+                style = reusedEdge.getStyle();
+                labelChildren = Stream.of(reusedEdge.getBeginLabel(), reusedEdge.getCenterLabel(), reusedEdge.getEndLabel())
+                        .filter(Objects::nonNull)
+                        .map(this::getLabelElement)
+                        .toList();
+            } else {
+                targetObjectKind = edgeDescription.getTargetObjectKindProvider().apply(edgeVariableManager);
+                targetObjectLabel = edgeDescription.getTargetObjectLabelProvider().apply(edgeVariableManager);
+                style = edgeDescription.getStyleProvider().apply(edgeVariableManager);
+                labelChildren = this.getLabelsChildren(edgeDescription, edgeVariableManager, id);
+            }
 
             String edgeType = optionalPreviousEdge
                     .map(Edge::getType)
                     .orElse("edge:straight");
 
-            List<Element> labelChildren = this.getLabelsChildren(edgeDescription, edgeVariableManager, id);
             EdgeElementProps edgeElementProps = edgeElementPropsBuilder
                     .type(edgeType)
                     .descriptionId(edgeDescription.getId())
@@ -384,6 +404,35 @@ public class EdgeComponent implements IComponent {
         return this.props.getEdgesRequestor().getById(potentialPreviousEdgeId);
     }
 
+    /**
+     * Indicates if the style and the labels of the previous edge can be reused instead of being evaluated again. It is
+     * only the case during an incremental render if the semantic elements of the edge, of its source and of its target
+     * have not been modified and if the edge is still connected to the same nodes.
+     */
+    private boolean canReuse(Edge previousEdge, EdgeDescription edgeDescription, VariableManager edgeVariableManager, String sourceId, String targetId) {
+        Object semanticElement = edgeVariableManager.get(VariableManager.SELF, Object.class).orElse(null);
+        Object semanticSource = edgeVariableManager.get(EdgeDescription.SEMANTIC_EDGE_SOURCE, Object.class).orElse(null);
+        Object semanticTarget = edgeVariableManager.get(EdgeDescription.SEMANTIC_EDGE_TARGET, Object.class).orElse(null);
+        boolean isClean = this.props.getDirtyRegion()
+                .map(dirtyRegion -> dirtyRegion.isClean(semanticElement, semanticSource, semanticTarget))
+                .orElse(false);
+
+        boolean hasSameLabels = (edgeDescription.getBeginLabelDescription() == null) == (previousEdge.getBeginLabel() == null)
+                && (edgeDescription.getCenterLabelDescription() == null) == (previousEdge.getCenterLabel() == null)
+                && (edgeDescription.getEndLabelDescription() == null) == (previousEdge.getEndLabel() == null);
+
+        return isClean && hasSameLabels && previousEdge.getSourceId().equals(sourceId) && previousEdge.getTargetId().equals(targetId);
+    }
+
+    private Element getLabelElement(Label label) {
+        LabelElementProps labelElementProps = LabelElementProps.newLabelElementProps(label.getId())
+                .type(label.getType())
+                .text(label.getText())
+                .style(label.getStyle())
+                .build();
+        return new Element(LabelElementProps.TYPE, labelElementProps);
+    }
+
     private List<Element> getLabelsChildren(EdgeDescription edgeDescription, VariableManager edgeVariableManager, String edgeId) {
         List<Element> edgeChildren = new ArrayList<>();
 
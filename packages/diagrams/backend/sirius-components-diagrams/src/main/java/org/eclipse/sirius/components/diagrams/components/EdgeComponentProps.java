@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo and others.
+ * Copyright (c) 2019, 2025 Obeo and others.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@ package org.eclipse.sirius.components.diagrams.components;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.components.diagrams.description.EdgeDescription;
 import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
@@ -41,13 +42,17 @@ public class EdgeComponentProps implements IProps {
 
     private final List<IDiagramEvent> diagramEvents;
 
-    public EdgeComponentProps(VariableManager variableManager, EdgeDescription edgeDescription, IEdgesRequestor edgesRequestor, DiagramRenderingCache cache, IOperationValidator operationValidator, List<IDiagramEvent> diagramEvents) {
+    private final Optional<DiagramDirtyRegion> dirtyRegion;
+
+    public EdgeComponentProps(VariableManager variableManager, EdgeDescription edgeDescription, IEdgesRequestor edgesRequestor, DiagramRenderingCache cache, IOperationValidator operationValidator, List<IDiagramEvent> diagramEvents,
+            Optional<DiagramDirtyRegion> dirtyRegion) {
         this.variableManager = Objects.requireNonNull(variableManager);
         this.edgeDescription = Objects.requireNonNull(edgeDescription);
         this.edgesRequestor = Objects.requireNonNull(edgesRequestor);
         this.cache = Objects.requireNonNull(cache);
         this.operationValidator = Objects.requireNonNull(operationValidator);
         this.diagramEvents = Objects.requireNonNull(diagramEvents);
+        this.dirtyRegion = Objects.requireNonNull(dirtyRegion);
     }
 
     public VariableManager getVariableManager() {
@@ -73,4 +78,8 @@ public class EdgeComponentProps implements IProps {
     public List<IDiagramEvent> getDiagramEvents() {
         return this.diagramEvents;
     }
+
+    public Optional<DiagramDirtyRegion> getDirtyRegion() {
+        return this.dirtyRegion;
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -17,10 +17,13 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.eclipse.sirius.components.diagrams.InsideLabel;
 import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.sirius.components.diagrams.description.InsideLabelDescription;
 import org.eclipse.sirius.components.diagrams.description.NodeDescription;
 import org.eclipse.sirius.components.diagrams.description.OutsideLabelDescription;
+import org.eclipse.sirius.components.diagrams.elements.InsideLabelElementProps;
+import org.eclipse.sirius.components.diagrams.elements.OutsideLabelElementProps;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
 import org.eclipse.sirius.components.representations.Element;
 import org.eclipse.sirius.components.representations.Fragment;
@@ -60,7 +63,20 @@ public class NodeChildrenComponent implements IComponent {
     private List<Element> getInsideLabel(String nodeId) {
         List<Element> nodeChildren = new ArrayList<>();
         InsideLabelDescription labelDescription = this.props.getNodeComponentProps().getNodeDescription().getInsideLabelDescription();
-        if (labelDescription != null) {
+        var optionalReusedInsideLabel = this.props.getReusedNode().map(Node::getInsideLabel);
+        if (labelDescription != null && optionalReusedInsideLabel.isPresent()) {
+            InsideLabel insideLabel = optionalReusedInsideLabel.get();
+            InsideLabelElementProps insideLabelElementProps = InsideLabelElementProps.newInsideLabelElementProps(insideLabel.getId())
+                    .text(insideLabel.getText())
+                    .insideLabelLocation(insideLabel.getInsideLabelLocation())
+                    .style(insideLabel.getStyle())
+                    .isHeader(insideLabel.isIsHeader())
+                    .headerSeparatorDisplayMode(insideLabel.getHeaderSeparatorDisplayMode())
+                    .overflowStrategy(insideLabel.getOverflowStrategy())
+                    .textAlign(insideLabel.getTextAlign())
+                    .build();
+            nodeChildren.add(new Element(InsideLabelElementProps.TYPE, insideLabelElementProps));
+        } else if (labelDescription != null) {
             this.props.getVariableManager().put(InsideLabelDescription.OWNER_ID, nodeId);
 
             InsideLabelComponentProps insideLabelComponentProps = new InsideLabelComponentProps(this.props.getVariableManager(), labelDescription);
@@ -71,6 +87,22 @@ public class NodeChildrenComponent implements IComponent {
     }
 
     private List<Element> getOutsideLabel(String nodeId) {
+        var outsideLabelDescriptions = this.props.getNodeComponentProps().getNodeDescription().getOutsideLabelDescriptions();
+        var optionalReusedOutsideLabels = this.props.getReusedNode()
+                .map(Node::getOutsideLabels)
+                .filter(outsideLabels -> outsideLabels.size() == outsideLabelDescriptions.size());
+        if (optionalReusedOutsideLabels.isPresent()) {
+            return optionalReusedOutsideLabels.get().stream().map(outsideLabel -> {
+                OutsideLabelElementProps outsideLabelElementProps = OutsideLabelElementProps.newOutsideLabelElementProps(outsideLabel.id())
+                        .text(outsideLabel.text())
+                        .outsideLabelLocation(outsideLabel.outsideLabelLocation())
+                        .style(outsideLabel.style())
+                        .overflowStrategy(outsideLabel.overflowStrategy())
+                        .textAlign(outsideLabel.textAlign())
+                        .build();
+                return new Element(OutsideLabelElementProps.TYPE, outsideLabelElementProps);
+            }).toList();
+        }
 
         return this.props.getNodeComponentProps().getNodeDescription().getOutsideLabelDescriptions().stream().map(outsideLabelDescription -> {
             this.props.getVariableManager().put(OutsideLabelDescription.OWNER_ID, nodeId);
@@ -110,6 +142,7 @@ public class NodeChildrenComponent implements IComponent {
                     .diagramEvents(this.props.getNodeComponentProps().getDiagramEvents())
                     .parentElementState(this.props.getState())
                     .operationValidator(this.props.getNodeComponentProps().getOperationValidator())
+                    .dirtyRegion(this.props.getNodeComponentProps().getDirtyRegion())
                     .build();
             return new Element(NodeComponent.class, nodeComponentProps);
         }).toList();
@@ -144,6 +177,7 @@ public class NodeChildrenComponent implements IComponent {
                     .diagramEvents(this.props.getNodeComponentProps().getDiagramEvents())
                     .parentElementState(this.props.getParentState())
                     .operationValidator(this.props.getNodeComponentProps().getOperationValidator())
+                    .dirtyRegion(this.props.getNodeComponentProps().getDirtyRegion())
                     .build();
 
             return new Element(NodeComponent.class, nodeComponentProps);
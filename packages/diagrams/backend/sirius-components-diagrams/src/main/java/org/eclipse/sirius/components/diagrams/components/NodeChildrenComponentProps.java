@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,8 +13,10 @@
 package org.eclipse.sirius.components.diagrams.components;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.components.annotations.Immutable;
+import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.sirius.components.diagrams.ViewModifier;
 import org.eclipse.sirius.components.representations.IProps;
 import org.eclipse.sirius.components.representations.VariableManager;
@@ -35,6 +37,8 @@ public final class NodeChildrenComponentProps implements IProps {
 
     private NodeComponentProps nodeComponentProps;
 
+    private Optional<Node> reusedNode;
+
     private NodeChildrenComponentProps() {
         // Prevent initialisation
     }
@@ -59,6 +63,10 @@ public final class NodeChildrenComponentProps implements IProps {
         return this.nodeComponentProps;
     }
 
+    public Optional<Node> getReusedNode() {
+        return this.reusedNode;
+    }
+
     /**
      * The builder of the node children component props.
      *
@@ -75,6 +83,8 @@ public final class NodeChildrenComponentProps implements IProps {
 
         private NodeComponentProps nodeComponentProps;
 
+        private Optional<Node> reusedNode = Optional.empty();
+
         public Builder variableManager(VariableManager variableManager) {
             this.variableManager = Objects.requireNonNull(variableManager);
             return this;
@@ -95,12 +105,18 @@ public final class NodeChildrenComponentProps implements IProps {
             return this;
         }
 
+        public Builder reusedNode(Optional<Node> reusedNode) {
+            this.reusedNode = Objects.requireNonNull(reusedNode);
+            return this;
+        }
+
         public NodeChildrenComponentProps build() {
             NodeChildrenComponentProps nodeChildrenComponentProps = new NodeChildrenComponentProps();
             nodeChildrenComponentProps.variableManager = Objects.requireNonNull(this.variableManager);
             nodeChildrenComponentProps.state = Objects.requireNonNull(this.state);
             nodeChildrenComponentProps.parentState = Objects.requireNonNull(this.parentState);
             nodeChildrenComponentProps.nodeComponentProps = Objects.requireNonNull(this.nodeComponentProps);
+            nodeChildrenComponentProps.reusedNode = Objects.requireNonNull(this.reusedNode);
             return nodeChildrenComponentProps;
         }
 
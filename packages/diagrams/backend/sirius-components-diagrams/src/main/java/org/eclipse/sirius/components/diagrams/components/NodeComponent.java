@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 import org.eclipse.sirius.components.diagrams.CollapsingState;
 import org.eclipse.sirius.components.diagrams.ILayoutStrategy;
@@ -84,7 +86,7 @@ public class NodeComponent implements IComponent {
         }
 
         List<Element> children = new ArrayList<>();
-        this.props.getOperationValidator().validate("Node#semanticCandidates", nodeComponentVariableManager.getVariables());
+        this.props.getOperationValidator().validate("Node#semanticCandidates", nodeComponentVariableManager.asMap());
         List<?> semanticElements = nodeDescription.getSemanticElementsProvider().apply(nodeComponentVariableManager);
 
         for (Object semanticElement : semanticElements) {
@@ -150,25 +152,44 @@ public class NodeComponent implements IComponent {
 
         String nodeId = optionalPreviousNode.map(Node::getId).orElseGet(() -> this.computeNodeId(targetObjectId));
 
-        Set<ViewModifier> defaultModifiers = this.computeDefaultModifiers(nodeDescription, nodeVariableManager);
-        Set<ViewModifier> modifiers = this.computeModifiers(diagramEvents, optionalPreviousNode, nodeId, defaultModifiers);
+        Supplier<Set<ViewModifier>> defaultModifiersSupplier = () -> this.computeDefaultModifiers(nodeDescription, nodeVariableManager);
+        Set<ViewModifier> modifiers = this.computeModifiers(diagramEvents, optionalPreviousNode, nodeId, defaultModifiersSupplier);
         ViewModifier state = this.computeState(modifiers);
 
         boolean isPinned = this.isPinned(diagramEvents, nodeId, optionalPreviousNode);
-        boolean isCollapsedByDefault = nodeDescription.getIsCollapsedByDefaultPredicate().test(nodeVariableManager);
-        CollapsingState collapsingState = this.computeCollapsingState(nodeId, optionalPreviousNode, diagramEvents, isCollapsedByDefault);
+        BooleanSupplier isCollapsedByDefaultSupplier = () -> nodeDescription.getIsCollapsedByDefaultPredicate().test(nodeVariableManager);
+        CollapsingState collapsingState = this.computeCollapsingState(nodeId, optionalPreviousNode, diagramEvents, isCollapsedByDefaultSupplier);
 
         nodeVariableManager.put(NodeComponent.COLLAPSING_STATE, collapsingState);
         nodeVariableManager.put(NodeComponent.IS_BORDER_NODE, isBorderNode);
 
-        String type = nodeDescription.getTypeProvider().apply(nodeVariableManager);
-        String targetObjectKind = nodeDescription.getTargetObjectKindProvider().apply(nodeVariableManager);
-        String targetObjectLabel = nodeDescription.getTargetObjectLabelProvider().apply(nodeVariableManager);
-
-        INodeStyle style = nodeDescription.getStyleProvider().apply(nodeVariableManager);
-
-        ILayoutStrategy layoutStrategy = nodeDescription.getChildrenLayoutStrategyProvider().apply(nodeVariableManager);
-
+        var optionalReusedNode = optionalPreviousNode.filter(previousNode -> this.canReuse(previousNode, nodeVariableManager, collapsingState));
+
+        String type;
+        String targetObjectKind;
+        String targetObjectLabel;
+        INodeStyle style;
+        ILayoutStrategy layoutStrategy;
+        Integer defaultWidth;
+        Integer defaultHeight;
+        if (optionalReusedNode.isPresent()) {
+            Node reusedNode = optionalReusedNode.get();
+            type = reusedNode.getType();
+            targetObjectKind = reusedNode.getTargetObjectKind();
+            targetObjectLabel = reusedNode.getTargetObjectLabel();
+            style = reusedNode.getStyle();
+            layoutStrategy = reusedNode.getChildrenLayoutStrategy();
+            defaultWidth = reusedNode.getDefaultWidth();
+            defaultHeight = reusedNode.getDefaultHeight();
+        } else {
+            type = nodeDescription.getTypeProvider().apply(nodeVariableManager);
+            targetObjectKind = nodeDescription.getTargetObjectKindProvider().apply(nodeVariableManager);
+            targetObjectLabel = nodeDescription.getTargetObjectLabelProvider().apply(nodeVariableManager);
+            style = nodeDescription.getStyleProvider().apply(nodeVariableManager);
+            layoutStrategy = nodeDescription.getChildrenLayoutStrategyProvider().apply(nodeVariableManager);
+            defaultWidth = nodeDescription.getDefaultWidthProvider().apply(nodeVariableManager);
+            defaultHeight = nodeDescription.getDefaultHeightProvider().apply(nodeVariableManager);
+        }
 
         var parentState = state;
         if (collapsingState == CollapsingState.COLLAPSED) {
@@ -180,12 +201,10 @@ public class NodeComponent implements IComponent {
                 .variableManager(nodeVariableManager)
                 .parentState(parentState)
                 .state(state)
+                .reusedNode(optionalReusedNode)
                 .build();
         Element nodeChildren = new Element(NodeChildrenComponent.class, nodeChildrenComponentProps);
 
-        Integer defaultWidth = nodeDescription.getDefaultWidthProvider().apply(nodeVariableManager);
-        Integer defaultHeight = nodeDescription.getDefaultHeightProvider().apply(nodeVariableManager);
-
         Builder nodeElementPropsBuilder = NodeElementProps.newNodeElementProps(nodeId)
                 .type(type)
                 .targetObjectId(targetObjectId)
@@ -210,13 +229,26 @@ public class NodeComponent implements IComponent {
         return new Element(NodeElementProps.TYPE, nodeElementPropsBuilder.build());
     }
 
-    private CollapsingState computeCollapsingState(String nodeId, Optional<Node> optionalPreviousNode, List<IDiagramEvent> diagramEvents, boolean isCollapsedByDefault) {
+    /**
+     * Indicates if the type, the style and the labels of the previous node can be reused instead of being evaluated
+     * again. It is only the case during an incremental render if the semantic element of the node has not been
+     * modified and if the variables used to evaluate them have not changed.
+     */
+    private boolean canReuse(Node previousNode, VariableManager nodeVariableManager, CollapsingState collapsingState) {
+        Object semanticElement = nodeVariableManager.get(VariableManager.SELF, Object.class).orElse(null);
+        boolean isClean = this.props.getDirtyRegion()
+                .map(dirtyRegion -> dirtyRegion.isClean(semanticElement))
+                .orElse(false);
+        return isClean && previousNode.getCollapsingState() == collapsingState;
+    }
+
+    private CollapsingState computeCollapsingState(String nodeId, Optional<Node> optionalPreviousNode, List<IDiagramEvent> diagramEvents, BooleanSupplier isCollapsedByDefaultSupplier) {
         CollapsingState newCollapsingState = CollapsingState.EXPANDED;
 
         if (optionalPreviousNode.isPresent()) {
             Node previousNode = optionalPreviousNode.get();
             newCollapsingState = previousNode.getCollapsingState();
-        } else if (isCollapsedByDefault) {
+        } else if (isCollapsedByDefaultSupplier.getAsBoolean()) {
             newCollapsingState = CollapsingState.COLLAPSED;
         }
 
@@ -256,11 +288,11 @@ public class NodeComponent implements IComponent {
      *         empty Set
      * @param id
      *         The ID of the current node
-     * @param defaultModifiers
-     *         The default modifiers to use if it is the first render of the node
+     * @param defaultModifiersSupplier
+     *         Computes the default modifiers to use if it is the first render of the node or if they are reset
      */
-    private Set<ViewModifier> computeModifiers(List<IDiagramEvent> diagramEvents, Optional<Node> optionalPreviousNode, String id, Set<ViewModifier> defaultModifiers) {
-        Set<ViewModifier> modifiers = new HashSet<>(optionalPreviousNode.map(Node::getModifiers).orElse(defaultModifiers));
+    private Set<ViewModifier> computeModifiers(List<IDiagramEvent> diagramEvents, Optional<Node> optionalPreviousNode, String id, Supplier<Set<ViewModifier>> defaultModifiersSupplier) {
+        Set<ViewModifier> modifiers = new HashSet<>(optionalPreviousNode.map(Node::getModifiers).orElseGet(defaultModifiersSupplier));
         for (IDiagramEvent diagramEvent : diagramEvents) {
             if (diagramEvent instanceof HideDiagramElementEvent hideDiagramElementEvent) {
                 if (hideDiagramElementEvent.getElementIds().contains(id)) {
@@ -281,7 +313,7 @@ public class NodeComponent implements IComponent {
             } else if (diagramEvent instanceof ResetViewModifiersEvent resetViewModifiersEvent) {
                 if (resetViewModifiersEvent.getElementIds().contains(id)) {
                     modifiers.clear();
-                    modifiers.addAll(defaultModifiers);
+                    modifiers.addAll(defaultModifiersSupplier.get());
                 }
             }
         }
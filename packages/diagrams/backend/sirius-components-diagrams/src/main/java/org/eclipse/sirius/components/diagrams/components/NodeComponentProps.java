@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo and others.
+ * Copyright (c) 2019, 2025 Obeo and others.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@ package org.eclipse.sirius.components.diagrams.components;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.components.annotations.Immutable;
 import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
@@ -60,6 +61,8 @@ public final class NodeComponentProps implements IProps {
 
     private List<IDiagramEvent> diagramEvents;
 
+    private Optional<DiagramDirtyRegion> dirtyRegion;
+
     private NodeComponentProps() {
         // Prevent instantiation
     }
@@ -116,6 +119,10 @@ public final class NodeComponentProps implements IProps {
         return this.operationValidator;
     }
 
+    public Optional<DiagramDirtyRegion> getDirtyRegion() {
+        return this.dirtyRegion;
+    }
+
     public static Builder newNodeComponentProps() {
         return new Builder();
     }
@@ -153,6 +160,8 @@ public final class NodeComponentProps implements IProps {
 
         private List<IDiagramEvent> diagramEvents;
 
+        private Optional<DiagramDirtyRegion> dirtyRegion = Optional.empty();
+
         public Builder variableManager(VariableManager variableManager) {
             this.variableManager = Objects.requireNonNull(variableManager);
             return this;
@@ -218,6 +227,11 @@ public final class NodeComponentProps implements IProps {
             return this;
         }
 
+        public Builder dirtyRegion(Optional<DiagramDirtyRegion> dirtyRegion) {
+            this.dirtyRegion = Objects.requireNonNull(dirtyRegion);
+            return this;
+        }
+
         public NodeComponentProps build() {
             NodeComponentProps nodeComponentProps = new NodeComponentProps();
             nodeComponentProps.variableManager = Objects.requireNonNull(this.variableManager);
@@ -233,6 +247,7 @@ public final class NodeComponentProps implements IProps {
             nodeComponentProps.diagramEvents = Objects.requireNonNull(this.diagramEvents);
             nodeComponentProps.operationValidator = Objects.requireNonNull(this.operationValidator);
             nodeComponentProps.parentElementState = Objects.requireNonNull(this.parentElementState);
+            nodeComponentProps.dirtyRegion = Objects.requireNonNull(this.dirtyRegion);
             return nodeComponentProps;
         }
     }
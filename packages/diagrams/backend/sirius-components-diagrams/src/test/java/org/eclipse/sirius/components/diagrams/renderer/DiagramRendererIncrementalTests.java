@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.components.diagrams.components.DiagramDirtyRegion;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.Failure;
+import org.eclipse.sirius.components.representations.IOperationValidator;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the incremental rendering of the diagrams.
+ *
+ * @author sbegaudeau
+ */
+public class DiagramRendererIncrementalTests {
+
+    private static final String NODE_DESCRIPTION_ID = "nodeDescription";
+
+    private static final String NODE_RECTANGULAR = "node:rectangular";
+
+    private final Object semanticElement = new Object();
+
+    private final AtomicInteger styleEvaluationCount = new AtomicInteger();
+
+    @Test
+    public void testCleanNodeAppearanceIsReused() {
+        DiagramDescription diagramDescription = this.getDiagramDescription();
+
+        Diagram diagram = this.render(diagramDescription, Optional.empty(), Optional.empty());
+        assertThat(this.styleEvaluationCount.get()).isEqualTo(1);
+
+        Diagram refreshedDiagram = this.render(diagramDescription, Optional.of(diagram), Optional.of(new DiagramDirtyRegion(Set.of())));
+        assertThat(this.styleEvaluationCount.get()).isEqualTo(1);
+        assertThat(refreshedDiagram.getNodes()).hasSize(1);
+        assertThat(refreshedDiagram.getNodes().get(0).getId()).isEqualTo(diagram.getNodes().get(0).getId());
+        assertThat(refreshedDiagram.getNodes().get(0).getStyle()).isSameAs(diagram.getNodes().get(0).getStyle());
+        assertThat(refreshedDiagram.getNodes().get(0).getType()).isEqualTo(NODE_RECTANGULAR);
+    }
+
+    @Test
+    public void testDirtyNodeAppearanceIsEvaluatedAgain() {
+        DiagramDescription diagramDescription = this.getDiagramDescription();
+
+        Diagram diagram = this.render(diagramDescription, Optional.empty(), Optional.empty());
+        assertThat(this.styleEvaluationCount.get()).isEqualTo(1);
+
+        this.render(diagramDescription, Optional.of(diagram), Optional.of(new DiagramDirtyRegion(Set.of(this.semanticElement))));
+        assertThat(this.styleEvaluationCount.get()).isEqualTo(2);
+
+        this.render(diagramDescription, Optional.of(diagram), Optional.empty());
+        assertThat(this.styleEvaluationCount.get()).isEqualTo(3);
+    }
+
+    private Diagram render(DiagramDescription diagramDescription, Optional<Diagram> previousDiagram, Optional<DiagramDirtyRegion> dirtyRegion) {
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
+                .variableManager(new VariableManager())
+                .diagramDescription(diagramDescription)
+                .allDiagramDescriptions(List.of(diagramDescription))
+                .viewCreationRequests(List.of())
+                .viewDeletionRequests(List.of())
+                .previousDiagram(previousDiagram)
+                .operationValidator(new IOperationValidator.NoOp())
+                .diagramEvents(List.of())
+                .dirtyRegion(dirtyRegion)
+                .build();
+        Element element = new Element(DiagramComponent.class, props);
+        return new DiagramRenderer().render(element);
+    }
+
+    private DiagramDescription getDiagramDescription() {
+        NodeDescription nodeDescription = NodeDescription.newNodeDescription(NODE_DESCRIPTION_ID)
+                .typeProvider(variableManager -> NODE_RECTANGULAR)
+                .semanticElementsProvider(variableManager -> List.of(this.semanticElement))
+                .targetObjectIdProvider(variableManager -> "targetObjectId")
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> "")
+                .styleProvider(variableManager -> {
+                    this.styleEvaluationCount.incrementAndGet();
+                    return RectangularNodeStyle.newRectangularNodeStyle()
+                            .background("")
+                            .borderColor("")
+                            .borderSize(0)
+                            .borderStyle(LineStyle.Solid)
+                            .build();
+                })
+                .childrenLayoutStrategyProvider(variableManager -> new FreeFormLayoutStrategy())
+                .borderNodeDescriptions(new ArrayList<>())
+                .childNodeDescriptions(new ArrayList<>())
+                .labelEditHandler((variableManager, newLabel) -> new Success())
+                .deleteHandler(variableManager -> new Success())
+                .build();
+
+        return DiagramDescription.newDiagramDescription(UUID.randomUUID().toString())
+                .label("")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "diagramTargetObjectId")
+                .labelProvider(variableManager -> "Diagram")
+                .nodeDescriptions(List.of(nodeDescription))
+                .edgeDescriptions(new ArrayList<>())
+                .palettes(List.of())
+                .dropHandler(variableManager -> new Failure(""))
+                .iconURLsProvider(variableManager -> List.of())
+                .build();
+    }
+}
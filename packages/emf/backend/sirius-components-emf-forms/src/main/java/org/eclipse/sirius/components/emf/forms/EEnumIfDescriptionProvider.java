@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -111,7 +111,7 @@ public class EEnumIfDescriptionProvider {
 
     private Function<VariableManager, List<?>> getOptionsProvider() {
         return variableManager -> {
-            Object feature = variableManager.getVariables().get(EMFFormDescriptionProvider.ESTRUCTURAL_FEATURE);
+            Object feature = variableManager.asMap().get(EMFFormDescriptionProvider.ESTRUCTURAL_FEATURE);
             if (feature instanceof EAttribute) {
                 EDataType eEnum = ((EAttribute) feature).getEAttributeType();
                 if (eEnum instanceof EEnum) {
@@ -126,7 +126,7 @@ public class EEnumIfDescriptionProvider {
 
     private Function<VariableManager, String> getOptionIdProvider() {
         return variableManager -> {
-            Object litteral = variableManager.getVariables().get(SelectComponent.CANDIDATE_VARIABLE);
+            Object litteral = variableManager.asMap().get(SelectComponent.CANDIDATE_VARIABLE);
             if (litteral instanceof Enumerator) {
                 return Integer.valueOf(((Enumerator) litteral).getValue()).toString();
             }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -140,7 +140,7 @@ public class EMFFormDescriptionProvider implements IEMFFormDescriptionProvider {
         return PageDescription.newPageDescription("firstPageId")
                 .idProvider(idProvider)
                 .labelProvider(labelProvider)
-                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.getVariables().get(VariableManager.SELF)))
+                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.asMap().get(VariableManager.SELF)))
                 .groupDescriptions(groupDescriptions)
                 .canCreatePredicate(variableManager -> true)
                 .build();
@@ -152,7 +152,7 @@ public class EMFFormDescriptionProvider implements IEMFFormDescriptionProvider {
         Function<VariableManager, List<?>> iterableProvider = variableManager -> {
             List<Object> objects = new ArrayList<>();
 
-            Object self = variableManager.getVariables().get(VariableManager.SELF);
+            Object self = variableManager.asMap().get(VariableManager.SELF);
             if (self instanceof EObject eObject) {
 
                 List<IItemPropertyDescriptor> propertyDescriptors = Optional.ofNullable(this.composedAdapterFactory.adapt(eObject, IItemPropertySource.class))
@@ -210,7 +210,7 @@ public class EMFFormDescriptionProvider implements IEMFFormDescriptionProvider {
         return GroupDescription.newGroupDescription("groupId")
                 .idProvider(variableManager -> "Core Properties")
                 .labelProvider(variableManager -> "Core Properties")
-                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.getVariables().get(VariableManager.SELF)))
+                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.asMap().get(VariableManager.SELF)))
                 .controlDescriptions(controlDescriptions)
                 .build();
     }
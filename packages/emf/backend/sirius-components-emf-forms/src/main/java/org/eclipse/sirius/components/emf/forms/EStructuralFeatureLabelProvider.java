@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -41,8 +41,8 @@ public class EStructuralFeatureLabelProvider implements Function<VariableManager
 
     @Override
     public String apply(VariableManager variableManager) {
-        Object object = variableManager.getVariables().get(VariableManager.SELF);
-        Object feature = variableManager.getVariables().get(this.featureVariableName);
+        Object object = variableManager.asMap().get(VariableManager.SELF);
+        Object feature = variableManager.asMap().get(this.featureVariableName);
 
         if (object instanceof EObject eObject && feature instanceof EStructuralFeature eStructuralFeature) {
             Adapter adapter = this.adapterFactory.adapt(eObject, IItemPropertySource.class);
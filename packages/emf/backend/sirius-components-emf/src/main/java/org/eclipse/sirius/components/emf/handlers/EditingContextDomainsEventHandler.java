@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Obeo.
+ * Copyright (c) 2023, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import java.util.Objects;
 
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.IReadOnlyEventHandler;
 import org.eclipse.sirius.components.collaborative.dto.EditingContextDomainsInput;
 import org.eclipse.sirius.components.collaborative.dto.EditingContextDomainsPayload;
 import org.eclipse.sirius.components.core.api.Domain;
@@ -34,7 +35,7 @@ import reactor.core.publisher.Sinks;
  * @author frouene
  */
 @Service
-public class EditingContextDomainsEventHandler implements IEditingContextEventHandler {
+public class EditingContextDomainsEventHandler implements IEditingContextEventHandler, IReadOnlyEventHandler {
 
     private final IDomainSearchService domainSearchService;
 
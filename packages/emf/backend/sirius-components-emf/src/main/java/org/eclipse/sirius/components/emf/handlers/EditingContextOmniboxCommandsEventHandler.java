@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -23,6 +23,7 @@ import org.eclipse.emf.edit.provider.IItemLabelProvider;
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.IReadOnlyEventHandler;
 import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.collaborative.dto.CreateChildInput;
 import org.eclipse.sirius.components.collaborative.dto.GetOmniboxCommandsInput;
@@ -49,7 +50,7 @@ import reactor.core.publisher.Sinks;
  * @author gcoutable
  */
 @Service
-public class EditingContextOmniboxCommandsEventHandler implements IEditingContextEventHandler {
+public class EditingContextOmniboxCommandsEventHandler implements IEditingContextEventHandler, IReadOnlyEventHandler {
 
     private final IObjectService objectService;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -23,6 +23,7 @@ import org.eclipse.emf.ecore.EPackage.Registry;
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.IReadOnlyEventHandler;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationDescriptionsProvider;
 import org.eclipse.sirius.components.collaborative.api.RepresentationDescriptionMetadata;
 import org.eclipse.sirius.components.collaborative.dto.EditingContextRepresentationDescriptionsInput;
@@ -51,7 +52,7 @@ import reactor.core.publisher.Sinks.One;
  * @author pcdavid
  */
 @Service
-public class EditingContextRepresentationDescriptionsEventHandler implements IEditingContextEventHandler {
+public class EditingContextRepresentationDescriptionsEventHandler implements IEditingContextEventHandler, IReadOnlyEventHandler {
     private final IRepresentationDescriptionSearchService representationDescriptionSearchService;
 
     private final IEMFKindService emfKindService;
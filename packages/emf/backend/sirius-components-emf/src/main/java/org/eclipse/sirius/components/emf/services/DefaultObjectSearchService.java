@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.emf.services;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -19,14 +22,24 @@ import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.edit.domain.EditingDomain;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.core.api.IDefaultObjectSearchService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 /**
  * Default implementation of the IDefaultObjectService.
  *
+ * <p>
+ * Objects identified by their id only are retrieved thanks to the {@link EObjectIndexAdapter} installed on the
+ * resource set of the editing context when it is loaded, the resources of the resource set are only searched one by
+ * one when the object has not been indexed yet or when the resource set does not have such an index.
+ * </p>
+ *
  * @author sbegaudeau
  * @author hmarchadour
  */
@@ -34,14 +47,46 @@ import org.springframework.stereotype.Service;
 public class DefaultObjectSearchService implements IDefaultObjectSearchService {
     private static final String ID_SEPARATOR = "#";
 
+    private final Counter indexHitCounter;
+
+    private final Counter indexMissCounter;
+
+    public DefaultObjectSearchService(MeterRegistry meterRegistry) {
+        this.indexHitCounter = Counter.builder(Monitoring.OBJECT_INDEX_LOOKUPS)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.indexMissCounter = Counter.builder(Monitoring.OBJECT_INDEX_LOOKUPS)
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
     @Override
     public Optional<Object> getObject(IEditingContext editingContext, String objectId) {
-        var optionalObject = Optional.of(editingContext)
+        var optionalResourceSet = this.getResourceSet(editingContext);
+        return this.getObject(editingContext, optionalResourceSet, objectId);
+    }
+
+    @Override
+    public Map<String, Object> getObjects(IEditingContext editingContext, List<String> objectIds) {
+        var optionalResourceSet = this.getResourceSet(editingContext);
+
+        Map<String, Object> objects = new LinkedHashMap<>();
+        for (var objectId : objectIds) {
+            this.getObject(editingContext, optionalResourceSet, objectId).ifPresent(object -> objects.put(objectId, object));
+        }
+        return objects;
+    }
+
+    private Optional<ResourceSet> getResourceSet(IEditingContext editingContext) {
+        return Optional.of(editingContext)
                 .filter(IEMFEditingContext.class::isInstance)
                 .map(IEMFEditingContext.class::cast)
                 .map(IEMFEditingContext::getDomain)
-                .map(EditingDomain::getResourceSet)
-                .flatMap(resourceSet -> this.getEObject(resourceSet, objectId));
+                .map(EditingDomain::getResourceSet);
+    }
+
+    private Optional<Object> getObject(IEditingContext editingContext, Optional<ResourceSet> optionalResourceSet, String objectId) {
+        var optionalObject = optionalResourceSet.flatMap(resourceSet -> this.getEObject(resourceSet, objectId));
 
         return optionalObject
                 .or(() -> {
@@ -64,9 +109,20 @@ public class DefaultObjectSearchService implements IDefaultObjectSearchService {
                     .filter(resource -> resourceLastSegment.equals(resource.getURI().lastSegment())).findFirst()
                     .map(resource -> resource.getEObject(eObjectURIFragment));
         } else {
-            optionalEObject = resourceSet.getResources().stream()
-                    .flatMap(resource -> Optional.ofNullable(resource.getEObject(objectId)).stream())
-                    .findFirst();
+            var optionalEObjectIndexAdapter = this.getEObjectIndexAdapter(resourceSet);
+            optionalEObject = optionalEObjectIndexAdapter.flatMap(eObjectIndexAdapter -> eObjectIndexAdapter.get(objectId));
+            if (optionalEObject.isPresent()) {
+                this.indexHitCounter.increment();
+            } else {
+                var optionalSearchedEObject = resourceSet.getResources().stream()
+                        .flatMap(resource -> Optional.ofNullable(resource.getEObject(objectId)).stream())
+                        .findFirst();
+                optionalEObjectIndexAdapter.ifPresent(eObjectIndexAdapter -> {
+                    this.indexMissCounter.increment();
+                    optionalSearchedEObject.ifPresent(eObject -> eObjectIndexAdapter.put(objectId, eObject));
+                });
+                optionalEObject = optionalSearchedEObject;
+            }
         }
 
         // If not found in the resources of the ResourceSet, we search in the PackageRegistry resources
@@ -79,4 +135,11 @@ public class DefaultObjectSearchService implements IDefaultObjectSearchService {
         }
         return optionalEObject.map(Object.class::cast);
     }
+
+    private Optional<EObjectIndexAdapter> getEObjectIndexAdapter(ResourceSet resourceSet) {
+        return resourceSet.eAdapters().stream()
+                .filter(EObjectIndexAdapter.class::isInstance)
+                .map(EObjectIndexAdapter.class::cast)
+                .findFirst();
+    }
 }
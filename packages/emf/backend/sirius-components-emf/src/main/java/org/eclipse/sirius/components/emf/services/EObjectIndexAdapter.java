@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+
+/**
+ * Index of the objects of a resource set by id.
+ *
+ * <p>
+ * The index is populated with the objects found by the object search service. Each entry is checked against the
+ * resource containing the object before being returned, objects which have been removed or moved to another resource
+ * set are thus never returned. The index is cleared when a resource is removed from the resource set.
+ * </p>
+ * <p>
+ * The index is installed on the resource set when the editing context is loaded, it is then only read and populated by
+ * the {@link DefaultObjectSearchService}.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class EObjectIndexAdapter extends AdapterImpl {
+
+    private final Map<String, EObject> eObjects = new ConcurrentHashMap<>();
+
+    public Optional<EObject> get(String id) {
+        var eObject = this.eObjects.get(id);
+        if (eObject != null) {
+            if (this.isStillIndexedBy(eObject, id)) {
+                return Optional.of(eObject);
+            }
+            this.eObjects.remove(id, eObject);
+        }
+        return Optional.empty();
+    }
+
+    public void put(String id, EObject eObject) {
+        this.eObjects.put(Objects.requireNonNull(id), Objects.requireNonNull(eObject));
+    }
+
+    public int size() {
+        return this.eObjects.size();
+    }
+
+    private boolean isStillIndexedBy(EObject eObject, String id) {
+        Resource resource = eObject.eResource();
+        return resource != null && resource.getResourceSet() == this.getTarget() && resource.getEObject(id) == eObject;
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        if (notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+            int eventType = notification.getEventType();
+            if (eventType == Notification.REMOVE || eventType == Notification.REMOVE_MANY || eventType == Notification.SET || eventType == Notification.UNSET) {
+                this.eObjects.clear();
+            }
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == EObjectIndexAdapter.class;
+    }
+}
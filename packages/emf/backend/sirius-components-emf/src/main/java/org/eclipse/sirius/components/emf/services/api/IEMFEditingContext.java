@@ -30,8 +30,13 @@ public interface IEMFEditingContext extends IEditingContext {
 
     AdapterFactoryEditingDomain getDomain();
 
+    /**
+     * Unloads the resources of the editing context and removes the adapters of its resource set, along with the caches
+     * they may hold.
+     */
     @Override
     default void dispose() {
         this.getDomain().getResourceSet().getResources().forEach(Resource::unload);
+        this.getDomain().getResourceSet().eAdapters().clear();
     }
 }
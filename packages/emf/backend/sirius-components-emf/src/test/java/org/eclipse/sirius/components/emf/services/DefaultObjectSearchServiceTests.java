@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,8 @@ import org.eclipse.sirius.components.core.api.IDefaultObjectSearchService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.junit.jupiter.api.Test;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * Test for the default implementation if {@link IDefaultObjectSearchService}.
  *
@@ -30,7 +32,7 @@ public class DefaultObjectSearchServiceTests {
         var editingContextId = "editingContextId";
         IEditingContext editingContext = () -> editingContextId;
 
-        DefaultObjectSearchService defaultObjectSearchService = new DefaultObjectSearchService();
+        DefaultObjectSearchService defaultObjectSearchService = new DefaultObjectSearchService(new SimpleMeterRegistry());
 
         var optionalObject = defaultObjectSearchService.getObject(editingContext, editingContextId);
         assertThat(optionalObject).containsSame(editingContext);
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the index of the objects of a resource set.
+ *
+ * @author sbegaudeau
+ */
+public class EObjectIndexAdapterTests {
+
+    private static final String ECLASS_ID = "eClassId";
+
+    @Test
+    public void givenAnIndexedObjectWhenItIsRemovedFromItsResourceThenItIsNotReturnedAnymore() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        XMIResourceImpl resource = new XMIResourceImpl(URI.createURI("test.xmi"));
+        resourceSet.getResources().add(resource);
+
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+        ePackage.getEClassifiers().add(eClass);
+        resource.getContents().add(ePackage);
+        resource.setID(eClass, ECLASS_ID);
+
+        var eObjectIndexAdapter = new EObjectIndexAdapter();
+        resourceSet.eAdapters().add(eObjectIndexAdapter);
+        assertThat(eObjectIndexAdapter.get(ECLASS_ID)).isEmpty();
+
+        eObjectIndexAdapter.put(ECLASS_ID, eClass);
+        assertThat(eObjectIndexAdapter.get(ECLASS_ID)).containsSame(eClass);
+
+        ePackage.getEClassifiers().remove(eClass);
+        assertThat(eObjectIndexAdapter.get(ECLASS_ID)).isEmpty();
+        assertThat(eObjectIndexAdapter.size()).isZero();
+    }
+
+    @Test
+    public void givenAnIndexWhenAResourceIsRemovedThenTheIndexIsCleared() {
+        ResourceSet resourceSet = new ResourceSetImpl();
+        XMIResourceImpl resource = new XMIResourceImpl(URI.createURI("test.xmi"));
+        resourceSet.getResources().add(resource);
+
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        resource.getContents().add(ePackage);
+        resource.setID(ePackage, "ePackageId");
+
+        var eObjectIndexAdapter = new EObjectIndexAdapter();
+        resourceSet.eAdapters().add(eObjectIndexAdapter);
+        eObjectIndexAdapter.put("ePackageId", ePackage);
+        assertThat(eObjectIndexAdapter.size()).isEqualTo(1);
+
+        resourceSet.getResources().remove(resource);
+        assertThat(eObjectIndexAdapter.size()).isZero();
+    }
+}
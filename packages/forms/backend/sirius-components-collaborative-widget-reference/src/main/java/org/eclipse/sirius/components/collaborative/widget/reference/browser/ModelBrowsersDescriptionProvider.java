@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Obeo.
+ * Copyright (c) 2023, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -144,7 +144,7 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
     }
 
     private boolean isContainerSelectable(VariableManager variableManager, EClass referenceKind) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         boolean isSelectable = false;
         if (self instanceof Resource) {
             isSelectable = true;
@@ -249,7 +249,7 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
     }
 
     private String getTreeItemId(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         String id = null;
         if (self instanceof Resource resource) {
             id = resource.getURI().path().substring(1);
@@ -261,7 +261,7 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
 
     private String getKind(VariableManager variableManager) {
         String kind;
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         if (self instanceof Resource) {
             kind = DOCUMENT_KIND;
         } else {
@@ -271,7 +271,7 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
     }
 
     private StyledString getLabel(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         String label = "";
         if (self instanceof Resource resource) {
             label = this.getResourceLabel(resource);
@@ -307,7 +307,7 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
     }
 
     private List<String> getImageURL(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         List<String> imageURL = List.of(CoreImageConstants.DEFAULT_SVG);
         if (self instanceof EObject) {
             imageURL = this.objectService.getImagePath(self);
@@ -351,7 +351,7 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
     }
 
     private boolean hasChildren(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         boolean hasChildren = false;
         if (self instanceof Resource resource) {
             hasChildren = !resource.getContents().isEmpty();
@@ -365,7 +365,7 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
         List<Object> result = new ArrayList<>();
 
         List<String> expandedIds = new ArrayList<>();
-        Object objects = variableManager.getVariables().get(TreeRenderer.EXPANDED);
+        Object objects = variableManager.asMap().get(TreeRenderer.EXPANDED);
         if (objects instanceof List<?> list) {
             expandedIds = list.stream().filter(String.class::isInstance).map(String.class::cast).toList();
         }
@@ -375,7 +375,7 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
         if (optionalEditingContext.isPresent()) {
             String id = this.getTreeItemId(variableManager);
             if (expandedIds.contains(id)) {
-                Object self = variableManager.getVariables().get(VariableManager.SELF);
+                Object self = variableManager.asMap().get(VariableManager.SELF);
 
                 if (self instanceof Resource resource) {
                     result.addAll(resource.getContents());
@@ -427,7 +427,7 @@ public class ModelBrowsersDescriptionProvider implements IEditingContextRepresen
 
     private Object getParentObject(VariableManager variableManager) {
         Object result = null;
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         if (self instanceof EObject eObject) {
             Object semanticContainer = eObject.eContainer();
             if (semanticContainer == null) {
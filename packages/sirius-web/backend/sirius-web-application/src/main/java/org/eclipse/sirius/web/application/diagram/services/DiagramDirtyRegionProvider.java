@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.diagram.services;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramDirtyRegionProvider;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.diagrams.components.DiagramDirtyRegion;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to find the semantic elements modified by the current input thanks to the change recorder of the editing context.
+ *
+ * <p>
+ * The change recorder is started before the execution of each input which can be undone. Only the modifications of
+ * the attributes of existing semantic elements are considered as a dirty region, any other change (creation, deletion
+ * or move of a semantic element, modification of a reference, modification of a resource) requires a complete render.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class DiagramDirtyRegionProvider implements IDiagramDirtyRegionProvider {
+
+    @Override
+    public Optional<DiagramDirtyRegion> getDirtyRegion(IEditingContext editingContext, ChangeDescription changeDescription) {
+        Optional<DiagramDirtyRegion> optionalDirtyRegion = Optional.empty();
+        if (editingContext instanceof EditingContext siriusEditingContext && siriusEditingContext.getChangeRecorder().isRecording()) {
+            var emfChangeDescription = siriusEditingContext.getChangeRecorder().summarize();
+
+            boolean isStructuralChange = !emfChangeDescription.getObjectsToAttach().isEmpty()
+                    || !emfChangeDescription.getObjectsToDetach().isEmpty()
+                    || !emfChangeDescription.getResourceChanges().isEmpty();
+            boolean hasOnlyAttributeChanges = emfChangeDescription.getObjectChanges().stream()
+                    .flatMap(entry -> entry.getValue().stream())
+                    .allMatch(featureChange -> featureChange.getFeature() instanceof EAttribute);
+            if (!isStructuralChange && hasOnlyAttributeChanges) {
+                Set<Object> dirtySemanticElements = new HashSet<>();
+                emfChangeDescription.getObjectChanges().forEach(entry -> dirtySemanticElements.add(entry.getKey()));
+                optionalDirtyRegion = Optional.of(new DiagramDirtyRegion(dirtySemanticElements));
+            }
+        }
+        return optionalDirtyRegion;
+    }
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.document.dto;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.graphql.api.UploadFile;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * The input used to upload several documents at once, for example during the import of a project.
+ *
+ * <p>
+ * The files are indexed by a key chosen by the caller which is used in the payload to retrieve the identifier of the
+ * document created for each of them.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record UploadDocumentsInput(@NotNull UUID id, @NotNull String editingContextId, @NotNull Map<String, UploadFile> files) implements IInput {
+}
@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.document.dto;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * The payload of the upload of several documents.
+ *
+ * <p>
+ * The documents created are indexed by the key of the file they have been loaded from. The files which could not be
+ * loaded are not part of the documents.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public record UploadDocumentsSuccessPayload(@NotNull UUID id, @NotNull Map<String, DocumentDTO> documents, String report) implements IPayload {
+}
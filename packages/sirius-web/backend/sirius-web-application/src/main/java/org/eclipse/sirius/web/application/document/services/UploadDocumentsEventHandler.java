@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.document.services;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.graphql.api.UploadFile;
+import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.document.dto.DocumentDTO;
+import org.eclipse.sirius.web.application.document.dto.UploadDocumentsInput;
+import org.eclipse.sirius.web.application.document.dto.UploadDocumentsSuccessPayload;
+import org.eclipse.sirius.web.application.document.services.api.IUploadDocumentReportProvider;
+import org.eclipse.sirius.web.application.document.services.api.IUploadFileLoader;
+import org.eclipse.sirius.web.application.views.explorer.services.ExplorerDescriptionProvider;
+import org.eclipse.sirius.web.domain.services.Success;
+import org.eclipse.sirius.web.domain.services.api.IMessageService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Event handler used to create several documents from file uploads in a single semantic change.
+ *
+ * <p>
+ * Contrary to the upload of the documents one by one, the editing context used to validate the uploaded files is only
+ * loaded once and a single semantic change is emitted, so that the editing context is only persisted once and the
+ * representations are only refreshed once whatever the number of documents.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class UploadDocumentsEventHandler implements IEditingContextEventHandler {
+
+    private final Logger logger = LoggerFactory.getLogger(UploadDocumentsEventHandler.class);
+
+    private final IEditingContextSearchService editingContextSearchService;
+
+    private final List<IUploadDocumentReportProvider> uploadDocumentReportProviders;
+
+    private final IMessageService messageService;
+
+    private final IUploadFileLoader uploadDocumentLoader;
+
+    private final Counter counter;
+
+    public UploadDocumentsEventHandler(IEditingContextSearchService editingContextSearchService, List<IUploadDocumentReportProvider> uploadDocumentReportProviders, IMessageService messageService,
+            IUploadFileLoader uploadDocumentLoader, MeterRegistry meterRegistry) {
+        this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
+        this.uploadDocumentReportProviders = Objects.requireNonNull(uploadDocumentReportProviders);
+        this.messageService = Objects.requireNonNull(messageService);
+        this.uploadDocumentLoader = Objects.requireNonNull(uploadDocumentLoader);
+        this.counter = Counter.builder(Monitoring.EVENT_HANDLER)
+                .tag(Monitoring.NAME, this.getClass().getSimpleName())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean canHandle(IEditingContext editingContext, IInput input) {
+        return input instanceof UploadDocumentsInput;
+    }
+
+    @Override
+    public void handle(Sinks.One<IPayload> payloadSink, Sinks.Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+        this.counter.increment();
+
+        IPayload payload = new ErrorPayload(input.id(), this.messageService.unexpectedError());
+        ChangeDescription changeDescription = new ChangeDescription(ChangeKind.NOTHING, editingContext.getId(), input);
+
+        var optionalResourceSet = this.createResourceSet(editingContext.getId());
+        if (input instanceof UploadDocumentsInput uploadDocumentsInput && editingContext instanceof IEMFEditingContext emfEditingContext && optionalResourceSet.isPresent()) {
+            var resourceSet = optionalResourceSet.get();
+
+            Map<String, DocumentDTO> documents = new LinkedHashMap<>();
+            List<String> reports = new ArrayList<>();
+
+            int processed = 0;
+            int total = uploadDocumentsInput.files().size();
+            for (var entry : uploadDocumentsInput.files().entrySet()) {
+                this.load(resourceSet, emfEditingContext, entry.getValue()).ifPresent(newResource -> {
+                    this.toDocument(newResource).ifPresent(document -> documents.put(entry.getKey(), document));
+
+                    String report = this.getReport(newResource);
+                    if (!report.isBlank()) {
+                        reports.add(report);
+                    }
+                });
+
+                processed++;
+                this.logger.debug("Documents uploaded in the editing context {}: {}/{}", editingContext.getId(), processed, total);
+            }
+
+            payload = new UploadDocumentsSuccessPayload(input.id(), documents, String.join(System.lineSeparator(), reports));
+            if (!documents.isEmpty()) {
+                changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input);
+            }
+        }
+
+        payloadSink.tryEmitValue(payload);
+        changeDescriptionSink.tryEmitNext(changeDescription);
+    }
+
+    /**
+     * Loads the given file in the editing context.
+     *
+     * <p>
+     * The resource created in the resource set used to validate the file is removed once the file has been loaded in
+     * order to validate each file against the editing context only, just like a single document upload would do.
+     * </p>
+     */
+    private Optional<Resource> load(ResourceSet resourceSet, IEMFEditingContext emfEditingContext, UploadFile file) {
+        var resourcesBeforeLoading = List.copyOf(resourceSet.getResources());
+        var result = this.uploadDocumentLoader.load(resourceSet, emfEditingContext, file);
+        resourceSet.getResources().retainAll(resourcesBeforeLoading);
+
+        if (result instanceof Success<Resource> success) {
+            return Optional.of(success.data());
+        }
+        this.logger.warn("The document {} has not been uploaded", file.getName());
+        return Optional.empty();
+    }
+
+    private Optional<DocumentDTO> toDocument(Resource resource) {
+        var optionalId = new UUIDParser().parse(resource.getURI().path().substring(1));
+
+        var optionalName = resource.eAdapters().stream()
+                .filter(ResourceMetadataAdapter.class::isInstance)
+                .map(ResourceMetadataAdapter.class::cast)
+                .findFirst()
+                .map(ResourceMetadataAdapter::getName);
+
+        if (optionalId.isPresent() && optionalName.isPresent()) {
+            return Optional.of(new DocumentDTO(optionalId.get(), optionalName.get(), ExplorerDescriptionProvider.DOCUMENT_KIND));
+        }
+        return Optional.empty();
+    }
+
+    private Optional<ResourceSet> createResourceSet(String editingContextId) {
+        return this.editingContextSearchService.findById(editingContextId)
+                .filter(IEMFEditingContext.class::isInstance)
+                .map(IEMFEditingContext.class::cast)
+                .map(IEMFEditingContext::getDomain)
+                .map(AdapterFactoryEditingDomain::getResourceSet);
+    }
+
+    private String getReport(Resource resource) {
+        return this.uploadDocumentReportProviders.stream()
+                .filter(provider -> provider.canHandle(resource))
+                .map(provider -> provider.createReport(resource))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
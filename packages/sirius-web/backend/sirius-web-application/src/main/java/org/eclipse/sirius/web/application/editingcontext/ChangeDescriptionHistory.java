@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.change.ChangeDescription;
+import org.eclipse.emf.ecore.change.FeatureChange;
+import org.eclipse.emf.ecore.change.ListChange;
+import org.eclipse.emf.ecore.change.ResourceChange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * Keeps the EMF change descriptions of the last mutations of an editing context in order to undo or redo them.
+ *
+ * <p>
+ * The history is bounded both by its number of entries and by the estimated memory used by its change descriptions.
+ * The oldest entries are evicted first but the most recent one is always kept.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class ChangeDescriptionHistory {
+
+    /**
+     * Rough size of an object recorded in a change description, in bytes.
+     */
+    private static final long OBJECT_SIZE = 64;
+
+    /**
+     * Size of a reference to another object, in bytes.
+     */
+    private static final long REFERENCE_SIZE = 8;
+
+    private final Logger logger = LoggerFactory.getLogger(ChangeDescriptionHistory.class);
+
+    private final int maxEntries;
+
+    private final long maxEstimatedSize;
+
+    private final Counter evictionCounter;
+
+    private final Map<String, HistoryEntry> entries = new LinkedHashMap<>();
+
+    private long estimatedSize;
+
+    public ChangeDescriptionHistory(int maxEntries, long maxEstimatedSize, Counter evictionCounter) {
+        if (maxEntries <= 0) {
+            this.logger.warn("The maximum number of entries of the history must be strictly positive, {} will be ignored and only the most recent entry will be kept", maxEntries);
+        }
+        this.maxEntries = Math.max(1, maxEntries);
+        this.maxEstimatedSize = maxEstimatedSize;
+        this.evictionCounter = Objects.requireNonNull(evictionCounter);
+    }
+
+    public void put(String inputId, ChangeDescription changeDescription) {
+        var previousEntry = this.entries.remove(inputId);
+        if (previousEntry != null) {
+            this.estimatedSize -= previousEntry.estimatedSize();
+        }
+
+        var entry = new HistoryEntry(changeDescription, this.estimateSize(changeDescription));
+        this.entries.put(inputId, entry);
+        this.estimatedSize += entry.estimatedSize();
+
+        this.evictIfNeeded();
+    }
+
+    public Optional<ChangeDescription> get(String inputId) {
+        return Optional.ofNullable(this.entries.get(inputId)).map(HistoryEntry::changeDescription);
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    public long getEstimatedSize() {
+        return this.estimatedSize;
+    }
+
+    private void evictIfNeeded() {
+        Iterator<HistoryEntry> iterator = this.entries.values().iterator();
+        while (this.entries.size() > 1 && (this.entries.size() > this.maxEntries || this.estimatedSize > this.maxEstimatedSize) && iterator.hasNext()) {
+            var eldestEntry = iterator.next();
+            iterator.remove();
+            this.estimatedSize -= eldestEntry.estimatedSize();
+            this.evictionCounter.increment();
+        }
+    }
+
+    /**
+     * Estimates the memory retained by the given change description from the number of changes it has recorded.
+     *
+     * @param changeDescription
+     *         The change description
+     * @return The estimated size in bytes
+     */
+    private long estimateSize(ChangeDescription changeDescription) {
+        long size = OBJECT_SIZE;
+        for (var objectChanges : changeDescription.getObjectChanges()) {
+            size += OBJECT_SIZE;
+            for (FeatureChange featureChange : objectChanges.getValue()) {
+                size += OBJECT_SIZE + this.estimateSize(featureChange.getListChanges());
+                if (featureChange.getDataValue() != null) {
+                    size += featureChange.getDataValue().length() * 2L;
+                }
+            }
+        }
+        for (ResourceChange resourceChange : changeDescription.getResourceChanges()) {
+            size += OBJECT_SIZE + this.estimateSize(resourceChange.getListChanges());
+        }
+        size += REFERENCE_SIZE * (changeDescription.getObjectsToAttach().size() + changeDescription.getObjectsToDetach().size());
+        return size;
+    }
+
+    private long estimateSize(EList<ListChange> listChanges) {
+        long size = 0;
+        for (ListChange listChange : listChanges) {
+            size += OBJECT_SIZE + REFERENCE_SIZE * (listChange.getDataValues().size() + listChange.getReferenceValues().size());
+        }
+        return size;
+    }
+
+    /**
+     * An entry of the history.
+     *
+     * @param changeDescription
+     *         The recorded change description
+     * @param estimatedSize
+     *         The estimated size of the change description
+     * @author sbegaudeau
+     */
+    private record HistoryEntry(ChangeDescription changeDescription, long estimatedSize) {
+    }
+}
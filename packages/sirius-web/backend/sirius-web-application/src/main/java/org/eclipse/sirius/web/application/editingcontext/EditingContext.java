@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,12 +12,10 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.editingcontext;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
-import org.eclipse.emf.ecore.change.ChangeDescription;
 import org.eclipse.emf.ecore.change.util.ChangeRecorder;
 import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
@@ -39,16 +37,17 @@ public class EditingContext implements IEMFEditingContext {
 
     private final List<View> views;
 
-    private final Map<String, ChangeDescription> inputId2change = new HashMap<>();
+    private final ChangeDescriptionHistory changeDescriptionHistory;
 
     private final ChangeRecorder changeRecorder;
 
-    public EditingContext(String id, AdapterFactoryEditingDomain editingDomain, Map<String, IRepresentationDescription> representationDescriptions, List<View> views) {
+    public EditingContext(String id, AdapterFactoryEditingDomain editingDomain, Map<String, IRepresentationDescription> representationDescriptions, List<View> views, ChangeDescriptionHistory changeDescriptionHistory) {
         this.id = Objects.requireNonNull(id);
         this.editingDomain = Objects.requireNonNull(editingDomain);
         this.changeRecorder = new ChangeRecorder(this.editingDomain.getResourceSet());
         this.representationDescriptions = Objects.requireNonNull(representationDescriptions);
         this.views = Objects.requireNonNull(views);
+        this.changeDescriptionHistory = Objects.requireNonNull(changeDescriptionHistory);
     }
 
     @Override
@@ -73,8 +72,8 @@ public class EditingContext implements IEMFEditingContext {
         return changeRecorder;
     }
 
-    public Map<String, ChangeDescription> getInputId2change() {
-        return inputId2change;
+    public ChangeDescriptionHistory getChangeDescriptionHistory() {
+        return this.changeDescriptionHistory;
     }
 
 }
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextSizeEstimator;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Estimates the size of an EMF based editing context from the number of objects in its resource set.
+ *
+ * <p>
+ * Each object is considered to use the same amount of memory, including its adapters and its entries in the cross
+ * reference adapter.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class EMFEditingContextSizeEstimator implements IEditingContextSizeEstimator {
+
+    private final long estimatedObjectSize;
+
+    public EMFEditingContextSizeEstimator(@Value("${sirius.web.editingContext.estimatedObjectSize:512}") long estimatedObjectSize) {
+        this.estimatedObjectSize = estimatedObjectSize;
+    }
+
+    @Override
+    public boolean canHandle(IEditingContext editingContext) {
+        return editingContext instanceof IEMFEditingContext;
+    }
+
+    @Override
+    public long estimateSize(IEditingContext editingContext) {
+        long objectsCount = 0;
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            var iterator = emfEditingContext.getDomain().getResourceSet().getAllContents();
+            while (iterator.hasNext()) {
+                if (iterator.next() instanceof EObject) {
+                    objectsCount++;
+                }
+            }
+        }
+        return objectsCount * this.estimatedObjectSize;
+    }
+}
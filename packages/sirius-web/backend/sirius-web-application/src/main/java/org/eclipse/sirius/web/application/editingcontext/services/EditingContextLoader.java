@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,29 +12,55 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.editingcontext.services;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
 import org.eclipse.sirius.components.core.api.IEditingContextRepresentationDescriptionProvider;
+import org.eclipse.sirius.components.emf.services.EObjectIndexAdapter;
 import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
+import org.eclipse.sirius.components.view.emf.ViewAQLInterpreterCacheAdapter;
+import org.eclipse.sirius.components.view.emf.ViewConversionCacheAdapter;
+import org.eclipse.sirius.components.view.emf.ViewRevision;
 import org.eclipse.sirius.emfjson.resource.JsonResource;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextLoader;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextMigrationParticipantPredicate;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceLoader;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
 /**
  * Used to load an editing context.
  *
+ * <p>
+ * The documents of large editing contexts are parsed concurrently by a pool of threads shared by all the editing
+ * contexts and bounded by the number of processors.
+ * </p>
+ *
  * @author frouene
  */
 @Service
@@ -52,15 +78,37 @@ public class EditingContextLoader implements IEditingContextLoader {
 
     private final List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates;
 
-    public EditingContextLoader(ISemanticDataSearchService semanticDataSearchService, IResourceLoader resourceLoader, List<IEditingContextRepresentationDescriptionProvider> representationDescriptionProviders, List<IEditingContextProcessor> editingContextProcessors, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates) {
+    private final int parallelLoadingThreshold;
+
+    private final ExecutorService parsingExecutorService;
+
+    private final MeterRegistry meterRegistry;
+
+    public EditingContextLoader(ISemanticDataSearchService semanticDataSearchService, IResourceLoader resourceLoader, List<IEditingContextRepresentationDescriptionProvider> representationDescriptionProviders, List<IEditingContextProcessor> editingContextProcessors, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates,
+            @Value("${sirius.web.editingContext.parallelLoadingThreshold:8}") int parallelLoadingThreshold, MeterRegistry meterRegistry) {
         this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
         this.resourceLoader = Objects.requireNonNull(resourceLoader);
         this.representationDescriptionProviders = Objects.requireNonNull(representationDescriptionProviders);
         this.editingContextProcessors = Objects.requireNonNull(editingContextProcessors);
         this.migrationParticipantPredicates = Objects.requireNonNull(migrationParticipantPredicates);
+        this.parallelLoadingThreshold = parallelLoadingThreshold;
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+
+        var threadFactory = new CustomizableThreadFactory("editing-context-loader-");
+        threadFactory.setDaemon(true);
+        this.parsingExecutorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), threadFactory);
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.parsingExecutorService.shutdownNow();
     }
 
     public void load(EditingContext editingContext, UUID projectId) {
+        // Installed before the editing context is used so that the adapters of its resource set are never added lazily
+        editingContext.getDomain().getResourceSet().eAdapters().add(new ViewAQLInterpreterCacheAdapter());
+        editingContext.getDomain().getResourceSet().eAdapters().add(new ViewConversionCacheAdapter());
+
         this.editingContextProcessors.forEach(processor -> processor.preProcess(editingContext));
 
         this.semanticDataSearchService.findByProject(AggregateReference.to(projectId))
@@ -72,20 +120,80 @@ public class EditingContextLoader implements IEditingContextLoader {
         });
 
         this.editingContextProcessors.forEach(processor -> processor.postProcess(editingContext));
+
+        // The revision of the views is tracked from now on so that their adapters are never added lazily
+        editingContext.getViews().forEach(ViewRevision::of);
     }
 
     private void loadSemanticData(EditingContext editingContext, SemanticData semanticData) {
         ResourceSet resourceSet = editingContext.getDomain().getResourceSet();
         resourceSet.getLoadOptions().put(JsonResource.OPTION_SCHEMA_LOCATION, true);
 
-        semanticData.getDocuments().forEach(document -> this.resourceLoader.toResource(resourceSet, document.getId().toString(), document.getName(), document.getContent(),
-                this.migrationParticipantPredicates.stream().anyMatch(predicate -> predicate.test(editingContext))));
+        boolean applyMigrationParticipants = this.migrationParticipantPredicates.stream().anyMatch(predicate -> predicate.test(editingContext));
+        List<Document> documents = new ArrayList<>(semanticData.getDocuments());
+
+        boolean isParallel = this.parallelLoadingThreshold > 0 && documents.size() >= this.parallelLoadingThreshold;
+        Timer.Sample parsingSample = Timer.start(this.meterRegistry);
+        if (isParallel) {
+            // The resources are attached in the order of the documents to keep the content of the resource set
+            // independent of the scheduling of the parsing
+            this.parseInParallel(resourceSet, documents, applyMigrationParticipants).forEach(resourceSet.getResources()::add);
+        } else {
+            documents.forEach(document -> this.resourceLoader.toResource(resourceSet, document.getId().toString(), document.getName(), document.getContent(), applyMigrationParticipants));
+        }
+        parsingSample.stop(this.meterRegistry.timer(Monitoring.TIMER_PARSE_DOCUMENTS, "parallel", String.valueOf(isParallel)));
 
         // The ECrossReferenceAdapter must be set after the resource loading because it needs to resolve proxies in case
         // of inter-resources references
+        Timer.Sample resolutionSample = Timer.start(this.meterRegistry);
         resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+        resolutionSample.stop(this.meterRegistry.timer(Monitoring.TIMER_RESOLVE_PROXIES));
+
+        // Used to persist only the documents which have been modified
+        resourceSet.eAdapters().add(new ResourceChangeTracker());
+
+        // Used to retrieve the objects by id without searching all the resources
+        resourceSet.eAdapters().add(new EObjectIndexAdapter());
 
         this.logger.debug("{} documents loaded for the editing context {}", resourceSet.getResources().size(), editingContext.getId());
     }
 
+    /**
+     * Parses the documents concurrently, each of them in its own resource set, and returns the resources in the order
+     * of the documents.
+     *
+     * <p>
+     * The package descriptors of the registry of the editing context and of the global registry are resolved
+     * beforehand since their resolution updates these registries. Each detached resource set then has its own view of
+     * the registry of the editing context, so that the registries shared by the threads are only read. References to
+     * the other documents are kept as proxies until the resources are attached to the resource set of the editing
+     * context.
+     * </p>
+     */
+    private List<Resource> parseInParallel(ResourceSet resourceSet, List<Document> documents, boolean applyMigrationParticipants) {
+        EPackage.Registry packageRegistry = resourceSet.getPackageRegistry();
+        this.resolvePackageDescriptors(packageRegistry);
+        synchronized (EPackage.Registry.INSTANCE) {
+            this.resolvePackageDescriptors(EPackage.Registry.INSTANCE);
+        }
+
+        var futures = documents.stream()
+                .map(document -> CompletableFuture.supplyAsync(() -> {
+                    ResourceSet detachedResourceSet = new ResourceSetImpl();
+                    detachedResourceSet.setPackageRegistry(new EPackageRegistryImpl(packageRegistry));
+                    detachedResourceSet.getLoadOptions().putAll(resourceSet.getLoadOptions());
+                    return this.resourceLoader.toResource(detachedResourceSet, document.getId().toString(), document.getName(), document.getContent(), applyMigrationParticipants);
+                }, this.parsingExecutorService))
+                .toList();
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    private void resolvePackageDescriptors(EPackage.Registry packageRegistry) {
+        new ArrayList<>(packageRegistry.keySet()).forEach(packageRegistry::getEPackage);
+    }
+
 }
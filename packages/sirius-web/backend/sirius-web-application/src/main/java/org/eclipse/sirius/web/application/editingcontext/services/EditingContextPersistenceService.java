@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.editingcontext.services;
 
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
@@ -20,6 +21,8 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
@@ -73,29 +76,58 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
 
         if (editingContext instanceof IEMFEditingContext emfEditingContext) {
             var applyMigrationParticipants = this.migrationParticipantPredicates.stream().anyMatch(predicate -> predicate.test(emfEditingContext));
+            var resourceSet = emfEditingContext.getDomain().getResourceSet();
+            var optionalResourceChangeTracker = this.getResourceChangeTracker(resourceSet);
+
             new UUIDParser().parse(editingContext.getId())
                     .map(AggregateReference::<Project, UUID>to)
                     .ifPresent(project -> {
-                        var documentData = emfEditingContext.getDomain().getResourceSet().getResources().stream()
-                                .filter(resource -> IEMFEditingContext.RESOURCE_SCHEME.equals(resource.getURI().scheme()))
-                                .filter(resource -> this.persistenceFilters.stream().allMatch(filter -> filter.shouldPersist(resource)))
-                                .map(resource -> this.resourceToDocumentService.toDocument(resource, applyMigrationParticipants))
-                                .flatMap(Optional::stream)
-                                .collect(Collectors.toSet());
-
-                        var documents = new LinkedHashSet<Document>();
-                        var domainUris = new LinkedHashSet<String>();
-
-                        documentData.forEach(data -> {
-                            documents.add(data.document());
-                            domainUris.addAll(data.ePackageEntries().stream().map(EPackageEntry::nsURI).toList());
-                        });
-
-                        this.semanticDataUpdateService.updateDocuments(cause, project, documents, domainUris);
+                        // Only the modified documents are persisted unless documents have been added, removed or need to be migrated
+                        var canPersistModifiedDocumentsOnly = !applyMigrationParticipants && optionalResourceChangeTracker.filter(tracker -> !tracker.hasStructuralChanges()).isPresent();
+                        if (canPersistModifiedDocumentsOnly) {
+                            var modifiedResources = optionalResourceChangeTracker.get().getModifiedResources();
+                            if (!modifiedResources.isEmpty()) {
+                                this.persist(cause, project, modifiedResources, false, true);
+                            }
+                        } else {
+                            this.persist(cause, project, resourceSet.getResources(), applyMigrationParticipants, false);
+                        }
                     });
+
+            optionalResourceChangeTracker.ifPresent(ResourceChangeTracker::reset);
         }
 
         long end = System.currentTimeMillis();
         this.timer.record(end - start, TimeUnit.MILLISECONDS);
     }
+
+    private Optional<ResourceChangeTracker> getResourceChangeTracker(ResourceSet resourceSet) {
+        return resourceSet.eAdapters().stream()
+                .filter(ResourceChangeTracker.class::isInstance)
+                .map(ResourceChangeTracker.class::cast)
+                .findFirst();
+    }
+
+    private void persist(ICause cause, AggregateReference<Project, UUID> project, Collection<Resource> resources, boolean applyMigrationParticipants, boolean modifiedDocumentsOnly) {
+        var documentData = resources.stream()
+                .filter(resource -> IEMFEditingContext.RESOURCE_SCHEME.equals(resource.getURI().scheme()))
+                .filter(resource -> this.persistenceFilters.stream().allMatch(filter -> filter.shouldPersist(resource)))
+                .map(resource -> this.resourceToDocumentService.toDocument(resource, applyMigrationParticipants))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toSet());
+
+        var documents = new LinkedHashSet<Document>();
+        var domainUris = new LinkedHashSet<String>();
+
+        documentData.forEach(data -> {
+            documents.add(data.document());
+            domainUris.addAll(data.ePackageEntries().stream().map(EPackageEntry::nsURI).toList());
+        });
+
+        if (modifiedDocumentsOnly) {
+            this.semanticDataUpdateService.updateModifiedDocuments(cause, project, documents, domainUris);
+        } else {
+            this.semanticDataUpdateService.updateDocuments(cause, project, documents, domainUris);
+        }
+    }
 }
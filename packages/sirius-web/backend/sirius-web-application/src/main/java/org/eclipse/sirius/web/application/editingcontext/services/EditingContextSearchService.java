@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -25,6 +25,7 @@ import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
 import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.editingcontext.ChangeDescriptionHistory;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextLoader;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingDomainFactory;
@@ -32,9 +33,11 @@ import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.services.api.IProjectSearchService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 
@@ -48,6 +51,8 @@ public class EditingContextSearchService implements IEditingContextSearchService
 
     private static final String TIMER_NAME = "siriusweb_editingcontext_load";
 
+    private static final String UNDO_HISTORY_EVICTIONS_COUNTER_NAME = "siriusweb_undo_history_evictions";
+
     private final Logger logger = LoggerFactory.getLogger(EditingContextSearchService.class);
 
     private final IProjectSearchService projectSearchService;
@@ -58,11 +63,22 @@ public class EditingContextSearchService implements IEditingContextSearchService
 
     private final Timer timer;
 
-    public EditingContextSearchService(IProjectSearchService projectSearchService, IEditingDomainFactory editingDomainFactory, IEditingContextLoader editingContextLoader, MeterRegistry meterRegistry) {
+    private final Counter undoHistoryEvictionsCounter;
+
+    private final int undoHistoryMaxEntries;
+
+    private final long undoHistoryMaxEstimatedSize;
+
+    public EditingContextSearchService(IProjectSearchService projectSearchService, IEditingDomainFactory editingDomainFactory, IEditingContextLoader editingContextLoader, MeterRegistry meterRegistry,
+            @Value("${sirius.web.undo.history.maxEntries:100}") int undoHistoryMaxEntries,
+            @Value("${sirius.web.undo.history.maxEstimatedSize:16777216}") long undoHistoryMaxEstimatedSize) {
         this.projectSearchService = Objects.requireNonNull(projectSearchService);
         this.editingDomainFactory = Objects.requireNonNull(editingDomainFactory);
         this.editingContextLoader = Objects.requireNonNull(editingContextLoader);
         this.timer = Timer.builder(TIMER_NAME).register(meterRegistry);
+        this.undoHistoryEvictionsCounter = Counter.builder(UNDO_HISTORY_EVICTIONS_COUNTER_NAME).register(meterRegistry);
+        this.undoHistoryMaxEntries = undoHistoryMaxEntries;
+        this.undoHistoryMaxEstimatedSize = undoHistoryMaxEstimatedSize;
     }
 
     @Override
@@ -87,7 +103,8 @@ public class EditingContextSearchService implements IEditingContextSearchService
         this.logger.debug("Loading the editing context {}", project.getId());
 
         AdapterFactoryEditingDomain editingDomain = this.editingDomainFactory.createEditingDomain(project);
-        EditingContext editingContext = new EditingContext(project.getId().toString(), editingDomain, new HashMap<>(), new ArrayList<>());
+        var changeDescriptionHistory = new ChangeDescriptionHistory(this.undoHistoryMaxEntries, this.undoHistoryMaxEstimatedSize, this.undoHistoryEvictionsCounter);
+        EditingContext editingContext = new EditingContext(project.getId().toString(), editingDomain, new HashMap<>(), new ArrayList<>(), changeDescriptionHistory);
         this.editingContextLoader.load(editingContext, project.getId());
 
         long end = System.currentTimeMillis();
@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+
+/**
+ * Adapter used to keep track of the changes of the resources of an editing context.
+ *
+ * <p>
+ * It keeps track of the resources modified since the last persistence of the editing context. The addition or the
+ * removal of a resource is considered as a structural change which requires the persistence of the whole editing
+ * context. The renaming of a resource is detected by comparing its name with the name it had during the last
+ * persistence since it does not produce any notification.
+ * </p>
+ * <p>
+ * Finally, it records the objects and resources removed from their container until they are consumed. An object moved
+ * elsewhere in the resource set is recorded too since its removal is notified before its addition, the objects
+ * recorded must thus be looked up again before being considered as deleted.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class ResourceChangeTracker extends EContentAdapter {
+
+    private final Set<Resource> modifiedResources = new LinkedHashSet<>();
+
+    private final Map<Resource, String> persistedResourceNames = new HashMap<>();
+
+    private final Set<Notifier> removedNotifiers = ConcurrentHashMap.newKeySet();
+
+    private ResourceSet resourceSet;
+
+    private boolean hasStructuralChanges;
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (!notification.isTouch()) {
+            Object notifier = notification.getNotifier();
+            if (notifier instanceof ResourceSet && notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+                this.hasStructuralChanges = true;
+                this.handleContainmentRemoval(notification);
+            } else if (notifier instanceof Resource resource) {
+                int featureID = notification.getFeatureID(Resource.class);
+                if (featureID == Resource.RESOURCE__CONTENTS) {
+                    this.modifiedResources.add(resource);
+                    this.handleContainmentAddition(notification);
+                    this.handleContainmentRemoval(notification);
+                } else if (featureID == Resource.RESOURCE__URI) {
+                    this.hasStructuralChanges = true;
+                }
+            } else if (notifier instanceof EObject eObject) {
+                Optional.ofNullable(eObject.eResource()).ifPresent(this.modifiedResources::add);
+                if (notification.getFeature() instanceof EReference eReference && eReference.isContainment()) {
+                    this.handleContainmentAddition(notification);
+                    this.handleContainmentRemoval(notification);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks as modified the resources which are referencing the objects added in a new container.
+     *
+     * <p>
+     * Since references across resources are serialized with the URI of the resource of their target, moving an object to
+     * another resource modifies the serialization of the resources referencing it.
+     * </p>
+     *
+     * @param notification
+     *         The notification of the containment change
+     */
+    private void handleContainmentAddition(Notification notification) {
+        int eventType = notification.getEventType();
+        if (eventType == Notification.ADD || eventType == Notification.SET) {
+            this.markReferencingResourcesAsModified(notification.getNewValue());
+        } else if (eventType == Notification.ADD_MANY && notification.getNewValue() instanceof Collection<?> newValues) {
+            newValues.forEach(this::markReferencingResourcesAsModified);
+        }
+    }
+
+    private void handleContainmentRemoval(Notification notification) {
+        int eventType = notification.getEventType();
+        if (eventType == Notification.REMOVE || eventType == Notification.SET || eventType == Notification.UNSET) {
+            this.recordRemoval(notification.getOldValue());
+        } else if (eventType == Notification.REMOVE_MANY && notification.getOldValue() instanceof Collection<?> oldValues) {
+            oldValues.forEach(this::recordRemoval);
+        }
+    }
+
+    private void recordRemoval(Object oldValue) {
+        if (oldValue instanceof Notifier notifier) {
+            this.removedNotifiers.add(notifier);
+        }
+    }
+
+    private void markReferencingResourcesAsModified(Object object) {
+        if (object instanceof EObject eObject) {
+            var crossReferenceAdapter = ECrossReferenceAdapter.getCrossReferenceAdapter(eObject);
+            if (crossReferenceAdapter != null) {
+                this.markReferencingResourcesAsModified(crossReferenceAdapter, eObject);
+                TreeIterator<EObject> iterator = eObject.eAllContents();
+                while (iterator.hasNext()) {
+                    this.markReferencingResourcesAsModified(crossReferenceAdapter, iterator.next());
+                }
+            }
+        }
+    }
+
+    private void markReferencingResourcesAsModified(ECrossReferenceAdapter crossReferenceAdapter, EObject eObject) {
+        for (var setting : crossReferenceAdapter.getNonNavigableInverseReferences(eObject, false)) {
+            var resource = setting.getEObject().eResource();
+            if (resource != null && resource != eObject.eResource()) {
+                this.modifiedResources.add(resource);
+            }
+        }
+    }
+
+    @Override
+    protected void setTarget(ResourceSet target) {
+        super.setTarget(target);
+        this.resourceSet = target;
+    }
+
+    @Override
+    protected void setTarget(Resource target) {
+        super.setTarget(target);
+        this.persistedResourceNames.putIfAbsent(target, this.getName(target));
+    }
+
+    @Override
+    protected void unsetTarget(Resource target) {
+        super.unsetTarget(target);
+        this.persistedResourceNames.remove(target);
+        this.modifiedResources.remove(target);
+    }
+
+    /**
+     * Returns the objects and resources removed from their container since the last call and forgets them.
+     *
+     * @return The objects and resources removed
+     */
+    public List<Notifier> consumeRemovedNotifiers() {
+        List<Notifier> notifiers = List.copyOf(this.removedNotifiers);
+        this.removedNotifiers.removeAll(notifiers);
+        return notifiers;
+    }
+
+    public boolean hasRemovedNotifiers() {
+        return !this.removedNotifiers.isEmpty();
+    }
+
+    public boolean hasStructuralChanges() {
+        return this.hasStructuralChanges;
+    }
+
+    /**
+     * Returns the resources which have been modified or renamed since the last persistence.
+     *
+     * @return The modified resources
+     */
+    public Set<Resource> getModifiedResources() {
+        Set<Resource> resources = new LinkedHashSet<>(this.modifiedResources);
+        this.persistedResourceNames.forEach((resource, name) -> {
+            if (!Objects.equals(name, this.getName(resource))) {
+                resources.add(resource);
+            }
+        });
+        return resources;
+    }
+
+    /**
+     * Forgets all the changes performed, used once the editing context has been persisted.
+     */
+    public void reset() {
+        this.modifiedResources.clear();
+        this.hasStructuralChanges = false;
+
+        this.persistedResourceNames.clear();
+        if (this.resourceSet != null) {
+            this.resourceSet.getResources().forEach(resource -> this.persistedResourceNames.put(resource, this.getName(resource)));
+        }
+    }
+
+    private String getName(Resource resource) {
+        return resource.eAdapters().stream()
+                .filter(ResourceMetadataAdapter.class::isInstance)
+                .map(ResourceMetadataAdapter.class::cast)
+                .findFirst()
+                .map(ResourceMetadataAdapter::getName)
+                .orElse("");
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -17,8 +17,6 @@ import java.util.UUID;
 
 import org.eclipse.sirius.web.application.project.services.api.IProjectExportService;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.services.api.IProjectSearchService;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -29,6 +27,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * The entry point of the HTTP API to download a project in zip.
@@ -41,6 +40,10 @@ import org.springframework.web.bind.annotation.ResponseBody;
  * PROTOCOL://DOMAIN.TLD(:PORT)/API_BASE_PATH/projects/PROJECT_ID
  * </pre>
  *
+ * <p>
+ * The zip is streamed in the response while it is created, its size is thus not known in advance.
+ * </p>
+ *
  * @author gcoutable
  */
 @Controller
@@ -58,11 +61,10 @@ public class ProjectDownloadController {
 
     @ResponseBody
     @GetMapping(path = "/{projectId}")
-    public ResponseEntity<Resource> downloadProject(@PathVariable UUID projectId) {
+    public ResponseEntity<StreamingResponseBody> downloadProject(@PathVariable UUID projectId) {
         var optionalProject = this.projectSearchService.findById(projectId);
         if (optionalProject.isPresent()) {
             var project = optionalProject.get();
-            byte[] content = this.projectExportService.export(project);
 
             ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
                     .filename(project.getName() + ".zip")
@@ -71,10 +73,9 @@ public class ProjectDownloadController {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentDisposition(contentDisposition);
             headers.setContentType(MediaType.parseMediaType("application/zip"));
-            headers.setContentLength(content.length);
-            var resource = new ByteArrayResource(content);
+            StreamingResponseBody body = outputStream -> this.projectExportService.export(project, outputStream);
 
-            return new ResponseEntity<>(resource, headers, HttpStatus.OK);
+            return new ResponseEntity<>(body, headers, HttpStatus.OK);
         }
         return new ResponseEntity<>(null, new HttpHeaders(), HttpStatus.NOT_FOUND);
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -30,11 +31,15 @@ import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Used to download a project as a zip.
  *
+ * <p>
+ * The entries are written in the output stream as soon as they are produced by the participants. The export is not
+ * performed in a single transaction so that no database connection is held while the archive is sent.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -52,26 +57,30 @@ public class ProjectExportService implements IProjectExportService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    public void export(Project project, OutputStream outputStream) throws IOException {
+        // The zip output stream is finished but not closed since it would close the given output stream
+        var zipOutputStream = new ZipOutputStream(outputStream);
+        var manifestEntries = this.projectExportParticipants.stream()
+                .map(projectExportParticipant -> projectExportParticipant.exportData(project, zipOutputStream))
+                .map(Map::entrySet)
+                .flatMap(Collection::stream)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        this.addManifest(project, manifestEntries, zipOutputStream);
+        zipOutputStream.finish();
+        zipOutputStream.flush();
+    }
+
+    @Override
     public byte[] export(Project project) {
         byte[] zip = new byte[0];
 
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        try (var zipOutputStream = new ZipOutputStream(outputStream)) {
-            var manifestEntries = this.projectExportParticipants.stream()
-                    .map(projectExportParticipant -> projectExportParticipant.exportData(project, zipOutputStream))
-                    .map(Map::entrySet)
-                    .flatMap(Collection::stream)
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
-            this.addManifest(project, manifestEntries, zipOutputStream);
+        var outputStream = new ByteArrayOutputStream();
+        try {
+            this.export(project, outputStream);
+            zip = outputStream.toByteArray();
         } catch (IOException exception) {
             this.logger.warn(exception.getMessage(), exception);
-            outputStream.reset();
-        }
-
-        if (outputStream.size() > 0) {
-            zip = outputStream.toByteArray();
         }
 
         return zip;
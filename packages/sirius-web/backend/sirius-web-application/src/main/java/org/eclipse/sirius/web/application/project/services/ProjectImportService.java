@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -34,6 +34,7 @@ import java.util.zip.ZipInputStream;
 
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.core.api.ErrorPayload;
 import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.graphql.api.UploadFile;
@@ -46,6 +47,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * Service used to import a project.
  *
@@ -70,10 +74,17 @@ public class ProjectImportService implements IProjectImportService {
 
     private final IProjectApplicationService projectApplicationService;
 
-    public ProjectImportService(IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry, ObjectMapper objectMapper, IProjectApplicationService projectApplicationService) {
+    private final MeterRegistry meterRegistry;
+
+    private final Timer timer;
+
+    public ProjectImportService(IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry, ObjectMapper objectMapper, IProjectApplicationService projectApplicationService,
+            MeterRegistry meterRegistry) {
         this.editingContextEventProcessorRegistry = Objects.requireNonNull(editingContextEventProcessorRegistry);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.projectApplicationService = Objects.requireNonNull(projectApplicationService);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.timer = Timer.builder(Monitoring.TIMER_PROJECT_IMPORT).register(meterRegistry);
     }
 
     /**
@@ -156,8 +167,10 @@ public class ProjectImportService implements IProjectImportService {
             if (optionalEditingContextEventProcessor.isPresent()) {
                 IEditingContextEventProcessor editingContextEventProcessor = optionalEditingContextEventProcessor.get();
 
+                Timer.Sample importSample = Timer.start(this.meterRegistry);
                 ProjectImporter projectImporter = new ProjectImporter(project.id().toString(), editingContextEventProcessor, documents, representationImportDatas, projectManifest);
                 boolean hasBeenImported = projectImporter.importProject(inputId);
+                importSample.stop(this.timer);
 
                 if (!hasBeenImported) {
                     this.editingContextEventProcessorRegistry.disposeEditingContextEventProcessor(project.id().toString());
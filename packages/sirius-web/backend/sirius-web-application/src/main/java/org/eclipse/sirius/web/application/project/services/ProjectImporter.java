@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,7 +16,6 @@ import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -25,8 +24,8 @@ import org.eclipse.sirius.components.collaborative.dto.CreateRepresentationInput
 import org.eclipse.sirius.components.collaborative.dto.CreateRepresentationSuccessPayload;
 import org.eclipse.sirius.components.graphql.api.UploadFile;
 import org.eclipse.sirius.web.application.document.dto.DocumentDTO;
-import org.eclipse.sirius.web.application.document.dto.UploadDocumentInput;
-import org.eclipse.sirius.web.application.document.dto.UploadDocumentSuccessPayload;
+import org.eclipse.sirius.web.application.document.dto.UploadDocumentsInput;
+import org.eclipse.sirius.web.application.document.dto.UploadDocumentsSuccessPayload;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -80,6 +79,7 @@ public class ProjectImporter {
      */
     private boolean createRepresentations(UUID inputId) {
         boolean allRepresentationCreated = true;
+        int processed = 0;
 
         for (RepresentationImportData representationImportData : this.representations) {
             Map<?, ?> representationManifest = this.getRepresentationManifest(representationImportData);
@@ -112,7 +112,11 @@ public class ProjectImporter {
             }
 
             allRepresentationCreated = allRepresentationCreated && representationCreated;
+
+            processed++;
+            this.logger.debug("Representations processed for the project {}: {}/{}", this.projectId, processed, this.representations.size());
         }
+        this.logger.info("Representations processed for the project {}: {}/{}", this.projectId, processed, this.representations.size());
 
         return allRepresentationCreated;
     }
@@ -138,27 +142,29 @@ public class ProjectImporter {
     }
 
     /**
-     * Creates all documents in the project thanks to the {@link IEditingContextEventProcessor}. If at least one
-     * document has not been created it will return <code>false</code>.
+     * Creates all documents in the project thanks to the {@link IEditingContextEventProcessor}. All the documents are
+     * uploaded with a single input in order to persist the editing context and refresh its representations only once.
+     * If at least one document has not been created it will return <code>false</code>.
      *
      * @param inputId
+     *            The identifier of the input which has triggered this import
      * @return <code>true</code> whether all documents has been created, <code>false</code> otherwise
      */
     private boolean createDocuments(UUID inputId) {
-        for (Entry<String, UploadFile> entry : this.documents.entrySet()) {
-            String oldDocumentId = entry.getKey();
-            UploadFile uploadFile = entry.getValue();
-            UploadDocumentInput input = new UploadDocumentInput(inputId, this.editingContextEventProcessor.getEditingContextId(), uploadFile);
-
-            UUID newDocumentId = this.editingContextEventProcessor.handle(input)
-                    .filter(UploadDocumentSuccessPayload.class::isInstance)
-                    .map(UploadDocumentSuccessPayload.class::cast)
-                    .map(UploadDocumentSuccessPayload::document)
-                    .map(DocumentDTO::id)
-                    .blockOptional()
-                    .orElse(null);
-
-            if (newDocumentId == null) {
+        UploadDocumentsInput input = new UploadDocumentsInput(inputId, this.editingContextEventProcessor.getEditingContextId(), this.documents);
+
+        Map<String, DocumentDTO> createdDocuments = this.editingContextEventProcessor.handle(input)
+                .filter(UploadDocumentsSuccessPayload.class::isInstance)
+                .map(UploadDocumentsSuccessPayload.class::cast)
+                .map(UploadDocumentsSuccessPayload::documents)
+                .blockOptional()
+                .orElse(Map.of());
+
+        for (String oldDocumentId : this.documents.keySet()) {
+            DocumentDTO createdDocument = createdDocuments.get(oldDocumentId);
+            if (createdDocument != null) {
+                this.oldDocumentIdToNewDocumentId.put(oldDocumentId, createdDocument.id());
+            } else {
                 String documentIdNotCreated = null;
                 Object documentIdsToName = this.projectManifest.get("documentIdsToName");
                 if (documentIdsToName instanceof Map) {
@@ -166,17 +172,20 @@ public class ProjectImporter {
                 }
                 this.logger.warn("The document {} has not been created", documentIdNotCreated);
             }
-            this.oldDocumentIdToNewDocumentId.put(oldDocumentId, newDocumentId);
         }
+        this.logger.info("Documents imported in the project {}: {}/{}", this.projectId, this.oldDocumentIdToNewDocumentId.size(), this.documents.size());
 
-        Map<String, String> documentIds = new HashMap<>();
-        for (Map.Entry<String, UUID> entry : this.oldDocumentIdToNewDocumentId.entrySet()) {
-            documentIds.put(entry.getKey(), entry.getValue().toString());
+        boolean allDocumentsCreated = this.oldDocumentIdToNewDocumentId.size() == this.documents.size();
+        if (allDocumentsCreated && !this.documents.isEmpty()) {
+            Map<String, String> documentIds = new HashMap<>();
+            for (Map.Entry<String, UUID> entry : this.oldDocumentIdToNewDocumentId.entrySet()) {
+                documentIds.put(entry.getKey(), entry.getValue().toString());
+            }
+            RewriteProxiesInput rewriteInput = new RewriteProxiesInput(UUID.randomUUID(), this.editingContextEventProcessor.getEditingContextId(), documentIds);
+            this.editingContextEventProcessor.handle(rewriteInput).blockOptional();
         }
-        RewriteProxiesInput rewriteInput = new RewriteProxiesInput(UUID.randomUUID(), this.editingContextEventProcessor.getEditingContextId(), documentIds);
-        this.editingContextEventProcessor.handle(rewriteInput).blockOptional();
 
-        return this.oldDocumentIdToNewDocumentId.values().stream().allMatch(Objects::nonNull);
+        return allDocumentsCreated;
     }
 
 }
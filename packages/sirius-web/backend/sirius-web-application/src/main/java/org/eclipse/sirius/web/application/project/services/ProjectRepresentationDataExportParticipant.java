@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,12 +12,15 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.project.services;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -51,7 +54,7 @@ public class ProjectRepresentationDataExportParticipant implements IProjectExpor
 
     private final IRepresentationContentSearchService representationContentSearchService;
 
-    private final ObjectMapper objectMapper;
+    private final ObjectWriter objectWriter;
 
     private final IRepresentationContentMigrationService representationContentMigrationService;
 
@@ -62,7 +65,8 @@ public class ProjectRepresentationDataExportParticipant implements IProjectExpor
         this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
         this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
         this.representationContentSearchService = Objects.requireNonNull(representationContentSearchService);
-        this.objectMapper = Objects.requireNonNull(objectMapper);
+        // The representations are written directly in the zip, which must stay open for the following entries
+        this.objectWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
         this.representationContentMigrationService = Objects.requireNonNull(representationContentMigrationService);
     }
 
@@ -70,6 +74,8 @@ public class ProjectRepresentationDataExportParticipant implements IProjectExpor
     public Map<String, Object> exportData(Project project, ZipOutputStream outputStream) {
         Map<String, Map<String, String>> representationManifests = new HashMap<>();
 
+        Optional<IEMFEditingContext> optionalEditingContext = Optional.empty();
+
         var allRepresentationMetadata = this.representationMetadataSearchService.findAllMetadataByProject(AggregateReference.to(project.getId()));
         for (var representationMetadata: allRepresentationMetadata) {
             var optionalRepresentationContentNode = this.representationContentSearchService.findContentById(representationMetadata.getId())
@@ -88,11 +94,13 @@ public class ProjectRepresentationDataExportParticipant implements IProjectExpor
                         representationContentNode
                 );
 
-                // Get TargetObjectURI
+                // Get TargetObjectURI, the editing context is only loaded once for all the representations
                 String uriFragment = "";
-                var optionalEditingContext = this.editingContextSearchService.findById(project.getId().toString())
-                        .filter(IEMFEditingContext.class::isInstance)
-                        .map(IEMFEditingContext.class::cast);
+                if (optionalEditingContext.isEmpty()) {
+                    optionalEditingContext = this.editingContextSearchService.findById(project.getId().toString())
+                            .filter(IEMFEditingContext.class::isInstance)
+                            .map(IEMFEditingContext.class::cast);
+                }
                 if (optionalEditingContext.isPresent()) {
                     var editingContext = optionalEditingContext.get();
                     String targetObjectId = representationMetadata.getTargetObjectId();
@@ -116,16 +124,13 @@ public class ProjectRepresentationDataExportParticipant implements IProjectExpor
                 representationManifests.put(representationMetadata.getId().toString(), representationManifest);
 
                 try {
-                    byte[] bytes = this.objectMapper.writeValueAsBytes(exportData);
-
                     String name = project.getName() + "/representations/" + representationMetadata.getId() + "." + JsonResourceFactoryImpl.EXTENSION;
 
                     ZipEntry zipEntry = new ZipEntry(name);
-                    zipEntry.setSize(bytes.length);
                     zipEntry.setTime(System.currentTimeMillis());
 
                     outputStream.putNextEntry(zipEntry);
-                    outputStream.write(bytes);
+                    this.objectWriter.writeValue(outputStream, exportData);
                     outputStream.closeEntry();
                 } catch (IOException exception) {
                     this.logger.warn(exception.getMessage());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.project.services.api;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 
 /**
@@ -20,5 +23,25 @@ import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
  * @author sbegaudeau
  */
 public interface IProjectExportService {
+
+    /**
+     * Writes the zip of the given project in the given output stream, entry by entry, without closing it.
+     *
+     * @param project
+     *         The project to export
+     * @param outputStream
+     *         The output stream
+     * @throws IOException
+     *         If the zip cannot be written
+     */
+    void export(Project project, OutputStream outputStream) throws IOException;
+
+    /**
+     * Returns the zip of the given project, the whole archive is kept in memory.
+     *
+     * @param project
+     *         The project to export
+     * @return The content of the zip or an empty array if it could not be created
+     */
     byte[] export(Project project);
 }
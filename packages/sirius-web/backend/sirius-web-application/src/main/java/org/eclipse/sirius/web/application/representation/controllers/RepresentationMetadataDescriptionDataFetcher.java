@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,31 +12,45 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.representation.controllers;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
 import org.eclipse.sirius.components.annotations.spring.graphql.QueryDataFetcher;
-import org.eclipse.sirius.components.collaborative.dto.GetRepresentationDescriptionInput;
-import org.eclipse.sirius.components.collaborative.dto.GetRepresentationDescriptionPayload;
+import org.eclipse.sirius.components.collaborative.dto.GetRepresentationDescriptionsInput;
+import org.eclipse.sirius.components.collaborative.dto.GetRepresentationDescriptionsPayload;
 import org.eclipse.sirius.components.graphql.api.IDataFetcherWithFieldCoordinates;
 import org.eclipse.sirius.components.graphql.api.IEditingContextDispatcher;
 import org.eclipse.sirius.components.graphql.api.LocalContextConstants;
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
 
 import graphql.schema.DataFetchingEnvironment;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * Data fetcher for the field RepresentationMetadata#description.
  *
+ * <p>
+ * The descriptions of all the representations resolved during the same level of the execution of a GraphQL request are
+ * retrieved in a single batch for each editing context using a data loader instead of one query per representation.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @QueryDataFetcher(type = "RepresentationMetadata", field = "description")
 public class RepresentationMetadataDescriptionDataFetcher implements IDataFetcherWithFieldCoordinates<CompletableFuture<IRepresentationDescription>> {
 
+    private static final String DATA_LOADER_NAME = "representationMetadataDescription";
+
     private final IEditingContextDispatcher editingContextDispatcher;
 
     public RepresentationMetadataDescriptionDataFetcher(IEditingContextDispatcher editingContextDispatcher) {
@@ -51,13 +65,36 @@ public class RepresentationMetadataDescriptionDataFetcher implements IDataFetche
         String editingContextId = Optional.ofNullable(localContext.get(LocalContextConstants.EDITING_CONTEXT_ID)).map(Object::toString).orElse(null);
         String representationId = Optional.ofNullable(localContext.get(LocalContextConstants.REPRESENTATION_ID)).map(Object::toString).orElse(null);
         if (editingContextId != null && representationId != null) {
-            GetRepresentationDescriptionInput input = new GetRepresentationDescriptionInput(UUID.randomUUID(), editingContextId, representationId);
-            result = this.editingContextDispatcher.dispatchQuery(input.editingContextId(), input)
-                    .filter(GetRepresentationDescriptionPayload.class::isInstance)
-                    .map(GetRepresentationDescriptionPayload.class::cast)
-                    .map(GetRepresentationDescriptionPayload::representationDescription)
-                    .toFuture();
+            DataLoader<RepresentationKey, IRepresentationDescription> dataLoader = environment.getDataLoaderRegistry()
+                    .computeIfAbsent(DATA_LOADER_NAME, name -> DataLoaderFactory.newMappedDataLoader(this::loadRepresentationDescriptions));
+            result = dataLoader.load(new RepresentationKey(editingContextId, representationId));
         }
         return result;
     }
+
+    private CompletionStage<Map<RepresentationKey, IRepresentationDescription>> loadRepresentationDescriptions(Set<RepresentationKey> representationKeys) {
+        Map<String, List<String>> representationIdsByEditingContextId = representationKeys.stream()
+                .collect(Collectors.groupingBy(RepresentationKey::editingContextId, Collectors.mapping(RepresentationKey::representationId, Collectors.toList())));
+
+        return Flux.fromIterable(representationIdsByEditingContextId.entrySet())
+                .flatMap(entry -> {
+                    String editingContextId = entry.getKey();
+                    var input = new GetRepresentationDescriptionsInput(UUID.randomUUID(), editingContextId, entry.getValue());
+                    return this.editingContextDispatcher.dispatchQuery(editingContextId, input)
+                            .filter(GetRepresentationDescriptionsPayload.class::isInstance)
+                            .map(GetRepresentationDescriptionsPayload.class::cast)
+                            .flatMapIterable(payload -> payload.representationDescriptions().entrySet())
+                            .map(representationDescriptionEntry -> Map.entry(new RepresentationKey(editingContextId, representationDescriptionEntry.getKey()), representationDescriptionEntry.getValue()));
+                })
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .toFuture();
+    }
+
+    /**
+     * The key of a representation in the data loader.
+     *
+     * @author sbegaudeau
+     */
+    private record RepresentationKey(String editingContextId, String representationId) {
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,15 +12,26 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.representation.services;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IIdentityService;
 import org.eclipse.sirius.components.core.api.IObjectSearchService;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.editingcontext.services.ResourceChangeTracker;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataDeletionService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
@@ -31,18 +42,28 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Used to delete dangling representations.
  *
+ * <p>
+ * The objects removed from the resource set of an editing context are tracked by its {@link ResourceChangeTracker}.
+ * Only the representations targeting one of these objects are thus retrieved and checked after a change. All the
+ * representations of the project are checked for the editing contexts without such tracker.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
 public class DanglingRepresentationDeletionService implements IDanglingRepresentationDeletionService {
 
+    private final IIdentityService identityService;
+
     private final IObjectSearchService objectSearchService;
 
     private final IRepresentationMetadataSearchService representationMetadataSearchService;
 
     private final IRepresentationMetadataDeletionService representationMetadataDeletionService;
 
-    public DanglingRepresentationDeletionService(IObjectSearchService objectSearchService, IRepresentationMetadataSearchService representationMetadataSearchService, IRepresentationMetadataDeletionService representationMetadataDeletionService) {
+    public DanglingRepresentationDeletionService(IIdentityService identityService, IObjectSearchService objectSearchService, IRepresentationMetadataSearchService representationMetadataSearchService,
+            IRepresentationMetadataDeletionService representationMetadataDeletionService) {
+        this.identityService = Objects.requireNonNull(identityService);
         this.objectSearchService = Objects.requireNonNull(objectSearchService);
         this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
         this.representationMetadataDeletionService = Objects.requireNonNull(representationMetadataDeletionService);
@@ -50,19 +71,64 @@ public class DanglingRepresentationDeletionService implements IDanglingRepresent
 
     @Override
     public boolean isDangling(IEditingContext editingContext, IRepresentation representation) {
-        String targetObjectId = representation.getTargetObjectId();
-        Optional<Object> optionalObject = this.objectSearchService.getObject(editingContext, targetObjectId);
-        return optionalObject.isEmpty();
+        boolean mayBeDangling = this.getResourceChangeTracker(editingContext)
+                .map(ResourceChangeTracker::hasRemovedNotifiers)
+                .orElse(true);
+        if (mayBeDangling) {
+            String targetObjectId = representation.getTargetObjectId();
+            Optional<Object> optionalObject = this.objectSearchService.getObject(editingContext, targetObjectId);
+            return optionalObject.isEmpty();
+        }
+        return false;
     }
 
     @Override
     @Transactional
     public void deleteDanglingRepresentations(ICause cause, IEditingContext editingContext) {
         new UUIDParser().parse(editingContext.getId()).ifPresent(projectId -> {
-            this.representationMetadataSearchService.findAllMetadataByProject(AggregateReference.to(projectId)).stream()
+            AggregateReference<Project, UUID> project = AggregateReference.to(projectId);
+
+            List<RepresentationMetadata> candidates = this.getResourceChangeTracker(editingContext)
+                    .map(ResourceChangeTracker::consumeRemovedNotifiers)
+                    .map(this::getIds)
+                    .map(removedObjectIds -> this.representationMetadataSearchService.findAllMetadataByProjectAndTargetObjectIds(project, removedObjectIds))
+                    .orElseGet(() -> this.representationMetadataSearchService.findAllMetadataByProject(project));
+
+            candidates.stream()
                     .filter(representationMetadata -> this.objectSearchService.getObject(editingContext, representationMetadata.getTargetObjectId()).isEmpty())
                     .map(RepresentationMetadata::getId)
                     .forEach(representationId -> this.representationMetadataDeletionService.delete(cause, representationId));
         });
     }
+
+    private List<String> getIds(List<Notifier> notifiers) {
+        List<String> ids = new ArrayList<>();
+        for (Notifier notifier : notifiers) {
+            TreeIterator<EObject> iterator = null;
+            if (notifier instanceof EObject eObject) {
+                ids.add(this.identityService.getId(eObject));
+                iterator = eObject.eAllContents();
+            } else if (notifier instanceof Resource resource) {
+                iterator = resource.getAllContents();
+            }
+
+            while (iterator != null && iterator.hasNext()) {
+                ids.add(this.identityService.getId(iterator.next()));
+            }
+        }
+        return ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private Optional<ResourceChangeTracker> getResourceChangeTracker(IEditingContext editingContext) {
+        return Optional.of(editingContext)
+                .filter(IEMFEditingContext.class::isInstance)
+                .map(IEMFEditingContext.class::cast)
+                .flatMap(emfEditingContext -> emfEditingContext.getDomain().getResourceSet().eAdapters().stream()
+                        .filter(ResourceChangeTracker.class::isInstance)
+                        .map(ResourceChangeTracker.class::cast)
+                        .findFirst());
+    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.representation.services;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -40,14 +41,29 @@ public class PersistentRepresentationMetadataProvider implements IRepresentation
     public Optional<RepresentationMetadata> getMetadata(String representationId) {
         return new UUIDParser().parse(representationId)
                 .flatMap(this.representationMetadataSearchService::findMetadataById)
-                .map(representation -> RepresentationMetadata.newRepresentationMetadata(representation.getId().toString())
-                        .kind(representation.getKind())
-                        .label(representation.getLabel())
-                        .descriptionId(representation.getDescriptionId())
-                        .iconURLs(representation.getIconURLs().stream()
-                                .map(RepresentationIconURL::url)
-                                .toList())
-                        .build());
+                .map(this::toRepresentationMetadata);
+    }
+
+    @Override
+    public List<RepresentationMetadata> getAllMetadata(List<String> representationIds) {
+        var uuidParser = new UUIDParser();
+        var ids = representationIds.stream()
+                .flatMap(representationId -> uuidParser.parse(representationId).stream())
+                .toList();
+        return this.representationMetadataSearchService.findAllMetadataByIds(ids).stream()
+                .map(this::toRepresentationMetadata)
+                .toList();
+    }
+
+    private RepresentationMetadata toRepresentationMetadata(org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata representation) {
+        return RepresentationMetadata.newRepresentationMetadata(representation.getId().toString())
+                .kind(representation.getKind())
+                .label(representation.getLabel())
+                .descriptionId(representation.getDescriptionId())
+                .iconURLs(representation.getIconURLs().stream()
+                        .map(RepresentationIconURL::url)
+                        .toList())
+                .build();
     }
 
 }
@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.domain.DomainPackage;
+import org.eclipse.sirius.components.domain.emf.DomainConverter;
+import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewPackage;
+import org.eclipse.sirius.components.view.deck.DeckPackage;
+import org.eclipse.sirius.components.view.diagram.DiagramPackage;
+import org.eclipse.sirius.components.view.form.FormPackage;
+import org.eclipse.sirius.components.view.gantt.GanttPackage;
+import org.eclipse.sirius.components.view.table.TablePackage;
+import org.eclipse.sirius.components.view.tree.TreePackage;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceLoader;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioColorPalettesLoader;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioModelsCache;
+import org.eclipse.sirius.web.application.studio.services.api.StudioModels;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataRevision;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataDocumentsUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Node-wide cache of the views and domains of the studios.
+ *
+ * <p>
+ * The studios are parsed once per revision of their semantic data instead of once per editing context loaded. Each
+ * entry keeps the date of the last modification of the semantic data it has been parsed from and it is only used while
+ * this date matches the one currently stored, even if the notification of an update has been missed.
+ * </p>
+ *
+ * <p>
+ * Entries are also removed when the semantic data of a studio are updated. Each of these invalidations increments the
+ * generation of the studio and the models parsed while an invalidation occurs are not kept. As a result, a parsing
+ * which has started before an invalidation can't put stale models back in the cache.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class StudioModelsCache implements IStudioModelsCache {
+
+    private static final int MAX_EPACKAGES_ENTRIES = 16;
+
+    private static final List<String> STUDIO_DOMAIN_URIS = List.of(DomainPackage.eNS_URI, ViewPackage.eNS_URI);
+
+    private final ISemanticDataSearchService semanticDataSearchService;
+
+    private final IResourceLoader resourceLoader;
+
+    private final IStudioColorPalettesLoader studioColorPalettesLoader;
+
+    private final Map<StudioModelsKey, StudioModelsEntry> studioModelsCache = new ConcurrentHashMap<>();
+
+    private final Map<UUID, Long> generations = new ConcurrentHashMap<>();
+
+    private final Map<List<Domain>, List<EPackage>> ePackagesCache = Collections.synchronizedMap(new LinkedHashMap<>(MAX_EPACKAGES_ENTRIES, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Domain>, List<EPackage>> eldest) {
+            return this.size() > MAX_EPACKAGES_ENTRIES;
+        }
+    });
+
+    public StudioModelsCache(ISemanticDataSearchService semanticDataSearchService, IResourceLoader resourceLoader, IStudioColorPalettesLoader studioColorPalettesLoader) {
+        this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
+        this.resourceLoader = Objects.requireNonNull(resourceLoader);
+        this.studioColorPalettesLoader = Objects.requireNonNull(studioColorPalettesLoader);
+    }
+
+    @Override
+    public List<StudioModels> getStudioModels(boolean applyMigrationParticipants) {
+        var semanticDataRevisions = this.semanticDataSearchService.findAllRevisionsByDomains(STUDIO_DOMAIN_URIS);
+        var semanticDataIds = semanticDataRevisions.stream()
+                .map(SemanticDataRevision::id)
+                .collect(Collectors.toSet());
+        this.studioModelsCache.keySet().removeIf(key -> !semanticDataIds.contains(key.semanticDataId()));
+
+        List<StudioModels> allStudioModels = new ArrayList<>();
+        for (var semanticDataRevision : semanticDataRevisions) {
+            var key = new StudioModelsKey(semanticDataRevision.id(), applyMigrationParticipants);
+            var optionalStudioModels = Optional.ofNullable(this.studioModelsCache.get(key))
+                    .filter(studioModelsEntry -> studioModelsEntry.lastModifiedOn().equals(semanticDataRevision.lastModifiedOn()))
+                    .map(StudioModelsEntry::studioModels)
+                    .or(() -> this.loadStudioModels(key));
+            optionalStudioModels.ifPresent(allStudioModels::add);
+        }
+        return allStudioModels;
+    }
+
+    private long getGeneration(UUID semanticDataId) {
+        return this.generations.getOrDefault(semanticDataId, 0L);
+    }
+
+    private Optional<StudioModels> loadStudioModels(StudioModelsKey key) {
+        long generation = this.getGeneration(key.semanticDataId());
+        return this.semanticDataSearchService.findById(key.semanticDataId()).map(semanticData -> {
+            var studioModelsEntry = new StudioModelsEntry(semanticData.getLastModifiedOn(), this.parse(semanticData, key.applyMigrationParticipants()));
+            if (this.getGeneration(key.semanticDataId()) == generation) {
+                this.studioModelsCache.merge(key, studioModelsEntry, this::mostRecent);
+            }
+            return studioModelsEntry.studioModels();
+        });
+    }
+
+    private StudioModelsEntry mostRecent(StudioModelsEntry existingEntry, StudioModelsEntry newEntry) {
+        if (newEntry.lastModifiedOn().isBefore(existingEntry.lastModifiedOn())) {
+            return existingEntry;
+        }
+        return newEntry;
+    }
+
+    private StudioModels parse(SemanticData semanticData, boolean applyMigrationParticipants) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+
+        resourceSet.getPackageRegistry().put(DomainPackage.eNS_URI, DomainPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(ViewPackage.eNS_URI, ViewPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(DeckPackage.eNS_URI, DeckPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(DiagramPackage.eNS_URI, DiagramPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(FormPackage.eNS_URI, FormPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(GanttPackage.eNS_URI, GanttPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(TreePackage.eNS_URI, TreePackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(TablePackage.eNS_URI, TablePackage.eINSTANCE);
+        this.studioColorPalettesLoader.loadStudioColorPalettes(resourceSet);
+
+        semanticData.getDocuments().forEach(document -> this.resourceLoader.toResource(resourceSet, document.getId().toString(), document.getName(), document.getContent(),
+                applyMigrationParticipants));
+        resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+
+        // Proxies are resolved eagerly since the models will then be read concurrently by several editing contexts
+        EcoreUtil.resolveAll(resourceSet);
+
+        List<View> views = new ArrayList<>();
+        List<Domain> domains = new ArrayList<>();
+
+        var treeIterator = resourceSet.getAllContents();
+        while (treeIterator.hasNext()) {
+            var next = treeIterator.next();
+            if (next instanceof View view) {
+                views.add(view);
+                treeIterator.prune();
+            } else if (next instanceof Domain domain) {
+                domains.add(domain);
+                treeIterator.prune();
+            }
+        }
+
+        return new StudioModels(List.copyOf(views), List.copyOf(domains));
+    }
+
+    @Override
+    public List<EPackage> getEPackages(List<Domain> domains) {
+        var key = List.copyOf(domains);
+        var ePackages = this.ePackagesCache.get(key);
+        if (ePackages == null) {
+            ePackages = new DomainConverter().convert(key).toList();
+            this.ePackagesCache.put(key, ePackages);
+        }
+        return ePackages;
+    }
+
+    @TransactionalEventListener
+    public void onSemanticDataUpdatedEvent(SemanticDataUpdatedEvent event) {
+        this.invalidate(event.semanticData().getId());
+    }
+
+    @TransactionalEventListener
+    public void onSemanticDataDocumentsUpdatedEvent(SemanticDataDocumentsUpdatedEvent event) {
+        this.invalidate(event.semanticDataId());
+    }
+
+    private void invalidate(UUID semanticDataId) {
+        this.generations.merge(semanticDataId, 1L, Long::sum);
+        boolean removed = this.studioModelsCache.keySet().removeIf(key -> key.semanticDataId().equals(semanticDataId));
+        if (removed) {
+            this.ePackagesCache.clear();
+        }
+    }
+
+    /**
+     * The key of the parsed models of a studio.
+     *
+     * @param semanticDataId
+     *         The id of the semantic data
+     * @param applyMigrationParticipants
+     *         Whether the migration participants have been applied while parsing the studio
+     *
+     * @author sbegaudeau
+     */
+    private record StudioModelsKey(UUID semanticDataId, boolean applyMigrationParticipants) {
+    }
+
+    /**
+     * The parsed models of a studio.
+     *
+     * @param lastModifiedOn
+     *         The date of the last modification of the semantic data which have been parsed
+     * @param studioModels
+     *         The views and domains of the studio
+     *
+     * @author sbegaudeau
+     */
+    private record StudioModelsEntry(Instant lastModifiedOn, StudioModels studioModels) {
+    }
+}
@@ -40,7 +40,7 @@ public class ViewBasedRepresentationDescriptionConverter implements IEditingCont
     public void postProcess(IEditingContext editingContext) {
         if (editingContext instanceof EditingContext siriusWebEditingContext) {
             List<EPackage> accessibleEPackages = this.getAccessibleEPackages(siriusWebEditingContext.getDomain());
-            this.viewConverter.convert(siriusWebEditingContext.getViews(), accessibleEPackages).stream()
+            this.viewConverter.convert(siriusWebEditingContext, siriusWebEditingContext.getViews(), accessibleEPackages).stream()
                     .filter(Objects::nonNull)
                     .forEach(representationDescription -> siriusWebEditingContext.getRepresentationDescriptions().put(representationDescription.getId(), representationDescription));
         }
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services.api;
+
+import java.util.List;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.domain.Domain;
+
+/**
+ * Used to share the views, domains and converted EPackages of the studios among all the editing contexts.
+ *
+ * @author sbegaudeau
+ */
+public interface IStudioModelsCache {
+
+    /**
+     * Returns the views and domains of all the studios.
+     *
+     * @param applyMigrationParticipants
+     *         Whether the migration participants should be applied while parsing the studios
+     * @return The models of each studio
+     */
+    List<StudioModels> getStudioModels(boolean applyMigrationParticipants);
+
+    /**
+     * Returns the EPackages converted from the given domains.
+     *
+     * @param domains
+     *         The domains
+     * @return The converted EPackages
+     */
+    List<EPackage> getEPackages(List<Domain> domains);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author sbegaudeau
+     */
+    class NoOp implements IStudioModelsCache {
+
+        @Override
+        public List<StudioModels> getStudioModels(boolean applyMigrationParticipants) {
+            return List.of();
+        }
+
+        @Override
+        public List<EPackage> getEPackages(List<Domain> domains) {
+            return List.of();
+        }
+    }
+}
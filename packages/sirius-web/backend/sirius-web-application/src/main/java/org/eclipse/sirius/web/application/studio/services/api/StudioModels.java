@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services.api;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.view.View;
+
+/**
+ * The views and domains parsed from the semantic data of a studio.
+ *
+ * <p>
+ * Those models are shared by all the editing contexts and they must thus be considered as read-only.
+ * </p>
+ *
+ * @param views
+ *         The views
+ * @param domains
+ *         The domains
+ *
+ * @author sbegaudeau
+ */
+public record StudioModels(List<View> views, List<Domain> domains) {
+
+    public StudioModels {
+        Objects.requireNonNull(views);
+        Objects.requireNonNull(domains);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.undo.handlers;
 
+import java.text.MessageFormat;
+
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
@@ -54,11 +56,14 @@ public class RedoEventHandler implements IEditingContextEventHandler {
 
         ChangeDescription changeDescription = new ChangeDescription(ChangeKind.NOTHING, editingContext.getId(), input);
         if (editingContext instanceof EditingContext siriusEditingContext && input instanceof RedoInput redoInput) {
-            var emfChangeDescription = siriusEditingContext.getInputId2change().get(redoInput.mutationId());
-            if (emfChangeDescription != null) {
-                emfChangeDescription.applyAndReverse();
+            // Mutations which have not changed anything or which have been evicted from the history cannot be redone
+            var optionalEmfChangeDescription = siriusEditingContext.getChangeDescriptionHistory().get(redoInput.mutationId());
+            if (optionalEmfChangeDescription.isPresent()) {
+                optionalEmfChangeDescription.get().applyAndReverse();
                 changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input);
                 payload = new SuccessPayload(input.id());
+            } else {
+                payload = new ErrorPayload(input.id(), MessageFormat.format("The mutation {0} cannot be redone since it is not in the history.", redoInput.mutationId()));
             }
         }
         payloadSink.tryEmitValue(payload);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -25,7 +25,12 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Sinks;
 
 /**
- * Used to save mutations id.
+ * Used to record the changes performed by the mutations in order to undo or redo them.
+ *
+ * <p>
+ * The inputs of read-only event handlers are never given to this recorder and the mutations which have not changed
+ * anything are not kept in the history of the editing context.
+ * </p>
  *
  * @author mcharfadi
  */
@@ -38,7 +43,7 @@ public class UndoRedoRecorder implements IInputPreProcessor, IInputPostProcessor
 
     @Override
     public IInput preProcess(IEditingContext editingContext, IInput input, Sinks.Many<ChangeDescription> changeDescriptionSink) {
-        if (editingContext instanceof EditingContext siriusEditingContext && canHandle(input)) {
+        if (editingContext instanceof EditingContext siriusEditingContext && this.canHandle(input)) {
             siriusEditingContext.getChangeRecorder().beginRecording(siriusEditingContext.getDomain().getResourceSet().getResources());
         }
         return input;
@@ -46,11 +51,21 @@ public class UndoRedoRecorder implements IInputPreProcessor, IInputPostProcessor
 
     @Override
     public void postProcess(IEditingContext editingContext, IInput input, Sinks.Many<ChangeDescription> changeDescriptionSink) {
-        if (editingContext instanceof EditingContext siriusEditingContext && canHandle(input)) {
-            var changeDescription = siriusEditingContext.getChangeRecorder().summarize();
-            siriusEditingContext.getInputId2change().put(input.id().toString(), changeDescription);
-            siriusEditingContext.getChangeRecorder().endRecording();
+        if (editingContext instanceof EditingContext siriusEditingContext && this.canHandle(input)) {
+            var changeRecorder = siriusEditingContext.getChangeRecorder();
+            if (changeRecorder.isRecording()) {
+                var changeDescription = changeRecorder.endRecording();
+                if (!this.isEmpty(changeDescription)) {
+                    siriusEditingContext.getChangeDescriptionHistory().put(input.id().toString(), changeDescription);
+                }
+            }
         }
+    }
 
+    private boolean isEmpty(org.eclipse.emf.ecore.change.ChangeDescription changeDescription) {
+        return changeDescription.getObjectChanges().isEmpty()
+                && changeDescription.getResourceChanges().isEmpty()
+                && changeDescription.getObjectsToAttach().isEmpty()
+                && changeDescription.getObjectsToDetach().isEmpty();
     }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,19 +12,21 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.validation.services;
 
-import java.util.Collection;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
+import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EValidator;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.Diagnostician;
-import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
 import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
 import org.eclipse.emf.edit.provider.IItemLabelProvider;
 import org.eclipse.sirius.components.core.api.IEditingContext;
@@ -37,6 +39,13 @@ import org.springframework.stereotype.Service;
 /**
  * Used to validate EMF elements.
  *
+ * <p>
+ * The diagnostics of the objects of an editing context are kept in the {@link ValidationCacheAdapter} installed on its
+ * resource set, only the objects modified since their last validation and the objects depending on them are thus
+ * validated again. All the widgets of an object share the same diagnostic. The objects are validated without any
+ * cache if the resource set has no such adapter.
+ * </p>
+ *
  * @author gcoutable
  */
 @Service
@@ -63,9 +72,8 @@ public class EMFValidationService implements IValidationService {
 
     @Override
     public List<Object> validate(Object object, Object feature) {
-        if (object instanceof EObject) {
-            Diagnostician diagnostician = this.getNewDiagnostician();
-            Diagnostic diagnostic = diagnostician.validate((EObject) object);
+        if (object instanceof EObject eObject) {
+            Diagnostic diagnostic = this.getDiagnostic(eObject);
             if (Diagnostic.OK != diagnostic.getSeverity()) {
                 return diagnostic.getChildren().stream()
                         .filter(diag -> this.filterDiagnosticByObject(diag, object))
@@ -95,20 +103,64 @@ public class EMFValidationService implements IValidationService {
     }
 
     private List<Object> validate(IEMFEditingContext editingContext) {
-        AdapterFactoryEditingDomain domain = editingContext.getDomain();
+        ResourceSet resourceSet = editingContext.getDomain().getResourceSet();
+        Function<EObject, Diagnostic> validator = this.getValidator(resourceSet);
+
+        List<Object> diagnostics = new ArrayList<>();
+        for (Resource resource : List.copyOf(resourceSet.getResources())) {
+            TreeIterator<EObject> iterator = resource.getAllContents();
+            while (iterator.hasNext()) {
+                Diagnostic diagnostic = validator.apply(iterator.next());
+                diagnostics.addAll(diagnostic.getChildren());
+            }
+        }
+        return diagnostics;
+    }
+
+    private Diagnostic getDiagnostic(EObject eObject) {
+        Function<EObject, Diagnostic> validator = Optional.ofNullable(eObject.eResource())
+                .map(Resource::getResourceSet)
+                .map(this::getValidator)
+                .orElse(this::validateWithoutContent);
+        return validator.apply(eObject);
+    }
 
-        Map<Object, Object> options = new HashMap<>();
-        options.put(Diagnostician.VALIDATE_RECURSIVELY, true);
+    private Function<EObject, Diagnostic> getValidator(ResourceSet resourceSet) {
+        Function<EObject, Diagnostic> validator = this::validateWithoutContent;
+
+        var optionalValidationCacheAdapter = resourceSet.eAdapters().stream()
+                .filter(ValidationCacheAdapter.class::isInstance)
+                .map(ValidationCacheAdapter.class::cast)
+                .findFirst();
+        if (optionalValidationCacheAdapter.isPresent()) {
+            var validationCacheAdapter = optionalValidationCacheAdapter.get();
+            validator = eObject -> validationCacheAdapter.getDiagnostic(eObject, this::validateWithoutContent);
+        }
+        return validator;
+    }
+
+    /**
+     * Validates the given object without its content.
+     *
+     * <p>
+     * {@link Diagnostician#validate(EObject, Map)} overrides the {@link Diagnostician#VALIDATE_RECURSIVELY} option of
+     * the context and would thus validate the whole content of the object, the validation of the object itself is thus
+     * requested directly.
+     * </p>
+     *
+     * @param eObject
+     *         The object to validate
+     * @return The diagnostic of the object
+     */
+    private Diagnostic validateWithoutContent(EObject eObject) {
         Diagnostician diagnostician = this.getNewDiagnostician();
 
-        return domain.getResourceSet().getResources().stream()
-                .map(Resource::getContents)
-                .flatMap(Collection::stream)
-                .map(eObject -> diagnostician.validate(eObject, options))
-                .map(Diagnostic::getChildren)
-                .flatMap(Collection::stream)
-                .map(Object.class::cast)
-                .toList();
+        Map<Object, Object> context = diagnostician.createDefaultContext();
+        context.put(Diagnostician.VALIDATE_RECURSIVELY, false);
+
+        BasicDiagnostic diagnostic = diagnostician.createDefaultDiagnostic(eObject);
+        diagnostician.validate(eObject.eClass(), eObject, diagnostic, context);
+        return diagnostic;
     }
 
     private Diagnostician getNewDiagnostician() {
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.validation.services;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Cache of the diagnostics of the objects of a resource set.
+ *
+ * <p>
+ * The diagnostic of an object only contains the result of the validation of this object, not of its content. It is
+ * invalidated by the notifications of the modification of the object along with the diagnostics of its dependents,
+ * which are its container, the objects added to or removed from one of its references and the objects referencing it
+ * according to the {@link ECrossReferenceAdapter} of the resource set. The diagnostics of the objects removed from
+ * the resource set are dropped.
+ * </p>
+ * <p>
+ * The cache is installed on the resource set when the editing context is loaded by the
+ * {@link ValidationCacheInitializer}.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class ValidationCacheAdapter extends EContentAdapter {
+
+    private final Map<EObject, Diagnostic> diagnostics = new ConcurrentHashMap<>();
+
+    private ResourceSet resourceSet;
+
+    /**
+     * Returns the diagnostic of the given object, computed with the given validator if it is not already known.
+     *
+     * @param eObject
+     *         The object
+     * @param validator
+     *         The function used to validate the object
+     * @return The diagnostic of the object
+     */
+    public Diagnostic getDiagnostic(EObject eObject, Function<EObject, Diagnostic> validator) {
+        return this.diagnostics.computeIfAbsent(eObject, validator);
+    }
+
+    public int size() {
+        return this.diagnostics.size();
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (!notification.isTouch() && notification.getNotifier() instanceof EObject eObject) {
+            this.invalidateWithReferencingObjects(eObject);
+            Optional.ofNullable(eObject.eContainer()).ifPresent(this::invalidateWithReferencingObjects);
+
+            if (notification.getFeature() instanceof EReference eReference) {
+                this.invalidateValue(eReference, notification.getOldValue());
+                this.invalidateValue(eReference, notification.getNewValue());
+            }
+        }
+    }
+
+    /**
+     * Invalidates the diagnostics of the objects added to or removed from a reference.
+     *
+     * <p>
+     * The content of the objects added to or removed from a containment reference is invalidated too, since the
+     * objects referencing them may now reference an object outside of the resource set or an object which has just
+     * been added to it.
+     * </p>
+     *
+     * @param eReference
+     *         The modified reference
+     * @param value
+     *         The objects added or removed
+     */
+    private void invalidateValue(EReference eReference, Object value) {
+        if (value instanceof EObject eObject) {
+            this.invalidateWithReferencingObjects(eObject);
+            if (eReference.isContainment()) {
+                TreeIterator<EObject> iterator = eObject.eAllContents();
+                while (iterator.hasNext()) {
+                    this.invalidateWithReferencingObjects(iterator.next());
+                }
+            }
+        } else if (value instanceof Collection<?> values) {
+            values.forEach(object -> this.invalidateValue(eReference, object));
+        }
+    }
+
+    private void invalidateWithReferencingObjects(EObject eObject) {
+        this.diagnostics.remove(eObject);
+
+        // Retrieved from the resource set since it may already have been removed from the objects removed from their container
+        var crossReferenceAdapter = Optional.ofNullable(this.resourceSet).map(ECrossReferenceAdapter::getCrossReferenceAdapter);
+        if (crossReferenceAdapter.isPresent()) {
+            for (var setting : crossReferenceAdapter.get().getNonNavigableInverseReferences(eObject, false)) {
+                this.diagnostics.remove(setting.getEObject());
+            }
+        }
+    }
+
+    @Override
+    protected void setTarget(ResourceSet target) {
+        super.setTarget(target);
+        this.resourceSet = target;
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        this.diagnostics.remove(target);
+        super.unsetTarget(target);
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == ValidationCacheAdapter.class;
+    }
+}
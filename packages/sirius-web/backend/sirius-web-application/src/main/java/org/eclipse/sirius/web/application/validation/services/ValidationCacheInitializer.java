@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.validation.services;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.web.application.validation.OnValidationEnabled;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Service;
+
+/**
+ * Installs the cache of the diagnostics on the resource set of the editing contexts once they are loaded.
+ *
+ * @author sbegaudeau
+ */
+@Service
+@Conditional(OnValidationEnabled.class)
+public class ValidationCacheInitializer implements IEditingContextProcessor {
+
+    @Override
+    public void postProcess(IEditingContext editingContext) {
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            var eAdapters = emfEditingContext.getDomain().getResourceSet().eAdapters();
+            if (eAdapters.stream().noneMatch(ValidationCacheAdapter.class::isInstance)) {
+                eAdapters.add(new ValidationCacheAdapter());
+            }
+        }
+    }
+}
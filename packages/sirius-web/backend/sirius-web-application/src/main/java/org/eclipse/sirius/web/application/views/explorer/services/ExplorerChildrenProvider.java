@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -44,7 +44,7 @@ public class ExplorerChildrenProvider implements IExplorerChildrenProvider {
 
     @Override
     public boolean hasChildren(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         Optional<IEditingContext> optionalEditingContext = variableManager.get(IEditingContext.EDITING_CONTEXT, IEditingContext.class);
         return this.explorerServices.hasChildren(self, optionalEditingContext.orElse(null));
     }
@@ -52,7 +52,7 @@ public class ExplorerChildrenProvider implements IExplorerChildrenProvider {
     @Override
     public List<Object> getChildren(VariableManager variableManager) {
         List<Object> children = new ArrayList<>();
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         if (self != null) {
             children = this.getDefaultChildren(variableManager);
             List<String> activeFilterIds = this.getActiveFilterIds(variableManager);
@@ -69,7 +69,7 @@ public class ExplorerChildrenProvider implements IExplorerChildrenProvider {
 
     private List<Object> getDefaultChildren(VariableManager variableManager) {
         List<String> expandedIds = new ArrayList<>();
-        Object objects = variableManager.getVariables().get(TreeRenderer.EXPANDED);
+        Object objects = variableManager.asMap().get(TreeRenderer.EXPANDED);
         if (objects instanceof List<?> list) {
             expandedIds = list.stream()
                     .filter(String.class::isInstance)
@@ -77,13 +77,13 @@ public class ExplorerChildrenProvider implements IExplorerChildrenProvider {
                     .toList();
         }
         var optionalEditingContext = variableManager.get(IEditingContext.EDITING_CONTEXT, IEditingContext.class);
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         return this.explorerServices.getDefaultChildren(self, optionalEditingContext.orElse(null), expandedIds);
     }
 
     private List<String> getActiveFilterIds(VariableManager variableManager) {
         List<String> activeFilterIds;
-        Object objects = variableManager.getVariables().get(TreeRenderer.ACTIVE_FILTER_IDS);
+        Object objects = variableManager.asMap().get(TreeRenderer.ACTIVE_FILTER_IDS);
         if (objects instanceof List<?> list) {
             activeFilterIds = list.stream().filter(String.class::isInstance).map(String.class::cast).toList();
         } else {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -69,7 +69,7 @@ public class ExplorerElementsProvider implements IExplorerElementsProvider {
 
     private List<String> getActiveFilterIds(VariableManager variableManager) {
         List<String> activeFilterIds;
-        Object objects = variableManager.getVariables().get(TreeRenderer.ACTIVE_FILTER_IDS);
+        Object objects = variableManager.asMap().get(TreeRenderer.ACTIVE_FILTER_IDS);
         if (objects instanceof List<?> list) {
             activeFilterIds = list.stream()
                     .filter(String.class::isInstance)
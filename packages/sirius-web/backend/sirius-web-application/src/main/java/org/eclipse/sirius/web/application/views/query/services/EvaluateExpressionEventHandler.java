@@ -83,7 +83,7 @@ public class EvaluateExpressionEventHandler implements IEditingContextEventHandl
 
             var variableManager = new VariableManager();
             variableManager.put(IEditingContext.EDITING_CONTEXT, editingContext);
-            var evaluationResult = interpreter.evaluateExpression(variableManager.getVariables(), evaluateExpressionInput.expression());
+            var evaluationResult = interpreter.evaluateExpression(variableManager.asMap(), evaluateExpressionInput.expression());
 
             payload = this.toPayload(input.id(), evaluationResult);
             changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input);
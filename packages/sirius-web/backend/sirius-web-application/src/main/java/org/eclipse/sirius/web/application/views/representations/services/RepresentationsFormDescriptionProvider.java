@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -124,7 +124,7 @@ public class RepresentationsFormDescriptionProvider implements IRepresentationsD
         return PageDescription.newPageDescription("representationPageId")
                 .idProvider(variableManager -> PAGE_LABEL)
                 .labelProvider(variableManager -> PAGE_LABEL)
-                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.getVariables().get(VariableManager.SELF)))
+                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.asMap().get(VariableManager.SELF)))
                 .groupDescriptions(List.of(this.getGroupDescription()))
                 .canCreatePredicate(variableManager -> true)
                 .build();
@@ -196,7 +196,7 @@ public class RepresentationsFormDescriptionProvider implements IRepresentationsD
         return GroupDescription.newGroupDescription("representationsGroupId")
                 .idProvider(variableManager -> GROUP_LABEL)
                 .labelProvider(variableManager -> GROUP_LABEL)
-                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.getVariables().get(VariableManager.SELF)))
+                .semanticElementsProvider(variableManager -> Collections.singletonList(variableManager.asMap().get(VariableManager.SELF)))
                 .controlDescriptions(controlDescriptions)
                 .build();
     }
@@ -208,7 +208,7 @@ public class RepresentationsFormDescriptionProvider implements IRepresentationsD
     }
 
     private List<?> getItems(VariableManager variableManager) {
-        Object object = variableManager.getVariables().get(VariableManager.SELF);
+        Object object = variableManager.asMap().get(VariableManager.SELF);
         var optionalProjectId = variableManager.get(IEditingContext.EDITING_CONTEXT, IEditingContext.class)
                 .map(IEditingContext::getId)
                 .flatMap(new UUIDParser()::parse);
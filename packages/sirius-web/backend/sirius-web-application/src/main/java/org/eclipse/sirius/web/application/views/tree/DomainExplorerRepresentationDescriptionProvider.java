@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -62,7 +62,7 @@ public class DomainExplorerRepresentationDescriptionProvider implements IEditing
     }
 
     private List<Domain> getElements(VariableManager variableManager) {
-        var optionalEditingContext = Optional.of(variableManager.getVariables().get(IEditingContext.EDITING_CONTEXT));
+        var optionalEditingContext = Optional.of(variableManager.asMap().get(IEditingContext.EDITING_CONTEXT));
         var optionalResourceSet = optionalEditingContext.filter(IEditingContext.class::isInstance)
                 .filter(IEMFEditingContext.class::isInstance)
                 .map(IEMFEditingContext.class::cast)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -37,6 +37,13 @@ public interface IRepresentationMetadataRepository extends ListPagingAndSortingR
         """)
     Optional<RepresentationMetadata> findMetadataById(UUID id);
 
+    @Query("""
+        SELECT representationMetadata.*
+        FROM representation_metadata representationMetadata
+        WHERE representationMetadata.id IN (:ids)
+        """)
+    List<RepresentationMetadata> findAllMetadataByIds(List<UUID> ids);
+
     @Query("""
         SELECT representationMetadata.*
         FROM representation_metadata representationMetadata
@@ -52,6 +59,14 @@ public interface IRepresentationMetadataRepository extends ListPagingAndSortingR
         """)
     List<RepresentationMetadata> findAllMetadataByProjectAndTargetObjectId(UUID projectId, String targetObjectId);
 
+    @Query("""
+        SELECT representationMetadata.*
+        FROM representation_metadata representationMetadata
+        WHERE representationMetadata.target_object_id IN (:targetObjectIds)
+        AND representationMetadata.project_id = :projectId
+        """)
+    List<RepresentationMetadata> findAllMetadataByProjectAndTargetObjectIds(UUID projectId, List<String> targetObjectIds);
+
     @Query("""
         SELECT representationMetadata.project_id
         FROM representation_metadata representationMetadata
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -32,6 +33,8 @@ import org.springframework.stereotype.Service;
 @Service
 public class RepresentationMetadataSearchService implements IRepresentationMetadataSearchService {
 
+    private static final int MAX_PARAMETERS = 1000;
+
     private final IRepresentationMetadataRepository representationMetadataRepository;
 
     public RepresentationMetadataSearchService(IRepresentationMetadataRepository representationMetadataRepository) {
@@ -48,6 +51,17 @@ public class RepresentationMetadataSearchService implements IRepresentationMetad
         return this.representationMetadataRepository.findMetadataById(id);
     }
 
+    @Override
+    public List<RepresentationMetadata> findAllMetadataByIds(List<UUID> ids) {
+        // The ids are sent by chunks to stay below the maximum number of parameters of a statement
+        List<RepresentationMetadata> representationMetadata = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += MAX_PARAMETERS) {
+            var idsChunk = ids.subList(i, Math.min(i + MAX_PARAMETERS, ids.size()));
+            representationMetadata.addAll(this.representationMetadataRepository.findAllMetadataByIds(idsChunk));
+        }
+        return representationMetadata;
+    }
+
     @Override
     public boolean existsByIdAndKind(UUID id, List<String> kinds) {
         return this.representationMetadataRepository.existsByIdAndKind(id, kinds);
@@ -63,6 +77,17 @@ public class RepresentationMetadataSearchService implements IRepresentationMetad
         return this.representationMetadataRepository.findAllMetadataByProjectAndTargetObjectId(project.getId(), targetObjectId);
     }
 
+    @Override
+    public List<RepresentationMetadata> findAllMetadataByProjectAndTargetObjectIds(AggregateReference<Project, UUID> project, List<String> targetObjectIds) {
+        // The target object ids are sent by chunks to stay below the maximum number of parameters of a statement
+        List<RepresentationMetadata> representationMetadata = new ArrayList<>();
+        for (int i = 0; i < targetObjectIds.size(); i += MAX_PARAMETERS) {
+            var targetObjectIdsChunk = targetObjectIds.subList(i, Math.min(i + MAX_PARAMETERS, targetObjectIds.size()));
+            representationMetadata.addAll(this.representationMetadataRepository.findAllMetadataByProjectAndTargetObjectIds(project.getId(), targetObjectIdsChunk));
+        }
+        return representationMetadata;
+    }
+
     @Override
     public boolean existAnyRepresentationForProjectAndTargetObjectId(AggregateReference<Project, UUID> project, String targetObjectId) {
         return this.representationMetadataRepository.existAnyRepresentationForTargetObjectId(targetObjectId);
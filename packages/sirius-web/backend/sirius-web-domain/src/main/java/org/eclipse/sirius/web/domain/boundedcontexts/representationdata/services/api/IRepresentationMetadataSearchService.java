@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -31,12 +31,16 @@ public interface IRepresentationMetadataSearchService {
 
     Optional<RepresentationMetadata> findMetadataById(UUID id);
 
+    List<RepresentationMetadata> findAllMetadataByIds(List<UUID> ids);
+
     boolean existsByIdAndKind(UUID id, List<String> kinds);
 
     List<RepresentationMetadata> findAllMetadataByProject(AggregateReference<Project, UUID> project);
 
     List<RepresentationMetadata> findAllMetadataByProjectAndTargetObjectId(AggregateReference<Project, UUID> project, String targetObjectId);
 
+    List<RepresentationMetadata> findAllMetadataByProjectAndTargetObjectIds(AggregateReference<Project, UUID> project, List<String> targetObjectIds);
+
     boolean existAnyRepresentationForProjectAndTargetObjectId(AggregateReference<Project, UUID> project, String targetObjectId);
 
     Optional<AggregateReference<Project, UUID>> findProjectByRepresentationId(UUID representationId);
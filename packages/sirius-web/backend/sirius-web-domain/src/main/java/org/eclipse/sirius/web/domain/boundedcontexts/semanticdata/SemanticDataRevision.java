@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A revision of some semantic data, identified by the date of their last modification.
+ *
+ * @param id
+ *         The id of the semantic data
+ * @param lastModifiedOn
+ *         The date of the last modification of the semantic data
+ *
+ * @author sbegaudeau
+ */
+public record SemanticDataRevision(UUID id, Instant lastModifiedOn) {
+
+    public SemanticDataRevision {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(lastModifiedOn);
+    }
+}
@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Event fired when some documents of the semantic data are updated without loading the whole semantic data.
+ *
+ * @author sbegaudeau
+ */
+public record SemanticDataDocumentsUpdatedEvent(
+        @NotNull UUID id,
+        @NotNull Instant createdOn,
+        @NotNull ICause causedBy,
+        @NotNull UUID semanticDataId,
+        @NotNull AggregateReference<Project, UUID> project,
+        @NotNull Set<UUID> documentIds) implements ISemanticDataEvent {
+}
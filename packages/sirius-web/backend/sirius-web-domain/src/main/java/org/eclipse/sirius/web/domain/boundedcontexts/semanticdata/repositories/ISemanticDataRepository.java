@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,11 +12,15 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataRevision;
+import org.springframework.data.jdbc.repository.query.Modifying;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.ListPagingAndSortingRepository;
@@ -37,6 +41,13 @@ public interface ISemanticDataRepository extends ListPagingAndSortingRepository<
         """)
     Optional<SemanticData> findByProjectId(UUID projectId);
 
+    @Query("""
+        SELECT semanticData.id
+        FROM semantic_data semanticData
+        WHERE semanticData.project_id = :projectId
+        """)
+    Optional<UUID> findIdByProjectId(UUID projectId);
+
     @Query("""
         SELECT semanticData.*
         FROM semantic_data semanticData
@@ -46,4 +57,59 @@ public interface ISemanticDataRepository extends ListPagingAndSortingRepository<
         GROUP BY semanticData.id
         """)
     List<SemanticData> findAllByDomains(List<String> domainUris);
+
+    @Query("""
+        SELECT DISTINCT semanticData.id, semanticData.last_modified_on
+        FROM semantic_data semanticData
+        JOIN semantic_data_domain semanticDataDomain
+        ON semanticData.id = semanticDataDomain.semantic_data_id
+        WHERE semanticDataDomain.uri IN (:domainUris)
+        """)
+    List<SemanticDataRevision> findAllRevisionsByDomains(List<String> domainUris);
+
+    @Modifying
+    @Query("""
+        UPDATE document
+        SET name = :name, content = :content, last_modified_on = :lastModifiedOn
+        WHERE document.id = :documentId
+        AND document.semantic_data_id = :semanticDataId
+        AND (document.name <> :name OR document.content <> :content)
+        """)
+    int updateDocument(UUID semanticDataId, UUID documentId, String name, String content, Instant lastModifiedOn);
+
+    @Modifying
+    @Query("""
+        INSERT INTO semantic_data_domain (semantic_data_id, uri)
+        VALUES (:semanticDataId, :uri)
+        ON CONFLICT DO NOTHING
+        """)
+    void addDomain(UUID semanticDataId, String uri);
+
+    @Query("""
+        SELECT DISTINCT namespace.value
+        FROM document document, jsonb_each_text(CAST(document.content AS jsonb) -> 'ns') namespace
+        WHERE document.semantic_data_id = :semanticDataId
+        AND document.id IN (:documentIds)
+        """)
+    List<String> findDomainUrisByDocumentIds(UUID semanticDataId, Collection<UUID> documentIds);
+
+    @Modifying
+    @Query("""
+        DELETE FROM semantic_data_domain
+        WHERE semantic_data_domain.semantic_data_id = :semanticDataId
+        AND semantic_data_domain.uri NOT IN (
+            SELECT namespace.value
+            FROM document document, jsonb_each_text(CAST(document.content AS jsonb) -> 'ns') namespace
+            WHERE document.semantic_data_id = :semanticDataId
+        )
+        """)
+    int deleteUnusedDomains(UUID semanticDataId);
+
+    @Modifying
+    @Query("""
+        UPDATE semantic_data
+        SET last_modified_on = :lastModifiedOn
+        WHERE semantic_data.id = :semanticDataId
+        """)
+    void updateLastModifiedOn(UUID semanticDataId, Instant lastModifiedOn);
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,7 @@ import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataRevision;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.ISemanticDataRepository;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
@@ -43,8 +44,18 @@ public class SemanticDataSearchService implements ISemanticDataSearchService {
         return this.semanticDataRepository.findByProjectId(project.getId());
     }
 
+    @Override
+    public Optional<SemanticData> findById(UUID id) {
+        return this.semanticDataRepository.findById(id);
+    }
+
     @Override
     public List<SemanticData> findAllByDomains(List<String> domainUris) {
         return this.semanticDataRepository.findAllByDomains(domainUris);
     }
+
+    @Override
+    public List<SemanticDataRevision> findAllRevisionsByDomains(List<String> domainUris) {
+        return this.semanticDataRepository.findAllRevisionsByDomains(domainUris);
+    }
 }
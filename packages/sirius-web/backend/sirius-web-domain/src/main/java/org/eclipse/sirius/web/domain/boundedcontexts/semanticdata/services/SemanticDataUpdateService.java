@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services;
 
+import java.time.Instant;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -19,8 +21,10 @@ import java.util.UUID;
 import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataDocumentsUpdatedEvent;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories.ISemanticDataRepository;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataUpdateService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
 
@@ -34,8 +38,11 @@ public class SemanticDataUpdateService implements ISemanticDataUpdateService {
 
     private final ISemanticDataRepository semanticDataRepository;
 
-    public SemanticDataUpdateService(ISemanticDataRepository semanticDataRepository) {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public SemanticDataUpdateService(ISemanticDataRepository semanticDataRepository, ApplicationEventPublisher applicationEventPublisher) {
         this.semanticDataRepository = Objects.requireNonNull(semanticDataRepository);
+        this.applicationEventPublisher = Objects.requireNonNull(applicationEventPublisher);
     }
 
     @Override
@@ -45,4 +52,35 @@ public class SemanticDataUpdateService implements ISemanticDataUpdateService {
             this.semanticDataRepository.save(semanticData);
         });
     }
+
+    @Override
+    public void updateModifiedDocuments(ICause cause, AggregateReference<Project, UUID> project, Set<Document> modifiedDocuments, Set<String> domainUris) {
+        this.semanticDataRepository.findIdByProjectId(project.getId()).filter(semanticDataId -> !modifiedDocuments.isEmpty()).ifPresent(semanticDataId -> {
+            var now = Instant.now();
+
+            var modifiedDocumentIds = modifiedDocuments.stream().map(Document::getId).toList();
+            var previousDomainUris = this.semanticDataRepository.findDomainUrisByDocumentIds(semanticDataId, modifiedDocumentIds);
+
+            Set<UUID> updatedDocumentIds = new LinkedHashSet<>();
+            for (var document : modifiedDocuments) {
+                int updatedRowCount = this.semanticDataRepository.updateDocument(semanticDataId, document.getId(), document.getName(), document.getContent(), now);
+                if (updatedRowCount > 0) {
+                    updatedDocumentIds.add(document.getId());
+                }
+            }
+
+            if (!updatedDocumentIds.isEmpty()) {
+                domainUris.forEach(uri -> this.semanticDataRepository.addDomain(semanticDataId, uri));
+
+                // A domain which is not used anymore by the modified documents may still be used by the other ones
+                boolean mayHaveUnusedDomains = !domainUris.containsAll(previousDomainUris);
+                if (mayHaveUnusedDomains) {
+                    this.semanticDataRepository.deleteUnusedDomains(semanticDataId);
+                }
+                this.semanticDataRepository.updateLastModifiedOn(semanticDataId, now);
+
+                this.applicationEventPublisher.publishEvent(new SemanticDataDocumentsUpdatedEvent(UUID.randomUUID(), now, cause, semanticDataId, project, updatedDocumentIds));
+            }
+        });
+    }
 }
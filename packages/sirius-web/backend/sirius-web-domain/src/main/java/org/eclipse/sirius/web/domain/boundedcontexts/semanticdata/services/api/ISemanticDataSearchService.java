@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataRevision;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 
 /**
@@ -29,5 +30,9 @@ public interface ISemanticDataSearchService {
 
     Optional<SemanticData> findByProject(AggregateReference<Project, UUID> project);
 
+    Optional<SemanticData> findById(UUID id);
+
     List<SemanticData> findAllByDomains(List<String> domainUris);
+
+    List<SemanticDataRevision> findAllRevisionsByDomains(List<String> domainUris);
 }
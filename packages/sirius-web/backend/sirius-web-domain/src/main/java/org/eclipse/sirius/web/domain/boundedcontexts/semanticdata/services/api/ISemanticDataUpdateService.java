@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -18,6 +18,7 @@ import java.util.UUID;
 import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataDocumentsUpdatedEvent;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 
 /**
@@ -27,4 +28,25 @@ import org.springframework.data.jdbc.core.mapping.AggregateReference;
  */
 public interface ISemanticDataUpdateService {
     void updateDocuments(ICause cause, AggregateReference<Project, UUID> project, Set<Document> documents, Set<String> domainUris);
+
+    /**
+     * Persists the modified documents of the semantic data of the given project without reading or rewriting the other
+     * documents.
+     *
+     * <p>
+     * Only the documents whose name or content is different from the persisted one are updated. If at least one
+     * document has been updated, a {@link SemanticDataDocumentsUpdatedEvent} is published. The domains which were used
+     * by the modified documents and which are not used anymore by any document of the semantic data are removed.
+     * </p>
+     *
+     * @param cause
+     *         The cause of the update
+     * @param project
+     *         The project
+     * @param modifiedDocuments
+     *         The documents which may have been modified, they must already be part of the semantic data
+     * @param domainUris
+     *         The URIs of the domains used by the modified documents
+     */
+    void updateModifiedDocuments(ICause cause, AggregateReference<Project, UUID> project, Set<Document> modifiedDocuments, Set<String> domainUris);
 }
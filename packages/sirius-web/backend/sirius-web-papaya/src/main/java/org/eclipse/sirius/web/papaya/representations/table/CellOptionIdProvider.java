@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -39,7 +39,7 @@ public class CellOptionIdProvider implements Function<VariableManager, String> {
 
     @Override
     public String apply(VariableManager variableManager) {
-        Object candidate = variableManager.getVariables().get(SelectCellComponent.CANDIDATE_VARIABLE);
+        Object candidate = variableManager.asMap().get(SelectCellComponent.CANDIDATE_VARIABLE);
         if (candidate instanceof EEnumLiteral) {
             return this.labelService.getLabel(candidate);
         }
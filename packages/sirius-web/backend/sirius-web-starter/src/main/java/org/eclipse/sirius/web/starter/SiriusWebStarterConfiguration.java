@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.starter;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Executors;
@@ -20,7 +21,9 @@ import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProce
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessorFluxCustomizer;
 import org.eclipse.sirius.components.collaborative.api.ISubscriptionManagerFactory;
+import org.eclipse.sirius.components.collaborative.editingcontext.LruEditingContextEvictionPolicy;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEvictionPolicy;
 import org.eclipse.sirius.components.collaborative.representations.SubscriptionManager;
 import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.components.core.api.IPayload;
@@ -31,10 +34,12 @@ import org.eclipse.sirius.components.graphql.ws.api.IGraphQLWebSocketHandlerList
 import org.eclipse.sirius.components.web.concurrent.DelegatingRequestContextExecutorService;
 import org.eclipse.sirius.web.application.viewer.services.api.IViewerProvider;
 import org.eclipse.sirius.web.domain.services.api.IMessageService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
@@ -99,6 +104,13 @@ public class SiriusWebStarterConfiguration {
         };
     }
 
+    @Bean
+    @ConditionalOnMissingBean(IEditingContextEvictionPolicy.class)
+    public IEditingContextEvictionPolicy editingContextEvictionPolicy(@Value("${sirius.components.editingContext.eviction.idleTimeout:30m}") Duration idleTimeout,
+            @Value("${sirius.components.editingContext.eviction.maxEstimatedSize:0B}") DataSize maxEstimatedSize) {
+        return new LruEditingContextEvictionPolicy(idleTimeout, maxEstimatedSize.toBytes());
+    }
+
     @Bean
     @ConditionalOnMissingBean(ISubscriptionManagerFactory.class)
     public ISubscriptionManagerFactory subscriptionManagerFactory() {
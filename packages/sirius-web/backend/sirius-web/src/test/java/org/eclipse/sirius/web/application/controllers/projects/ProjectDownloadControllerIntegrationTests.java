@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -174,6 +174,25 @@ public class ProjectDownloadControllerIntegrationTests extends AbstractIntegrati
         }
     }
 
+    @Test
+    @DisplayName("Given a project, when the download of the project is requested, then the zip is streamed")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenProjectWhenTheDownloadOfProjectIsRequestedThenTheZipIsStreamed() {
+        this.givenCommittedTransaction.commit();
+
+        var response = this.download(TestIdentifiers.ECORE_SAMPLE_PROJECT);
+        assertThat(response.getHeaders().getContentLength()).isEqualTo(-1);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.TRANSFER_ENCODING)).isEqualTo("chunked");
+
+        try (var inputStream = new ZipInputStream(response.getBody().getInputStream())) {
+            var zipEntries = this.toZipEntries(inputStream);
+            assertThat(zipEntries).containsKey("Ecore Sample/manifest.json");
+        } catch (IOException exception) {
+            fail(exception.getMessage());
+        }
+    }
+
     private ResponseEntity<Resource> download(UUID projectId) {
         var uri = "http://localhost:" + this.port + "/api/projects/" + projectId.toString();
 
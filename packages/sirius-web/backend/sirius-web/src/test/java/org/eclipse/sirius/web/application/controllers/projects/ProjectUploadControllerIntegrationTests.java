@@ -23,8 +23,12 @@ import com.jayway.jsonpath.JsonPath;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -32,6 +36,9 @@ import org.eclipse.sirius.components.graphql.controllers.GraphQLPayload;
 import org.eclipse.sirius.emfjson.resource.JsonResourceFactoryImpl;
 import org.eclipse.sirius.web.AbstractIntegrationTests;
 import org.eclipse.sirius.web.application.project.dto.UploadProjectInput;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
 import org.eclipse.sirius.web.domain.boundedcontexts.project.services.api.IProjectSearchService;
 import org.eclipse.sirius.web.tests.services.api.IGivenInitialServerState;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,6 +49,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -74,6 +82,9 @@ public class ProjectUploadControllerIntegrationTests extends AbstractIntegration
     @Autowired
     private IProjectSearchService projectSearchService;
 
+    @Autowired
+    private ISemanticDataSearchService semanticDataSearchService;
+
     @BeforeEach
     public void beforeEach() {
         this.givenInitialServerState.initialize();
@@ -87,6 +98,27 @@ public class ProjectUploadControllerIntegrationTests extends AbstractIntegration
         this.checkImportedProject(this.upload(zipByte));
     }
 
+    @Test
+    @DisplayName("Given a project with several documents, when the upload of the project is requested, then all the documents are available")
+    @Sql(scripts = { "/scripts/cleanup.sql" }, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenProjectWithSeveralDocumentsWhenTheUploadOfProjectIsRequestedThenAllTheDocumentsAreAvailable() {
+        Map<String, String> documentIdsToName = new LinkedHashMap<>();
+        for (int i = 0; i < 5; i++) {
+            documentIdsToName.put(UUID.randomUUID().toString(), "Document " + i);
+        }
+        var response = this.upload(this.getZipTestFile(documentIdsToName));
+        this.checkImportedProject(response);
+
+        String newProjectId = JsonPath.read(response, "$.data.uploadProject.project.id");
+        var documentNames = this.semanticDataSearchService.findByProject(AggregateReference.to(UUID.fromString(newProjectId)))
+                .map(SemanticData::getDocuments)
+                .orElse(Set.of())
+                .stream()
+                .map(Document::getName)
+                .collect(Collectors.toSet());
+        assertThat(documentNames).containsExactlyInAnyOrderElementsOf(documentIdsToName.values());
+    }
+
     private String upload(byte[] zipByte) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.MULTIPART_FORM_DATA);
@@ -192,6 +224,31 @@ public class ProjectUploadControllerIntegrationTests extends AbstractIntegration
         return zipByte;
     }
 
+    private byte[] getZipTestFile(Map<String, String> documentIdsToName) {
+        var manifest = Map.of(
+                "natures", List.of("ecore"),
+                "documentIdsToName", documentIdsToName,
+                "metamodels", List.of("http://www.eclipse.org/emf/2002/Ecore"),
+                "representations", Map.of()
+        );
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            zipOutputStream.putNextEntry(new ZipEntry(ECORE_SAMPLE + "/manifest.json"));
+            zipOutputStream.write(new ObjectMapper().writeValueAsBytes(manifest));
+            zipOutputStream.closeEntry();
+
+            for (var documentId : documentIdsToName.keySet()) {
+                zipOutputStream.putNextEntry(new ZipEntry(ECORE_SAMPLE + "/documents/" + documentId + "." + JsonResourceFactoryImpl.EXTENSION));
+                zipOutputStream.write(this.document(UUID.randomUUID().toString()).getBytes(StandardCharsets.UTF_8));
+                zipOutputStream.closeEntry();
+            }
+        } catch (IOException exception) {
+            fail(exception.getMessage());
+        }
+        return outputStream.toByteArray();
+    }
+
     private String manifest() {
         return """
             {
@@ -252,6 +309,10 @@ public class ProjectUploadControllerIntegrationTests extends AbstractIntegration
     }
 
     private String document() {
+        return this.document("3237b215-ae23-48d7-861e-f542a4b9a4b8");
+    }
+
+    private String document(String ePackageId) {
         return """
             {
               "json":{
@@ -263,7 +324,7 @@ public class ProjectUploadControllerIntegrationTests extends AbstractIntegration
               },
               "content":[
                 {
-                  "id":"3237b215-ae23-48d7-861e-f542a4b9a4b8",
+                  "id":"%s",
                   "eClass":"ecore:EPackage",
                   "data":{
                     "name":"Sample"
@@ -271,6 +332,6 @@ public class ProjectUploadControllerIntegrationTests extends AbstractIntegration
                 }
               ]
             }
-            """;
+            """.formatted(ePackageId);
     }
 }
@@ -20,12 +20,15 @@ import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
 import org.eclipse.sirius.components.collaborative.portals.dto.PortalEventInput;
 import org.eclipse.sirius.components.collaborative.portals.dto.PortalRefreshedEventPayload;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IObjectSearchService;
 import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.core.api.SuccessPayload;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
@@ -34,6 +37,8 @@ import org.eclipse.sirius.components.graphql.tests.ExecuteEditingContextFunction
 import org.eclipse.sirius.components.portals.tests.graphql.PortalEventSubscriptionRunner;
 import org.eclipse.sirius.web.AbstractIntegrationTests;
 import org.eclipse.sirius.web.data.TestIdentifiers;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
+import org.eclipse.sirius.web.tests.services.api.IGivenCommittedTransaction;
 import org.eclipse.sirius.web.tests.services.api.IGivenInitialServerState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -67,6 +72,15 @@ public class DanglingRepresentationControllerIntegrationTests extends AbstractIn
     @Autowired
     private ExecuteEditingContextFunctionRunner executeEditingContextFunctionRunner;
 
+    @Autowired
+    private IGivenCommittedTransaction givenCommittedTransaction;
+
+    @Autowired
+    private IObjectSearchService objectSearchService;
+
+    @Autowired
+    private IRepresentationMetadataSearchService representationMetadataSearchService;
+
     @BeforeEach
     public void beforeEach() {
         this.givenInitialServerState.initialize();
@@ -113,4 +127,34 @@ public class DanglingRepresentationControllerIntegrationTests extends AbstractIn
                 .expectComplete()
                 .verify(Duration.ofSeconds(10));
     }
+
+    @Test
+    @DisplayName("Given a project, when we delete the target object of a representation, then the representation is deleted")
+    @Sql(scripts = { "/scripts/initialize.sql" }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = { "/scripts/cleanup.sql" }, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenProjectWhenWeDeleteTheTargetObjectOfARepresentationThenTheRepresentationIsDeleted() {
+        this.givenCommittedTransaction.commit();
+
+        assertThat(this.representationMetadataSearchService.existsById(TestIdentifiers.EPACKAGE_PORTAL_REPRESENTATION)).isTrue();
+
+        BiFunction<IEditingContext, IInput, IPayload> function = (editingContext, input) -> {
+            this.objectSearchService.getObject(editingContext, TestIdentifiers.EPACKAGE_OBJECT.toString())
+                    .filter(EObject.class::isInstance)
+                    .map(EObject.class::cast)
+                    .ifPresent(EcoreUtil::delete);
+            return new SuccessPayload(input.id());
+        };
+
+        var inputId = UUID.randomUUID();
+        var changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, TestIdentifiers.ECORE_SAMPLE_PROJECT.toString(), () -> inputId);
+        var input = new ExecuteEditingContextFunctionInput(inputId, TestIdentifiers.ECORE_SAMPLE_PROJECT.toString(), function, changeDescription);
+        var payload = this.executeEditingContextFunctionRunner.execute(input).block();
+
+        assertThat(payload).isInstanceOf(SuccessPayload.class);
+
+        this.givenCommittedTransaction.commit();
+
+        assertThat(this.representationMetadataSearchService.existsById(TestIdentifiers.EPACKAGE_PORTAL_REPRESENTATION)).isFalse();
+        assertThat(this.representationMetadataSearchService.existsById(TestIdentifiers.EPACKAGE_EMPTY_PORTAL_REPRESENTATION)).isFalse();
+    }
 }
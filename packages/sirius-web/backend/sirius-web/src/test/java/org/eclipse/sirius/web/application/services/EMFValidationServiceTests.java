@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EValidator;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.impl.EValidatorRegistryImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.emf.services.EditingContextCrossReferenceAdapter;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.web.application.editingcontext.services.ResourceChangeTracker;
+import org.eclipse.sirius.web.application.validation.services.EMFValidationService;
+import org.eclipse.sirius.web.application.validation.services.ValidationCacheInitializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the cache of the diagnostics used by the EMF validation service.
+ *
+ * @author sbegaudeau
+ */
+public class EMFValidationServiceTests {
+
+    private final CountingValidator validator = new CountingValidator();
+
+    private EMFValidationService validationService;
+
+    private IEMFEditingContext editingContext;
+
+    private EClass abstractCandidate;
+
+    private EReference reference;
+
+    private EClass referenceOwner;
+
+    @BeforeEach
+    public void setup() {
+        EValidator.Registry eValidatorRegistry = new EValidatorRegistryImpl();
+        eValidatorRegistry.put(EcorePackage.eINSTANCE, this.validator);
+        this.validationService = new EMFValidationService(eValidatorRegistry, new ComposedAdapterFactory());
+
+        this.abstractCandidate = EcoreFactory.eINSTANCE.createEClass();
+        this.abstractCandidate.setName("Target");
+        EPackage targetPackage = EcoreFactory.eINSTANCE.createEPackage();
+        targetPackage.setName("target");
+        targetPackage.getEClassifiers().add(this.abstractCandidate);
+
+        this.reference = EcoreFactory.eINSTANCE.createEReference();
+        this.reference.setName("reference");
+        this.reference.setEType(this.abstractCandidate);
+        this.referenceOwner = EcoreFactory.eINSTANCE.createEClass();
+        this.referenceOwner.setName("Source");
+        this.referenceOwner.getEStructuralFeatures().add(this.reference);
+        EPackage sourcePackage = EcoreFactory.eINSTANCE.createEPackage();
+        sourcePackage.setName("source");
+        sourcePackage.getEClassifiers().add(this.referenceOwner);
+
+        var resourceSet = new ResourceSetImpl();
+        resourceSet.getResources().add(this.createResource("source", sourcePackage));
+        resourceSet.getResources().add(this.createResource("target", targetPackage));
+
+        // The adapters are installed like during the loading of an editing context
+        resourceSet.eAdapters().add(new EditingContextCrossReferenceAdapter());
+        resourceSet.eAdapters().add(new ResourceChangeTracker());
+
+        var domain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack(), resourceSet);
+        String editingContextId = UUID.randomUUID().toString();
+        this.editingContext = new IEMFEditingContext() {
+            @Override
+            public String getId() {
+                return editingContextId;
+            }
+
+            @Override
+            public AdapterFactoryEditingDomain getDomain() {
+                return domain;
+            }
+        };
+        new ValidationCacheInitializer().postProcess(this.editingContext);
+    }
+
+    private Resource createResource(String name, EObject content) {
+        Resource resource = new ResourceImpl(URI.createURI(IEMFEditingContext.RESOURCE_SCHEME + ":///" + name));
+        resource.getContents().add(content);
+        return resource;
+    }
+
+    @Test
+    public void testDiagnosticsReusedWithoutChanges() {
+        var diagnostics = this.validationService.validate(this.editingContext);
+        assertThat(diagnostics).isEmpty();
+        assertThat(this.validator.getCount(this.reference)).isEqualTo(1);
+        assertThat(this.validator.getCount(this.abstractCandidate)).isEqualTo(1);
+
+        this.validationService.validate(this.editingContext);
+        this.validationService.validate(this.reference, EcorePackage.Literals.ETYPED_ELEMENT__ETYPE);
+        assertThat(this.validator.getCount(this.reference)).isEqualTo(1);
+        assertThat(this.validator.getCount(this.abstractCandidate)).isEqualTo(1);
+    }
+
+    @Test
+    public void testDiagnosticsInvalidatedAfterChange() {
+        this.validationService.validate(this.editingContext);
+
+        this.referenceOwner.setName("NewSource");
+        this.validationService.validate(this.editingContext);
+
+        assertThat(this.validator.getCount(this.referenceOwner)).isEqualTo(2);
+        assertThat(this.validator.getCount(this.referenceOwner.getEPackage())).isEqualTo(2);
+        assertThat(this.validator.getCount(this.reference)).isEqualTo(1);
+        assertThat(this.validator.getCount(this.abstractCandidate)).isEqualTo(1);
+    }
+
+    @Test
+    public void testDiagnosticsInvalidatedAfterRemovalOfReferencedObject() {
+        this.validationService.validate(this.editingContext);
+
+        this.abstractCandidate.getEPackage().getEClassifiers().remove(this.abstractCandidate);
+        this.validationService.validate(this.editingContext);
+
+        assertThat(this.validator.getCount(this.reference)).isEqualTo(2);
+        assertThat(this.validator.getCount(this.referenceOwner.getEPackage())).isEqualTo(1);
+    }
+
+    @Test
+    public void testDiagnosticsInvalidatedAfterChangeOfReferencedObject() {
+        var diagnostics = this.validationService.validate(this.reference, EcorePackage.Literals.ETYPED_ELEMENT__ETYPE);
+        assertThat(diagnostics).isEmpty();
+
+        this.abstractCandidate.setAbstract(true);
+
+        diagnostics = this.validationService.validate(this.reference, EcorePackage.Literals.ETYPED_ELEMENT__ETYPE);
+        assertThat(diagnostics).hasSize(1);
+        assertThat(this.validationService.validate(this.editingContext)).hasSize(1);
+
+        this.abstractCandidate.setAbstract(false);
+
+        diagnostics = this.validationService.validate(this.reference, EcorePackage.Literals.ETYPED_ELEMENT__ETYPE);
+        assertThat(diagnostics).isEmpty();
+    }
+
+    /**
+     * Validator counting the validations of each object which reports the references to abstract classes.
+     *
+     * @author sbegaudeau
+     */
+    private final class CountingValidator implements EValidator {
+
+        private final Map<EObject, Integer> counts = new HashMap<>();
+
+        public int getCount(EObject eObject) {
+            return this.counts.getOrDefault(eObject, 0);
+        }
+
+        @Override
+        public boolean validate(EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context) {
+            return this.validate(eObject.eClass(), eObject, diagnostics, context);
+        }
+
+        @Override
+        public boolean validate(EClass eClass, EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context) {
+            this.counts.merge(eObject, 1, Integer::sum);
+
+            boolean isValid = true;
+            if (eObject instanceof EReference eReference && eReference.getEType() instanceof EClass eType && eType.isAbstract()) {
+                Object[] data = { eReference, EcorePackage.Literals.ETYPED_ELEMENT__ETYPE };
+                diagnostics.add(new BasicDiagnostic(Diagnostic.ERROR, "test", 0, "The type of the reference is abstract", data));
+                isValid = false;
+            }
+            return isValid;
+        }
+
+        @Override
+        public boolean validate(EDataType eDataType, Object value, DiagnosticChain diagnostics, Map<Object, Object> context) {
+            return true;
+        }
+    }
+}
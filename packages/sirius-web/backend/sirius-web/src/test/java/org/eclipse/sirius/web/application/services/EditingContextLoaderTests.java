@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.view.emf.ViewAQLInterpreterCacheAdapter;
+import org.eclipse.sirius.web.application.editingcontext.ChangeDescriptionHistory;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.editingcontext.services.EditingContextLoader;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceLoader;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataRevision;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests of the loading of the editing contexts.
+ *
+ * @author sbegaudeau
+ */
+public class EditingContextLoaderTests {
+
+    private static final int DOCUMENT_COUNT = 12;
+
+    private static final String DOCUMENT_CONTENT = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <ecore:EPackage xmi:version="2.0" xmlns:xmi="http://www.omg.org/XMI" xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+                xmlns:ecore="http://www.eclipse.org/emf/2002/Ecore" name="package%1$d" nsURI="package%1$d" nsPrefix="package%1$d">
+              <eClassifiers xsi:type="ecore:EClass" name="Class%1$d" eSuperTypes="sirius:///%2$s#//Class%3$d"/>
+            </ecore:EPackage>
+            """;
+
+    @Test
+    public void givenCrossReferencingDocumentsWhenTheyAreLoadedInParallelThenTheReferencesAreResolvedInTheResourceSetOfTheEditingContext() {
+        var semanticData = this.createSemanticData();
+        var meterRegistry = new SimpleMeterRegistry();
+        var editingContextLoader = new EditingContextLoader(new SemanticDataSearchService(semanticData), new XMIResourceLoader(), List.of(), List.of(), List.of(), 2, meterRegistry);
+
+        var editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack());
+        var changeDescriptionHistory = new ChangeDescriptionHistory(10, 1_000_000, meterRegistry.counter("evicted_change_descriptions"));
+        var editingContext = new EditingContext(UUID.randomUUID().toString(), editingDomain, new HashMap<>(), new ArrayList<>(), changeDescriptionHistory);
+        try {
+            editingContextLoader.load(editingContext, semanticData.getProject().getId());
+        } finally {
+            editingContextLoader.dispose();
+        }
+
+        ResourceSet resourceSet = editingDomain.getResourceSet();
+        var expectedURIs = semanticData.getDocuments().stream()
+                .map(document -> URI.createURI("sirius:///" + document.getId()))
+                .toList();
+        assertThat(resourceSet.getResources()).extracting(Resource::getURI).containsExactlyElementsOf(expectedURIs);
+
+        var superTypes = resourceSet.getResources().stream()
+                .map(resource -> (EPackage) resource.getContents().get(0))
+                .map(ePackage -> (EClass) ePackage.getEClassifiers().get(0))
+                .flatMap(eClass -> eClass.getESuperTypes().stream())
+                .toList();
+        assertThat(superTypes).hasSize(DOCUMENT_COUNT).noneMatch(EClass::eIsProxy);
+        assertThat(superTypes).allMatch(superType -> superType.eResource().getResourceSet() == resourceSet);
+        assertThat(resourceSet.eAdapters()).hasAtLeastOneElementOfType(ViewAQLInterpreterCacheAdapter.class);
+
+        assertThat(meterRegistry.get("timer_parse_documents").tag("parallel", "true").timer().count()).isEqualTo(1);
+    }
+
+    private SemanticData createSemanticData() {
+        var documentIds = new ArrayList<UUID>();
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            documentIds.add(UUID.randomUUID());
+        }
+
+        // Each package references a class of the previous document and the first one a class of the last document
+        Set<Document> documents = new LinkedHashSet<>();
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            int referencedIndex = (i + DOCUMENT_COUNT - 1) % DOCUMENT_COUNT;
+            var document = Document.newDocument(documentIds.get(i))
+                    .name("document" + i)
+                    .content(DOCUMENT_CONTENT.formatted(i, documentIds.get(referencedIndex), referencedIndex))
+                    .build();
+            documents.add(document);
+        }
+
+        return SemanticData.newSemanticData()
+                .project(AggregateReference.to(UUID.randomUUID()))
+                .documents(documents)
+                .domains(List.of(EcorePackage.eINSTANCE.getNsURI()))
+                .build(null);
+    }
+
+    /**
+     * Search service returning a single semantic data.
+     *
+     * @author sbegaudeau
+     */
+    private static final class SemanticDataSearchService implements ISemanticDataSearchService {
+
+        private final SemanticData semanticData;
+
+        SemanticDataSearchService(SemanticData semanticData) {
+            this.semanticData = semanticData;
+        }
+
+        @Override
+        public Optional<SemanticData> findByProject(AggregateReference<Project, UUID> project) {
+            return Optional.of(this.semanticData).filter(candidate -> candidate.getProject().getId().equals(project.getId()));
+        }
+
+        @Override
+        public Optional<SemanticData> findById(UUID id) {
+            return Optional.of(this.semanticData).filter(candidate -> candidate.getId().equals(id));
+        }
+
+        @Override
+        public List<SemanticData> findAllByDomains(List<String> domainUris) {
+            return List.of(this.semanticData);
+        }
+
+        @Override
+        public List<SemanticDataRevision> findAllRevisionsByDomains(List<String> domainUris) {
+            return List.of(new SemanticDataRevision(this.semanticData.getId(), this.semanticData.getLastModifiedOn()));
+        }
+    }
+
+    /**
+     * Resource loader parsing the content of the documents as XMI.
+     *
+     * @author sbegaudeau
+     */
+    private static final class XMIResourceLoader implements IResourceLoader {
+
+        @Override
+        public Optional<Resource> toResource(ResourceSet resourceSet, String id, String name, String content, boolean applyMigrationParticipants) {
+            Resource resource = new XMIResourceImpl(URI.createURI("sirius:///" + id));
+            resourceSet.getResources().add(resource);
+
+            Optional<Resource> optionalResource = Optional.empty();
+            try (var inputStream = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))) {
+                resource.load(inputStream, Map.of());
+                optionalResource = Optional.of(resource);
+            } catch (IOException exception) {
+                resourceSet.getResources().remove(resource);
+            }
+            return optionalResource;
+        }
+    }
+}
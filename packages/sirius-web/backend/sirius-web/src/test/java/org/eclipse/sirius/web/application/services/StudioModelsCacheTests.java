@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.domain.DomainFactory;
+import org.eclipse.sirius.components.domain.DomainPackage;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceLoader;
+import org.eclipse.sirius.web.application.studio.services.StudioModelsCache;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioColorPalettesLoader;
+import org.eclipse.sirius.web.domain.boundedcontexts.project.Project;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataRevision;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataDocumentsUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+/**
+ * Tests of the cache of the parsed studios.
+ *
+ * @author sbegaudeau
+ */
+public class StudioModelsCacheTests {
+
+    private static final String DOMAIN_NAME = "buck";
+
+    @Test
+    public void givenStudioWhenModelsAreRequestedTwiceThenTheStudioIsParsedOnce() {
+        var semanticData = this.createStudio();
+        var resourceLoader = new CountingResourceLoader();
+        var studioModelsCache = new StudioModelsCache(new SemanticDataSearchService(semanticData), resourceLoader, new NoColorPalettesLoader());
+
+        var firstStudioModels = studioModelsCache.getStudioModels(false);
+        var secondStudioModels = studioModelsCache.getStudioModels(false);
+
+        assertThat(resourceLoader.getCount()).isEqualTo(1);
+        assertThat(firstStudioModels).hasSize(1);
+        assertThat(firstStudioModels.get(0).domains()).extracting(Domain::getName).containsExactly(DOMAIN_NAME);
+        assertThat(secondStudioModels.get(0)).isSameAs(firstStudioModels.get(0));
+    }
+
+    @Test
+    public void givenParsedStudioWhenItsDocumentsAreUpdatedThenTheStudioIsParsedAgain() {
+        var semanticData = this.createStudio();
+        var resourceLoader = new CountingResourceLoader();
+        var studioModelsCache = new StudioModelsCache(new SemanticDataSearchService(semanticData), resourceLoader, new NoColorPalettesLoader());
+
+        var firstStudioModels = studioModelsCache.getStudioModels(false);
+        studioModelsCache.onSemanticDataDocumentsUpdatedEvent(this.createDocumentsUpdatedEvent(semanticData));
+        var secondStudioModels = studioModelsCache.getStudioModels(false);
+
+        assertThat(resourceLoader.getCount()).isEqualTo(2);
+        assertThat(secondStudioModels.get(0)).isNotSameAs(firstStudioModels.get(0));
+    }
+
+    @Test
+    public void givenParsedStudioWhenItIsModifiedWithoutBeingNotifiedThenTheStudioIsParsedAgain() {
+        var semanticData = this.createStudio();
+        var resourceLoader = new CountingResourceLoader();
+        var studioModelsCache = new StudioModelsCache(new SemanticDataSearchService(semanticData), resourceLoader, new NoColorPalettesLoader());
+
+        var firstStudioModels = studioModelsCache.getStudioModels(false);
+
+        // The studio is modified by another server, its last modification date is the only change visible here
+        var document = Document.newDocument(semanticData.getDocuments().iterator().next().getId())
+                .name(DOMAIN_NAME)
+                .content("doe")
+                .build();
+        semanticData.updateDocuments(null, Set.of(document), Set.of(DomainPackage.eNS_URI));
+        var secondStudioModels = studioModelsCache.getStudioModels(false);
+
+        assertThat(resourceLoader.getCount()).isEqualTo(2);
+        assertThat(secondStudioModels.get(0).domains()).extracting(Domain::getName).containsExactly("doe");
+        assertThat(studioModelsCache.getStudioModels(false).get(0)).isSameAs(secondStudioModels.get(0));
+        assertThat(secondStudioModels.get(0)).isNotSameAs(firstStudioModels.get(0));
+    }
+
+    @Test
+    public void givenStudioBeingParsedWhenItsDocumentsAreUpdatedThenTheStaleModelsAreNotReused() {
+        var semanticData = this.createStudio();
+        var resourceLoader = new CountingResourceLoader();
+        var studioModelsCache = new StudioModelsCache(new SemanticDataSearchService(semanticData), resourceLoader, new NoColorPalettesLoader());
+
+        // The update is committed after the semantic data have been read but before the end of the parsing
+        resourceLoader.setOnLoad(() -> studioModelsCache.onSemanticDataDocumentsUpdatedEvent(this.createDocumentsUpdatedEvent(semanticData)));
+        studioModelsCache.getStudioModels(false);
+
+        resourceLoader.setOnLoad(() -> { });
+        studioModelsCache.getStudioModels(false);
+        studioModelsCache.getStudioModels(false);
+
+        assertThat(resourceLoader.getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void givenStudioWhenModelsAreRequestedWithAndWithoutMigrationParticipantsThenBothAreCached() {
+        var semanticData = this.createStudio();
+        var resourceLoader = new CountingResourceLoader();
+        var studioModelsCache = new StudioModelsCache(new SemanticDataSearchService(semanticData), resourceLoader, new NoColorPalettesLoader());
+
+        studioModelsCache.getStudioModels(false);
+        studioModelsCache.getStudioModels(true);
+        studioModelsCache.getStudioModels(false);
+        studioModelsCache.getStudioModels(true);
+
+        assertThat(resourceLoader.getCount()).isEqualTo(2);
+    }
+
+    private SemanticData createStudio() {
+        var document = Document.newDocument(UUID.randomUUID())
+                .name(DOMAIN_NAME)
+                .content(DOMAIN_NAME)
+                .build();
+        return SemanticData.newSemanticData()
+                .project(AggregateReference.to(UUID.randomUUID()))
+                .documents(Set.of(document))
+                .domains(List.of(DomainPackage.eNS_URI))
+                .build(null);
+    }
+
+    private SemanticDataDocumentsUpdatedEvent createDocumentsUpdatedEvent(SemanticData semanticData) {
+        var documentIds = semanticData.getDocuments().stream()
+                .map(Document::getId)
+                .collect(Collectors.toSet());
+        return new SemanticDataDocumentsUpdatedEvent(UUID.randomUUID(), Instant.now(), null, semanticData.getId(), semanticData.getProject(), documentIds);
+    }
+
+    /**
+     * Search service returning a single studio.
+     *
+     * @author sbegaudeau
+     */
+    private static final class SemanticDataSearchService implements ISemanticDataSearchService {
+
+        private final SemanticData semanticData;
+
+        SemanticDataSearchService(SemanticData semanticData) {
+            this.semanticData = semanticData;
+        }
+
+        @Override
+        public Optional<SemanticData> findByProject(AggregateReference<Project, UUID> project) {
+            return Optional.of(this.semanticData).filter(candidate -> candidate.getProject().getId().equals(project.getId()));
+        }
+
+        @Override
+        public Optional<SemanticData> findById(UUID id) {
+            return Optional.of(this.semanticData).filter(candidate -> candidate.getId().equals(id));
+        }
+
+        @Override
+        public List<SemanticData> findAllByDomains(List<String> domainUris) {
+            return List.of(this.semanticData);
+        }
+
+        @Override
+        public List<SemanticDataRevision> findAllRevisionsByDomains(List<String> domainUris) {
+            return List.of(new SemanticDataRevision(this.semanticData.getId(), this.semanticData.getLastModifiedOn()));
+        }
+    }
+
+    /**
+     * Resource loader creating a domain named after the content of each document and counting its invocations.
+     *
+     * @author sbegaudeau
+     */
+    private static final class CountingResourceLoader implements IResourceLoader {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        private Runnable onLoad = () -> { };
+
+        @Override
+        public Optional<Resource> toResource(ResourceSet resourceSet, String id, String name, String content, boolean applyMigrationParticipants) {
+            this.count.incrementAndGet();
+            this.onLoad.run();
+
+            Domain domain = DomainFactory.eINSTANCE.createDomain();
+            domain.setName(content);
+
+            Resource resource = new XMIResourceImpl(URI.createURI("sirius:///" + id));
+            resource.getContents().add(domain);
+            resourceSet.getResources().add(resource);
+            return Optional.of(resource);
+        }
+
+        public int getCount() {
+            return this.count.get();
+        }
+
+        public void setOnLoad(Runnable onLoad) {
+            this.onLoad = onLoad;
+        }
+    }
+
+    /**
+     * Color palettes loader which does not load anything.
+     *
+     * @author sbegaudeau
+     */
+    private static final class NoColorPalettesLoader implements IStudioColorPalettesLoader {
+        @Override
+        public Optional<View> loadStudioColorPalettes(ResourceSet resourceSet) {
+            return Optional.empty();
+        }
+    }
+}
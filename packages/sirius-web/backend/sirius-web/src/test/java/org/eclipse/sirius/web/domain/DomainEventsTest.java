@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -28,7 +28,9 @@ import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.R
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentSearchService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationContentUpdateService;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataDomain;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataDocumentsUpdatedEvent;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataUpdatedEvent;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataUpdateService;
@@ -196,6 +198,97 @@ public class DomainEventsTest extends AbstractIntegrationTests {
         assertThat(event instanceof SemanticDataUpdatedEvent semanticDataUpdateEvent && semanticDataUpdateEvent.semanticData().getDocuments().iterator().next().getContent().equals(newContent)).isTrue();
     }
 
+    @Test
+    @DisplayName("Given a document, updating only the modified documents produces a domain event and persists the new content")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenDocumentWhenModifiedDocumentsUpdatedThenDomainEventPublished() {
+        assertThat(this.domainEventCollector.getDomainEvents()).isEmpty();
+        AggregateReference<Project, UUID> projectId = AggregateReference.to(TestIdentifiers.ECORE_SAMPLE_PROJECT);
+
+        var optionalSemanticData = this.semanticDataSearchService.findByProject(projectId);
+        assertThat(optionalSemanticData).isPresent();
+
+        var semanticData = optionalSemanticData.get();
+
+        var optionalDocument = semanticData.getDocuments().stream().filter(doc -> doc.getId().equals(TestIdentifiers.ECORE_SAMPLE_DOCUMENT)).findFirst();
+        assertThat(optionalDocument).isPresent();
+        var originalDocument = optionalDocument.get();
+
+        var newContent = originalDocument.getContent() + "updated";
+        var updatedDocument = Document.newDocument(originalDocument.getId()).name(originalDocument.getName()).content(newContent).build();
+        this.semanticDataUpdateService.updateModifiedDocuments(null, projectId, Set.of(updatedDocument), semanticData.getDomains().stream().map(SemanticDataDomain::uri).collect(Collectors.toSet()));
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        assertThat(this.domainEventCollector.getDomainEvents()).hasSize(1);
+        var event = this.domainEventCollector.getDomainEvents().get(0);
+        assertThat(event).isInstanceOfSatisfying(SemanticDataDocumentsUpdatedEvent.class, documentsUpdatedEvent -> {
+            assertThat(documentsUpdatedEvent.semanticDataId()).isEqualTo(semanticData.getId());
+            assertThat(documentsUpdatedEvent.documentIds()).containsExactly(TestIdentifiers.ECORE_SAMPLE_DOCUMENT);
+        });
+
+        var persistedDocuments = this.semanticDataSearchService.findByProject(projectId).map(SemanticData::getDocuments).orElse(Set.of());
+        assertThat(persistedDocuments).hasSameSizeAs(semanticData.getDocuments());
+        assertThat(persistedDocuments)
+                .filteredOn(document -> document.getId().equals(TestIdentifiers.ECORE_SAMPLE_DOCUMENT))
+                .allMatch(document -> document.getContent().equals(newContent));
+    }
+
+    @Test
+    @DisplayName("Given a document, updating only the modified documents without one of their domains removes this domain")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenDocumentWhenModifiedDocumentsUpdatedWithoutOneOfTheirDomainsThenTheDomainIsRemoved() {
+        AggregateReference<Project, UUID> projectId = AggregateReference.to(TestIdentifiers.ECORE_SAMPLE_PROJECT);
+
+        var optionalSemanticData = this.semanticDataSearchService.findByProject(projectId);
+        assertThat(optionalSemanticData).isPresent();
+
+        var semanticData = optionalSemanticData.get();
+        assertThat(semanticData.getDomains()).extracting(SemanticDataDomain::uri).containsExactly("http://www.eclipse.org/emf/2002/Ecore");
+
+        var optionalDocument = semanticData.getDocuments().stream().filter(doc -> doc.getId().equals(TestIdentifiers.ECORE_SAMPLE_DOCUMENT)).findFirst();
+        assertThat(optionalDocument).isPresent();
+        var originalDocument = optionalDocument.get();
+
+        var emptyContent = """
+                {"json":{"version":"1.0","encoding":"utf-8"},"ns":{},"content":[]}
+                """;
+        var updatedDocument = Document.newDocument(originalDocument.getId()).name(originalDocument.getName()).content(emptyContent).build();
+        this.semanticDataUpdateService.updateModifiedDocuments(null, projectId, Set.of(updatedDocument), Set.of());
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        var persistedDomains = this.semanticDataSearchService.findByProject(projectId).map(SemanticData::getDomains).orElse(Set.of());
+        assertThat(persistedDomains).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given a document, updating only the modified documents with the same content does not produce a domain event")
+    @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = {"/scripts/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD, config = @SqlConfig(transactionMode = SqlConfig.TransactionMode.ISOLATED))
+    public void givenDocumentWhenModifiedDocumentsUpdatedWithSameContentThenNoDomainEventPublished() {
+        assertThat(this.domainEventCollector.getDomainEvents()).isEmpty();
+        AggregateReference<Project, UUID> projectId = AggregateReference.to(TestIdentifiers.ECORE_SAMPLE_PROJECT);
+
+        var optionalSemanticData = this.semanticDataSearchService.findByProject(projectId);
+        assertThat(optionalSemanticData).isPresent();
+
+        var semanticData = optionalSemanticData.get();
+
+        var optionalDocument = semanticData.getDocuments().stream().filter(doc -> doc.getId().equals(TestIdentifiers.ECORE_SAMPLE_DOCUMENT)).findFirst();
+        assertThat(optionalDocument).isPresent();
+        var originalDocument = optionalDocument.get();
+
+        var updatedDocument = Document.newDocument(originalDocument.getId()).name(originalDocument.getName()).content(originalDocument.getContent()).build();
+        this.semanticDataUpdateService.updateModifiedDocuments(null, projectId, Set.of(updatedDocument), semanticData.getDomains().stream().map(SemanticDataDomain::uri).collect(Collectors.toSet()));
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        assertThat(this.domainEventCollector.getDomainEvents()).isEmpty();
+    }
+
     @Test
     @DisplayName("Given a representations, updating its content with a different value produces a domain event")
     @Sql(scripts = {"/scripts/initialize.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,8 +12,11 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.tables.components;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.IntStream;
 
@@ -25,8 +28,6 @@ import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.components.tables.Column;
 import org.eclipse.sirius.components.tables.descriptions.ColumnDescription;
 import org.eclipse.sirius.components.tables.elements.ColumnElementProps;
-import org.eclipse.sirius.components.tables.events.ChangeTableColumnVisibilityEvent;
-import org.eclipse.sirius.components.tables.events.ResizeTableColumnEvent;
 
 /**
  * The component used to render lines.
@@ -53,15 +54,18 @@ public class ColumnComponent implements IComponent {
                     return columnDescription.getShouldRenderPredicate().test(instanceVariableManager);
                 }).toList();
 
+        Map<UUID, Column> previousColumnsById = new HashMap<>();
+        this.props.previousColumns().forEach(column -> previousColumnsById.putIfAbsent(column.getId(), column));
+
         List<Element> children = IntStream.range(0, elements.size())
-                .mapToObj(index -> this.doRender(variableManager, elements.get(index), index))
+                .mapToObj(index -> this.doRender(variableManager, elements.get(index), index, previousColumnsById))
                 .toList();
 
         FragmentProps fragmentProps = new FragmentProps(children);
         return new Fragment(fragmentProps);
     }
 
-    private Element doRender(VariableManager variableManager, Object object, int index) {
+    private Element doRender(VariableManager variableManager, Object object, int index, Map<UUID, Column> previousColumnsById) {
         ColumnDescription columnDescription = this.props.columnDescription();
 
         VariableManager columnVariableManager = variableManager.createChild();
@@ -80,28 +84,13 @@ public class ColumnComponent implements IComponent {
         UUID columnId = this.computeColumnId(targetObjectId);
         this.props.cache().putColumnObject(columnId, object);
 
-        var width = this.props.tableEvents().stream()
-                .filter(ResizeTableColumnEvent.class::isInstance)
-                .map(ResizeTableColumnEvent.class::cast)
-                .filter(resizeTableColumnEvent -> resizeTableColumnEvent.columnId().equals(columnId.toString()))
-                .findFirst()
-                .map(ResizeTableColumnEvent::width)
-                .orElseGet(() -> this.props.previousColumns().stream()
-                        .filter(column -> column.getId().equals(columnId))
-                        .map(Column::getWidth)
-                        .findFirst().orElse(initialWidth));
-
-        boolean hidden = this.props.tableEvents().stream()
-                .filter(ChangeTableColumnVisibilityEvent.class::isInstance)
-                .map(ChangeTableColumnVisibilityEvent.class::cast)
-                .filter(changeTableColumnsVisibilityEvent -> changeTableColumnsVisibilityEvent.columnId().equals(columnId.toString()))
-                .findFirst()
-                .map(changeTableColumnsVisibilityEvent -> !changeTableColumnsVisibilityEvent.visible())
-                .orElseGet(() -> this.props.previousColumns().stream()
-                        .filter(column -> column.getId().equals(columnId))
-                        .map(Column::isHidden)
-                        .findFirst()
-                        .orElse(false));
+        var optionalPreviousColumn = Optional.ofNullable(previousColumnsById.get(columnId));
+        var width = this.props.cache().getColumnWidth(columnId)
+                .orElseGet(() -> optionalPreviousColumn.map(Column::getWidth).orElse(initialWidth));
+
+        boolean hidden = this.props.cache().getColumnVisibility(columnId)
+                .map(visible -> !visible)
+                .orElseGet(() -> optionalPreviousColumn.map(Column::isHidden).orElse(false));
 
         ColumnElementProps.Builder columnElementProps = ColumnElementProps.newColumnElementProps(columnId)
                 .descriptionId(columnDescription.getId())
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -34,8 +34,6 @@ import org.eclipse.sirius.components.tables.descriptions.MultiSelectCellDescript
 import org.eclipse.sirius.components.tables.descriptions.SelectCellDescription;
 import org.eclipse.sirius.components.tables.descriptions.TextfieldCellDescription;
 import org.eclipse.sirius.components.tables.elements.LineElementProps;
-import org.eclipse.sirius.components.tables.events.ResetTableRowsHeightEvent;
-import org.eclipse.sirius.components.tables.events.ResizeTableRowEvent;
 
 /**
  * The component used to render lines.
@@ -92,19 +90,10 @@ public class LineComponent implements IComponent {
         boolean resizable = lineDescription.getIsResizablePredicate().test(lineVariableManager);
         Integer initialHeight = lineDescription.getInitialHeightProvider().apply(lineVariableManager);
 
-        List<Element> children = new ArrayList<>();
-        children.addAll(cells);
-
-        var height = this.props.tableEvents().stream()
-                .filter(ResizeTableRowEvent.class::isInstance)
-                .map(ResizeTableRowEvent.class::cast)
-                .filter(resizeTableRowEvent -> resizeTableRowEvent.rowId().equals(rowId.toString()))
-                .findFirst()
-                .map(ResizeTableRowEvent::height)
-                .orElseGet(() -> optionalPreviousLine.stream()
-                        .map(Line::getHeight)
-                        .findFirst()
-                        .orElse(initialHeight));
+        List<Element> children = new ArrayList<>(cells);
+
+        var height = this.props.cache().getRowHeight(rowId)
+                .orElseGet(() -> optionalPreviousLine.map(Line::getHeight).orElse(initialHeight));
 
         LineElementProps.Builder rowElementProps = LineElementProps.newLineElementProps(rowId)
                 .descriptionId(lineDescription.getId())
@@ -117,29 +106,23 @@ public class LineComponent implements IComponent {
                 .resizable(resizable)
                 .height(height);
 
-        this.props.tableEvents().stream()
-                .filter(ResetTableRowsHeightEvent.class::isInstance)
-                .findFirst()
-                .ifPresent(iTableEvent -> rowElementProps.height(initialHeight));
+        if (this.props.cache().isResetRowsHeight()) {
+            rowElementProps.height(initialHeight);
+        }
 
         return new Element(LineElementProps.TYPE, rowElementProps.build());
     }
 
     private List<Element> getCells(VariableManager lineVariableManager, UUID parentLineId) {
-        List<Element> elements = new ArrayList<>();
         Map<UUID, Object> columnIdToObject = this.props.cache().getColumnIdToObject();
+        List<Element> elements = new ArrayList<>(columnIdToObject.size());
 
         columnIdToObject.forEach((columnId, columTargetObject) -> {
             VariableManager variableManager = lineVariableManager.createChild();
             variableManager.put(ColumnDescription.COLUMN_TARGET_OBJECT, columTargetObject);
 
-            String rawIdentifier = parentLineId.toString() + columnId;
-            UUID cellId = UUID.nameUUIDFromBytes(rawIdentifier.getBytes());
-
-            ICellDescription cellDescription = this.props.cellDescriptions().stream()
-                    .filter(cell -> cell.getCanCreatePredicate().test(variableManager))
-                    .findFirst()
-                    .orElse(null);
+            UUID cellId = this.computeCellId(parentLineId, columnId);
+            ICellDescription cellDescription = this.getCellDescription(variableManager);
 
             Element cellElement = null;
             if (cellDescription instanceof SelectCellDescription selectCellDescription) {
@@ -167,6 +150,20 @@ public class LineComponent implements IComponent {
 
     }
 
+    private ICellDescription getCellDescription(VariableManager cellVariableManager) {
+        for (ICellDescription cellDescription : this.props.cellDescriptions()) {
+            if (cellDescription.getCanCreatePredicate().test(cellVariableManager)) {
+                return cellDescription;
+            }
+        }
+        return null;
+    }
+
+    private UUID computeCellId(UUID lineId, UUID columnId) {
+        String rawIdentifier = lineId.toString() + columnId;
+        return UUID.nameUUIDFromBytes(rawIdentifier.getBytes());
+    }
+
     private UUID computeLineId(String targetObjectId) {
         String parentElementId = this.props.parentElementId();
         LineDescription lineDescription = this.props.lineDescription();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -55,7 +55,7 @@ public class TableComponent implements IComponent {
         String targetObjectKind = tableDescription.getTargetObjectKindProvider().apply(variableManager);
         boolean stripeRow = tableDescription.getIsStripeRowPredicate().test(variableManager);
 
-        TableRenderingCache cache = new TableRenderingCache();
+        TableRenderingCache cache = new TableRenderingCache(this.props.tableEvents());
         ITableElementRequestor tableElementRequestor = new TableElementRequestor();
 
         var globalFilter = this.props.globalFilter();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,19 +12,60 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.tables.renderer;
 
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.eclipse.sirius.components.tables.events.ChangeTableColumnVisibilityEvent;
+import org.eclipse.sirius.components.tables.events.ITableEvent;
+import org.eclipse.sirius.components.tables.events.ResetTableRowsHeightEvent;
+import org.eclipse.sirius.components.tables.events.ResizeTableColumnEvent;
+import org.eclipse.sirius.components.tables.events.ResizeTableRowEvent;
+
 /**
  * Cache used during the rendering of a table.
  *
+ * <p>
+ * The table events are indexed by the id of the row or column that they target, in order to retrieve the events of a
+ * row or column without scanning all the events for each of them. When several events target the same row or column,
+ * the first one is kept.
+ * </p>
+ *
  * @author lfasani
  */
 public class TableRenderingCache {
 
     private final Map<UUID, Object> columnIdToObject = new LinkedHashMap<>();
 
+    private final Map<String, Integer> rowIdToHeight = new HashMap<>();
+
+    private final Map<String, Integer> columnIdToWidth = new HashMap<>();
+
+    private final Map<String, Boolean> columnIdToVisibility = new HashMap<>();
+
+    private boolean resetRowsHeight;
+
+    public TableRenderingCache() {
+        this(List.of());
+    }
+
+    public TableRenderingCache(List<ITableEvent> tableEvents) {
+        for (ITableEvent tableEvent : tableEvents) {
+            if (tableEvent instanceof ResizeTableRowEvent resizeTableRowEvent) {
+                this.rowIdToHeight.putIfAbsent(resizeTableRowEvent.rowId(), resizeTableRowEvent.height());
+            } else if (tableEvent instanceof ResetTableRowsHeightEvent) {
+                this.resetRowsHeight = true;
+            } else if (tableEvent instanceof ResizeTableColumnEvent resizeTableColumnEvent) {
+                this.columnIdToWidth.putIfAbsent(resizeTableColumnEvent.columnId(), resizeTableColumnEvent.width());
+            } else if (tableEvent instanceof ChangeTableColumnVisibilityEvent changeTableColumnVisibilityEvent) {
+                this.columnIdToVisibility.putIfAbsent(changeTableColumnVisibilityEvent.columnId(), changeTableColumnVisibilityEvent.visible());
+            }
+        }
+    }
+
     public void putColumnObject(UUID columnId, Object object) {
         this.columnIdToObject.put(columnId, object);
     }
@@ -33,4 +74,29 @@ public class TableRenderingCache {
         return this.columnIdToObject;
     }
 
+    public Optional<Integer> getRowHeight(UUID rowId) {
+        if (this.rowIdToHeight.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.rowIdToHeight.get(rowId.toString()));
+    }
+
+    public boolean isResetRowsHeight() {
+        return this.resetRowsHeight;
+    }
+
+    public Optional<Integer> getColumnWidth(UUID columnId) {
+        if (this.columnIdToWidth.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.columnIdToWidth.get(columnId.toString()));
+    }
+
+    public Optional<Boolean> getColumnVisibility(UUID columnId) {
+        if (this.columnIdToVisibility.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(this.columnIdToVisibility.get(columnId.toString()));
+    }
+
 }
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.tables.components;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.GetOrCreateRandomIdProvider;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.components.tables.ICell;
+import org.eclipse.sirius.components.tables.Table;
+import org.eclipse.sirius.components.tables.descriptions.ColumnDescription;
+import org.eclipse.sirius.components.tables.descriptions.LineDescription;
+import org.eclipse.sirius.components.tables.descriptions.PaginatedData;
+import org.eclipse.sirius.components.tables.descriptions.TableDescription;
+import org.eclipse.sirius.components.tables.descriptions.TextfieldCellDescription;
+import org.eclipse.sirius.components.tables.renderer.TableRenderer;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the ids of the cells rendered by the line component.
+ *
+ * @author sbegaudeau
+ */
+public class LineComponentTests {
+
+    private static final String TABLE_ID = "7ea5d3b1-6c0c-4c4a-9a55-43e3b6c22e5f";
+
+    private static final List<Object> LINES = List.of("line-0", "line-1", "line-2");
+
+    private static final List<Object> COLUMNS = List.of("column-0", "column-1");
+
+    @Test
+    public void testCellIdsAreUnique() {
+        Table table = this.render(this.getTableDescription(), Optional.empty());
+
+        List<UUID> cellIds = this.getCellIds(table);
+        assertThat(cellIds).hasSize(LINES.size() * COLUMNS.size()).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void testCellIdsAreStable() {
+        TableDescription tableDescription = this.getTableDescription();
+        Table table = this.render(tableDescription, Optional.empty());
+        Table refreshedTable = this.render(tableDescription, Optional.of(table));
+        Table otherTable = this.render(tableDescription, Optional.empty());
+
+        List<UUID> cellIds = this.getCellIds(table);
+        assertThat(this.getCellIds(refreshedTable)).isEqualTo(cellIds);
+        assertThat(this.getCellIds(otherTable)).isEqualTo(cellIds);
+
+        table.getLines().forEach(line -> line.getCells().forEach(cell -> {
+            UUID expectedCellId = UUID.nameUUIDFromBytes((line.getId().toString() + cell.getColumnId()).getBytes());
+            assertThat(cell.getId()).isEqualTo(expectedCellId);
+        }));
+    }
+
+    private List<UUID> getCellIds(Table table) {
+        return table.getLines().stream()
+                .flatMap(line -> line.getCells().stream())
+                .map(ICell::getId)
+                .toList();
+    }
+
+    private Table render(TableDescription tableDescription, Optional<Table> optionalPreviousTable) {
+        var variableManager = new VariableManager();
+        variableManager.put(GetOrCreateRandomIdProvider.PREVIOUS_REPRESENTATION_ID, TABLE_ID);
+        var props = new TableComponentProps(variableManager, tableDescription, optionalPreviousTable, List.of(), "", List.of());
+        return new TableRenderer().render(new Element(TableComponent.class, props));
+    }
+
+    private TableDescription getTableDescription() {
+        LineDescription lineDescription = LineDescription.newLineDescription("lineDescription")
+                .targetObjectIdProvider(this::getSelf)
+                .targetObjectKindProvider(variableManager -> "")
+                .semanticElementsProvider(variableManager -> new PaginatedData(LINES, false, false, LINES.size()))
+                .shouldRenderPredicate(variableManager -> true)
+                .headerLabelProvider(this::getSelf)
+                .headerIconURLsProvider(variableManager -> List.of())
+                .headerIndexLabelProvider(variableManager -> "")
+                .initialHeightProvider(variableManager -> 53)
+                .isResizablePredicate(variableManager -> false)
+                .build();
+
+        ColumnDescription columnDescription = ColumnDescription.newColumnDescription("columnDescription")
+                .headerLabelProvider(this::getSelf)
+                .headerIconURLsProvider(variableManager -> List.of())
+                .headerIndexLabelProvider(variableManager -> "")
+                .targetObjectIdProvider(this::getSelf)
+                .targetObjectKindProvider(variableManager -> "")
+                .semanticElementsProvider(variableManager -> COLUMNS)
+                .shouldRenderPredicate(variableManager -> true)
+                .initialWidthProvider(variableManager -> 180)
+                .isResizablePredicate(variableManager -> false)
+                .filterVariantProvider(variableManager -> "text")
+                .build();
+
+        TextfieldCellDescription cellDescription = TextfieldCellDescription.newTextfieldCellDescription("cellDescription")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "")
+                .targetObjectKindProvider(variableManager -> "")
+                .cellValueProvider((variableManager, columnTargetObject) -> this.getSelf(variableManager) + "-" + columnTargetObject)
+                .build();
+
+        return TableDescription.newTableDescription("tableDescription")
+                .label("Table")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "tableTargetObjectId")
+                .targetObjectKindProvider(variableManager -> "")
+                .labelProvider(variableManager -> "Table")
+                .isStripeRowPredicate(variableManager -> false)
+                .lineDescription(lineDescription)
+                .columnDescriptions(List.of(columnDescription))
+                .cellDescriptions(List.of(cellDescription))
+                .iconURLsProvider(variableManager -> List.of())
+                .build();
+    }
+
+    private String getSelf(VariableManager variableManager) {
+        return variableManager.get(VariableManager.SELF, String.class).orElse("");
+    }
+}
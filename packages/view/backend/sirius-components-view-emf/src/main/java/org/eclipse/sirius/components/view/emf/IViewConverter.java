@@ -15,6 +15,7 @@ package org.eclipse.sirius.components.view.emf;
 import java.util.List;
 
 import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
 import org.eclipse.sirius.components.view.View;
 
@@ -30,6 +31,12 @@ public interface IViewConverter {
      */
     List<IRepresentationDescription> convert(List<View> views, List<EPackage> visibleEPackages);
 
+    /**
+     * Extract and convert the {@link IRepresentationDescription} from a list of {@link View} models for the given
+     * editing context, the result of the conversion may be reused for this editing context only.
+     */
+    List<IRepresentationDescription> convert(IEditingContext editingContext, List<View> views, List<EPackage> visibleEPackages);
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -41,5 +48,10 @@ public interface IViewConverter {
         public List<IRepresentationDescription> convert(List<View> views, List<EPackage> visibleEPackages) {
             return List.of();
         }
+
+        @Override
+        public List<IRepresentationDescription> convert(IEditingContext editingContext, List<View> views, List<EPackage> visibleEPackages) {
+            return List.of();
+        }
     }
 }
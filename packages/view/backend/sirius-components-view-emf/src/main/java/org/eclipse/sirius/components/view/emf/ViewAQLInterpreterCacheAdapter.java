@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.view.emf;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+
+/**
+ * Keeps the AQL interpreters of the views used in an editing context.
+ *
+ * <p>
+ * It is installed on the resource set of the editing context during its loading, the interpreters along with their
+ * Java services and their cache of parsed expressions are thus never shared with another editing context and they are
+ * released with the editing context.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class ViewAQLInterpreterCacheAdapter extends AdapterImpl {
+
+    private final Map<ViewInterpreterKey, AQLInterpreter> interpreters = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the interpreter of the given revision of a view, it is created the first time it is requested.
+     *
+     * @param viewRevision
+     *         The revision of the view
+     * @param visibleEPackages
+     *         The EPackages visible by the AQL interpreter
+     * @param interpreterSupplier
+     *         Used to create the interpreter if needed
+     * @return The interpreter of the view
+     */
+    public AQLInterpreter getOrCreateInterpreter(ViewRevision viewRevision, Set<EPackage> visibleEPackages, Supplier<AQLInterpreter> interpreterSupplier) {
+        // The interpreters of the previous revisions of the view will never be requested again
+        this.interpreters.keySet().removeIf(key -> key.viewRevision().view() == viewRevision.view() && key.viewRevision().revision() != viewRevision.revision());
+
+        return this.interpreters.computeIfAbsent(new ViewInterpreterKey(viewRevision, visibleEPackages), key -> interpreterSupplier.get());
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == ViewAQLInterpreterCacheAdapter.class;
+    }
+
+    /**
+     * The key of the interpreter of a view.
+     *
+     * @param viewRevision
+     *         The revision of the view
+     * @param visibleEPackages
+     *         The EPackages visible by the AQL interpreter
+     *
+     * @author sbegaudeau
+     */
+    private record ViewInterpreterKey(ViewRevision viewRevision, Set<EPackage> visibleEPackages) {
+    }
+}
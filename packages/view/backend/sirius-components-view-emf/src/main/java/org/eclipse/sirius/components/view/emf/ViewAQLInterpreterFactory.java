@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,11 +15,14 @@ package org.eclipse.sirius.components.view.emf;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.acceleo.query.runtime.IReadOnlyQueryEnvironment;
 import org.eclipse.acceleo.query.runtime.IServiceProvider;
 import org.eclipse.acceleo.query.runtime.ServiceUtils;
 import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.sirius.components.collaborative.diagrams.DiagramServices;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.diagrams.Node;
@@ -37,6 +40,14 @@ import org.springframework.stereotype.Service;
 /**
  * Used to create an AQL interpreter parameterized for the view DSL.
  *
+ * <p>
+ * The interpreters requested for an EMF editing context are cached by the {@link ViewAQLInterpreterCacheAdapter}
+ * installed on its resource set during its loading, if any, for a given revision of the view and a given set of
+ * visible EPackages. A modification of the view or of the EPackages of the editing context thus leads
+ * to the creation of a new interpreter while the palette and the tools of an unmodified view share the same interpreter
+ * along with its Java services and its cache of parsed expressions.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -58,7 +69,21 @@ public class ViewAQLInterpreterFactory implements IViewAQLInterpreterFactory {
 
     @Override
     public AQLInterpreter createInterpreter(IEditingContext editingContext, View view) {
-        List<EPackage> visibleEPackages = this.getAccessibleEPackages(editingContext);
+        AQLInterpreter interpreter;
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            ResourceSet resourceSet = emfEditingContext.getDomain().getResourceSet();
+            List<EPackage> visibleEPackages = this.getAccessibleEPackages(resourceSet);
+            interpreter = this.getCacheAdapter(resourceSet)
+                    .map(cacheAdapter -> cacheAdapter.getOrCreateInterpreter(ViewRevision.of(view), Set.copyOf(visibleEPackages), () -> this.createInterpreter(view, visibleEPackages)))
+                    .orElseGet(() -> this.createInterpreter(view, visibleEPackages));
+        } else {
+            interpreter = this.createInterpreter(view, List.of());
+        }
+        return interpreter;
+    }
+
+    @Override
+    public AQLInterpreter createInterpreter(View view, List<EPackage> visibleEPackages) {
         AutowireCapableBeanFactory beanFactory = this.applicationContext.getAutowireCapableBeanFactory();
         List<Object> serviceInstances = this.javaServiceProviders.stream()
                 .flatMap(provider -> provider.getServiceClasses(view).stream())
@@ -76,14 +101,17 @@ public class ViewAQLInterpreterFactory implements IViewAQLInterpreterFactory {
         return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages);
     }
 
-    private List<EPackage> getAccessibleEPackages(IEditingContext editingContext) {
-        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
-            EPackage.Registry packageRegistry = emfEditingContext.getDomain().getResourceSet().getPackageRegistry();
-            return packageRegistry.values().stream()
-                    .filter(EPackage.class::isInstance)
-                    .map(EPackage.class::cast)
-                    .toList();
-        }
-        return List.of();
+    private List<EPackage> getAccessibleEPackages(ResourceSet resourceSet) {
+        return resourceSet.getPackageRegistry().values().stream()
+                .filter(EPackage.class::isInstance)
+                .map(EPackage.class::cast)
+                .toList();
+    }
+
+    private Optional<ViewAQLInterpreterCacheAdapter> getCacheAdapter(ResourceSet resourceSet) {
+        return resourceSet.eAdapters().stream()
+                .filter(ViewAQLInterpreterCacheAdapter.class::isInstance)
+                .map(ViewAQLInterpreterCacheAdapter.class::cast)
+                .findFirst();
     }
 }
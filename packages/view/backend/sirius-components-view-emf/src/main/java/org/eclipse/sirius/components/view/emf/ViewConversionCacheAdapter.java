@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.view.emf;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+
+/**
+ * Keeps the representation descriptions converted from the views used in an editing context.
+ *
+ * <p>
+ * It is installed on the resource set of the editing context during its loading, the representation descriptions and
+ * the AQL interpreter they capture are thus never shared with another editing context and they are released with the
+ * editing context.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class ViewConversionCacheAdapter extends AdapterImpl {
+
+    private final Map<ViewConversionKey, List<IRepresentationDescription>> conversions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the representation descriptions converted from the given revision of a view, the conversion is only
+     * performed the first time they are requested.
+     *
+     * @param viewRevision
+     *         The revision of the view
+     * @param visibleEPackages
+     *         The EPackages visible by the AQL interpreter
+     * @param converter
+     *         Used to convert the view if needed, a failed conversion is not kept
+     * @return The representation descriptions of the view or an empty optional if the view could not be converted
+     */
+    public Optional<List<IRepresentationDescription>> getOrConvert(ViewRevision viewRevision, Set<EPackage> visibleEPackages, Supplier<Optional<List<IRepresentationDescription>>> converter) {
+        // The conversions of the previous revisions of the view will never be requested again
+        this.conversions.keySet().removeIf(key -> key.viewRevision().view() == viewRevision.view() && key.viewRevision().revision() != viewRevision.revision());
+
+        var key = new ViewConversionKey(viewRevision, visibleEPackages);
+        var optionalRepresentationDescriptions = Optional.ofNullable(this.conversions.get(key));
+        if (optionalRepresentationDescriptions.isEmpty()) {
+            optionalRepresentationDescriptions = converter.get();
+            optionalRepresentationDescriptions.ifPresent(representationDescriptions -> this.conversions.put(key, representationDescriptions));
+        }
+        return optionalRepresentationDescriptions;
+    }
+
+    @Override
+    public boolean isAdapterForType(Object type) {
+        return type == ViewConversionCacheAdapter.class;
+    }
+
+    /**
+     * The key of the conversion of a view.
+     *
+     * @param viewRevision
+     *         The revision of the view
+     * @param visibleEPackages
+     *         The EPackages visible by the AQL interpreter
+     *
+     * @author sbegaudeau
+     */
+    private record ViewConversionKey(ViewRevision viewRevision, Set<EPackage> visibleEPackages) {
+    }
+}
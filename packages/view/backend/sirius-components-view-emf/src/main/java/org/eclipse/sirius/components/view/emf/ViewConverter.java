@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,21 +13,20 @@
 package org.eclipse.sirius.components.view.emf;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import org.eclipse.acceleo.query.runtime.IReadOnlyQueryEnvironment;
-import org.eclipse.acceleo.query.runtime.IServiceProvider;
-import org.eclipse.acceleo.query.runtime.ServiceUtils;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
-import org.eclipse.sirius.components.collaborative.diagrams.DiagramServices;
-import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
 import org.eclipse.sirius.components.view.RepresentationDescription;
@@ -35,16 +34,21 @@ import org.eclipse.sirius.components.view.View;
 import org.eclipse.sirius.components.view.diagram.DiagramDescription;
 import org.eclipse.sirius.components.view.diagram.DialogDescription;
 import org.eclipse.sirius.components.view.emf.api.IDialogDescriptionConverter;
+import org.eclipse.sirius.components.view.emf.api.IViewAQLInterpreterFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
-import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
 
 /**
  * Converts a View into an equivalent list of {@link RepresentationDescription}.
  *
+ * <p>
+ * The representation descriptions converted for an EMF editing context are cached by the
+ * {@link ViewConversionCacheAdapter} installed on its resource set during its loading, if any, for a given revision of
+ * the view and a given set of visible EPackages. They rely on the AQL interpreter of the editing context which is thus
+ * shared with the palette, the tools and the direct edit of the view.
+ * </p>
+ *
  * @author pcdavid
  */
 @Service
@@ -52,21 +56,15 @@ public class ViewConverter implements IViewConverter {
 
     private final Logger logger = LoggerFactory.getLogger(ViewConverter.class);
 
-    private final List<IJavaServiceProvider> javaServiceProviders;
+    private final IViewAQLInterpreterFactory aqlInterpreterFactory;
 
     private final List<IRepresentationDescriptionConverter> representationDescriptionConverters;
 
-    private final ApplicationContext applicationContext;
-
     private final List<IDialogDescriptionConverter> dialogDescriptionConverts;
 
-    public ViewConverter(List<IJavaServiceProvider> javaServiceProviders, List<IRepresentationDescriptionConverter> representationDescriptionConverters, ApplicationContext applicationContext, List<IDialogDescriptionConverter> dialogDescriptionConverts) {
-        this.javaServiceProviders = new ArrayList<>();
-        this.javaServiceProviders.addAll(Objects.requireNonNull(javaServiceProviders));
-        IServiceProvider nodeServiceProvider = (IReadOnlyQueryEnvironment queryEnvironment, boolean forWorkspace) -> ServiceUtils.getReceiverServices(null, Node.class).stream().toList();
-        this.javaServiceProviders.add((View view) -> List.of(CanonicalServices.class, DiagramServices.class, nodeServiceProvider.getClass()));
+    public ViewConverter(IViewAQLInterpreterFactory aqlInterpreterFactory, List<IRepresentationDescriptionConverter> representationDescriptionConverters, List<IDialogDescriptionConverter> dialogDescriptionConverts) {
+        this.aqlInterpreterFactory = Objects.requireNonNull(aqlInterpreterFactory);
         this.representationDescriptionConverters = Objects.requireNonNull(representationDescriptionConverters);
-        this.applicationContext = Objects.requireNonNull(applicationContext);
         this.dialogDescriptionConverts = Objects.requireNonNull(dialogDescriptionConverts);
     }
 
@@ -78,25 +76,54 @@ public class ViewConverter implements IViewConverter {
     public List<IRepresentationDescription> convert(List<View> views, List<EPackage> visibleEPackages) {
         List<IRepresentationDescription> result = new ArrayList<>();
         List<RepresentationDescription> allViewsRepresentationDescriptions = views.stream().flatMap(v -> v.getDescriptions().stream()).toList();
-        views.forEach(view -> {
-            AQLInterpreter interpreter = this.createInterpreter(view, visibleEPackages);
-            try {
-                result.addAll(view.getDescriptions().stream()
-                        .map(representationDescription -> this.convert(representationDescription, allViewsRepresentationDescriptions, interpreter))
-                        .flatMap(Optional::stream)
-                        .toList());
-
-                result.addAll(this.convertDialogDescriptions(view, interpreter));
-
-            } catch (NullPointerException exception) {
-                // Can easily happen if the View model is currently invalid/inconsistent, typically because it is
-                // currently being created or edited.
-                this.logger.debug("Exception while converting view", exception);
-            }
-        });
+        views.forEach(view -> this.convert(view, this.aqlInterpreterFactory.createInterpreter(view, visibleEPackages), allViewsRepresentationDescriptions).ifPresent(result::addAll));
         return result;
     }
 
+    @Override
+    public List<IRepresentationDescription> convert(IEditingContext editingContext, List<View> views, List<EPackage> visibleEPackages) {
+        var optionalCacheAdapter = this.getCacheAdapter(editingContext);
+        if (optionalCacheAdapter.isEmpty()) {
+            return this.convert(views, visibleEPackages);
+        }
+
+        List<IRepresentationDescription> result = new ArrayList<>();
+        List<RepresentationDescription> allViewsRepresentationDescriptions = views.stream().flatMap(v -> v.getDescriptions().stream()).toList();
+        Set<EPackage> visibleEPackagesSet = Set.copyOf(visibleEPackages);
+        views.forEach(view -> optionalCacheAdapter.get()
+                .getOrConvert(ViewRevision.of(view), visibleEPackagesSet, () -> this.convert(view, this.aqlInterpreterFactory.createInterpreter(editingContext, view), allViewsRepresentationDescriptions))
+                .ifPresent(result::addAll));
+        return result;
+    }
+
+    private Optional<ViewConversionCacheAdapter> getCacheAdapter(IEditingContext editingContext) {
+        return Optional.of(editingContext)
+                .filter(IEMFEditingContext.class::isInstance)
+                .map(IEMFEditingContext.class::cast)
+                .flatMap(emfEditingContext -> emfEditingContext.getDomain().getResourceSet().eAdapters().stream()
+                        .filter(ViewConversionCacheAdapter.class::isInstance)
+                        .map(ViewConversionCacheAdapter.class::cast)
+                        .findFirst());
+    }
+
+    private Optional<List<IRepresentationDescription>> convert(View view, AQLInterpreter interpreter, List<RepresentationDescription> allViewsRepresentationDescriptions) {
+        try {
+            List<IRepresentationDescription> representationDescriptions = new ArrayList<>();
+            representationDescriptions.addAll(view.getDescriptions().stream()
+                    .map(representationDescription -> this.convert(representationDescription, allViewsRepresentationDescriptions, interpreter))
+                    .flatMap(Optional::stream)
+                    .toList());
+
+            representationDescriptions.addAll(this.convertDialogDescriptions(view, interpreter));
+            return Optional.of(Collections.unmodifiableList(representationDescriptions));
+        } catch (NullPointerException exception) {
+            // Can easily happen if the View model is currently invalid/inconsistent, typically because it is
+            // currently being created or edited.
+            this.logger.debug("Exception while converting view", exception);
+        }
+        return Optional.empty();
+    }
+
     private List<IRepresentationDescription> convertDialogDescriptions(View view, AQLInterpreter interpreter) {
         List<IRepresentationDescription> representationDescriptions = new ArrayList<>();
         view.getDescriptions().stream()
@@ -128,24 +155,4 @@ public class ViewConverter implements IViewConverter {
                 .map(converter -> converter.convert(representationDescription, allViewsRepresentationDescriptions, aqlInterpreter))
                 .findFirst();
     }
-
-    private AQLInterpreter createInterpreter(View view, List<EPackage> visibleEPackages) {
-        AutowireCapableBeanFactory beanFactory = this.applicationContext.getAutowireCapableBeanFactory();
-        // @formatter:off
-        List<Object> serviceInstances = this.javaServiceProviders.stream()
-                .flatMap(provider -> provider.getServiceClasses(view).stream())
-                .map(serviceClass -> {
-                    try {
-                        return beanFactory.createBean(serviceClass);
-                    } catch (BeansException beansException) {
-                        this.logger.warn("Error while trying to instantiate Java service class " + serviceClass.getName(), beansException);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .map(Object.class::cast)
-                .toList();
-        // @formatter:on
-        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages);
-    }
 }
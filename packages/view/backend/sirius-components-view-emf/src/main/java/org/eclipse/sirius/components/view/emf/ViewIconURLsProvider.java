@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -41,7 +41,7 @@ public class ViewIconURLsProvider implements Function<VariableManager, List<Stri
         if (this.iconExpression.trim().isBlank()) {
             return List.of();
         }
-        return interpreter.evaluateExpression(variableManager.getVariables(), this.iconExpression)
+        return interpreter.evaluateExpression(variableManager.asMap(), this.iconExpression)
                 .asObjects()
                 .stream()
                 .flatMap(Collection::stream)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -83,7 +83,7 @@ public class ViewRepresentationDescriptionsProvider implements IRepresentationDe
             AQLInterpreter interpreter = this.createInterpreter((View) viewRepresentationDescription.eContainer(), accessibleEPackages);
             VariableManager variableManager = new VariableManager();
             variableManager.put(VariableManager.SELF, self);
-            return interpreter.evaluateExpression(variableManager.getVariables(), titleExpression).asString().orElse(null);
+            return interpreter.evaluateExpression(variableManager.asMap(), titleExpression).asString().orElse(null);
         }
         return null;
     }
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.view.emf;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.view.View;
+
+/**
+ * A revision of a view, views are compared by identity.
+ *
+ * <p>
+ * It can be used as a key to reuse the result of computations performed on a view as long as it has not been modified.
+ * </p>
+ *
+ * @param view
+ *         The view
+ * @param revision
+ *         The revision of the view
+ *
+ * @author sbegaudeau
+ */
+public record ViewRevision(View view, long revision) {
+
+    public ViewRevision {
+        Objects.requireNonNull(view);
+    }
+
+    /**
+     * Returns the current revision of the given view, a {@link ViewRevisionAdapter} is installed on the view the first
+     * time its revision is requested.
+     *
+     * @param view
+     *         The view
+     * @return The current revision of the view
+     */
+    public static ViewRevision of(View view) {
+        synchronized (view) {
+            var viewRevisionAdapter = view.eAdapters().stream()
+                    .filter(ViewRevisionAdapter.class::isInstance)
+                    .map(ViewRevisionAdapter.class::cast)
+                    .findFirst()
+                    .orElseGet(() -> {
+                        var adapter = new ViewRevisionAdapter();
+                        view.eAdapters().add(adapter);
+                        return adapter;
+                    });
+            return new ViewRevision(view, viewRevisionAdapter.getRevision());
+        }
+    }
+}
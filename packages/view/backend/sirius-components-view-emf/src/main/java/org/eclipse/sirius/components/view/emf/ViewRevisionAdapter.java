@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.view.emf;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Keeps track of the revision of a view, the revision is incremented each time the view or its content is modified.
+ *
+ * <p>
+ * It is used to reuse the result of computations performed on a view as long as it has not been modified.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+public class ViewRevisionAdapter extends EContentAdapter {
+
+    private final AtomicLong revision = new AtomicLong();
+
+    public long getRevision() {
+        return this.revision.get();
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch()) {
+            this.revision.incrementAndGet();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.view.emf.api;
 
+import java.util.List;
+
+import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.view.View;
@@ -19,8 +22,16 @@ import org.eclipse.sirius.components.view.View;
 /**
  * Used to create an AQL interpreter parameterized for the view DSL.
  *
+ * <p>
+ * The interpreters created for an editing context may be shared between the callers using this editing context, as long
+ * as the view and the visible EPackages are the same, in order to reuse the Java services instantiated and the
+ * expressions already parsed.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public interface IViewAQLInterpreterFactory {
     AQLInterpreter createInterpreter(IEditingContext editingContext, View view);
+
+    AQLInterpreter createInterpreter(View view, List<EPackage> visibleEPackages);
 }
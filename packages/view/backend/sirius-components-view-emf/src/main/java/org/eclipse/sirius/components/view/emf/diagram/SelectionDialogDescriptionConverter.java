@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -180,7 +180,7 @@ public class SelectionDialogDescriptionConverter implements IDialogDescriptionCo
             if (safeExpression.isBlank()) {
                 return true;
             }
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), safeExpression);
+            Result result = interpreter.evaluateExpression(variableManager.asMap(), safeExpression);
             return result.asBoolean()
                     .orElse(false);
         };
@@ -260,7 +260,7 @@ public class SelectionDialogDescriptionConverter implements IDialogDescriptionCo
 
     private Object getParentObject(VariableManager variableManager) {
         Object result = null;
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         if (self instanceof EObject eObject) {
             Object semanticContainer = eObject.eContainer();
             if (semanticContainer == null) {
@@ -275,7 +275,7 @@ public class SelectionDialogDescriptionConverter implements IDialogDescriptionCo
         List<Object> result = new ArrayList<>();
 
         List<String> expandedIds = new ArrayList<>();
-        Object objects = variableManager.getVariables().get(TreeRenderer.EXPANDED);
+        Object objects = variableManager.asMap().get(TreeRenderer.EXPANDED);
         if (objects instanceof List<?> list) {
             expandedIds = list.stream()
                     .filter(String.class::isInstance)
@@ -295,7 +295,7 @@ public class SelectionDialogDescriptionConverter implements IDialogDescriptionCo
         String childrenExpression = selectionDialogTreeDescription.getChildrenExpression();
         String safeExpression = Optional.ofNullable(childrenExpression).orElse("");
         if (!safeExpression.isBlank()) {
-            Result interpreterResult = interpreter.evaluateExpression(variableManager.getVariables(), safeExpression);
+            Result interpreterResult = interpreter.evaluateExpression(variableManager.asMap(), safeExpression);
             result = interpreterResult.asObjects()
                     .orElse(List.of())
                     .stream()
@@ -314,7 +314,7 @@ public class SelectionDialogDescriptionConverter implements IDialogDescriptionCo
                 this.convertTreeIdParametersToVariables(variableManager, optionalEditingContext.get());
 
                 String elementsExpression = selectionDialogTreeDescription.getElementsExpression();
-                Result result = interpreter.evaluateExpression(variableManager.getVariables(), elementsExpression);
+                Result result = interpreter.evaluateExpression(variableManager.asMap(), elementsExpression);
                 return result.asObjects()
                         .orElse(List.of())
                         .stream()
@@ -332,7 +332,7 @@ public class SelectionDialogDescriptionConverter implements IDialogDescriptionCo
     }
 
     private String getTreeItemId(VariableManager variableManager) {
-        Object self = variableManager.getVariables().get(VariableManager.SELF);
+        Object self = variableManager.asMap().get(VariableManager.SELF);
         String id = null;
         if (self != null) {
             id = this.objectService.getId(self);
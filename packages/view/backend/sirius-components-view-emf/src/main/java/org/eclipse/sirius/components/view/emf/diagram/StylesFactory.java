@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -167,7 +167,7 @@ public final class StylesFactory {
                     boolean isShowIcon = false;
                     String showIconExpression = labelStyle.getShowIconExpression();
                     if (showIconExpression != null && !showIconExpression.isBlank()) {
-                        isShowIcon = this.interpreter.evaluateExpression(variableManager.getVariables(), showIconExpression).asBoolean().orElse(false);
+                        isShowIcon = this.interpreter.evaluateExpression(variableManager.asMap(), showIconExpression).asBoolean().orElse(false);
                     }
                     if (isShowIcon && labelStyle.getLabelIcon() == null) {
                         iconURL = variableManager.get(VariableManager.SELF, Object.class).map(this.objectService::getImagePath).orElse(List.of());
@@ -199,7 +199,7 @@ public final class StylesFactory {
                     boolean isShowIcon = false;
                     String showIconExpression = labelStyle.getShowIconExpression();
                     if (showIconExpression != null && !showIconExpression.isBlank()) {
-                        isShowIcon = this.interpreter.evaluateExpression(variableManager.getVariables(), showIconExpression).asBoolean().orElse(false);
+                        isShowIcon = this.interpreter.evaluateExpression(variableManager.asMap(), showIconExpression).asBoolean().orElse(false);
                     }
                     if (isShowIcon && labelStyle.getLabelIcon() == null) {
                         iconURL = variableManager.get(VariableManager.SELF, Object.class).map(this.objectService::getImagePath).orElse(List.of());
@@ -228,7 +228,7 @@ public final class StylesFactory {
 
     private String computeMaxWidthProvider(String maxWidthExpression, VariableManager variableManager) {
         if (maxWidthExpression != null && !maxWidthExpression.isBlank()) {
-            Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), maxWidthExpression);
+            Result result = this.interpreter.evaluateExpression(variableManager.asMap(), maxWidthExpression);
             if (result.getStatus().compareTo(Status.WARNING) <= 0 && result.asString().isPresent()) {
                 return result.asString().get();
             }
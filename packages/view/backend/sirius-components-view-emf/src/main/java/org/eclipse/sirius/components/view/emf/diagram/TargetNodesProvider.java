@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -61,7 +61,7 @@ public class TargetNodesProvider implements Function<VariableManager, List<Eleme
 
         // @formatter:off
         String expression = this.edgeDescription.getTargetNodesExpression();
-        List<Object> semanticCandidates = this.interpreter.evaluateExpression(variableManager.getVariables(), expression).asObjects().orElse(List.of());
+        List<Object> semanticCandidates = this.interpreter.evaluateExpression(variableManager.asMap(), expression).asObjects().orElse(List.of());
         return semanticCandidates.stream()
                 .flatMap(semanticObject-> cache.getElementsRepresenting(semanticObject).stream())
                 .filter(this::isFromCompatibleTargetMapping)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -209,7 +209,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
         if (optionalEClass.isPresent()) {
             String preconditionExpression = viewDiagramDescription.getPreconditionExpression();
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression).asBoolean().orElse(false);
+                result = interpreter.evaluateExpression(variableManager.asMap(), preconditionExpression).asBoolean().orElse(false);
             } else {
                 result = true;
             }
@@ -272,7 +272,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
                 .toList();
 
         Predicate<VariableManager> shouldRenderPredicate = variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), viewNodeDescription.getPreconditionExpression());
+            Result result = interpreter.evaluateExpression(variableManager.asMap(), viewNodeDescription.getPreconditionExpression());
             return result.asBoolean().orElse(true);
         };
 
@@ -314,16 +314,16 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
     }
 
     private ILayoutStrategy getiLayoutStrategy(ListLayoutStrategyDescription listLayoutStrategyDescription, VariableManager variableManager, AQLInterpreter interpreter) {
-        Result resultAreChildNodesDraggable = interpreter.evaluateExpression(variableManager.getVariables(), listLayoutStrategyDescription.getAreChildNodesDraggableExpression());
+        Result resultAreChildNodesDraggable = interpreter.evaluateExpression(variableManager.asMap(), listLayoutStrategyDescription.getAreChildNodesDraggableExpression());
         var builder = ListLayoutStrategy.newListLayoutStrategy()
                 .areChildNodesDraggable(resultAreChildNodesDraggable.asBoolean().orElse(true))
                 .growableNodeIds(listLayoutStrategyDescription.getGrowableNodes().stream().map(this.diagramIdProvider::getId).toList());
         if (listLayoutStrategyDescription.getBottomGapExpression() != null && !listLayoutStrategyDescription.getBottomGapExpression().isBlank()) {
-            Result resultBottomGap = interpreter.evaluateExpression(variableManager.getVariables(), listLayoutStrategyDescription.getBottomGapExpression());
+            Result resultBottomGap = interpreter.evaluateExpression(variableManager.asMap(), listLayoutStrategyDescription.getBottomGapExpression());
             builder.bottomGap(resultBottomGap.asInt().orElse(0));
         }
         if (listLayoutStrategyDescription.getTopGapExpression() != null && !listLayoutStrategyDescription.getTopGapExpression().isBlank()) {
-            Result resultTopGap = interpreter.evaluateExpression(variableManager.getVariables(), listLayoutStrategyDescription.getTopGapExpression());
+            Result resultTopGap = interpreter.evaluateExpression(variableManager.asMap(), listLayoutStrategyDescription.getTopGapExpression());
             builder.topGap(resultTopGap.asInt().orElse(0));
         }
 
@@ -332,7 +332,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
 
     private Boolean computeBooleanProvider(String booleanExpression, AQLInterpreter interpreter, VariableManager variableManager) {
         if (booleanExpression != null && !booleanExpression.isBlank()) {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), booleanExpression);
+            Result result = interpreter.evaluateExpression(variableManager.asMap(), booleanExpression);
             if (result.getStatus().compareTo(Status.WARNING) <= 0) {
                 return result.asBoolean().orElse(false);
             }
@@ -342,7 +342,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
 
     private Integer computeDefaultSizeProvider(String defaultSizeExpression, AQLInterpreter interpreter, VariableManager variableManager) {
         if (defaultSizeExpression != null && !defaultSizeExpression.isBlank()) {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), defaultSizeExpression);
+            Result result = interpreter.evaluateExpression(variableManager.asMap(), defaultSizeExpression);
             if (result.getStatus().compareTo(Status.WARNING) <= 0 && result.asInt().isPresent()) {
                 return result.asInt().getAsInt();
             }
@@ -357,7 +357,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
     }
 
     private boolean matches(AQLInterpreter interpreter, String condition, VariableManager variableManager) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), condition).asBoolean().orElse(Boolean.FALSE);
+        return interpreter.evaluateExpression(variableManager.asMap(), condition).asBoolean().orElse(Boolean.FALSE);
     }
 
     private InsideLabelDescription getInsideLabelDescription(org.eclipse.sirius.components.view.diagram.NodeDescription viewNodeDescription, AQLInterpreter interpreter, StylesFactory stylesFactory) {
@@ -473,7 +473,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
 
     private Function<VariableManager, List<?>> getSemanticElementsProvider(DiagramElementDescription elementDescription, AQLInterpreter interpreter) {
         return variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), elementDescription.getSemanticCandidatesExpression());
+            Result result = interpreter.evaluateExpression(variableManager.asMap(), elementDescription.getSemanticCandidatesExpression());
             List<Object> candidates = result.asObjects().orElse(List.of());
             return candidates.stream()
                     .filter(EObject.class::isInstance)
@@ -496,7 +496,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
         }
 
         Predicate<VariableManager> shouldRenderPredicate = variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), viewEdgeDescription.getPreconditionExpression());
+            Result result = interpreter.evaluateExpression(variableManager.asMap(), viewEdgeDescription.getPreconditionExpression());
             return result.asBoolean().orElse(true);
         };
 
@@ -510,7 +510,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
                 DiagramRenderingCache cache = optionalCache.get();
                 String sourceFinderExpression = viewEdgeDescription.getSourceNodesExpression();
 
-                Result result = interpreter.evaluateExpression(variableManager.getVariables(), sourceFinderExpression);
+                Result result = interpreter.evaluateExpression(variableManager.asMap(), sourceFinderExpression);
                 List<Object> semanticCandidates = result.asObjects().orElse(List.of());
                 var nodeCandidates = semanticCandidates.stream().flatMap(semanticObject -> cache.getElementsRepresenting(semanticObject).stream());
 
@@ -700,7 +700,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
     }
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString().orElse("");
+        return interpreter.evaluateExpression(variableManager.asMap(), expression).asString().orElse("");
     }
 
     private IDiagramContext getDiagramContext(VariableManager variableManager) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -390,8 +390,8 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
         Function<VariableManager, Boolean> optionSelectedProvider = variableManager -> {
             VariableManager childVariableManager = variableManager.createChild();
             childVariableManager.put(VARIABLE_MANAGER, variableManager);
-            Optional<Object> optionalResult = this.interpreter.evaluateExpression(childVariableManager.getVariables(), radioDescription.getValueExpression()).asObject();
-            Object candidate = variableManager.getVariables().get(RadioComponent.CANDIDATE_VARIABLE);
+            Optional<Object> optionalResult = this.interpreter.evaluateExpression(childVariableManager.asMap(), radioDescription.getValueExpression()).asObject();
+            Object candidate = variableManager.asMap().get(RadioComponent.CANDIDATE_VARIABLE);
             return optionalResult.map(candidate::equals).orElse(Boolean.FALSE);
         };
 
@@ -749,7 +749,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
             if (!safeIterabeExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Result result = this.interpreter.evaluateExpression(childVariableManager.getVariables(), safeIterabeExpression);
+                Result result = this.interpreter.evaluateExpression(childVariableManager.asMap(), safeIterabeExpression);
                 return result.asObjects().orElse(List.of());
             } else {
                 return List.of();
@@ -822,7 +822,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
     }
 
     private String getTreeItemId(VariableManager variableManager) {
-        Object treeItem = variableManager.getVariables().get(VariableManager.SELF);
+        Object treeItem = variableManager.asMap().get(VariableManager.SELF);
         return this.objectService.getId(treeItem);
     }
 
@@ -833,7 +833,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
             if (!safeValueExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(variableManager.getVariables(), safeValueExpression).asObjects();
+                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(variableManager.asMap(), safeValueExpression).asObjects();
                 if (optionalResult.isPresent()) {
                     values = optionalResult.get().stream().filter(String.class::isInstance).map(String.class::cast).toList();
                 }
@@ -849,7 +849,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
             if (!safeValueExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(childVariableManager.getVariables(), safeValueExpression).asObjects();
+                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(childVariableManager.asMap(), safeValueExpression).asObjects();
                 if (optionalResult.isPresent()) {
                     var list = optionalResult.get().stream().filter(List.class::isInstance).map(List.class::cast).toList();
                     return list.stream().map(valuesList -> (List<String>) valuesList.stream().filter(String.class::isInstance).map(String.class::cast).toList())
@@ -860,7 +860,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
         };
     }
     private String getTreeItemKind(VariableManager variableManager) {
-        Object candidate = variableManager.getVariables().get(VariableManager.SELF);
+        Object candidate = variableManager.asMap().get(VariableManager.SELF);
         return this.objectService.getKind(candidate);
     }
 
@@ -950,7 +950,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
         String safeValueExpression = Optional.ofNullable(intValueExpression).orElse("");
         return variableManager -> {
             if (!safeValueExpression.isBlank()) {
-                Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), safeValueExpression);
+                Result result = this.interpreter.evaluateExpression(variableManager.asMap(), safeValueExpression);
                 return result.asInt().orElse(0);
             }
             return 0;
@@ -975,12 +975,12 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
     }
 
     private String getKind(VariableManager variableManager) {
-        Object candidate = variableManager.getVariables().get(ListComponent.CANDIDATE_VARIABLE);
+        Object candidate = variableManager.asMap().get(ListComponent.CANDIDATE_VARIABLE);
         return this.objectService.getKind(candidate);
     }
 
     private String getItemId(VariableManager variableManager) {
-        Object candidate = variableManager.getVariables().get(ListComponent.CANDIDATE_VARIABLE);
+        Object candidate = variableManager.asMap().get(ListComponent.CANDIDATE_VARIABLE);
         return this.objectService.getId(candidate);
     }
 
@@ -992,7 +992,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
             if (safeExpression.isBlank()) {
                 return List.of();
             } else {
-                return this.interpreter.evaluateExpression(childVariableManager.getVariables(), safeExpression).asObjects().orElse(List.of());
+                return this.interpreter.evaluateExpression(childVariableManager.asMap(), safeExpression).asObjects().orElse(List.of());
             }
         };
     }
@@ -1005,7 +1005,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
             if (safeExpression.isBlank()) {
                 return List.of();
             } else {
-                return this.interpreter.evaluateExpression(childVariableManager.getVariables(), safeExpression).asObjects().orElse(List.of()).stream().map(type::cast).toList();
+                return this.interpreter.evaluateExpression(childVariableManager.asMap(), safeExpression).asObjects().orElse(List.of()).stream().map(type::cast).toList();
             }
         };
     }
@@ -1030,7 +1030,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
 
     private Function<VariableManager, String> getOptionIdProvider() {
         return variableManager -> {
-            Object candidate = variableManager.getVariables().get(SelectComponent.CANDIDATE_VARIABLE);
+            Object candidate = variableManager.asMap().get(SelectComponent.CANDIDATE_VARIABLE);
             return Optional.ofNullable(this.objectService.getId(candidate)).orElseGet(() -> Optional.ofNullable(candidate).map(Objects::toString).orElse(""));
         };
     }
@@ -1069,7 +1069,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
             if (!safeValueExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(childVariableManager.getVariables(), safeValueExpression).asObjects();
+                Optional<List<Object>> optionalResult = this.interpreter.evaluateExpression(childVariableManager.asMap(), safeValueExpression).asObjects();
                 if (optionalResult.isPresent()) {
                     values = optionalResult.get().stream().map(this.objectService::getId).toList();
                 }
@@ -1095,7 +1095,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
             if (!safeValueExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Result result = this.interpreter.evaluateExpression(childVariableManager.getVariables(), safeValueExpression);
+                Result result = this.interpreter.evaluateExpression(childVariableManager.asMap(), safeValueExpression);
                 var rawValue = result.asObject();
                 return rawValue.map(this.objectService::getId).orElseGet(() -> rawValue.map(Objects::toString).orElse(""));
             }
@@ -1165,7 +1165,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
             if (expression != null && !expression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Result result = this.interpreter.evaluateExpression(childVariableManager.getVariables(), expression);
+                Result result = this.interpreter.evaluateExpression(childVariableManager.asMap(), expression);
                 return result.asBoolean().map(value -> !value).orElse(Boolean.FALSE);
             }
             return Boolean.FALSE;
@@ -1184,7 +1184,7 @@ public class ViewFormDescriptionConverterSwitch extends FormSwitch<Optional<Abst
     }
 
     private boolean matches(String condition, VariableManager variableManager) {
-        return this.interpreter.evaluateExpression(variableManager.getVariables(), condition).asBoolean().orElse(Boolean.FALSE);
+        return this.interpreter.evaluateExpression(variableManager.asMap(), condition).asBoolean().orElse(Boolean.FALSE);
     }
 
     private Failure buildFailureWithFeedbackMessages(String technicalMessage) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 CEA LIST.
+ * Copyright (c) 2024, 2025 CEA LIST.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -77,7 +77,7 @@ public class ViewTableDescriptionConverter implements IRepresentationDescription
 
         Predicate<VariableManager> isStripeRowPredicate = variableManager -> {
             if (viewTableDescription.getUseStripedRowsExpression() != null) {
-                return interpreter.evaluateExpression(variableManager.getVariables(), viewTableDescription.getUseStripedRowsExpression()).asBoolean().orElse(false);
+                return interpreter.evaluateExpression(variableManager.asMap(), viewTableDescription.getUseStripedRowsExpression()).asBoolean().orElse(false);
             }
             return false;
         };
@@ -109,8 +109,8 @@ public class ViewTableDescriptionConverter implements IRepresentationDescription
                 .headerIndexLabelProvider(variableManager -> this.evaluateString(interpreter, variableManager, columnDescription.getHeaderIndexLabelExpression()))
                 .semanticElementsProvider(this.getColumnSemanticElementsProvider(columnDescription, interpreter))
                 .shouldRenderPredicate(this.getShouldRenderPredicate(columnDescription.getPreconditionExpression(), interpreter))
-                .isResizablePredicate(variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), columnDescription.getIsResizableExpression()).asBoolean().orElse(false))
-                .initialWidthProvider(variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), columnDescription.getInitialWidthExpression()).asInt().orElse(-1))
+                .isResizablePredicate(variableManager -> interpreter.evaluateExpression(variableManager.asMap(), columnDescription.getIsResizableExpression()).asBoolean().orElse(false))
+                .initialWidthProvider(variableManager -> interpreter.evaluateExpression(variableManager.asMap(), columnDescription.getInitialWidthExpression()).asInt().orElse(-1))
                 .filterVariantProvider(variableManager -> this.evaluateString(interpreter, variableManager, columnDescription.getFilterWidgetExpression()))
                 .build();
     }
@@ -128,8 +128,8 @@ public class ViewTableDescriptionConverter implements IRepresentationDescription
                 .headerLabelProvider(variableManager -> this.evaluateString(interpreter, variableManager, rowDescription.getHeaderLabelExpression()))
                 .headerIconURLsProvider(new ViewIconURLsProvider(interpreter, rowDescription.getHeaderIconExpression()))
                 .headerIndexLabelProvider(variableManager -> this.evaluateString(interpreter, variableManager, rowDescription.getHeaderIndexLabelExpression()))
-                .isResizablePredicate(variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), rowDescription.getIsResizableExpression()).asBoolean().orElse(false))
-                .initialHeightProvider(variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), rowDescription.getInitialHeightExpression()).asInt().orElse(-1))
+                .isResizablePredicate(variableManager -> interpreter.evaluateExpression(variableManager.asMap(), rowDescription.getIsResizableExpression()).asBoolean().orElse(false))
+                .initialHeightProvider(variableManager -> interpreter.evaluateExpression(variableManager.asMap(), rowDescription.getInitialHeightExpression()).asInt().orElse(-1))
                 .build();
     }
 
@@ -149,7 +149,7 @@ public class ViewTableDescriptionConverter implements IRepresentationDescription
             optionalICellDescription = Optional.of(TextfieldCellDescription.newTextfieldCellDescription(this.tableIdProvider.getId(viewCellDescription))
                     .targetObjectIdProvider(this.semanticTargetIdProvider)
                     .targetObjectKindProvider(this.semanticTargetKindProvider)
-                    .canCreatePredicate(variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), viewCellDescription.getPreconditionExpression()).asBoolean().orElse(false))
+                    .canCreatePredicate(variableManager -> interpreter.evaluateExpression(variableManager.asMap(), viewCellDescription.getPreconditionExpression()).asBoolean().orElse(false))
                     .cellValueProvider((variableManager, columnTargetObject) -> {
                         var child = variableManager.createChild();
                         child.put("columnTargetObject", columnTargetObject);
@@ -160,7 +160,7 @@ public class ViewTableDescriptionConverter implements IRepresentationDescription
             optionalICellDescription = Optional.of(IconLabelCellDescription.newIconLabelCellDescription(this.tableIdProvider.getId(viewCellDescription))
                     .targetObjectIdProvider(this.semanticTargetIdProvider)
                     .targetObjectKindProvider(this.semanticTargetKindProvider)
-                    .canCreatePredicate(variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), viewCellDescription.getPreconditionExpression()).asBoolean().orElse(false))
+                    .canCreatePredicate(variableManager -> interpreter.evaluateExpression(variableManager.asMap(), viewCellDescription.getPreconditionExpression()).asBoolean().orElse(false))
                     .cellValueProvider((variableManager, columnTargetObject) -> {
                         var child = variableManager.createChild();
                         child.put("columnTargetObject", columnTargetObject);
@@ -191,7 +191,7 @@ public class ViewTableDescriptionConverter implements IRepresentationDescription
         Optional<EClass> optionalEClass = variableManager.get(VariableManager.SELF, EObject.class).map(EObject::eClass).filter(new DomainClassPredicate(domainType));
         if (optionalEClass.isPresent()) {
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression).asBoolean().orElse(false);
+                result = interpreter.evaluateExpression(variableManager.asMap(), preconditionExpression).asBoolean().orElse(false);
             } else {
                 result = true;
             }
@@ -201,7 +201,7 @@ public class ViewTableDescriptionConverter implements IRepresentationDescription
 
     private Function<VariableManager, List<Object>> getColumnSemanticElementsProvider(org.eclipse.sirius.components.view.table.TableElementDescription elementDescription, AQLInterpreter interpreter) {
         return variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), elementDescription.getSemanticCandidatesExpression());
+            Result result = interpreter.evaluateExpression(variableManager.asMap(), elementDescription.getSemanticCandidatesExpression());
             List<Object> candidates = result.asObjects().orElse(List.of());
             if (elementDescription.getDomainType() == null || elementDescription.getDomainType().isBlank()) {
                 return candidates;
@@ -217,7 +217,7 @@ public class ViewTableDescriptionConverter implements IRepresentationDescription
 
     private Function<VariableManager, PaginatedData> getRowSemanticElementsProvider(org.eclipse.sirius.components.view.table.TableElementDescription elementDescription, AQLInterpreter interpreter) {
         return variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), elementDescription.getSemanticCandidatesExpression());
+            Result result = interpreter.evaluateExpression(variableManager.asMap(), elementDescription.getSemanticCandidatesExpression());
             List<Object> candidates = result.asObjects().orElse(List.of());
             if (elementDescription.getDomainType() == null || elementDescription.getDomainType().isBlank()) {
                 return new PaginatedData(candidates, false, false, candidates.size());
@@ -234,14 +234,14 @@ public class ViewTableDescriptionConverter implements IRepresentationDescription
 
     private Predicate<VariableManager> getShouldRenderPredicate(String preconditionExpression, AQLInterpreter interpreter) {
         return variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression);
+            Result result = interpreter.evaluateExpression(variableManager.asMap(), preconditionExpression);
             return result.asBoolean().orElse(true);
         };
     }
 
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString().orElse("");
+        return interpreter.evaluateExpression(variableManager.asMap(), expression).asString().orElse("");
     }
 
     private Optional<Object> self(VariableManager variableManager) {
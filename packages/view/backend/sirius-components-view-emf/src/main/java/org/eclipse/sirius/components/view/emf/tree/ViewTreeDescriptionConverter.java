@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -128,7 +128,7 @@ public class ViewTreeDescriptionConverter implements IRepresentationDescriptionC
                 .filter(new DomainClassPredicate(domainType));
         if (optionalEClass.isPresent()) {
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression).asBoolean().orElse(false);
+                result = interpreter.evaluateExpression(variableManager.asMap(), preconditionExpression).asBoolean().orElse(false);
             } else {
                 result = true;
             }
@@ -137,7 +137,7 @@ public class ViewTreeDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.asMap(), expression)
                 .asString()
                 .orElse("");
     }
@@ -145,7 +145,7 @@ public class ViewTreeDescriptionConverter implements IRepresentationDescriptionC
     private List<String> evaluateStringList(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
         List<String> values = new ArrayList<>();
         if (expression != null && !expression.isBlank()) {
-            Optional<List<Object>> optionalResult = interpreter.evaluateExpression(variableManager.getVariables(), expression).asObjects();
+            Optional<List<Object>> optionalResult = interpreter.evaluateExpression(variableManager.asMap(), expression).asObjects();
             if (optionalResult.isPresent()) {
                 values = optionalResult.get().stream().filter(String.class::isInstance).map(String.class::cast).toList();
             }
@@ -154,19 +154,19 @@ public class ViewTreeDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private Boolean evaluateBoolean(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.asMap(), expression)
                 .asBoolean()
                 .orElse(true);
     }
 
     private Object evaluateObject(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.asMap(), expression)
                 .asObject()
                 .orElse(null);
     }
 
     private List<Object> evaluateObjectList(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.asMap(), expression)
                 .asObjects()
                 .orElse(List.of());
     }
@@ -214,7 +214,7 @@ public class ViewTreeDescriptionConverter implements IRepresentationDescriptionC
     }
 
     private StyledString getTreeItemLabel(AQLInterpreter interpreter, VariableManager variableManager, org.eclipse.sirius.components.view.tree.TreeDescription viewTreeDescription) {
-        TreeItemStyleConverter styleConverter = new TreeItemStyleConverter(interpreter, variableManager.getVariables());
+        TreeItemStyleConverter styleConverter = new TreeItemStyleConverter(interpreter, variableManager.asMap());
         StyledString result = StyledString.of("");
         var optionalTreeItemLabelDescription = viewTreeDescription.getTreeItemLabelDescriptions().stream()
                 .filter(description -> this.evaluateBoolean(interpreter, variableManager, description.getPreconditionExpression()))
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.view.emf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewFactory;
+import org.eclipse.sirius.components.view.diagram.DiagramFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+
+/**
+ * Tests of the cache of the AQL interpreters of the views.
+ *
+ * @author sbegaudeau
+ */
+public class ViewAQLInterpreterFactoryTests {
+
+    @Test
+    public void givenAnUnmodifiedViewWhenInterpretersAreRequestedThenTheSameInterpreterIsReturned() {
+        var factory = new ViewAQLInterpreterFactory(List.of(), new StaticApplicationContext());
+        View view = ViewFactory.eINSTANCE.createView();
+        var editingContext = this.createEditingContext();
+
+        var interpreter = factory.createInterpreter(editingContext, view);
+        assertThat(factory.createInterpreter(editingContext, view)).isSameAs(interpreter);
+    }
+
+    @Test
+    public void givenAModifiedViewWhenAnInterpreterIsRequestedThenANewInterpreterIsReturned() {
+        var factory = new ViewAQLInterpreterFactory(List.of(), new StaticApplicationContext());
+        View view = ViewFactory.eINSTANCE.createView();
+        var editingContext = this.createEditingContext();
+
+        var interpreter = factory.createInterpreter(editingContext, view);
+        view.getDescriptions().add(DiagramFactory.eINSTANCE.createDiagramDescription());
+
+        assertThat(factory.createInterpreter(editingContext, view)).isNotSameAs(interpreter);
+    }
+
+    @Test
+    public void givenTwoEditingContextsWhenInterpretersAreRequestedForTheSameViewThenTheyAreNotShared() {
+        var factory = new ViewAQLInterpreterFactory(List.of(), new StaticApplicationContext());
+        View view = ViewFactory.eINSTANCE.createView();
+
+        var interpreter = factory.createInterpreter(this.createEditingContext(), view);
+        assertThat(factory.createInterpreter(this.createEditingContext(), view)).isNotSameAs(interpreter);
+    }
+
+    @Test
+    public void givenAnEditingContextWhenItIsDisposedThenItsInterpretersAreReleased() {
+        var factory = new ViewAQLInterpreterFactory(List.of(), new StaticApplicationContext());
+        View view = ViewFactory.eINSTANCE.createView();
+        var editingContext = this.createEditingContext();
+        var resourceSet = editingContext.getDomain().getResourceSet();
+
+        var interpreter = factory.createInterpreter(editingContext, view);
+
+        editingContext.dispose();
+        assertThat(resourceSet.eAdapters()).doesNotHaveAnyElementsOfTypes(ViewAQLInterpreterCacheAdapter.class);
+        assertThat(factory.createInterpreter(editingContext, view)).isNotSameAs(interpreter);
+    }
+
+    @Test
+    public void givenAnEditingContextWithoutCacheWhenInterpretersAreRequestedThenTheyAreNotCached() {
+        var factory = new ViewAQLInterpreterFactory(List.of(), new StaticApplicationContext());
+        View view = ViewFactory.eINSTANCE.createView();
+        var editingContext = this.createEditingContext();
+        var resourceSet = editingContext.getDomain().getResourceSet();
+        resourceSet.eAdapters().clear();
+
+        var interpreter = factory.createInterpreter(editingContext, view);
+        assertThat(factory.createInterpreter(editingContext, view)).isNotSameAs(interpreter);
+        assertThat(resourceSet.eAdapters()).isEmpty();
+    }
+
+    private IEMFEditingContext createEditingContext() {
+        var editingContextId = UUID.randomUUID().toString();
+        var editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack());
+        // The cache is installed by the loading of the editing context
+        editingDomain.getResourceSet().eAdapters().add(new ViewAQLInterpreterCacheAdapter());
+        return new IEMFEditingContext() {
+            @Override
+            public String getId() {
+                return editingContextId;
+            }
+
+            @Override
+            public AdapterFactoryEditingDomain getDomain() {
+                return editingDomain;
+            }
+        };
+    }
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.view.emf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.representations.IRepresentationDescription;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.components.view.RepresentationDescription;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewFactory;
+import org.eclipse.sirius.components.view.diagram.DiagramFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+
+/**
+ * Tests of the cache of the representation descriptions converted from the views.
+ *
+ * @author sbegaudeau
+ */
+public class ViewConverterTests {
+
+    private final ViewAQLInterpreterFactory interpreterFactory = new ViewAQLInterpreterFactory(List.of(), new StaticApplicationContext());
+
+    private final ViewConverter viewConverter = new ViewConverter(this.interpreterFactory, List.of(new TestRepresentationDescriptionConverter()), List.of());
+
+    @Test
+    public void givenAnUnmodifiedViewWhenItIsConvertedAgainForTheSameEditingContextThenTheRepresentationDescriptionsAreReused() {
+        View view = this.createView();
+        var editingContext = this.createEditingContext();
+
+        var representationDescriptions = this.viewConverter.convert(editingContext, List.of(view), List.of(EcorePackage.eINSTANCE));
+        assertThat(representationDescriptions).hasSize(1);
+        assertThat(this.viewConverter.convert(editingContext, List.of(view), List.of(EcorePackage.eINSTANCE))).containsExactlyElementsOf(representationDescriptions);
+
+        // The conversion relies on the interpreter used by the palette and the tools of the editing context
+        var representationDescription = (TestRepresentationDescription) representationDescriptions.get(0);
+        assertThat(representationDescription.interpreter()).isSameAs(this.interpreterFactory.createInterpreter(editingContext, view));
+    }
+
+    @Test
+    public void givenAModifiedViewWhenItIsConvertedAgainThenNewRepresentationDescriptionsAreReturned() {
+        View view = this.createView();
+        var editingContext = this.createEditingContext();
+
+        var representationDescriptions = this.viewConverter.convert(editingContext, List.of(view), List.of(EcorePackage.eINSTANCE));
+        view.getDescriptions().get(0).setName("modified");
+
+        assertThat(this.viewConverter.convert(editingContext, List.of(view), List.of(EcorePackage.eINSTANCE))).doesNotContainAnyElementsOf(representationDescriptions);
+    }
+
+    @Test
+    public void givenTwoEditingContextsWhenTheSameViewIsConvertedThenTheRepresentationDescriptionsAreNotShared() {
+        View view = this.createView();
+
+        var representationDescriptions = this.viewConverter.convert(this.createEditingContext(), List.of(view), List.of(EcorePackage.eINSTANCE));
+        assertThat(this.viewConverter.convert(this.createEditingContext(), List.of(view), List.of(EcorePackage.eINSTANCE))).doesNotContainAnyElementsOf(representationDescriptions);
+    }
+
+    private View createView() {
+        View view = ViewFactory.eINSTANCE.createView();
+        var diagramDescription = DiagramFactory.eINSTANCE.createDiagramDescription();
+        diagramDescription.setName("diagram");
+        view.getDescriptions().add(diagramDescription);
+        return view;
+    }
+
+    private IEMFEditingContext createEditingContext() {
+        var editingContextId = UUID.randomUUID().toString();
+        var editingDomain = new AdapterFactoryEditingDomain(new ComposedAdapterFactory(), new BasicCommandStack());
+        // The caches are installed by the loading of the editing context
+        editingDomain.getResourceSet().eAdapters().add(new ViewAQLInterpreterCacheAdapter());
+        editingDomain.getResourceSet().eAdapters().add(new ViewConversionCacheAdapter());
+        return new IEMFEditingContext() {
+            @Override
+            public String getId() {
+                return editingContextId;
+            }
+
+            @Override
+            public AdapterFactoryEditingDomain getDomain() {
+                return editingDomain;
+            }
+        };
+    }
+
+    /**
+     * Converter creating a new representation description for each conversion.
+     *
+     * @author sbegaudeau
+     */
+    private static final class TestRepresentationDescriptionConverter implements IRepresentationDescriptionConverter {
+
+        @Override
+        public boolean canConvert(RepresentationDescription representationDescription) {
+            return true;
+        }
+
+        @Override
+        public IRepresentationDescription convert(RepresentationDescription representationDescription, List<RepresentationDescription> allRepresentationDescriptions, AQLInterpreter interpreter) {
+            return new TestRepresentationDescription(UUID.randomUUID().toString(), interpreter);
+        }
+    }
+
+    /**
+     * Representation description keeping the interpreter used by its conversion.
+     *
+     * @param id
+     *         The id of the representation description
+     * @param interpreter
+     *         The interpreter used by the conversion
+     *
+     * @author sbegaudeau
+     */
+    private record TestRepresentationDescription(String id, AQLInterpreter interpreter) implements IRepresentationDescription {
+
+        @Override
+        public String getId() {
+            return this.id;
+        }
+
+        @Override
+        public String getLabel() {
+            return this.id;
+        }
+
+        @Override
+        public Predicate<VariableManager> getCanCreatePredicate() {
+            return variableManager -> true;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -139,14 +139,16 @@ public class GraphQLController {
 
     @PostMapping
     public ResponseEntity<Map<String, Object>> performRequest(@RequestBody GraphQLPayload graphQLPayload, HttpServletRequest request) {
-        String query = graphQLPayload.getQuery();
+        String query = Optional.ofNullable(graphQLPayload.getQuery()).orElse("");
         Map<String, Object> variables = Optional.ofNullable(graphQLPayload.getVariables()).orElse(Map.of());
+        Map<String, Object> extensions = Optional.ofNullable(graphQLPayload.getExtensions()).orElse(Map.of());
         String operationName = graphQLPayload.getOperationName();
 
         // @formatter:off
         ExecutionInput executionInput = ExecutionInput.newExecutionInput()
                 .query(query)
                 .variables(variables)
+                .extensions(extensions)
                 .operationName(operationName)
                 .build();
         // @formatter:on
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.services;
+
+import org.dataloader.DataLoaderRegistry;
+import org.springframework.stereotype.Service;
+
+import graphql.ExecutionInput;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+
+/**
+ * Gives its own data loader registry to each execution of a GraphQL request.
+ *
+ * <p>
+ * Data fetchers can thus register their data loaders lazily with
+ * <code>environment.getDataLoaderRegistry().computeIfAbsent(...)</code> in order to batch the loading of sibling
+ * fields. Without a registry in the execution input, graphql-java would never dispatch the data loaders.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class DataLoaderRegistryInstrumentation extends SimplePerformantInstrumentation {
+
+    @Override
+    public ExecutionInput instrumentExecutionInput(ExecutionInput executionInput, InstrumentationExecutionParameters parameters, InstrumentationState state) {
+        if (executionInput.getDataLoaderRegistry().getKeys().isEmpty()) {
+            return executionInput.transform(builder -> builder.dataLoaderRegistry(new DataLoaderRegistry()));
+        }
+        return executionInput;
+    }
+}
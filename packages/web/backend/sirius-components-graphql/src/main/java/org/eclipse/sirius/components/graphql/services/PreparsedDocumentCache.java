@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Keeps the parsed and validated GraphQL documents in order to avoid parsing and validating the same query each time it
+ * is sent.
+ *
+ * <p>
+ * The documents are stored in a bounded LRU cache keyed by the SHA-256 hash of their query. If persisted queries are
+ * enabled, clients can also send only this hash in the <code>persistedQuery</code> extension of their requests,
+ * following the protocol of Apollo. A query unknown to the server is then rejected with a
+ * <code>PersistedQueryNotFound</code> error and the client has to send it again with its full text.
+ * </p>
+ *
+ * @author sbegaudeau
+ */
+@Service
+public class PreparsedDocumentCache implements PreparsedDocumentProvider {
+
+    private static final String CACHE_METRIC_NAME = "siriusweb_graphql_document_cache";
+
+    private static final String PARSE_AND_VALIDATE_METRIC_NAME = "siriusweb_graphql_parse_and_validate";
+
+    private static final String RESULT = "result";
+
+    private static final String SHA_256 = "SHA-256";
+
+    private final boolean isPersistedQueriesEnabled;
+
+    private final Map<String, PreparsedDocumentEntry> documents;
+
+    private final PersistedQuerySupport persistedQuerySupport;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final Timer parseAndValidateTimer;
+
+    public PreparsedDocumentCache(MeterRegistry meterRegistry, @Value("${sirius.components.graphql.documentCache.maxEntries:1000}") int maxEntries,
+            @Value("${sirius.components.graphql.persistedQueries.enabled:false}") boolean isPersistedQueriesEnabled) {
+        this.isPersistedQueriesEnabled = isPersistedQueriesEnabled;
+        this.documents = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparsedDocumentEntry> eldest) {
+                return this.size() > maxEntries;
+            }
+        });
+        this.persistedQuerySupport = new ApolloPersistedQuerySupport(this::getPersistedQueryDocument);
+
+        this.hitCounter = Counter.builder(CACHE_METRIC_NAME)
+                .tag(RESULT, "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(CACHE_METRIC_NAME)
+                .tag(RESULT, "miss")
+                .register(meterRegistry);
+        this.parseAndValidateTimer = Timer.builder(PARSE_AND_VALIDATE_METRIC_NAME)
+                .register(meterRegistry);
+        Gauge.builder(CACHE_METRIC_NAME + "_size", this.documents, Map::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        CompletableFuture<PreparsedDocumentEntry> document;
+        if (this.isPersistedQueriesEnabled && executionInput.getExtensions().containsKey("persistedQuery")) {
+            document = this.persistedQuerySupport.getDocumentAsync(executionInput, parseAndValidateFunction);
+        } else {
+            String query = executionInput.getQuery();
+            var entry = this.getHash(query)
+                    .map(hash -> this.getDocument(hash, query, queryToParse -> parseAndValidateFunction.apply(executionInput)))
+                    .orElseGet(() -> parseAndValidateFunction.apply(executionInput));
+            document = CompletableFuture.completedFuture(entry);
+        }
+        return document;
+    }
+
+    private CompletableFuture<PreparsedDocumentEntry> getPersistedQueryDocument(Object persistedQueryId, ExecutionInput executionInput, PersistedQueryCacheMiss onCacheMiss) {
+        String query = executionInput.getQuery();
+        String key = persistedQueryId.toString();
+
+        PreparsedDocumentEntry entry;
+        if (query.isBlank() || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query)) {
+            entry = this.documents.get(key);
+            if (entry != null) {
+                this.hitCounter.increment();
+            } else {
+                // Without the text of the query, graphql-java rejects it with a PersistedQueryNotFound error
+                this.missCounter.increment();
+                entry = onCacheMiss.apply("");
+            }
+        } else {
+            entry = this.getDocument(key, query, onCacheMiss);
+        }
+        return CompletableFuture.completedFuture(entry);
+    }
+
+    private PreparsedDocumentEntry getDocument(String key, String query, Function<String, PreparsedDocumentEntry> parseAndValidateFunction) {
+        var entry = this.documents.get(key);
+        if (entry != null) {
+            this.hitCounter.increment();
+        } else {
+            this.missCounter.increment();
+            entry = this.parseAndValidateTimer.record(() -> parseAndValidateFunction.apply(query));
+            if (entry != null && !entry.hasErrors()) {
+                this.documents.put(key, entry);
+            }
+        }
+        return entry;
+    }
+
+    private Optional<String> getHash(String query) {
+        try {
+            byte[] digest = MessageDigest.getInstance(SHA_256).digest(query.getBytes(StandardCharsets.UTF_8));
+            return Optional.of(HexFormat.of().formatHex(digest));
+        } catch (NoSuchAlgorithmException exception) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
+import org.junit.jupiter.api.Test;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.Scalars;
+import graphql.schema.DataFetcher;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLList;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+
+/**
+ * Unit tests of the data loader registry instrumentation.
+ *
+ * @author sbegaudeau
+ */
+public class DataLoaderRegistryInstrumentationTests {
+
+    private static final String ID = "id";
+
+    private static final String LABEL = "label";
+
+    private static final String ITEMS = "items";
+
+    @Test
+    public void testSiblingFieldsLoadedInOneBatch() {
+        List<List<String>> batches = new ArrayList<>();
+
+        GraphQLObjectType itemObjectType = GraphQLObjectType.newObject()
+                .name("Item")
+                .field(GraphQLFieldDefinition.newFieldDefinition().name(ID).type(Scalars.GraphQLString))
+                .field(GraphQLFieldDefinition.newFieldDefinition().name(LABEL).type(Scalars.GraphQLString))
+                .build();
+        GraphQLObjectType queryObjectType = GraphQLObjectType.newObject()
+                .name("Query")
+                .field(GraphQLFieldDefinition.newFieldDefinition().name(ITEMS).type(GraphQLList.list(itemObjectType)))
+                .build();
+
+        DataFetcher<List<Map<String, String>>> itemsDataFetcher = environment -> List.of(Map.of(ID, "a"), Map.of(ID, "b"), Map.of(ID, "c"));
+        DataFetcher<CompletableFuture<String>> labelDataFetcher = environment -> {
+            DataLoader<String, String> dataLoader = environment.getDataLoaderRegistry().computeIfAbsent(LABEL, name -> DataLoaderFactory.<String, String>newMappedDataLoader(keys -> {
+                batches.add(keys.stream().sorted().toList());
+                return CompletableFuture.completedFuture(keys.stream().collect(Collectors.toMap(Function.identity(), String::toUpperCase)));
+            }));
+            Map<String, String> item = environment.getSource();
+            return dataLoader.load(item.get(ID));
+        };
+        GraphQLCodeRegistry codeRegistry = GraphQLCodeRegistry.newCodeRegistry()
+                .dataFetcher(FieldCoordinates.coordinates("Query", ITEMS), itemsDataFetcher)
+                .dataFetcher(FieldCoordinates.coordinates("Item", LABEL), labelDataFetcher)
+                .build();
+        GraphQLSchema graphQLSchema = GraphQLSchema.newSchema()
+                .query(queryObjectType)
+                .codeRegistry(codeRegistry)
+                .build();
+        GraphQL graphQL = GraphQL.newGraphQL(graphQLSchema)
+                .instrumentation(new DataLoaderRegistryInstrumentation())
+                .build();
+
+        ExecutionResult executionResult = graphQL.execute(ExecutionInput.newExecutionInput().query("{ items { id label } }").build());
+
+        assertThat(executionResult.getErrors()).isEmpty();
+        Map<String, List<Map<String, String>>> data = executionResult.getData();
+        assertThat(data.get(ITEMS)).extracting(item -> item.get(LABEL)).containsExactly("A", "B", "C");
+        assertThat(batches).containsExactly(List.of("a", "b", "c"));
+    }
+}
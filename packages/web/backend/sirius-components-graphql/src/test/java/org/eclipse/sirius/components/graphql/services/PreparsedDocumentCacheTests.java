@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.Scalars;
+import graphql.schema.DataFetcher;
+import graphql.schema.FieldCoordinates;
+import graphql.schema.GraphQLCodeRegistry;
+import graphql.schema.GraphQLFieldDefinition;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests of the cache of the preparsed GraphQL documents.
+ *
+ * @author sbegaudeau
+ */
+public class PreparsedDocumentCacheTests {
+
+    private static final String QUERY = "query getMessage { message }";
+
+    private static final String MESSAGE = "Hello";
+
+    private static final String MESSAGE_FIELD = "message";
+
+    private static final String CACHE_METRIC_NAME = "siriusweb_graphql_document_cache";
+
+    private static final String CACHE_SIZE_METRIC_NAME = "siriusweb_graphql_document_cache_size";
+
+    private static final String RESULT = "result";
+
+    private static final String MISS = "miss";
+
+    private GraphQL getGraphQL(PreparsedDocumentCache preparsedDocumentCache) {
+        GraphQLFieldDefinition messageField = GraphQLFieldDefinition.newFieldDefinition()
+                .name(MESSAGE_FIELD)
+                .type(Scalars.GraphQLString)
+                .build();
+        GraphQLObjectType queryObjectType = GraphQLObjectType.newObject()
+                .name("Query")
+                .field(messageField)
+                .build();
+        GraphQLCodeRegistry codeRegistry = GraphQLCodeRegistry.newCodeRegistry()
+                .dataFetcher(FieldCoordinates.coordinates("Query", MESSAGE_FIELD), (DataFetcher<String>) environment -> MESSAGE)
+                .build();
+        GraphQLSchema graphQLSchema = GraphQLSchema.newSchema()
+                .query(queryObjectType)
+                .codeRegistry(codeRegistry)
+                .build();
+
+        return GraphQL.newGraphQL(graphQLSchema)
+                .preparsedDocumentProvider(preparsedDocumentCache)
+                .build();
+    }
+
+    @Test
+    public void testDocumentReused() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GraphQL graphQL = this.getGraphQL(new PreparsedDocumentCache(meterRegistry, 10, false));
+
+        for (int i = 0; i < 3; i++) {
+            ExecutionResult executionResult = graphQL.execute(ExecutionInput.newExecutionInput().query(QUERY).build());
+            assertThat(executionResult.getErrors()).isEmpty();
+            assertThat(executionResult.<Map<String, Object>>getData()).containsEntry(MESSAGE_FIELD, MESSAGE);
+        }
+
+        assertThat(meterRegistry.get(CACHE_METRIC_NAME).tag(RESULT, MISS).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(CACHE_METRIC_NAME).tag(RESULT, "hit").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("siriusweb_graphql_parse_and_validate").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testInvalidDocumentNotCached() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GraphQL graphQL = this.getGraphQL(new PreparsedDocumentCache(meterRegistry, 10, false));
+
+        for (int i = 0; i < 2; i++) {
+            ExecutionResult executionResult = graphQL.execute(ExecutionInput.newExecutionInput().query("query { unknown }").build());
+            assertThat(executionResult.getErrors()).isNotEmpty();
+        }
+
+        assertThat(meterRegistry.get(CACHE_METRIC_NAME).tag(RESULT, MISS).counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(CACHE_SIZE_METRIC_NAME).gauge().value()).isZero();
+    }
+
+    @Test
+    public void testLeastRecentlyUsedDocumentEvicted() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GraphQL graphQL = this.getGraphQL(new PreparsedDocumentCache(meterRegistry, 1, false));
+
+        graphQL.execute(ExecutionInput.newExecutionInput().query(QUERY).build());
+        graphQL.execute(ExecutionInput.newExecutionInput().query("{ message }").build());
+        graphQL.execute(ExecutionInput.newExecutionInput().query(QUERY).build());
+
+        assertThat(meterRegistry.get(CACHE_METRIC_NAME).tag(RESULT, MISS).counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get(CACHE_SIZE_METRIC_NAME).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    public void testPersistedQuery() throws NoSuchAlgorithmException {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        GraphQL graphQL = this.getGraphQL(new PreparsedDocumentCache(meterRegistry, 10, true));
+
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(QUERY.getBytes(StandardCharsets.UTF_8)));
+        Map<String, Object> extensions = Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash));
+
+        ExecutionResult executionResult = graphQL.execute(ExecutionInput.newExecutionInput().query("").extensions(extensions).build());
+        assertThat(executionResult.getErrors()).hasSize(1);
+        assertThat(executionResult.getErrors().get(0).getMessage()).isEqualTo("PersistedQueryNotFound");
+
+        executionResult = graphQL.execute(ExecutionInput.newExecutionInput().query(QUERY).extensions(extensions).build());
+        assertThat(executionResult.getErrors()).isEmpty();
+
+        executionResult = graphQL.execute(ExecutionInput.newExecutionInput().query("").extensions(extensions).build());
+        assertThat(executionResult.getErrors()).isEmpty();
+        assertThat(executionResult.<Map<String, Object>>getData()).containsEntry(MESSAGE_FIELD, MESSAGE);
+
+        executionResult = graphQL.execute(ExecutionInput.newExecutionInput().query(QUERY).build());
+        assertThat(executionResult.getErrors()).isEmpty();
+        assertThat(meterRegistry.get("siriusweb_graphql_parse_and_validate").timer().count()).isEqualTo(1);
+    }
+}